@@ -0,0 +1,67 @@
+package eu.europeana.cloud.cassandra;
+
+import com.datastax.driver.core.Metrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+
+/**
+ * Publishes the usage of the connection pools of the given connections in the Micrometer registry, with the keyspace
+ * as a tag:
+ * <ul>
+ *   <li><code>cassandra.pool.connections</code> - number of the connections to all the hosts, with the
+ *   <code>state</code> tag: <code>open</code> or <code>trashed</code>,</li>
+ *   <li><code>cassandra.pool.requests</code> - number of the queries, with the <code>state</code> tag:
+ *   <code>in-flight</code> - sent and waiting for the response, or <code>queued</code> - waiting for a connection,</li>
+ *   <li><code>cassandra.pool.requests.max</code> - maximal number of the in-flight queries on the open connections.</li>
+ * </ul>
+ * The values are taken from the pool gauges of the driver metrics, which are also available through JMX.
+ */
+public class CassandraConnectionPoolMetricsBinder implements MeterBinder {
+
+  static final String CONNECTIONS = "cassandra.pool.connections";
+  static final String REQUESTS = "cassandra.pool.requests";
+  static final String MAX_REQUESTS = REQUESTS + ".max";
+
+  private final List<CassandraConnectionProvider> connectionProviders;
+
+  public CassandraConnectionPoolMetricsBinder(List<CassandraConnectionProvider> connectionProviders) {
+    this.connectionProviders = connectionProviders;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    for (CassandraConnectionProvider connectionProvider : connectionProviders) {
+      Metrics metrics = connectionProvider.getMetrics();
+      if (metrics != null) {
+        bindTo(meterRegistry, metrics, connectionProvider.getMaxRequestsPerConnection(),
+            Tags.of("keyspace", connectionProvider.getKeyspaceName()));
+      }
+    }
+  }
+
+  private static void bindTo(MeterRegistry meterRegistry, Metrics metrics, int maxRequestsPerConnection, Tags tags) {
+    Gauge.builder(CONNECTIONS, () -> metrics.getOpenConnections().getValue())
+         .tags(tags.and("state", "open"))
+         .description("Connections of the Cassandra connection pools")
+         .register(meterRegistry);
+    Gauge.builder(CONNECTIONS, () -> metrics.getTrashedConnections().getValue())
+         .tags(tags.and("state", "trashed"))
+         .description("Connections of the Cassandra connection pools")
+         .register(meterRegistry);
+    Gauge.builder(REQUESTS, () -> metrics.getInFlightRequests().getValue())
+         .tags(tags.and("state", "in-flight"))
+         .description("Queries sent by the Cassandra connection pools")
+         .register(meterRegistry);
+    Gauge.builder(REQUESTS, () -> metrics.getRequestQueueDepth().getValue())
+         .tags(tags.and("state", "queued"))
+         .description("Queries sent by the Cassandra connection pools")
+         .register(meterRegistry);
+    Gauge.builder(MAX_REQUESTS, () -> metrics.getOpenConnections().getValue() * maxRequestsPerConnection)
+         .tags(tags)
+         .description("Maximal number of the in-flight queries of the Cassandra connection pools")
+         .register(meterRegistry);
+  }
+}
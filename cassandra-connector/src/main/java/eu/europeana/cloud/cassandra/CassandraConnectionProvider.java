@@ -4,10 +4,19 @@ import com.datastax.driver.core.AtomicMonotonicTimestampGenerator;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Host;
+import com.datastax.driver.core.HostDistance;
 import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.Metrics;
+import com.datastax.driver.core.PoolingOptions;
 import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.QueryOptions;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.DefaultRetryPolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+import eu.europeana.cloud.common.utils.SystemSettings;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,10 +25,49 @@ import org.springframework.stereotype.Component;
 
 /**
  * Connector to Cassandra cluster.
+ * <p>
+ * Queries are routed to the replicas of the queried partition in the local data center. The connection pool and the
+ * routing could be tuned with the following system properties or environment variables:
+ * <ul>
+ *   <li>{@value #CORE_CONNECTIONS_PER_HOST_PROPERTY_NAME} - number of connections kept open to every local host
+ *   (default {@value #DEFAULT_CORE_CONNECTIONS_PER_HOST}),</li>
+ *   <li>{@value #MAX_CONNECTIONS_PER_HOST_PROPERTY_NAME} - maximal number of connections to every local host
+ *   (default {@value #DEFAULT_MAX_CONNECTIONS_PER_HOST}),</li>
+ *   <li>{@value #MAX_REQUESTS_PER_CONNECTION_PROPERTY_NAME} - maximal number of in-flight queries sent by one
+ *   connection (default {@value #DEFAULT_MAX_REQUESTS_PER_CONNECTION}),</li>
+ *   <li>{@value #MAX_QUEUE_SIZE_PROPERTY_NAME} - maximal number of queries waiting for a connection, when all the
+ *   connections are busy (default {@value #DEFAULT_MAX_QUEUE_SIZE}),</li>
+ *   <li>{@value #LOCAL_DATACENTER_PROPERTY_NAME} - name of the local data center (default: data center of the contact
+ *   points),</li>
+ *   <li>{@value #SPECULATIVE_EXECUTION_DELAY_PROPERTY_NAME} - time after which the idempotent query is also sent to the
+ *   next replica, if there is no response yet; 0 disables speculative executions
+ *   (default {@value #DEFAULT_SPECULATIVE_EXECUTION_DELAY_IN_MILLIS}),</li>
+ *   <li>{@value #SPECULATIVE_EXECUTIONS_PROPERTY_NAME} - maximal number of the speculative executions of one query
+ *   (default {@value #DEFAULT_SPECULATIVE_EXECUTIONS}),</li>
+ *   <li>{@value #PROTOCOL_VERSION_PROPERTY_NAME} - native protocol version, for example V3 (default: the newest version
+ *   supported by both the driver and the cluster).</li>
+ * </ul>
+ * Speculative executions are made only for the statements marked as idempotent.
  */
 @Component
 public class CassandraConnectionProvider {
 
+  public static final String CORE_CONNECTIONS_PER_HOST_PROPERTY_NAME = "ECLOUD_CASSANDRA_CORE_CONNECTIONS_PER_HOST";
+  public static final String MAX_CONNECTIONS_PER_HOST_PROPERTY_NAME = "ECLOUD_CASSANDRA_MAX_CONNECTIONS_PER_HOST";
+  public static final String MAX_REQUESTS_PER_CONNECTION_PROPERTY_NAME = "ECLOUD_CASSANDRA_MAX_REQUESTS_PER_CONNECTION";
+  public static final String MAX_QUEUE_SIZE_PROPERTY_NAME = "ECLOUD_CASSANDRA_MAX_QUEUE_SIZE";
+  public static final String LOCAL_DATACENTER_PROPERTY_NAME = "ECLOUD_CASSANDRA_LOCAL_DATACENTER";
+  public static final String SPECULATIVE_EXECUTION_DELAY_PROPERTY_NAME =
+      "ECLOUD_CASSANDRA_SPECULATIVE_EXECUTION_DELAY_IN_MILLIS";
+  public static final String SPECULATIVE_EXECUTIONS_PROPERTY_NAME = "ECLOUD_CASSANDRA_SPECULATIVE_EXECUTIONS";
+  public static final String PROTOCOL_VERSION_PROPERTY_NAME = "ECLOUD_CASSANDRA_PROTOCOL_VERSION";
+  public static final int DEFAULT_CORE_CONNECTIONS_PER_HOST = 1;
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 2;
+  public static final int DEFAULT_MAX_REQUESTS_PER_CONNECTION = 1024;
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 256;
+  public static final int DEFAULT_SPECULATIVE_EXECUTION_DELAY_IN_MILLIS = 500;
+  public static final int DEFAULT_SPECULATIVE_EXECUTIONS = 1;
+
   private static final Logger LOGGER = LoggerFactory.getLogger(CassandraConnectionProvider.class);
 
   private static final ConsistencyLevel DEFAULT_CONSISTENCY_LEVEL = ConsistencyLevel.QUORUM;
@@ -34,6 +82,8 @@ public class CassandraConnectionProvider {
 
   private final String keyspaceName;
 
+  private final QueryMetrics queryMetrics = new QueryMetrics();
+
   /**
    * Constructor. Use it when your Cassandra cluster does not support authentication.
    *
@@ -50,6 +100,7 @@ public class CassandraConnectionProvider {
     cluster = getClusterBuilder(port, contactPoints)
         .build();
     init();
+    cluster.register(queryMetrics);
     session = cluster.connect(keyspaceName);
   }
 
@@ -72,6 +123,7 @@ public class CassandraConnectionProvider {
     cluster = getClusterBuilder(port, contactPoints)
         .withCredentials(userName, password).build();
     init();
+    cluster.register(queryMetrics);
     session = cluster.connect(keyspaceName);
   }
 
@@ -84,6 +136,14 @@ public class CassandraConnectionProvider {
     for (Host h : metadata.getAllHosts()) {
       LOGGER.info("Data center: {}; Hosts: {}; Rack: {}", h.getDatacenter(), h.getBroadcastAddress(), h.getRack());
     }
+    PoolingOptions poolingOptions = cluster.getConfiguration().getPoolingOptions();
+    LOGGER.info("Protocol version: {}; Connections per host: {}-{}; Max requests per connection: {}; "
+            + "Max queue size: {}",
+        cluster.getConfiguration().getProtocolOptions().getProtocolVersion(),
+        poolingOptions.getCoreConnectionsPerHost(HostDistance.LOCAL),
+        poolingOptions.getMaxConnectionsPerHost(HostDistance.LOCAL),
+        poolingOptions.getMaxRequestsPerConnection(HostDistance.LOCAL),
+        poolingOptions.getMaxQueueSize());
   }
 
   /**
@@ -94,13 +154,43 @@ public class CassandraConnectionProvider {
    * @return {@link com.datastax.driver.core.Cluster.Builder}
    */
   private Cluster.Builder getClusterBuilder(int port, String[] contactPoints) {
-    return Cluster.builder().addContactPoints(contactPoints).withPort(port)
-                  .withProtocolVersion(ProtocolVersion.V3)
-                  .withQueryOptions(new QueryOptions()
-                      .setConsistencyLevel(DEFAULT_CONSISTENCY_LEVEL))
-                  .withTimestampGenerator(new AtomicMonotonicTimestampGenerator());
+    Cluster.Builder builder = Cluster.builder().addContactPoints(contactPoints).withPort(port)
+                                     .withQueryOptions(new QueryOptions()
+                                         .setConsistencyLevel(DEFAULT_CONSISTENCY_LEVEL))
+                                     .withTimestampGenerator(new AtomicMonotonicTimestampGenerator())
+                                     .withRetryPolicy(new QueryMetricsRetryPolicy(DefaultRetryPolicy.INSTANCE,
+                                         queryMetrics))
+                                     .withPoolingOptions(createPoolingOptions())
+                                     .withLoadBalancingPolicy(createLoadBalancingPolicy());
+
+    int speculativeExecutionDelay = SystemSettings.getInt(SPECULATIVE_EXECUTION_DELAY_PROPERTY_NAME,
+        DEFAULT_SPECULATIVE_EXECUTION_DELAY_IN_MILLIS);
+    if (speculativeExecutionDelay > 0) {
+      builder.withSpeculativeExecutionPolicy(new ConstantSpeculativeExecutionPolicy(speculativeExecutionDelay,
+          SystemSettings.getInt(SPECULATIVE_EXECUTIONS_PROPERTY_NAME, DEFAULT_SPECULATIVE_EXECUTIONS)));
+    }
+
+    SystemSettings.get(PROTOCOL_VERSION_PROPERTY_NAME)
+                  .map(ProtocolVersion::valueOf)
+                  .ifPresent(builder::withProtocolVersion);
+    return builder;
+  }
+
+  private PoolingOptions createPoolingOptions() {
+    return new PoolingOptions()
+        .setConnectionsPerHost(HostDistance.LOCAL,
+            SystemSettings.getInt(CORE_CONNECTIONS_PER_HOST_PROPERTY_NAME, DEFAULT_CORE_CONNECTIONS_PER_HOST),
+            SystemSettings.getInt(MAX_CONNECTIONS_PER_HOST_PROPERTY_NAME, DEFAULT_MAX_CONNECTIONS_PER_HOST))
+        .setMaxRequestsPerConnection(HostDistance.LOCAL,
+            SystemSettings.getInt(MAX_REQUESTS_PER_CONNECTION_PROPERTY_NAME, DEFAULT_MAX_REQUESTS_PER_CONNECTION))
+        .setMaxQueueSize(SystemSettings.getInt(MAX_QUEUE_SIZE_PROPERTY_NAME, DEFAULT_MAX_QUEUE_SIZE));
   }
 
+  private LoadBalancingPolicy createLoadBalancingPolicy() {
+    DCAwareRoundRobinPolicy.Builder dcAwarePolicyBuilder = DCAwareRoundRobinPolicy.builder();
+    SystemSettings.get(LOCAL_DATACENTER_PROPERTY_NAME).ifPresent(dcAwarePolicyBuilder::withLocalDc);
+    return new TokenAwarePolicy(dcAwarePolicyBuilder.build());
+  }
 
   /**
    * Closes connection to the cluster specified in the class instance
@@ -163,4 +253,31 @@ public class CassandraConnectionProvider {
   public Metadata getMetadata() {
     return cluster.getMetadata();
   }
+
+  /**
+   * Expose the driver metrics, including the size of the request queue and the number of in-flight requests
+   *
+   * @return The metrics of the cluster connection
+   */
+  public Metrics getMetrics() {
+    return cluster.getMetrics();
+  }
+
+  /**
+   * Expose the latency, errors, timeouts and retries of every prepared statement
+   *
+   * @return The query metrics of the cluster connection
+   */
+  public QueryMetrics getQueryMetrics() {
+    return queryMetrics;
+  }
+
+  /**
+   * Expose the capacity of the connection pools
+   *
+   * @return The maximal number of in-flight queries sent by one connection to the local host
+   */
+  public int getMaxRequestsPerConnection() {
+    return cluster.getConfiguration().getPoolingOptions().getMaxRequestsPerConnection(HostDistance.LOCAL);
+  }
 }
@@ -0,0 +1,95 @@
+package eu.europeana.cloud.cassandra;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Timer;
+import com.datastax.driver.core.Metrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@link QueryMetrics} of the given connections in the Micrometer registry, with the keyspace and the
+ * query metric name as tags:
+ * <ul>
+ *   <li><code>cassandra.query.executions</code> - number of executions of the query,</li>
+ *   <li><code>cassandra.query.latency</code> - latency percentiles of the query (the <code>quantile</code> tag),</li>
+ *   <li><code>cassandra.query.errors</code>, <code>cassandra.query.timeouts</code>,
+ *   <code>cassandra.query.retries</code> - numbers of the failed and retried executions.</li>
+ * </ul>
+ * Metrics of the queries executed for the first time after the binding are published as soon as they appear.
+ */
+public class CassandraQueryMetricsBinder implements MeterBinder {
+
+  private static final String METER_NAME_PREFIX = "cassandra.query";
+  private static final double[] LATENCY_QUANTILES = {0.5, 0.95, 0.99};
+
+  private final List<CassandraConnectionProvider> connectionProviders;
+
+  public CassandraQueryMetricsBinder(List<CassandraConnectionProvider> connectionProviders) {
+    this.connectionProviders = connectionProviders;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    for (CassandraConnectionProvider connectionProvider : connectionProviders) {
+      Metrics metrics = connectionProvider.getMetrics();
+      if (metrics != null) {
+        metrics.getRegistry().addListener(
+            new QueryMetricsListener(meterRegistry, Tags.of("keyspace", connectionProvider.getKeyspaceName())));
+      }
+    }
+  }
+
+  private static class QueryMetricsListener extends MetricRegistryListener.Base {
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+
+    QueryMetricsListener(MeterRegistry meterRegistry, Tags tags) {
+      this.meterRegistry = meterRegistry;
+      this.tags = tags;
+    }
+
+    @Override
+    public void onTimerAdded(String name, Timer timer) {
+      if (!isQueryMetric(name, QueryMetrics.LATENCY)) {
+        return;
+      }
+      Tags queryTags = queryTags(name, QueryMetrics.LATENCY);
+      FunctionCounter.builder(METER_NAME_PREFIX + ".executions", timer, Timer::getCount)
+                     .tags(queryTags)
+                     .register(meterRegistry);
+      for (double quantile : LATENCY_QUANTILES) {
+        TimeGauge.builder(METER_NAME_PREFIX + QueryMetrics.LATENCY, timer, TimeUnit.NANOSECONDS,
+                     t -> t.getSnapshot().getValue(quantile))
+                 .tags(queryTags.and("quantile", String.valueOf(quantile)))
+                 .register(meterRegistry);
+      }
+    }
+
+    @Override
+    public void onCounterAdded(String name, Counter counter) {
+      for (String suffix : List.of(QueryMetrics.ERRORS, QueryMetrics.TIMEOUTS, QueryMetrics.RETRIES)) {
+        if (isQueryMetric(name, suffix)) {
+          FunctionCounter.builder(METER_NAME_PREFIX + suffix, counter, Counter::getCount)
+                         .tags(queryTags(name, suffix))
+                         .register(meterRegistry);
+        }
+      }
+    }
+
+    private static boolean isQueryMetric(String name, String suffix) {
+      return name.startsWith(QueryMetrics.METRIC_NAME_PREFIX) && name.endsWith(suffix);
+    }
+
+    private Tags queryTags(String name, String suffix) {
+      return tags.and("query",
+          name.substring(QueryMetrics.METRIC_NAME_PREFIX.length(), name.length() - suffix.length()));
+    }
+  }
+}
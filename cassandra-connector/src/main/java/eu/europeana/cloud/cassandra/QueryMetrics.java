@@ -0,0 +1,133 @@
+package eu.europeana.cloud.cassandra;
+
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
+import com.datastax.driver.core.Metrics;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the latency, errors, timeouts and retries of the queries executed in the cluster, separately for every
+ * prepared statement. The metrics are stored in the metric registry of the driver, so they are available through JMX
+ * together with the other driver metrics.
+ * <p>
+ * Metrics of the statement are named <code>queries.&lt;operation&gt;.&lt;table&gt;.&lt;hash of the query&gt;</code>
+ * and consist of:
+ * <ul>
+ *   <li><code>latency</code> - timer of every execution of the query on a host, including retries and speculative
+ *   executions,</li>
+ *   <li><code>errors</code> - number of executions failed for other reasons than a timeout,</li>
+ *   <li><code>timeouts</code> - number of executions failed because of a client or server side timeout,</li>
+ *   <li><code>retries</code> - number of executions retried by the retry policy.</li>
+ * </ul>
+ * Queries not using prepared statements are measured together under the name <code>queries.unprepared</code>, and
+ * batches under the name <code>queries.batch</code>, so the number of metrics does not depend on the values used in the
+ * queries.
+ */
+public class QueryMetrics implements LatencyTracker {
+
+  public static final String METRIC_NAME_PREFIX = "queries.";
+  public static final String LATENCY = ".latency";
+  public static final String ERRORS = ".errors";
+  public static final String TIMEOUTS = ".timeouts";
+  public static final String RETRIES = ".retries";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryMetrics.class);
+  private static final String UNPREPARED = METRIC_NAME_PREFIX + "unprepared";
+  private static final String BATCH = METRIC_NAME_PREFIX + "batch";
+  private static final Pattern TABLE_PATTERN = Pattern.compile("\\b(?:FROM|INTO|UPDATE)\\s+([\\w.\"]+)",
+      Pattern.CASE_INSENSITIVE);
+
+  private final Map<String, String> metricNamesByQuery = new ConcurrentHashMap<>();
+  private final Map<String, String> queriesByMetricName = new ConcurrentHashMap<>();
+  private volatile MetricRegistry registry;
+
+  @Override
+  public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+    MetricRegistry metricRegistry = registry;
+    if (metricRegistry == null) {
+      return;
+    }
+
+    String metricName = getMetricName(statement);
+    metricRegistry.timer(metricName + LATENCY).update(newLatencyNanos, TimeUnit.NANOSECONDS);
+    if (exception != null) {
+      metricRegistry.counter(metricName + (isTimeout(exception) ? TIMEOUTS : ERRORS)).inc();
+    }
+  }
+
+  /**
+   * Records the decision of the retry policy to execute the statement again.
+   *
+   * @param statement retried statement
+   */
+  public void recordRetry(Statement statement) {
+    MetricRegistry metricRegistry = registry;
+    if (metricRegistry != null) {
+      metricRegistry.counter(getMetricName(statement) + RETRIES).inc();
+    }
+  }
+
+  /**
+   * @return queries of the measured prepared statements, by the name of their metrics
+   */
+  public Map<String, String> getQueries() {
+    return Collections.unmodifiableMap(queriesByMetricName);
+  }
+
+  @Override
+  public void onRegister(Cluster cluster) {
+    Metrics metrics = cluster.getMetrics();
+    registry = metrics != null ? metrics.getRegistry() : null;
+  }
+
+  @Override
+  public void onUnregister(Cluster cluster) {
+    registry = null;
+  }
+
+  private String getMetricName(Statement statement) {
+    if (statement instanceof BoundStatement boundStatement) {
+      return metricNamesByQuery.computeIfAbsent(boundStatement.preparedStatement().getQueryString(),
+          this::createMetricName);
+    } else if (statement instanceof BatchStatement) {
+      return BATCH;
+    } else {
+      return UNPREPARED;
+    }
+  }
+
+  private String createMetricName(String query) {
+    String trimmedQuery = query.trim();
+    String operation = trimmedQuery.split("\\s", 2)[0];
+    Matcher tableMatcher = TABLE_PATTERN.matcher(trimmedQuery);
+    String table = tableMatcher.find() ? tableMatcher.group(1) : "unknown";
+    String metricName = METRIC_NAME_PREFIX
+        + (operation + "." + table).toLowerCase(Locale.ROOT).replaceAll("[^\\w.]", "")
+        + "." + Integer.toHexString(query.hashCode());
+    queriesByMetricName.put(metricName, query);
+    LOGGER.info("Query metrics of: {} are named: {}", query, metricName);
+    return metricName;
+  }
+
+  private static boolean isTimeout(Exception exception) {
+    return exception instanceof OperationTimedOutException
+        || exception instanceof ReadTimeoutException
+        || exception instanceof WriteTimeoutException;
+  }
+}
@@ -0,0 +1,64 @@
+package eu.europeana.cloud.cassandra;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.policies.RetryPolicy;
+
+/**
+ * Retry policy counting the retries of the statements in the {@link QueryMetrics}. Decisions are made by the wrapped
+ * policy.
+ */
+public class QueryMetricsRetryPolicy implements RetryPolicy {
+
+  private final RetryPolicy policy;
+  private final QueryMetrics queryMetrics;
+
+  public QueryMetricsRetryPolicy(RetryPolicy policy, QueryMetrics queryMetrics) {
+    this.policy = policy;
+    this.queryMetrics = queryMetrics;
+  }
+
+  @Override
+  public RetryDecision onReadTimeout(Statement statement, ConsistencyLevel cl, int requiredResponses,
+      int receivedResponses, boolean dataRetrieved, int nbRetry) {
+    return record(statement,
+        policy.onReadTimeout(statement, cl, requiredResponses, receivedResponses, dataRetrieved, nbRetry));
+  }
+
+  @Override
+  public RetryDecision onWriteTimeout(Statement statement, ConsistencyLevel cl, WriteType writeType, int requiredAcks,
+      int receivedAcks, int nbRetry) {
+    return record(statement, policy.onWriteTimeout(statement, cl, writeType, requiredAcks, receivedAcks, nbRetry));
+  }
+
+  @Override
+  public RetryDecision onUnavailable(Statement statement, ConsistencyLevel cl, int requiredReplica, int aliveReplica,
+      int nbRetry) {
+    return record(statement, policy.onUnavailable(statement, cl, requiredReplica, aliveReplica, nbRetry));
+  }
+
+  @Override
+  public RetryDecision onRequestError(Statement statement, ConsistencyLevel cl, DriverException e, int nbRetry) {
+    return record(statement, policy.onRequestError(statement, cl, e, nbRetry));
+  }
+
+  @Override
+  public void init(Cluster cluster) {
+    policy.init(cluster);
+  }
+
+  @Override
+  public void close() {
+    policy.close();
+  }
+
+  private RetryDecision record(Statement statement, RetryDecision decision) {
+    if (decision.getType() == RetryDecision.Type.RETRY) {
+      queryMetrics.recordRetry(statement);
+    }
+    return decision;
+  }
+}
@@ -0,0 +1,69 @@
+package eu.europeana.cloud.cassandra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.Metrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CassandraConnectionPoolMetricsBinderTest {
+
+  private static final String KEYSPACE = "ecloud_test";
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private CassandraConnectionProvider connectionProvider;
+  private Metrics metrics;
+
+  @Before
+  public void init() {
+    metrics = mock(Metrics.class);
+    when(metrics.getOpenConnections()).thenReturn(() -> 4);
+    when(metrics.getTrashedConnections()).thenReturn(() -> 1);
+    when(metrics.getInFlightRequests()).thenReturn(() -> 30);
+    when(metrics.getRequestQueueDepth()).thenReturn(() -> 2);
+    connectionProvider = mock(CassandraConnectionProvider.class);
+    when(connectionProvider.getKeyspaceName()).thenReturn(KEYSPACE);
+    when(connectionProvider.getMaxRequestsPerConnection()).thenReturn(1024);
+  }
+
+  @Test
+  public void shouldPublishPoolGaugesOfTheDriverWithKeyspaceTag() {
+    when(connectionProvider.getMetrics()).thenReturn(metrics);
+
+    new CassandraConnectionPoolMetricsBinder(List.of(connectionProvider)).bindTo(meterRegistry);
+
+    assertEquals(4, gauge(CassandraConnectionPoolMetricsBinder.CONNECTIONS, "open"), 0);
+    assertEquals(1, gauge(CassandraConnectionPoolMetricsBinder.CONNECTIONS, "trashed"), 0);
+    assertEquals(30, gauge(CassandraConnectionPoolMetricsBinder.REQUESTS, "in-flight"), 0);
+    assertEquals(2, gauge(CassandraConnectionPoolMetricsBinder.REQUESTS, "queued"), 0);
+    assertEquals(4 * 1024, meterRegistry.get(CassandraConnectionPoolMetricsBinder.MAX_REQUESTS)
+                                        .tag("keyspace", KEYSPACE).gauge().value(), 0);
+  }
+
+  @Test
+  public void shouldFollowChangesOfDriverGauges() {
+    when(connectionProvider.getMetrics()).thenReturn(metrics);
+    new CassandraConnectionPoolMetricsBinder(List.of(connectionProvider)).bindTo(meterRegistry);
+
+    when(metrics.getInFlightRequests()).thenReturn(() -> 0);
+
+    assertEquals(0, gauge(CassandraConnectionPoolMetricsBinder.REQUESTS, "in-flight"), 0);
+  }
+
+  @Test
+  public void shouldSkipConnectionWithoutMetrics() {
+    new CassandraConnectionPoolMetricsBinder(List.of(connectionProvider)).bindTo(meterRegistry);
+
+    assertTrue(meterRegistry.getMeters().isEmpty());
+  }
+
+  private double gauge(String name, String state) {
+    return meterRegistry.get(name).tag("keyspace", KEYSPACE).tag("state", state).gauge().value();
+  }
+}
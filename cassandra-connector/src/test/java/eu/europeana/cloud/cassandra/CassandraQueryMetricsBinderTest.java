@@ -0,0 +1,98 @@
+package eu.europeana.cloud.cassandra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.Metrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CassandraQueryMetricsBinderTest {
+
+  private static final String KEYSPACE = "ecloud_test";
+  private static final String QUERY_NAME = "select.buckets.1a2b3c";
+  private static final String METRIC_NAME = QueryMetrics.METRIC_NAME_PREFIX + QUERY_NAME;
+
+  private final MetricRegistry driverRegistry = new MetricRegistry();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Before
+  public void init() {
+    Metrics metrics = mock(Metrics.class);
+    when(metrics.getRegistry()).thenReturn(driverRegistry);
+    CassandraConnectionProvider connectionProvider = mock(CassandraConnectionProvider.class);
+    when(connectionProvider.getMetrics()).thenReturn(metrics);
+    when(connectionProvider.getKeyspaceName()).thenReturn(KEYSPACE);
+    new CassandraQueryMetricsBinder(List.of(connectionProvider)).bindTo(meterRegistry);
+  }
+
+  @Test
+  public void shouldPublishExecutionsAndLatencyOfQueryWithKeyspaceAndQueryTags() {
+    driverRegistry.timer(METRIC_NAME + QueryMetrics.LATENCY).update(3, TimeUnit.MILLISECONDS);
+    driverRegistry.timer(METRIC_NAME + QueryMetrics.LATENCY).update(3, TimeUnit.MILLISECONDS);
+
+    assertEquals(2, meterRegistry.get("cassandra.query.executions").tag("keyspace", KEYSPACE)
+                                 .tag("query", QUERY_NAME).functionCounter().count(), 0);
+    for (String quantile : List.of("0.5", "0.95", "0.99")) {
+      assertEquals(3, meterRegistry.get("cassandra.query.latency").tag("keyspace", KEYSPACE).tag("query", QUERY_NAME)
+                                   .tag("quantile", quantile).timeGauge().value(TimeUnit.MILLISECONDS), 0);
+    }
+  }
+
+  @Test
+  public void shouldPublishErrorsTimeoutsAndRetriesOfQuery() {
+    driverRegistry.counter(METRIC_NAME + QueryMetrics.ERRORS).inc();
+    driverRegistry.counter(METRIC_NAME + QueryMetrics.TIMEOUTS).inc(2);
+    driverRegistry.counter(METRIC_NAME + QueryMetrics.RETRIES).inc(3);
+
+    assertEquals(1, counter("cassandra.query.errors"), 0);
+    assertEquals(2, counter("cassandra.query.timeouts"), 0);
+    assertEquals(3, counter("cassandra.query.retries"), 0);
+  }
+
+  @Test
+  public void shouldFollowChangesOfQueryCounters() {
+    driverRegistry.counter(METRIC_NAME + QueryMetrics.ERRORS).inc();
+
+    driverRegistry.counter(METRIC_NAME + QueryMetrics.ERRORS).inc();
+
+    assertEquals(2, counter("cassandra.query.errors"), 0);
+  }
+
+  @Test
+  public void shouldIgnoreOtherDriverMetrics() {
+    driverRegistry.timer("requests").update(3, TimeUnit.MILLISECONDS);
+    driverRegistry.counter("errors.retries").inc();
+
+    assertTrue(meterRegistry.getMeters().isEmpty());
+  }
+
+  @Test
+  public void shouldPublishQueryMetricsCreatedBeforeBinding() {
+    MetricRegistry registryWithMetrics = new MetricRegistry();
+    registryWithMetrics.counter(METRIC_NAME + QueryMetrics.TIMEOUTS).inc();
+    Metrics metrics = mock(Metrics.class);
+    when(metrics.getRegistry()).thenReturn(registryWithMetrics);
+    CassandraConnectionProvider connectionProvider = mock(CassandraConnectionProvider.class);
+    when(connectionProvider.getMetrics()).thenReturn(metrics);
+    when(connectionProvider.getKeyspaceName()).thenReturn("other_keyspace");
+
+    new CassandraQueryMetricsBinder(List.of(connectionProvider)).bindTo(meterRegistry);
+
+    assertEquals(1, meterRegistry.get("cassandra.query.timeouts").tag("keyspace", "other_keyspace")
+                                 .tag("query", QUERY_NAME).functionCounter().count(), 0);
+    assertNull(meterRegistry.find("cassandra.query.timeouts").tag("keyspace", KEYSPACE).functionCounter());
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get(name).tag("keyspace", KEYSPACE).tag("query", QUERY_NAME).functionCounter().count();
+  }
+}
@@ -0,0 +1,95 @@
+package eu.europeana.cloud.cassandra;
+
+import static eu.europeana.cloud.cassandra.QueryMetricsTest.boundStatement;
+import static eu.europeana.cloud.cassandra.QueryMetricsTest.clusterWithRegistry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.policies.DefaultRetryPolicy;
+import com.datastax.driver.core.policies.RetryPolicy;
+import com.datastax.driver.core.policies.RetryPolicy.RetryDecision;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryMetricsRetryPolicyTest {
+
+  private static final String QUERY = "SELECT * FROM buckets WHERE bucket_id = ?";
+
+  private final MetricRegistry registry = new MetricRegistry();
+  private final BoundStatement statement = boundStatement(QUERY);
+  private QueryMetricsRetryPolicy retryPolicy;
+
+  @Before
+  public void init() {
+    QueryMetrics queryMetrics = new QueryMetrics();
+    queryMetrics.onRegister(clusterWithRegistry(registry));
+    retryPolicy = new QueryMetricsRetryPolicy(DefaultRetryPolicy.INSTANCE, queryMetrics);
+  }
+
+  @Test
+  public void shouldCountRetryDecisionsOfWrappedPolicy() {
+    RetryDecision readTimeoutDecision = retryPolicy.onReadTimeout(statement, ConsistencyLevel.QUORUM, 2, 2, false, 0);
+    RetryDecision unavailableDecision = retryPolicy.onUnavailable(statement, ConsistencyLevel.QUORUM, 2, 1, 0);
+    RetryDecision writeTimeoutDecision = retryPolicy.onWriteTimeout(statement, ConsistencyLevel.QUORUM,
+        WriteType.BATCH_LOG, 2, 1, 0);
+
+    assertEquals(RetryDecision.Type.RETRY, readTimeoutDecision.getType());
+    assertEquals(RetryDecision.Type.RETRY, unavailableDecision.getType());
+    assertEquals(RetryDecision.Type.RETRY, writeTimeoutDecision.getType());
+    assertEquals(3, retriesCounter().getCount());
+  }
+
+  @Test
+  public void shouldNotCountRethrowDecisionsOfWrappedPolicy() {
+    RetryDecision readTimeoutDecision = retryPolicy.onReadTimeout(statement, ConsistencyLevel.QUORUM, 2, 2, false, 1);
+    RetryDecision writeTimeoutDecision = retryPolicy.onWriteTimeout(statement, ConsistencyLevel.QUORUM,
+        WriteType.SIMPLE, 2, 1, 0);
+
+    assertEquals(RetryDecision.Type.RETHROW, readTimeoutDecision.getType());
+    assertEquals(RetryDecision.Type.RETHROW, writeTimeoutDecision.getType());
+    assertEquals(0, retriesCounter().getCount());
+  }
+
+  @Test
+  public void shouldDelegateLifecycleToWrappedPolicy() {
+    RetryPolicy wrappedPolicy = mock(RetryPolicy.class);
+    QueryMetricsRetryPolicy policy = new QueryMetricsRetryPolicy(wrappedPolicy, new QueryMetrics());
+    Cluster cluster = mock(Cluster.class);
+
+    policy.init(cluster);
+    policy.close();
+
+    verify(wrappedPolicy).init(cluster);
+    verify(wrappedPolicy).close();
+  }
+
+  @Test
+  public void shouldReturnDecisionOfWrappedPolicy() {
+    RetryDecision decision = RetryDecision.tryNextHost(ConsistencyLevel.ONE);
+    RetryPolicy wrappedPolicy = mock(RetryPolicy.class);
+    when(wrappedPolicy.onRequestError(statement, ConsistencyLevel.ONE, null, 0))
+        .thenReturn(decision);
+    QueryMetrics queryMetrics = new QueryMetrics();
+    queryMetrics.onRegister(clusterWithRegistry(registry));
+
+    RetryDecision result = new QueryMetricsRetryPolicy(wrappedPolicy, queryMetrics)
+        .onRequestError(statement, ConsistencyLevel.ONE, null, 0);
+
+    assertSame(decision, result);
+    assertEquals(1, retriesCounter().getCount());
+  }
+
+  private Counter retriesCounter() {
+    return registry.counter(QueryMetrics.METRIC_NAME_PREFIX + "select.buckets." + Integer.toHexString(QUERY.hashCode())
+        + QueryMetrics.RETRIES);
+  }
+}
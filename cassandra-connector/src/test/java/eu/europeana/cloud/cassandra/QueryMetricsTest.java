@@ -0,0 +1,150 @@
+package eu.europeana.cloud.cassandra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metrics;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryMetricsTest {
+
+  private static final String SELECT_QUERY = "SELECT * FROM representation_versions WHERE cloud_id = ?";
+  private static final String INSERT_QUERY = "INSERT INTO ecloud_mcs.\"Files\" (cloud_id, name) VALUES (?, ?)";
+  private static final long LATENCY_NANOS = 2_000_000L;
+
+  private final MetricRegistry registry = new MetricRegistry();
+  private final Host host = mock(Host.class);
+  private QueryMetrics queryMetrics;
+
+  @Before
+  public void init() {
+    queryMetrics = new QueryMetrics();
+    queryMetrics.onRegister(clusterWithRegistry(registry));
+  }
+
+  @Test
+  public void shouldNameMetricsAfterOperationTableAndQueryHash() {
+    queryMetrics.update(host, boundStatement(SELECT_QUERY), null, LATENCY_NANOS);
+    queryMetrics.update(host, boundStatement(INSERT_QUERY), null, LATENCY_NANOS);
+
+    String selectMetricName = metricName("select.representation_versions", SELECT_QUERY);
+    String insertMetricName = metricName("insert.ecloud_mcs.files", INSERT_QUERY);
+    assertEquals(1, registry.timer(selectMetricName + QueryMetrics.LATENCY).getCount());
+    assertEquals(1, registry.timer(insertMetricName + QueryMetrics.LATENCY).getCount());
+    assertEquals(SELECT_QUERY, queryMetrics.getQueries().get(selectMetricName));
+    assertEquals(INSERT_QUERY, queryMetrics.getQueries().get(insertMetricName));
+  }
+
+  @Test
+  public void shouldNameMetricsOfUpdateDeleteAndQueryWithoutTable() {
+    String updateQuery = "UPDATE buckets SET rows_count = rows_count + 1 WHERE bucket_id = ?";
+    String deleteQuery = "  delete from buckets where bucket_id = ?";
+    String truncateQuery = "TRUNCATE buckets";
+
+    queryMetrics.update(host, boundStatement(updateQuery), null, LATENCY_NANOS);
+    queryMetrics.update(host, boundStatement(deleteQuery), null, LATENCY_NANOS);
+    queryMetrics.update(host, boundStatement(truncateQuery), null, LATENCY_NANOS);
+
+    assertEquals(updateQuery, queryMetrics.getQueries().get(metricName("update.buckets", updateQuery)));
+    assertEquals(deleteQuery, queryMetrics.getQueries().get(metricName("delete.buckets", deleteQuery)));
+    assertEquals(truncateQuery, queryMetrics.getQueries().get(metricName("truncate.unknown", truncateQuery)));
+  }
+
+  @Test
+  public void shouldMeasureStatementsOfTheSameQueryTogether() {
+    queryMetrics.update(host, boundStatement(SELECT_QUERY), null, LATENCY_NANOS);
+    queryMetrics.update(host, boundStatement(SELECT_QUERY), null, LATENCY_NANOS);
+    queryMetrics.update(host, boundStatement(SELECT_QUERY + " AND version_id = ?"), null, LATENCY_NANOS);
+
+    assertEquals(2, queryMetrics.getQueries().size());
+    assertEquals(2, registry.timer(metricName("select.representation_versions", SELECT_QUERY) + QueryMetrics.LATENCY)
+                            .getCount());
+    assertNotEquals(metricName("select.representation_versions", SELECT_QUERY),
+        metricName("select.representation_versions", SELECT_QUERY + " AND version_id = ?"));
+  }
+
+  @Test
+  public void shouldMeasureUnpreparedAndBatchStatementsUnderCommonNames() {
+    queryMetrics.update(host, new SimpleStatement("SELECT * FROM buckets WHERE bucket_id = 'a'"), null, LATENCY_NANOS);
+    queryMetrics.update(host, new SimpleStatement("SELECT * FROM buckets WHERE bucket_id = 'b'"), null, LATENCY_NANOS);
+    queryMetrics.update(host, new BatchStatement(), null, LATENCY_NANOS);
+
+    assertEquals(2, registry.timer(QueryMetrics.METRIC_NAME_PREFIX + "unprepared" + QueryMetrics.LATENCY).getCount());
+    assertEquals(1, registry.timer(QueryMetrics.METRIC_NAME_PREFIX + "batch" + QueryMetrics.LATENCY).getCount());
+    assertTrue(queryMetrics.getQueries().isEmpty());
+  }
+
+  @Test
+  public void shouldCountTimeoutsSeparatelyFromOtherErrors() {
+    BoundStatement statement = boundStatement(SELECT_QUERY);
+
+    queryMetrics.update(host, statement, new ReadTimeoutException(ConsistencyLevel.QUORUM, 1, 2, false), LATENCY_NANOS);
+    queryMetrics.update(host, statement, new WriteTimeoutException(ConsistencyLevel.QUORUM, WriteType.SIMPLE, 1, 2),
+        LATENCY_NANOS);
+    queryMetrics.update(host, statement, new OperationTimedOutException(null, "Timed out"), LATENCY_NANOS);
+    queryMetrics.update(host, statement, new InvalidQueryException("Invalid query"), LATENCY_NANOS);
+
+    String metricName = metricName("select.representation_versions", SELECT_QUERY);
+    assertEquals(4, registry.timer(metricName + QueryMetrics.LATENCY).getCount());
+    assertEquals(3, registry.counter(metricName + QueryMetrics.TIMEOUTS).getCount());
+    assertEquals(1, registry.counter(metricName + QueryMetrics.ERRORS).getCount());
+  }
+
+  @Test
+  public void shouldCountRetries() {
+    BoundStatement statement = boundStatement(SELECT_QUERY);
+
+    queryMetrics.recordRetry(statement);
+    queryMetrics.recordRetry(statement);
+
+    assertEquals(2, registry.counter(metricName("select.representation_versions", SELECT_QUERY) + QueryMetrics.RETRIES)
+                            .getCount());
+  }
+
+  @Test
+  public void shouldNotRecordAnythingWhenUnregistered() {
+    queryMetrics.onUnregister(clusterWithRegistry(registry));
+
+    queryMetrics.update(host, boundStatement(SELECT_QUERY), new InvalidQueryException("Invalid query"), LATENCY_NANOS);
+    queryMetrics.recordRetry(boundStatement(SELECT_QUERY));
+
+    assertTrue(registry.getMetrics().isEmpty());
+  }
+
+  static BoundStatement boundStatement(String query) {
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(preparedStatement.getQueryString()).thenReturn(query);
+    BoundStatement statement = mock(BoundStatement.class);
+    when(statement.preparedStatement()).thenReturn(preparedStatement);
+    return statement;
+  }
+
+  static Cluster clusterWithRegistry(MetricRegistry registry) {
+    Metrics metrics = mock(Metrics.class);
+    when(metrics.getRegistry()).thenReturn(registry);
+    Cluster cluster = mock(Cluster.class);
+    when(cluster.getMetrics()).thenReturn(metrics);
+    return cluster;
+  }
+
+  private static String metricName(String operationAndTable, String query) {
+    return QueryMetrics.METRIC_NAME_PREFIX + operationAndTable + "." + Integer.toHexString(query.hashCode());
+  }
+}
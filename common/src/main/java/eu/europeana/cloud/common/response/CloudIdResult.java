@@ -0,0 +1,40 @@
+package eu.europeana.cloud.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import eu.europeana.cloud.common.model.CloudId;
+import eu.europeana.cloud.common.model.LocalId;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of the bulk cloud identifier operation for a single provider id/local id pair. Contains either the cloud identifier or
+ * the information about the error that occurred for this pair.
+ */
+@XmlRootElement
+@JsonRootName(CloudIdResult.XSI_TYPE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CloudIdResult {
+
+  static final String XSI_TYPE = "cloudIdResult";
+
+  @JacksonXmlProperty(namespace = "http://www.w3.org/2001/XMLSchema-instance", localName = "type", isAttribute = true)
+  private final String xsiType = XSI_TYPE;
+
+  /* Requested providerId/recordId combo */
+  private LocalId localId;
+
+  /* Cloud identifier, null if the operation failed */
+  private CloudId cloudId;
+
+  /* Error that occurred, null if the operation succeeded */
+  private ErrorInfo error;
+}
@@ -0,0 +1,42 @@
+package eu.europeana.cloud.common.utils;
+
+import java.util.Optional;
+
+/**
+ * Reads the settings, which could be given as system properties or environment variables. The system property takes
+ * precedence over the environment variable of the same name, and empty values are treated as missing.
+ */
+public final class SystemSettings {
+
+  private SystemSettings() {
+  }
+
+  /**
+   * @param name name of the system property or environment variable
+   * @return value of the setting, or empty if it is not set
+   */
+  public static Optional<String> get(String name) {
+    return Optional.ofNullable(System.getProperty(name))
+                   .or(() -> Optional.ofNullable(System.getenv(name)))
+                   .filter(value -> !value.isEmpty());
+  }
+
+  /**
+   * @param name name of the system property or environment variable
+   * @return integer value of the setting, or empty if it is not set
+   * @throws NumberFormatException if the setting is not an integer
+   */
+  public static Optional<Integer> getInt(String name) {
+    return get(name).map(Integer::parseInt);
+  }
+
+  /**
+   * @param name name of the system property or environment variable
+   * @param defaultValue value used if the setting is not set
+   * @return integer value of the setting, or the default value
+   * @throws NumberFormatException if the setting is not an integer
+   */
+  public static int getInt(String name, int defaultValue) {
+    return getInt(name).orElse(defaultValue);
+  }
+}
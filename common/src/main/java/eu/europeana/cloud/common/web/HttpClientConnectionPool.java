@@ -0,0 +1,93 @@
+package eu.europeana.cloud.common.web;
+
+import static eu.europeana.cloud.common.utils.SystemSettings.getInt;
+
+import java.util.concurrent.TimeUnit;
+import jakarta.ws.rs.client.ClientBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+
+/**
+ * Pool of keep-alive HTTP connections shared by all the eCloud REST clients (MCS, UIS and DPS) created in the JVM, so the
+ * connections, including their TLS sessions, are reused between the requests and between the client instances.
+ * <p>
+ * The pool could be tuned with the following system properties or environment variables:
+ * <ul>
+ *   <li>{@value #MAX_CONNECTIONS_PER_ROUTE_PROPERTY_NAME} - maximal number of connections to one host
+ *   (default {@value #DEFAULT_MAX_CONNECTIONS_PER_ROUTE}),</li>
+ *   <li>{@value #MAX_CONNECTIONS_TOTAL_PROPERTY_NAME} - maximal number of all the connections
+ *   (default {@value #DEFAULT_MAX_CONNECTIONS_TOTAL}),</li>
+ *   <li>{@value #KEEP_ALIVE_PROPERTY_NAME} - time the idle connection is kept, if the server does not specify it
+ *   (default {@value #DEFAULT_KEEP_ALIVE_IN_SECONDS}),</li>
+ *   <li>{@value #CONNECTION_REQUEST_TIMEOUT_PROPERTY_NAME} - maximal time of waiting for the connection from the pool
+ *   (default {@value #DEFAULT_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS}).</li>
+ * </ul>
+ * Connect and read timeouts are still set separately by every client. Statistics of the pool could be published with
+ * {@link HttpClientConnectionPoolMetricsBinder}.
+ */
+public final class HttpClientConnectionPool {
+
+  public static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY_NAME = "ECLOUD_HTTP_MAX_CONNECTIONS_PER_ROUTE";
+  public static final String MAX_CONNECTIONS_TOTAL_PROPERTY_NAME = "ECLOUD_HTTP_MAX_CONNECTIONS_TOTAL";
+  public static final String KEEP_ALIVE_PROPERTY_NAME = "ECLOUD_HTTP_KEEP_ALIVE_IN_SECONDS";
+  public static final String CONNECTION_REQUEST_TIMEOUT_PROPERTY_NAME = "ECLOUD_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS";
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+  public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 200;
+  public static final int DEFAULT_KEEP_ALIVE_IN_SECONDS = 30;
+  public static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 60000;
+  private static final int VALIDATE_AFTER_INACTIVITY_IN_SECONDS = 2;
+
+  private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+  private static final RequestConfig REQUEST_CONFIG = createRequestConfig();
+
+  private HttpClientConnectionPool() {
+  }
+
+  /**
+   * Creates builder of the client, which sends requests using the connections of the shared pool. The pool is not closed
+   * together with the client.
+   *
+   * @return client builder
+   */
+  public static ClientBuilder newPooledClientBuilder() {
+    return ClientBuilder.newBuilder().withConfig(
+        new ClientConfig().connectorProvider(new Apache5ConnectorProvider())
+                          .property(Apache5ClientProperties.CONNECTION_MANAGER, CONNECTION_MANAGER)
+                          .property(Apache5ClientProperties.CONNECTION_MANAGER_SHARED, true)
+                          .property(Apache5ClientProperties.REQUEST_CONFIG, REQUEST_CONFIG));
+  }
+
+  /**
+   * @return statistics of all the connections of the pool
+   */
+  public static PoolStats getTotalStats() {
+    return CONNECTION_MANAGER.getTotalStats();
+  }
+
+  static PoolingHttpClientConnectionManager createConnectionManager() {
+    return PoolingHttpClientConnectionManagerBuilder
+        .create()
+        .setMaxConnPerRoute(getInt(MAX_CONNECTIONS_PER_ROUTE_PROPERTY_NAME, DEFAULT_MAX_CONNECTIONS_PER_ROUTE))
+        .setMaxConnTotal(getInt(MAX_CONNECTIONS_TOTAL_PROPERTY_NAME, DEFAULT_MAX_CONNECTIONS_TOTAL))
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                                    .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_IN_SECONDS,
+                                                        TimeUnit.SECONDS)
+                                                    .build())
+        .build();
+  }
+
+  static RequestConfig createRequestConfig() {
+    return RequestConfig.custom()
+                        .setDefaultKeepAlive(getInt(KEEP_ALIVE_PROPERTY_NAME, DEFAULT_KEEP_ALIVE_IN_SECONDS),
+                            TimeUnit.SECONDS)
+                        .setConnectionRequestTimeout(getInt(CONNECTION_REQUEST_TIMEOUT_PROPERTY_NAME,
+                            DEFAULT_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS), TimeUnit.MILLISECONDS)
+                        .build();
+  }
+}
@@ -0,0 +1,39 @@
+package eu.europeana.cloud.common.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the statistics of the {@link HttpClientConnectionPool} in the Micrometer registry:
+ * <ul>
+ *   <li><code>ecloud.http.client.connections</code> - number of the connections of the pool, with the
+ *   <code>state</code> tag: <code>leased</code> or <code>available</code>,</li>
+ *   <li><code>ecloud.http.client.connections.pending</code> - number of the requests waiting for the connection,</li>
+ *   <li><code>ecloud.http.client.connections.max</code> - maximal number of the connections of the pool.</li>
+ * </ul>
+ */
+public class HttpClientConnectionPoolMetricsBinder implements MeterBinder {
+
+  static final String CONNECTIONS = "ecloud.http.client.connections";
+  static final String PENDING = CONNECTIONS + ".pending";
+  static final String MAX = CONNECTIONS + ".max";
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    Gauge.builder(CONNECTIONS, () -> HttpClientConnectionPool.getTotalStats().getLeased())
+         .tag("state", "leased")
+         .description("Connections of the eCloud HTTP clients pool")
+         .register(meterRegistry);
+    Gauge.builder(CONNECTIONS, () -> HttpClientConnectionPool.getTotalStats().getAvailable())
+         .tag("state", "available")
+         .description("Connections of the eCloud HTTP clients pool")
+         .register(meterRegistry);
+    Gauge.builder(PENDING, () -> HttpClientConnectionPool.getTotalStats().getPending())
+         .description("Requests waiting for the connection of the eCloud HTTP clients pool")
+         .register(meterRegistry);
+    Gauge.builder(MAX, () -> HttpClientConnectionPool.getTotalStats().getMax())
+         .description("Maximal number of the connections of the eCloud HTTP clients pool")
+         .register(meterRegistry);
+  }
+}
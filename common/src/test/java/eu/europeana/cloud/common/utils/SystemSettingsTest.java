@@ -0,0 +1,48 @@
+package eu.europeana.cloud.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Test;
+
+public class SystemSettingsTest {
+
+  private static final String SETTING_NAME = "ECLOUD_SYSTEM_SETTINGS_TEST";
+
+  @After
+  public void clearProperty() {
+    System.clearProperty(SETTING_NAME);
+  }
+
+  @Test
+  public void shouldReadSystemProperty() {
+    System.setProperty(SETTING_NAME, "15");
+
+    assertEquals(Optional.of("15"), SystemSettings.get(SETTING_NAME));
+    assertEquals(Optional.of(15), SystemSettings.getInt(SETTING_NAME));
+    assertEquals(15, SystemSettings.getInt(SETTING_NAME, 3));
+  }
+
+  @Test
+  public void shouldReturnDefaultValueForMissingSetting() {
+    assertTrue(SystemSettings.get(SETTING_NAME).isEmpty());
+    assertEquals(3, SystemSettings.getInt(SETTING_NAME, 3));
+  }
+
+  @Test
+  public void shouldTreatEmptySettingAsMissing() {
+    System.setProperty(SETTING_NAME, "");
+
+    assertTrue(SystemSettings.get(SETTING_NAME).isEmpty());
+    assertEquals(3, SystemSettings.getInt(SETTING_NAME, 3));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void shouldRejectNotIntegerSetting() {
+    System.setProperty(SETTING_NAME, "many");
+
+    SystemSettings.getInt(SETTING_NAME, 3);
+  }
+}
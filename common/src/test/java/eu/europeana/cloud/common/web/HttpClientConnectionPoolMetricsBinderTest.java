@@ -0,0 +1,28 @@
+package eu.europeana.cloud.common.web;
+
+import static org.junit.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.Test;
+
+public class HttpClientConnectionPoolMetricsBinderTest {
+
+  @Test
+  public void shouldPublishStatisticsOfSharedPool() {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    new HttpClientConnectionPoolMetricsBinder().bindTo(meterRegistry);
+
+    PoolStats poolStats = HttpClientConnectionPool.getTotalStats();
+    assertEquals(poolStats.getLeased(),
+        meterRegistry.get(HttpClientConnectionPoolMetricsBinder.CONNECTIONS).tag("state", "leased").gauge().value(), 0);
+    assertEquals(poolStats.getAvailable(),
+        meterRegistry.get(HttpClientConnectionPoolMetricsBinder.CONNECTIONS).tag("state", "available").gauge().value(), 0);
+    assertEquals(poolStats.getPending(),
+        meterRegistry.get(HttpClientConnectionPoolMetricsBinder.PENDING).gauge().value(), 0);
+    assertEquals(poolStats.getMax(),
+        meterRegistry.get(HttpClientConnectionPoolMetricsBinder.MAX).gauge().value(), 0);
+  }
+}
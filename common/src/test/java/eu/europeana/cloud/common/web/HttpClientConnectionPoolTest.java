@@ -0,0 +1,78 @@
+package eu.europeana.cloud.common.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import jakarta.ws.rs.client.Client;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.junit.After;
+import org.junit.Test;
+
+public class HttpClientConnectionPoolTest {
+
+  @After
+  public void clearProperties() {
+    System.clearProperty(HttpClientConnectionPool.MAX_CONNECTIONS_PER_ROUTE_PROPERTY_NAME);
+    System.clearProperty(HttpClientConnectionPool.MAX_CONNECTIONS_TOTAL_PROPERTY_NAME);
+    System.clearProperty(HttpClientConnectionPool.KEEP_ALIVE_PROPERTY_NAME);
+    System.clearProperty(HttpClientConnectionPool.CONNECTION_REQUEST_TIMEOUT_PROPERTY_NAME);
+  }
+
+  @Test
+  public void shouldShareConnectionManagerBetweenClients() {
+    Client firstClient = HttpClientConnectionPool.newPooledClientBuilder().build();
+    Client secondClient = HttpClientConnectionPool.newPooledClientBuilder().build();
+
+    Object connectionManager = firstClient.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER);
+    assertNotNull(connectionManager);
+    assertSame(connectionManager, secondClient.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER));
+    assertEquals(true, firstClient.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER_SHARED));
+    assertEquals(true, secondClient.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER_SHARED));
+    firstClient.close();
+    secondClient.close();
+  }
+
+  @Test
+  public void shouldUseDefaultSettings() {
+    PoolingHttpClientConnectionManager connectionManager = HttpClientConnectionPool.createConnectionManager();
+    RequestConfig requestConfig = HttpClientConnectionPool.createRequestConfig();
+
+    assertEquals(HttpClientConnectionPool.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, connectionManager.getDefaultMaxPerRoute());
+    assertEquals(HttpClientConnectionPool.DEFAULT_MAX_CONNECTIONS_TOTAL, connectionManager.getMaxTotal());
+    assertEquals(HttpClientConnectionPool.DEFAULT_KEEP_ALIVE_IN_SECONDS,
+        requestConfig.getConnectionKeepAlive().toSeconds());
+    assertEquals(HttpClientConnectionPool.DEFAULT_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS,
+        requestConfig.getConnectionRequestTimeout().toMilliseconds());
+    connectionManager.close();
+  }
+
+  @Test
+  public void shouldOverrideSettingsWithSystemProperties() {
+    System.setProperty(HttpClientConnectionPool.MAX_CONNECTIONS_PER_ROUTE_PROPERTY_NAME, "7");
+    System.setProperty(HttpClientConnectionPool.MAX_CONNECTIONS_TOTAL_PROPERTY_NAME, "21");
+    System.setProperty(HttpClientConnectionPool.KEEP_ALIVE_PROPERTY_NAME, "5");
+    System.setProperty(HttpClientConnectionPool.CONNECTION_REQUEST_TIMEOUT_PROPERTY_NAME, "1500");
+
+    PoolingHttpClientConnectionManager connectionManager = HttpClientConnectionPool.createConnectionManager();
+    RequestConfig requestConfig = HttpClientConnectionPool.createRequestConfig();
+
+    assertEquals(7, connectionManager.getDefaultMaxPerRoute());
+    assertEquals(21, connectionManager.getMaxTotal());
+    assertEquals(5, requestConfig.getConnectionKeepAlive().toSeconds());
+    assertEquals(1500, requestConfig.getConnectionRequestTimeout().toMilliseconds());
+    connectionManager.close();
+  }
+
+  @Test
+  public void shouldUseDefaultSettingWhenPropertyIsEmpty() {
+    System.setProperty(HttpClientConnectionPool.MAX_CONNECTIONS_TOTAL_PROPERTY_NAME, "");
+
+    PoolingHttpClientConnectionManager connectionManager = HttpClientConnectionPool.createConnectionManager();
+
+    assertEquals(HttpClientConnectionPool.DEFAULT_MAX_CONNECTIONS_TOTAL, connectionManager.getMaxTotal());
+    connectionManager.close();
+  }
+}
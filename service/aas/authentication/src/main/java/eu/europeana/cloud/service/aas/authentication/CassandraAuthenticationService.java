@@ -1,5 +1,7 @@
 package eu.europeana.cloud.service.aas.authentication;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import eu.europeana.cloud.common.model.IdentifierErrorInfo;
 import eu.europeana.cloud.common.model.User;
 import eu.europeana.cloud.service.aas.authentication.exception.DatabaseConnectionException;
@@ -7,6 +9,7 @@ import eu.europeana.cloud.service.aas.authentication.exception.UserDoesNotExistE
 import eu.europeana.cloud.service.aas.authentication.exception.UserExistsException;
 import eu.europeana.cloud.service.aas.authentication.repository.CassandraUserDAO;
 import eu.europeana.cloud.service.aas.authentication.status.IdentifierErrorTemplate;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,6 +17,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 /**
  * Used throughout the Spring Security framework to pass user specific data.
+ * <p>
+ * Users loaded for the authentication could be kept in the memory for the short time, so the clients sending credentials
+ * with every request do not cause a read from Cassandra every time. The cached user is evicted when it is changed through
+ * this service. Changes made by other instances of the application are visible after the cache time at the latest.
  *
  * @author emmanouil.koufakis@theeuropeanlibrary.org
  */
@@ -22,26 +29,47 @@ public class CassandraAuthenticationService implements UserDetailsService, Authe
   @Autowired
   private CassandraUserDAO userDao;
 
+  private final Cache<String, SpringUser> users;
+
   public CassandraAuthenticationService() {
-    // nothing todo
+    this(0, 0);
   }
 
   public CassandraAuthenticationService(CassandraUserDAO userDao) {
+    this();
     this.userDao = userDao;
   }
 
+  /**
+   * Constructs a new <code>CassandraAuthenticationService</code> object caching the users loaded for the authentication.
+   *
+   * @param userCacheMaxSize the maximal number of the users stored in the cache.
+   * @param userCacheTimeToLiveInSeconds the time after which the loaded user is removed from the cache.
+   */
+  public CassandraAuthenticationService(long userCacheMaxSize, long userCacheTimeToLiveInSeconds) {
+    users = CacheBuilder.newBuilder()
+                        .maximumSize(userCacheMaxSize)
+                        .expireAfterWrite(userCacheTimeToLiveInSeconds, TimeUnit.SECONDS)
+                        .build();
+  }
+
   @Override
   public UserDetails loadUserByUsername(final String userName)
       throws UsernameNotFoundException {
+    SpringUser user = users.getIfPresent(userName);
+    if (user != null) {
+      return user;
+    }
     try {
-      SpringUser user = userDao.getUser(userName);
-      if (user == null) {
-        throw new UsernameNotFoundException("Username '" + userName + "' could not be retrieved from the database!");
-      }
-      return userDao.getUser(userName);
+      user = userDao.getUser(userName);
     } catch (DatabaseConnectionException ex) {
       throw new UsernameNotFoundException("Username '" + userName + "' could not be retrieved due to database error!", ex);
     }
+    if (user == null) {
+      throw new UsernameNotFoundException("Username '" + userName + "' could not be retrieved from the database!");
+    }
+    users.put(userName, user);
+    return user;
   }
 
   @Override
@@ -66,6 +94,7 @@ public class CassandraAuthenticationService implements UserDetailsService, Authe
           IdentifierErrorTemplate.USER_EXISTS.getErrorInfo(userName)));
     } else {
       userDao.lockUser(userName);
+      users.invalidate(userName);
     }
   }
 
@@ -77,6 +106,7 @@ public class CassandraAuthenticationService implements UserDetailsService, Authe
           IdentifierErrorTemplate.USER_EXISTS.getErrorInfo(userName)));
     } else {
       userDao.unlockUser(userName);
+      users.invalidate(userName);
     }
   }
 
@@ -89,6 +119,7 @@ public class CassandraAuthenticationService implements UserDetailsService, Authe
               .getUsername())));
     } else {
       userDao.createUser(user);
+      users.invalidate(user.getUsername());
     }
   }
 
@@ -104,6 +135,7 @@ public class CassandraAuthenticationService implements UserDetailsService, Authe
                   .getErrorInfo(user.getUsername())));
     } else {
       userDao.updateUser(user);
+      users.invalidate(user.getUsername());
     }
   }
 
@@ -52,6 +52,7 @@ public class CassandraUserDAO {
   private void prepareStatements() {
     selectUserStatement = provider.getSession().prepare(
         "SELECT * FROM users WHERE username = ?");
+    selectUserStatement.setIdempotent(true);
 
     createUserStatement = provider
         .getSession()
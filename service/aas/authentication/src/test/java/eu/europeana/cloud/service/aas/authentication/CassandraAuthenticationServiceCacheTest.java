@@ -0,0 +1,79 @@
+package eu.europeana.cloud.service.aas.authentication;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import eu.europeana.cloud.service.aas.authentication.repository.CassandraUserDAO;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class CassandraAuthenticationServiceCacheTest {
+
+  private static final String USER_NAME = "user";
+  private static final int AUTHENTICATIONS_COUNT = 1000;
+
+  private CassandraUserDAO userDao;
+
+  @Before
+  public void init() throws Exception {
+    userDao = mock(CassandraUserDAO.class);
+    when(userDao.getUser(USER_NAME)).thenReturn(new SpringUser(USER_NAME, "password", Collections.emptySet(), false));
+  }
+
+  @Test
+  public void shouldReadUserFromCassandraOnceForManyAuthentications() throws Exception {
+    CassandraAuthenticationService service = createService(100, 60);
+
+    for (int i = 0; i < AUTHENTICATIONS_COUNT; i++) {
+      service.loadUserByUsername(USER_NAME);
+    }
+
+    verify(userDao, times(1)).getUser(USER_NAME);
+  }
+
+  @Test
+  public void shouldReadUserFromCassandraForEveryAuthenticationWithoutCache() throws Exception {
+    CassandraAuthenticationService service = new CassandraAuthenticationService(userDao);
+
+    for (int i = 0; i < AUTHENTICATIONS_COUNT; i++) {
+      service.loadUserByUsername(USER_NAME);
+    }
+
+    verify(userDao, times(AUTHENTICATIONS_COUNT)).getUser(USER_NAME);
+  }
+
+  @Test
+  public void shouldReloadUserAfterLock() throws Exception {
+    CassandraAuthenticationService service = createService(100, 60);
+    assertTrue(service.loadUserByUsername(USER_NAME).isAccountNonLocked());
+
+    service.lockUser(USER_NAME);
+    when(userDao.getUser(USER_NAME)).thenReturn(new SpringUser(USER_NAME, "password", Collections.emptySet(), true));
+
+    assertFalse(service.loadUserByUsername(USER_NAME).isAccountNonLocked());
+  }
+
+  @Test
+  public void shouldReloadUserAfterUpdate() throws Exception {
+    CassandraAuthenticationService service = createService(100, 60);
+    service.loadUserByUsername(USER_NAME);
+
+    service.updateUser(new SpringUser(USER_NAME, "newPassword"));
+    service.loadUserByUsername(USER_NAME);
+
+    // one read by every loadUserByUsername and one by the existence check of updateUser
+    verify(userDao, times(3)).getUser(USER_NAME);
+  }
+
+  private CassandraAuthenticationService createService(long maxSize, long timeToLiveInSeconds) {
+    CassandraAuthenticationService service = new CassandraAuthenticationService(maxSize, timeToLiveInSeconds);
+    ReflectionTestUtils.setField(service, "userDao", userDao);
+    return service;
+  }
+}
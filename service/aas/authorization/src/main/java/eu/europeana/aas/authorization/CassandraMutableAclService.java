@@ -113,6 +113,11 @@ public class CassandraMutableAclService extends CassandraAclService implements E
     }
     aclRepository.saveAcl(newAoi);
 
+    // Clear the cache, the ACL could be cached before it was overwritten
+    if (aclCache != null) {
+      aclCache.evictFromCache(objectIdentity);
+    }
+
     // Retrieve the ACL via superclass (ensures cache registration, proper retrieval etc)
     Acl acl = readAclById(objectIdentity);
     Assert.isInstanceOf(MutableAcl.class, acl, "MutableAcl should be been returned");
@@ -187,11 +192,11 @@ public class CassandraMutableAclService extends CassandraAclService implements E
       aclRepository.updateAcl(new AclObjectIdentity(acl), convertToAclEntries(acl));
     } catch (AclNotFoundException e) {
       throw new NotFoundException(e.getMessage(), e);
+    } finally {
+      // Clear the cache, including children, also when the update failed, so the ACL is read again from the database
+      clearCacheIncludingChildren(acl.getObjectIdentity());
     }
 
-    // Clear the cache, including children
-    clearCacheIncludingChildren(acl.getObjectIdentity());
-
     // Retrieve the ACL via superclass (ensures cache registration, proper retrieval etc)
     MutableAcl result = (MutableAcl) readAclById(acl.getObjectIdentity());
 
@@ -0,0 +1,126 @@
+package eu.europeana.aas.authorization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.acls.domain.AccessControlEntryImpl;
+import org.springframework.security.acls.domain.AclAuthorizationStrategy;
+import org.springframework.security.acls.domain.AclImpl;
+import org.springframework.security.acls.model.AccessControlEntry;
+import org.springframework.security.acls.model.Acl;
+import org.springframework.security.acls.model.AclCache;
+import org.springframework.security.acls.model.AuditableAccessControlEntry;
+import org.springframework.security.acls.model.MutableAcl;
+import org.springframework.security.acls.model.ObjectIdentity;
+import org.springframework.security.acls.model.PermissionGrantingStrategy;
+import org.springframework.security.util.FieldUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AclCache} keeping the ACLs in the memory of the application.
+ * <p>
+ * The cache is bounded by the number of stored ACLs and by the time the ACL stays in the cache after it was loaded, so
+ * changes of the ACL made by other instances of the application are visible here after that time at the latest. Changes
+ * made through {@link CassandraMutableAclService} of this instance evict the ACL immediately.
+ * <p>
+ * ACLs are stored by their {@link ObjectIdentity}. Identifiers of the ACLs stored in Cassandra are not unique between the
+ * classes of the objects, so the methods using only the identifier go through all the cached ACLs.
+ * <p>
+ * ACLs are mutable, and the callers change them before saving, so the cache stores and returns copies of the ACLs. A
+ * change, which was not saved, is never visible to the other callers.
+ */
+public class InMemoryAclCache implements AclCache {
+
+  private final Field fieldAces = FieldUtils.getField(AclImpl.class, "aces");
+  private final PermissionGrantingStrategy grantingStrategy;
+  private final AclAuthorizationStrategy aclAuthorizationStrategy;
+  private final Cache<ObjectIdentity, MutableAcl> cache;
+
+  /**
+   * Constructs a new <code>InMemoryAclCache</code> object.
+   *
+   * @param maxSize the maximal number of the ACLs stored in the cache.
+   * @param timeToLiveInSeconds the time after which the loaded ACL is removed from the cache.
+   * @param grantingStrategy the {@link PermissionGrantingStrategy} to use in the copies of the cached ACLs.
+   * @param aclAuthorizationStrategy the {@link AclAuthorizationStrategy} to use in the copies of the cached ACLs.
+   */
+  public InMemoryAclCache(long maxSize, long timeToLiveInSeconds, PermissionGrantingStrategy grantingStrategy,
+      AclAuthorizationStrategy aclAuthorizationStrategy) {
+    this.grantingStrategy = grantingStrategy;
+    this.aclAuthorizationStrategy = aclAuthorizationStrategy;
+    fieldAces.setAccessible(true);
+    cache = CacheBuilder.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(timeToLiveInSeconds, TimeUnit.SECONDS)
+                        .build();
+  }
+
+  @Override
+  public void evictFromCache(Serializable pk) {
+    Assert.notNull(pk, "Primary key (identifier) required");
+    cache.asMap().values().removeIf(acl -> pk.equals(acl.getId()));
+  }
+
+  @Override
+  public void evictFromCache(ObjectIdentity objectIdentity) {
+    Assert.notNull(objectIdentity, "ObjectIdentity required");
+    cache.invalidate(objectIdentity);
+  }
+
+  @Override
+  public MutableAcl getFromCache(ObjectIdentity objectIdentity) {
+    Assert.notNull(objectIdentity, "ObjectIdentity required");
+    return copy(cache.getIfPresent(objectIdentity));
+  }
+
+  @Override
+  public MutableAcl getFromCache(Serializable pk) {
+    Assert.notNull(pk, "Primary key (identifier) required");
+    return cache.asMap().values().stream()
+                .filter(acl -> pk.equals(acl.getId()))
+                .findFirst()
+                .map(this::copy)
+                .orElse(null);
+  }
+
+  @Override
+  public void putInCache(MutableAcl acl) {
+    Assert.notNull(acl, "Acl required");
+    Assert.notNull(acl.getObjectIdentity(), "ObjectIdentity required");
+    cache.put(acl.getObjectIdentity(), copy(acl));
+  }
+
+  @Override
+  public void clearCache() {
+    cache.invalidateAll();
+  }
+
+  private MutableAcl copy(MutableAcl acl) {
+    if (acl == null) {
+      return null;
+    }
+
+    Acl parentAcl = acl.getParentAcl() instanceof MutableAcl mutableParentAcl ? copy(mutableParentAcl)
+        : acl.getParentAcl();
+    AclImpl result = new AclImpl(acl.getObjectIdentity(), acl.getId(), aclAuthorizationStrategy, grantingStrategy,
+        parentAcl, null, acl.isEntriesInheriting(), acl.getOwner());
+
+    List<AccessControlEntry> aces = new ArrayList<>(acl.getEntries().size());
+    for (AccessControlEntry ace : acl.getEntries()) {
+      AuditableAccessControlEntry auditableAce = (AuditableAccessControlEntry) ace;
+      aces.add(new AccessControlEntryImpl(ace.getId(), result, ace.getSid(), ace.getPermission(), ace.isGranting(),
+          auditableAce.isAuditSuccess(), auditableAce.isAuditFailure()));
+    }
+
+    try {
+      fieldAces.set(result, aces);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not set AccessControlEntries in the copy of the ACL", e);
+    }
+    return result;
+  }
+}
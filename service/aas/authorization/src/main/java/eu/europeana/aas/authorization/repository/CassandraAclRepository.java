@@ -16,6 +16,7 @@ package eu.europeana.aas.authorization.repository;
 
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -32,9 +33,9 @@ import eu.europeana.cloud.service.commons.utils.RetryableMethodExecutor;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -78,6 +79,7 @@ public class CassandraAclRepository implements AclRepository {
   private static final String ERROR_MASSAGE_IN_CASE_ALL_RETRY_FAILED
       = "Repository could now establish connection to cassandra database";
   static final int ACL_REPO_DEFAULT_MAX_ATTEMPTS = 3;
+  static final int MAX_CONCURRENT_LOOKUPS = 64;
 
   private RegularStatement createChildrenTable;
   private RegularStatement createAoisTable;
@@ -153,40 +155,17 @@ public class CassandraAclRepository implements AclRepository {
       LOG.debug("BEGIN findAcls: objectIdentities: " + objectIdsToLookup);
     }
 
-    List<String> ids = new ArrayList<>(objectIdsToLookup.size());
+    Set<String> ids = new LinkedHashSet<>();
     for (AclObjectIdentity entry : objectIdsToLookup) {
       ids.add(entry.getRowId());
     }
-    ResultSet resultSet = executeStatement(session, QueryBuilder.select().all().from(keyspace, AOI_TABLE)
-                                                                .where(QueryBuilder.in("id", ids.toArray())));
 
     Map<AclObjectIdentity, Set<AclEntry>> resultMap = new HashMap<>();
-    for (Row row : resultSet.all()) {
-      resultMap.put(convertToFullAclObjectIdentity(row), new TreeSet<>(
-          Comparator.comparingInt(AclEntry::getOrder)));
-    }
-
-    resultSet = executeStatement(session, QueryBuilder.select().all().from(keyspace, ACL_TABLE)
-                                                      .where(QueryBuilder.in("id", ids.toArray())));
-    for (Row row : resultSet.all()) {
-      String aoiId = row.getString("id");
-
-      AclEntry aclEntry = new AclEntry();
-      aclEntry.setAuditFailure(row.getBool("isAuditFailure"));
-      aclEntry.setAuditSuccess(row.getBool("isAuditSuccess"));
-      aclEntry.setGranting(row.getBool("isGranting"));
-      aclEntry.setMask(row.getInt("mask"));
-      aclEntry.setOrder(row.getInt("aclOrder"));
-      aclEntry.setSid(row.getString("sid"));
-      aclEntry.setSidPrincipal(row.getBool("isSidPrincipal"));
-      aclEntry.setId(aoiId + ":" + aclEntry.getSid() + ":" + aclEntry.getOrder());
-
-      for (Entry<AclObjectIdentity, Set<AclEntry>> entry : resultMap.entrySet()) {
-        if (entry.getKey().getRowId().equals(aoiId)) {
-          entry.getValue().add(aclEntry);
-          break;
-        }
-      }
+    Map<String, Set<AclEntry>> entriesByRowId = new HashMap<>();
+    List<String> idList = new ArrayList<>(ids);
+    for (int from = 0; from < idList.size(); from += MAX_CONCURRENT_LOOKUPS) {
+      List<String> partitionIds = idList.subList(from, Math.min(from + MAX_CONCURRENT_LOOKUPS, idList.size()));
+      findAclsOfPartitions(partitionIds, resultMap, entriesByRowId);
     }
 
     if (LOG.isDebugEnabled()) {
@@ -195,6 +174,64 @@ public class CassandraAclRepository implements AclRepository {
     return resultMap;
   }
 
+  /**
+   * Reads the ACLs of the given object identities, querying every partition with a separate, concurrently executed
+   * statement, and adds them to the result. Entries are assigned to their object identities through the map indexed by the
+   * row id.
+   *
+   * @param ids row ids of the object identities to lookup.
+   * @param resultMap the result to fill with the found object identities and their entries.
+   * @param entriesByRowId entries of the found object identities, indexed by the row id.
+   */
+  private void findAclsOfPartitions(List<String> ids, Map<AclObjectIdentity, Set<AclEntry>> resultMap,
+      Map<String, Set<AclEntry>> entriesByRowId) {
+    List<ResultSetFuture> aoiFutures = new ArrayList<>(ids.size());
+    List<ResultSetFuture> aclFutures = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      aoiFutures.add(session.executeAsync(QueryBuilder.select().all().from(keyspace, AOI_TABLE)
+                                                      .where(QueryBuilder.eq(COMMON_ID_FIELD, id))));
+      aclFutures.add(session.executeAsync(QueryBuilder.select().all().from(keyspace, ACL_TABLE)
+                                                      .where(QueryBuilder.eq(COMMON_ID_FIELD, id))));
+    }
+
+    for (ResultSetFuture aoiFuture : aoiFutures) {
+      Row row = aoiFuture.getUninterruptibly().one();
+      if (row != null) {
+        Set<AclEntry> aclEntries = new TreeSet<>(Comparator.comparingInt(AclEntry::getOrder));
+        resultMap.put(convertToFullAclObjectIdentity(row), aclEntries);
+        entriesByRowId.put(row.getString(COMMON_ID_FIELD), aclEntries);
+      }
+    }
+
+    for (ResultSetFuture aclFuture : aclFutures) {
+      for (Row row : aclFuture.getUninterruptibly()) {
+        Set<AclEntry> aclEntries = entriesByRowId.get(row.getString(COMMON_ID_FIELD));
+        if (aclEntries != null) {
+          aclEntries.add(convertToAclEntry(row));
+        }
+      }
+    }
+  }
+
+  /**
+   * Converts a <code>ACL table row</code> from a Cassandra result to an <code>AclEntry</code> object.
+   *
+   * @param row the <code>ACL table row</code> representing an <code>AclEntry</code>.
+   * @return an <code>AclEntry</code> object with the values retrieved from Cassandra.
+   */
+  private AclEntry convertToAclEntry(Row row) {
+    AclEntry aclEntry = new AclEntry();
+    aclEntry.setAuditFailure(row.getBool("isAuditFailure"));
+    aclEntry.setAuditSuccess(row.getBool("isAuditSuccess"));
+    aclEntry.setGranting(row.getBool("isGranting"));
+    aclEntry.setMask(row.getInt("mask"));
+    aclEntry.setOrder(row.getInt("aclOrder"));
+    aclEntry.setSid(row.getString("sid"));
+    aclEntry.setSidPrincipal(row.getBool("isSidPrincipal"));
+    aclEntry.setId(row.getString(COMMON_ID_FIELD) + ":" + aclEntry.getSid() + ":" + aclEntry.getOrder());
+    return aclEntry;
+  }
+
   @Override
   @Retryable(maxAttempts = ACL_REPO_DEFAULT_MAX_ATTEMPTS, errorMessage = ERROR_MASSAGE_IN_CASE_ALL_RETRY_FAILED)
   public AclObjectIdentity findAclObjectIdentity(AclObjectIdentity objectId) {
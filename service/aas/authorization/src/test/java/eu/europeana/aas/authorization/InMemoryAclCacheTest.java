@@ -0,0 +1,187 @@
+package eu.europeana.aas.authorization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import eu.europeana.aas.authorization.model.AclEntry;
+import eu.europeana.aas.authorization.model.AclObjectIdentity;
+import eu.europeana.aas.authorization.repository.AclRepository;
+import eu.europeana.cloud.common.model.Role;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.acls.domain.AclAuthorizationStrategyImpl;
+import org.springframework.security.acls.domain.BasePermission;
+import org.springframework.security.acls.domain.ConsoleAuditLogger;
+import org.springframework.security.acls.domain.DefaultPermissionFactory;
+import org.springframework.security.acls.domain.DefaultPermissionGrantingStrategy;
+import org.springframework.security.acls.domain.ObjectIdentityImpl;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.model.Acl;
+import org.springframework.security.acls.model.AclCache;
+import org.springframework.security.acls.model.MutableAcl;
+import org.springframework.security.acls.model.ObjectIdentity;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class InMemoryAclCacheTest {
+
+  private static final String OWNER = "owner";
+  private static final int PERMISSION_CHECKS_COUNT = 1000;
+  private static final List<Sid> OWNER_SIDS = List.of(new PrincipalSid(OWNER));
+  private static final Sid OTHER_USER = new PrincipalSid("other");
+
+  private final DefaultPermissionGrantingStrategy grantingStrategy =
+      new DefaultPermissionGrantingStrategy(new ConsoleAuditLogger());
+  private final AclAuthorizationStrategyImpl aclAuthorizationStrategy =
+      new AclAuthorizationStrategyImpl(new SimpleGrantedAuthority(Role.ADMIN));
+  private final ObjectIdentity dataSet = new ObjectIdentityImpl("eu.europeana.cloud.common.model.DataSet", "provider/dataset");
+  private AclRepository aclRepository;
+
+  @Before
+  public void init() {
+    aclRepository = mock(AclRepository.class);
+    when(aclRepository.findAcls(anyList())).thenAnswer(invocation -> aclOf(dataSet));
+    when(aclRepository.findAclObjectIdentityChildren(any())).thenReturn(Collections.emptyList());
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(OWNER, "password"));
+  }
+
+  @After
+  public void cleanUp() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void shouldReadAclFromCassandraOnceForManyPermissionChecks() {
+    CassandraMutableAclService aclService = createAclService(createCache(100, 60));
+
+    for (int i = 0; i < PERMISSION_CHECKS_COUNT; i++) {
+      assertTrue(aclService.readAclById(dataSet, OWNER_SIDS).isGranted(List.of(BasePermission.READ), OWNER_SIDS, false));
+    }
+
+    verify(aclRepository, times(1)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldReadAclFromCassandraForEveryPermissionCheckWithoutCache() {
+    CassandraMutableAclService aclService = createAclService(null);
+
+    for (int i = 0; i < PERMISSION_CHECKS_COUNT; i++) {
+      assertTrue(aclService.readAclById(dataSet, OWNER_SIDS).isGranted(List.of(BasePermission.READ), OWNER_SIDS, false));
+    }
+
+    verify(aclRepository, times(PERMISSION_CHECKS_COUNT)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldReloadAclAfterUpdate() throws Exception {
+    CassandraMutableAclService aclService = createAclService(createCache(100, 60));
+    MutableAcl acl = (MutableAcl) aclService.readAclById(dataSet);
+
+    aclService.updateAcl(acl);
+    aclService.readAclById(dataSet);
+
+    verify(aclRepository).updateAcl(any(), anyList());
+    verify(aclRepository, times(2)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldReloadAclAfterDelete() {
+    CassandraMutableAclService aclService = createAclService(createCache(100, 60));
+    aclService.readAclById(dataSet);
+
+    aclService.deleteAcl(dataSet, false);
+    aclService.readAclById(dataSet);
+
+    verify(aclRepository, times(2)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldKeepNoMoreAclsThanMaxSize() {
+    AclCache cache = createCache(1, 60);
+    CassandraMutableAclService aclService = createAclService(cache);
+    ObjectIdentity otherDataSet = new ObjectIdentityImpl(dataSet.getType(), "provider/other");
+    when(aclRepository.findAcls(anyList())).thenAnswer(invocation -> aclOf(dataSet))
+                                         .thenAnswer(invocation -> aclOf(otherDataSet));
+
+    aclService.readAclById(dataSet);
+    aclService.readAclById(otherDataSet);
+
+    assertNull(cache.getFromCache(dataSet));
+    assertEquals(otherDataSet, cache.getFromCache(otherDataSet).getObjectIdentity());
+  }
+
+  @Test
+  public void shouldExpireAclAfterTimeToLive() {
+    AclCache cache = createCache(100, 0);
+    CassandraMutableAclService aclService = createAclService(cache);
+
+    aclService.readAclById(dataSet);
+    aclService.readAclById(dataSet);
+
+    verify(aclRepository, times(2)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldNotShareChangesOfCachedAclBeforeUpdate() {
+    CassandraMutableAclService aclService = createAclService(createCache(100, 60));
+    MutableAcl acl = (MutableAcl) aclService.readAclById(dataSet);
+
+    acl.insertAce(1, BasePermission.WRITE, OTHER_USER, true);
+
+    assertEquals(1, aclService.readAclById(dataSet).getEntries().size());
+    assertEquals(2, acl.getEntries().size());
+    verify(aclRepository, times(1)).findAcls(anyList());
+  }
+
+  @Test
+  public void shouldNotServeAclChangeAfterFailedUpdate() throws Exception {
+    CassandraMutableAclService aclService = createAclService(createCache(100, 60));
+    MutableAcl acl = (MutableAcl) aclService.readAclById(dataSet);
+    acl.insertAce(1, BasePermission.WRITE, OTHER_USER, true);
+    doThrow(new IllegalStateException("Cassandra unavailable")).when(aclRepository).updateAcl(any(), anyList());
+
+    assertThrows(IllegalStateException.class, () -> aclService.updateAcl(acl));
+    Acl reloadedAcl = aclService.readAclById(dataSet);
+
+    assertEquals(1, reloadedAcl.getEntries().size());
+    verify(aclRepository, times(2)).findAcls(anyList());
+  }
+
+  private InMemoryAclCache createCache(long maxSize, long timeToLiveInSeconds) {
+    return new InMemoryAclCache(maxSize, timeToLiveInSeconds, grantingStrategy, aclAuthorizationStrategy);
+  }
+
+  private CassandraMutableAclService createAclService(AclCache aclCache) {
+    return new CassandraMutableAclService(aclRepository, aclCache, grantingStrategy, aclAuthorizationStrategy,
+        new DefaultPermissionFactory());
+  }
+
+  private static Map<AclObjectIdentity, Set<AclEntry>> aclOf(ObjectIdentity objectIdentity) {
+    AclObjectIdentity aoi = new AclObjectIdentity(objectIdentity);
+    aoi.setOwnerId(OWNER);
+    aoi.setOwnerPrincipal(true);
+    AclEntry entry = new AclEntry();
+    entry.setId(objectIdentity.getIdentifier() + ":" + OWNER);
+    entry.setSid(OWNER);
+    entry.setSidPrincipal(true);
+    entry.setMask(BasePermission.READ.getMask());
+    entry.setGranting(true);
+    return Map.of(aoi, Set.of(entry));
+  }
+}
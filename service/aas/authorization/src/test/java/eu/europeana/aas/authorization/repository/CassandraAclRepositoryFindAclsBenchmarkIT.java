@@ -0,0 +1,54 @@
+package eu.europeana.aas.authorization.repository;
+
+import eu.europeana.aas.authorization.model.AclObjectIdentity;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Test;
+
+/**
+ * Measures the time of assembling the result of {@link CassandraAclRepository#findAcls(List)} for 1, 100 and 10000
+ * object identities, served by the mocked Cassandra session of {@link FindAclsFixture}. It is not executed with the
+ * unit tests, and could be run by the failsafe plugin:
+ * <code>mvn failsafe:integration-test -Dit.test=CassandraAclRepositoryFindAclsBenchmarkIT</code>
+ */
+public class CassandraAclRepositoryFindAclsBenchmarkIT {
+
+  private static final Log LOG = LogFactory.getLog(CassandraAclRepositoryFindAclsBenchmarkIT.class);
+  private static final int WARM_UP_ITERATIONS = 5;
+  private static final int MEASURED_ITERATIONS = 5;
+
+  @Test
+  public void shouldFindAclsOfOneObjectIdentity() {
+    benchmark(1);
+  }
+
+  @Test
+  public void shouldFindAclsOf100ObjectIdentities() {
+    benchmark(100);
+  }
+
+  @Test
+  public void shouldFindAclsOf10000ObjectIdentities() {
+    benchmark(10000);
+  }
+
+  private void benchmark(int identitiesCount) {
+    FindAclsFixture fixture = new FindAclsFixture(identitiesCount);
+    List<AclObjectIdentity> identities = fixture.getIdentities();
+    CassandraAclRepository repository = fixture.createRepository();
+
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      fixture.verifyResult(repository.findAcls(identities));
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      repository.findAcls(identities);
+    }
+    long averageTime = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+    LOG.info("findAcls of " + identitiesCount + " object identities took on average "
+        + TimeUnit.NANOSECONDS.toMicros(averageTime) + " us");
+  }
+}
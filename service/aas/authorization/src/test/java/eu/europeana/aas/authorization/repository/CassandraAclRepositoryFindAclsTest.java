@@ -0,0 +1,22 @@
+package eu.europeana.aas.authorization.repository;
+
+import org.junit.Test;
+
+public class CassandraAclRepositoryFindAclsTest {
+
+  @Test
+  public void shouldFindAclsOfOneObjectIdentity() {
+    shouldFindAclsOfAllObjectIdentities(1);
+  }
+
+  @Test
+  public void shouldFindAclsOfObjectIdentitiesLookedUpInSeveralPartitions() {
+    shouldFindAclsOfAllObjectIdentities(100);
+  }
+
+  private void shouldFindAclsOfAllObjectIdentities(int identitiesCount) {
+    FindAclsFixture fixture = new FindAclsFixture(identitiesCount);
+
+    fixture.verifyResult(fixture.createRepository().findAcls(fixture.getIdentities()));
+  }
+}
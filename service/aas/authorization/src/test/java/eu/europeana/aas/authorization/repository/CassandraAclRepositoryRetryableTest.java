@@ -43,6 +43,8 @@ public class CassandraAclRepositoryRetryableTest {
 
     when(session.execute(Mockito.any(Statement.class)))
         .thenThrow(new DriverException("Driver error has occurred!"));
+    when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenThrow(new DriverException("Driver error has occurred!"));
 
     aoi = createTestAclObjectIdentity();
     aclEntries = List.of(createTestAclEntry("test", 1),
@@ -55,18 +57,20 @@ public class CassandraAclRepositoryRetryableTest {
   @Test
   public void testRetryableAnnotation() {
     Mockito.verify(session, Mockito.times(0))
-           .execute(Mockito.any(Statement.class));
+           .executeAsync(Mockito.any(Statement.class));
     try {
       aclRepository.findAcls(List.of(aoi));
     } catch (Exception ignored) {
     }
     Mockito.verify(session, Mockito.times(maxAttemptCount))
+           .executeAsync(Mockito.any(Statement.class));
+    Mockito.verify(session, Mockito.times(0))
            .execute(Mockito.any(Statement.class));
     try {
       aclRepository.updateAcl(aoi, aclEntries);
     } catch (Exception ignored) {
     }
-    Mockito.verify(session, Mockito.times(maxAttemptCount * 2))
+    Mockito.verify(session, Mockito.times(maxAttemptCount))
            .execute(Mockito.any(Statement.class));
   }
 }
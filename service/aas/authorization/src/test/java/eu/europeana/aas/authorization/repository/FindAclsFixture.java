@@ -0,0 +1,124 @@
+package eu.europeana.aas.authorization.repository;
+
+import static eu.europeana.aas.authorization.repository.AclUtils.aoi_class;
+import static eu.europeana.aas.authorization.repository.AclUtils.sid1;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import eu.europeana.aas.authorization.model.AclEntry;
+import eu.europeana.aas.authorization.model.AclObjectIdentity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Object identities with their ACLs, served by a mocked Cassandra session to
+ * {@link CassandraAclRepository#findAcls(List)}. The query results are prepared in advance, so only the work done by
+ * the repository is executed in the tests.
+ */
+class FindAclsFixture {
+
+  private static final String KEYSPACE = "test";
+  private static final int ENTRIES_PER_ACL = 2;
+
+  private final Map<String, ResultSetFuture> results = new HashMap<>();
+  private final List<AclObjectIdentity> identities;
+
+  FindAclsFixture(int identitiesCount) {
+    identities = new ArrayList<>(identitiesCount);
+    for (int i = 0; i < identitiesCount; i++) {
+      AclObjectIdentity aoi = new AclObjectIdentity();
+      aoi.setId(String.valueOf(i));
+      aoi.setObjectClass(aoi_class);
+      identities.add(aoi);
+
+      List<Row> aclRows = new ArrayList<>(ENTRIES_PER_ACL);
+      for (int order = 0; order < ENTRIES_PER_ACL; order++) {
+        aclRows.add(aclRow(aoi.getRowId(), order));
+      }
+      results.put(query("aois", aoi.getRowId()), result(Collections.singletonList(aoiRow(aoi))));
+      results.put(query("acls", aoi.getRowId()), result(aclRows));
+    }
+  }
+
+  List<AclObjectIdentity> getIdentities() {
+    return identities;
+  }
+
+  CassandraAclRepository createRepository() {
+    Session session = mock(Session.class);
+    when(session.executeAsync(any(Statement.class))).thenAnswer(
+        invocation -> results.get(invocation.getArgument(0).toString()));
+    return new CassandraAclRepository(session, KEYSPACE);
+  }
+
+  /**
+   * Checks that the result contains every object identity of the fixture, with its own entries only.
+   */
+  void verifyResult(Map<AclObjectIdentity, Set<AclEntry>> result) {
+    assertEquals(identities.size(), result.size());
+    Set<String> expectedRowIds = new HashSet<>();
+    identities.forEach(aoi -> expectedRowIds.add(aoi.getRowId()));
+    Set<String> foundRowIds = new HashSet<>();
+    result.forEach((aoi, entries) -> {
+      foundRowIds.add(aoi.getRowId());
+      assertEquals(ENTRIES_PER_ACL, entries.size());
+      entries.forEach(entry -> assertTrue(entry.getId().startsWith(aoi.getRowId() + ":")));
+    });
+    assertEquals(expectedRowIds, foundRowIds);
+  }
+
+  private static String query(String table, String rowId) {
+    return "SELECT * FROM " + KEYSPACE + "." + table + " WHERE id='" + rowId + "';";
+  }
+
+  private static ResultSetFuture result(List<Row> rows) {
+    ResultSet resultSet = mock(ResultSet.class, invocation -> switch (invocation.getMethod().getName()) {
+      case "one" -> rows.get(0);
+      case "iterator" -> rows.iterator();
+      default -> RETURNS_DEFAULTS.answer(invocation);
+    });
+    return mock(ResultSetFuture.class, invocation -> "getUninterruptibly".equals(invocation.getMethod().getName())
+        ? resultSet : RETURNS_DEFAULTS.answer(invocation));
+  }
+
+  private static Row aoiRow(AclObjectIdentity aoi) {
+    return row(Map.of(
+        "id", aoi.getRowId(),
+        "objId", aoi.getId(),
+        "objClass", aoi.getObjectClass(),
+        "owner", sid1,
+        "isOwnerPrincipal", true,
+        "isInheriting", false));
+  }
+
+  private static Row aclRow(String rowId, int order) {
+    return row(Map.of(
+        "id", rowId,
+        "sid", sid1,
+        "aclOrder", order,
+        "mask", 1,
+        "isSidPrincipal", true,
+        "isGranting", true,
+        "isAuditSuccess", false,
+        "isAuditFailure", false));
+  }
+
+  private static Row row(Map<String, Object> columns) {
+    return mock(Row.class, invocation -> invocation.getArguments().length == 1
+        ? columns.get(invocation.getArgument(0, Object.class)) : RETURNS_DEFAULTS.answer(invocation));
+  }
+}
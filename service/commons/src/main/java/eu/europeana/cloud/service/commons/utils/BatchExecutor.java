@@ -2,11 +2,13 @@ package eu.europeana.cloud.service.commons.utils;
 
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Component responsible for executing provided statements in LOGGED batch
+ * Component responsible for executing provided statements in LOGGED batch or as a group of concurrent asynchronous statements
  */
 public class BatchExecutor {
 
@@ -35,6 +37,22 @@ public class BatchExecutor {
     executeWithRetries(batchStatement);
   }
 
+  /**
+   * Executes all the provided statements concurrently, without wrapping them in a batch, and waits until all of them are
+   * completed. In case of failure the whole group is executed again, so the statements must be idempotent.
+   *
+   * @param statements statements to be executed
+   */
+  public void executeAllAsync(List<BoundStatement> statements) {
+    RetryableMethodExecutor.execute("Unable to execute statements", RETRY_COUNT,
+        SLEEP_BETWEEN_RETRIES_MS, () -> {
+          List<ResultSetFuture> futures = new ArrayList<>(statements.size());
+          statements.forEach(statement -> futures.add(dbService.getSession().executeAsync(statement)));
+          futures.forEach(ResultSetFuture::getUninterruptibly);
+          return null;
+        });
+  }
+
   private void executeWithRetries(BatchStatement batchStatement) {
     RetryableMethodExecutor.execute("Unable to execute batch", RETRY_COUNT,
         SLEEP_BETWEEN_RETRIES_MS, () -> {
@@ -1,17 +1,24 @@
 package eu.europeana.cloud.service.commons.utils;
 
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import eu.europeana.cloud.common.annotation.Retryable;
 import eu.europeana.cloud.common.utils.Bucket;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is responsible for handling all operations related to data bucketing for any table (that requires bucketing). <br/>
  * Buckets table has to have proper structure.
+ * <p>
+ * Statements are prepared once per buckets table. The current bucket is read as the single latest row of the object
+ * partition, so the buckets filled by other instances are always taken into account.
  */
 @Retryable
 public class BucketsHandler {
@@ -21,6 +28,7 @@ public class BucketsHandler {
   public static final String ROWS_COUNT_COLUMN_NAME = "rows_count";
   //
   private Session session;
+  private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
 
   /**
    * Creates new {@link BucketsHandler} instance
@@ -40,19 +48,7 @@ public class BucketsHandler {
    * @return the latest bucket for given parameters
    */
   public Bucket getCurrentBucket(String bucketsTableName, String objectId) {
-    String query = "SELECT object_id, bucket_id, rows_count FROM " + bucketsTableName
-        + " WHERE object_id = '" + objectId + "';";
-    ResultSet rs = session.execute(query);
-
-    List<Row> rows = rs.all();
-    Row row = rows.isEmpty() ? null : rows.get(rows.size() - 1);
-    if (row != null) {
-      return new Bucket(
-          row.getString(OBJECT_ID_COLUMN_NAME),
-          row.getUUID(BUCKET_ID_COLUMN_NAME).toString(),
-          row.getLong(ROWS_COUNT_COLUMN_NAME));
-    }
-    return null;
+    return getPreviousBucket(bucketsTableName, objectId);
   }
 
   /**
@@ -62,9 +58,9 @@ public class BucketsHandler {
    * @param bucket bucket identifier
    */
   public void increaseBucketCount(String bucketsTableName, Bucket bucket) {
-    String query = "UPDATE " + bucketsTableName + " SET rows_count = rows_count + 1 WHERE object_id = '"
-        + bucket.getObjectId() + "' AND bucket_id = " + UUID.fromString(bucket.getBucketId()) + ";";
-    session.execute(query);
+    session.execute(prepare("UPDATE " + bucketsTableName
+        + " SET rows_count = rows_count + 1 WHERE object_id = ? AND bucket_id = ?;")
+        .bind(bucket.getObjectId(), UUID.fromString(bucket.getBucketId())));
   }
 
   /**
@@ -74,9 +70,9 @@ public class BucketsHandler {
    * @param bucket bucket identifier
    */
   public void decreaseBucketCount(String bucketsTableName, Bucket bucket) {
-    String query = "UPDATE " + bucketsTableName + " SET rows_count = rows_count - 1 WHERE object_id = '"
-        + bucket.getObjectId() + "' AND bucket_id = " + UUID.fromString(bucket.getBucketId()) + ";";
-    session.execute(query);
+    session.execute(prepare("UPDATE " + bucketsTableName
+        + " SET rows_count = rows_count - 1 WHERE object_id = ? AND bucket_id = ?;")
+        .bind(bucket.getObjectId(), UUID.fromString(bucket.getBucketId())));
 
     Bucket actual = getBucket(bucketsTableName, bucket);
     if (actual != null && actual.getRowsCount() == 0) {
@@ -93,17 +89,13 @@ public class BucketsHandler {
    * @return list of all buckets related with given bucket identifier
    */
   public List<Bucket> getAllBuckets(String bucketsTableName, String objectId) {
-    String query = "SELECT * FROM " + bucketsTableName + " WHERE object_id = '" + objectId + "';";
-    ResultSet rs = session.execute(query);
+    ResultSet rs = session.execute(prepare("SELECT * FROM " + bucketsTableName + " WHERE object_id = ?;")
+        .bind(objectId));
 
     List<Row> rows = rs.all();
     List<Bucket> resultBuckets = new ArrayList<>(rows.size());
     for (Row row : rows) {
-      Bucket bucket = new Bucket(
-          row.getString(OBJECT_ID_COLUMN_NAME),
-          row.getUUID(BUCKET_ID_COLUMN_NAME).toString(),
-          row.getLong(ROWS_COUNT_COLUMN_NAME));
-      resultBuckets.add(bucket);
+      resultBuckets.add(toBucket(row));
     }
     return resultBuckets;
   }
@@ -118,9 +110,8 @@ public class BucketsHandler {
    * @return found bucket
    */
   public Bucket getBucket(String bucketsTableName, Bucket bucket) {
-    String query = "SELECT * FROM " + bucketsTableName + " where object_id = '" + bucket.getObjectId()
-        + "' AND bucket_id = " + UUID.fromString(bucket.getBucketId()) + " LIMIT 1;";
-    return getBucket(query);
+    return getBucket(prepare("SELECT * FROM " + bucketsTableName + " where object_id = ? AND bucket_id = ? LIMIT 1;")
+        .bind(bucket.getObjectId(), UUID.fromString(bucket.getBucketId())));
   }
 
   /**
@@ -132,8 +123,8 @@ public class BucketsHandler {
    * @return found bucket
    */
   public Bucket getFirstBucket(String bucketsTableName, String objectId) {
-    String query = "SELECT * FROM " + bucketsTableName + " where object_id = '" + objectId + "' LIMIT 1;";
-    return getBucket(query);
+    return getBucket(prepare("SELECT * FROM " + bucketsTableName + " where object_id = ? LIMIT 1;")
+        .bind(objectId));
   }
 
   /**
@@ -145,9 +136,8 @@ public class BucketsHandler {
    * @return found bucket. Will return null if there is no next bucket
    */
   public Bucket getNextBucket(String bucketsTableName, String objectId, Bucket bucket) {
-    String query = "SELECT * FROM " + bucketsTableName + " where object_id = '" + objectId
-        + "' AND bucket_id > " + UUID.fromString(bucket.getBucketId()) + " LIMIT 1;";
-    return getBucket(query);
+    return getBucket(prepare("SELECT * FROM " + bucketsTableName + " where object_id = ? AND bucket_id > ? LIMIT 1;")
+        .bind(objectId, UUID.fromString(bucket.getBucketId())));
   }
 
   /**
@@ -158,9 +148,8 @@ public class BucketsHandler {
    * @return found bucket. Will return null if there is no next bucket
    */
   public Bucket getPreviousBucket(String bucketsTableName, String objectId) {
-    String query = "SELECT * FROM " + bucketsTableName + " where object_id = '" + objectId
-        + "' ORDER BY bucket_id DESC LIMIT 1;";
-    return getBucket(query);
+    return getBucket(prepare("SELECT * FROM " + bucketsTableName + " where object_id = ? ORDER BY bucket_id DESC LIMIT 1;")
+        .bind(objectId));
   }
 
   /**
@@ -172,9 +161,9 @@ public class BucketsHandler {
    * @return found bucket. Will return null if there is no next bucket
    */
   public Bucket getPreviousBucket(String bucketsTableName, String objectId, Bucket bucket) {
-    String query = "SELECT * FROM " + bucketsTableName + " where object_id = '" + objectId
-        + "' AND bucket_id < " + UUID.fromString(bucket.getBucketId()) + " ORDER BY bucket_id DESC LIMIT 1;";
-    return getBucket(query);
+    return getBucket(prepare("SELECT * FROM " + bucketsTableName
+        + " where object_id = ? AND bucket_id < ? ORDER BY bucket_id DESC LIMIT 1;")
+        .bind(objectId, UUID.fromString(bucket.getBucketId())));
   }
 
   /**
@@ -185,21 +174,23 @@ public class BucketsHandler {
    *
    */
   public void removeBucket(String bucketsTableName, Bucket bucket) {
-    String query = "DELETE FROM " + bucketsTableName + " WHERE object_id = '" + bucket.getObjectId()
-        + "' AND bucket_id = " + UUID.fromString(bucket.getBucketId()) + ";";
-    session.execute(query);
+    session.execute(prepare("DELETE FROM " + bucketsTableName + " WHERE object_id = ? AND bucket_id = ?;")
+        .bind(bucket.getObjectId(), UUID.fromString(bucket.getBucketId())));
   }
 
-  private Bucket getBucket(String query) {
-    ResultSet rs = session.execute(query);
-    Row row = rs.one();
-    Bucket resultBucket = null;
-    if (row != null) {
-      resultBucket = new Bucket(
-          row.getString(OBJECT_ID_COLUMN_NAME),
-          row.getUUID(BUCKET_ID_COLUMN_NAME).toString(),
-          row.getLong(ROWS_COUNT_COLUMN_NAME));
-    }
-    return resultBucket;
+  private PreparedStatement prepare(String query) {
+    return preparedStatements.computeIfAbsent(query, session::prepare);
+  }
+
+  private Bucket getBucket(Statement statement) {
+    Row row = session.execute(statement).one();
+    return row != null ? toBucket(row) : null;
+  }
+
+  private Bucket toBucket(Row row) {
+    return new Bucket(
+        row.getString(OBJECT_ID_COLUMN_NAME),
+        row.getUUID(BUCKET_ID_COLUMN_NAME).toString(),
+        row.getLong(ROWS_COUNT_COLUMN_NAME));
   }
 }
@@ -0,0 +1,75 @@
+package eu.europeana.cloud.service.commons.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} remembering for a short time the credentials that were successfully verified by the wrapped
+ * encoder, so the clients sending the same basic authentication credentials with every request do not pay for the
+ * expensive hash check every time.
+ * <p>
+ * Only the SHA-256 digest of the raw password together with the encoded password is kept, never the raw password itself.
+ * The encoded password is salted per user and changes whenever the password is changed, so the cached entry is not used
+ * anymore after the change. Failed verifications are never cached.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder encoder;
+  private final Cache<String, Boolean> verifiedCredentials;
+
+  /**
+   * Constructs a new <code>CachingPasswordEncoder</code> object.
+   *
+   * @param encoder the encoder doing the actual encoding and verification of the passwords.
+   * @param maxSize the maximal number of the verified credentials stored in the cache.
+   * @param timeToLiveInSeconds the time after which the verified credentials are removed from the cache.
+   */
+  public CachingPasswordEncoder(PasswordEncoder encoder, long maxSize, long timeToLiveInSeconds) {
+    this.encoder = encoder;
+    verifiedCredentials = CacheBuilder.newBuilder()
+                                      .maximumSize(maxSize)
+                                      .expireAfterWrite(timeToLiveInSeconds, TimeUnit.SECONDS)
+                                      .build();
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encoder.encode(rawPassword);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    if (rawPassword == null || encodedPassword == null) {
+      return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    String key = digest(rawPassword, encodedPassword);
+    if (verifiedCredentials.getIfPresent(key) != null) {
+      return true;
+    }
+
+    boolean matches = encoder.matches(rawPassword, encodedPassword);
+    if (matches) {
+      verifiedCredentials.put(key, Boolean.TRUE);
+    }
+    return matches;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return encoder.upgradeEncoding(encodedPassword);
+  }
+
+  private static String digest(CharSequence rawPassword, String encodedPassword) {
+    return Hashing.sha256().newHasher()
+                  .putString(encodedPassword, StandardCharsets.UTF_8)
+                  .putByte((byte) 0)
+                  .putString(rawPassword, StandardCharsets.UTF_8)
+                  .hash()
+                  .toString();
+  }
+}
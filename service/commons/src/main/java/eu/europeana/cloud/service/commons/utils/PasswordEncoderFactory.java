@@ -11,4 +11,16 @@ public final class PasswordEncoderFactory {
   public static PasswordEncoder getPasswordEncoder() {
     return new BCryptPasswordEncoder(4);
   }
+
+  /**
+   * Creates the password encoder, which remembers the successfully verified credentials for the given time.
+   *
+   * @param verifiedCredentialsCacheSize maximal number of the remembered credentials.
+   * @param timeToLiveInSeconds time after which the credentials are verified again.
+   * @return password encoder
+   * @see CachingPasswordEncoder
+   */
+  public static PasswordEncoder getCachingPasswordEncoder(long verifiedCredentialsCacheSize, long timeToLiveInSeconds) {
+    return new CachingPasswordEncoder(getPasswordEncoder(), verifiedCredentialsCacheSize, timeToLiveInSeconds);
+  }
 }
@@ -1,6 +1,7 @@
 package eu.europeana.cloud.service.commons.utils;
 
 import eu.europeana.cloud.common.annotation.Retryable;
+import eu.europeana.cloud.common.utils.SystemSettings;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -16,9 +17,10 @@ public class RetryableMethodExecutor {
 
 
   private static final String ATTEMPT_COUNT_PROPERTY_NAME = "ECLOUD_OVERRIDE_RETRIES_ATTEMPT_COUNT";
-  public static final Integer OVERRIDE_ATTEMPT_COUNT = getSystemPropertyOrEnvVariable(ATTEMPT_COUNT_PROPERTY_NAME);
+  public static final Integer OVERRIDE_ATTEMPT_COUNT = SystemSettings.getInt(ATTEMPT_COUNT_PROPERTY_NAME).orElse(null);
   private static final String DELAY_VALUE_PROPERTY_NAME = "ECLOUD_OVERRIDE_RETRIES_DELAY";
-  public static final Integer OVERRIDE_DELAY_BETWEEN_ATTEMPTS = getSystemPropertyOrEnvVariable(DELAY_VALUE_PROPERTY_NAME);
+  public static final Integer OVERRIDE_DELAY_BETWEEN_ATTEMPTS =
+      SystemSettings.getInt(DELAY_VALUE_PROPERTY_NAME).orElse(null);
   private static final Logger LOGGER = LoggerFactory.getLogger(RetryableMethodExecutor.class);
 
   public static final int DEFAULT_REST_ATTEMPTS = 8;
@@ -26,17 +28,6 @@ public class RetryableMethodExecutor {
   public static final int DELAY_BETWEEN_REST_ATTEMPTS = 5000;
 
 
-  private static Integer getSystemPropertyOrEnvVariable(String propertyName) {
-    String jvmVariable = System.getProperty(propertyName);
-    if (jvmVariable != null) {
-      return !jvmVariable.isEmpty() ? Integer.parseInt(jvmVariable) : null;
-    } else {
-      return Optional.ofNullable(System.getenv(propertyName))
-                     .map(Integer::parseInt)
-                     .orElse(null);
-    }
-  }
-
   public static boolean areRetryParamsOverridden() {
     return OVERRIDE_ATTEMPT_COUNT != null || OVERRIDE_DELAY_BETWEEN_ATTEMPTS != null;
   }
@@ -31,6 +31,56 @@ public class BucketsHandlerTest extends CassandraTestBase {
     Assert.assertNull(bucket);
   }
 
+  @Test
+  public void currentBucketShouldBeTheLatestOne() {
+    //given
+    Bucket firstBucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
+    Bucket secondBucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, firstBucket);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, secondBucket);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, secondBucket);
+    //when
+    Bucket currentBucket = bucketsHandler.getCurrentBucket(BUCKETS_TABLE_NAME, "sampleObjectId");
+    //then
+    Assert.assertEquals(secondBucket.getBucketId(), currentBucket.getBucketId());
+    Assert.assertEquals(2, currentBucket.getRowsCount());
+  }
+
+  @Test
+  public void currentBucketShouldContainRowsCountedByOtherInstances() {
+    //given
+    BucketsHandler otherInstanceBucketsHandler = new BucketsHandler(dbService.getSession());
+    Bucket bucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, bucket);
+    Bucket otherInstanceBucket = otherInstanceBucketsHandler.getCurrentBucket(BUCKETS_TABLE_NAME, "sampleObjectId");
+    otherInstanceBucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, otherInstanceBucket);
+    otherInstanceBucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, otherInstanceBucket);
+    //when
+    Bucket currentBucket = bucketsHandler.getCurrentBucket(BUCKETS_TABLE_NAME, "sampleObjectId");
+    Bucket otherInstanceCurrentBucket = otherInstanceBucketsHandler.getCurrentBucket(BUCKETS_TABLE_NAME, "sampleObjectId");
+    //then
+    Assert.assertEquals(bucket.getBucketId(), currentBucket.getBucketId());
+    Assert.assertEquals(3, currentBucket.getRowsCount());
+    Assert.assertEquals(bucket.getBucketId(), otherInstanceCurrentBucket.getBucketId());
+    Assert.assertEquals(3, otherInstanceCurrentBucket.getRowsCount());
+  }
+
+  @Test
+  public void currentBucketShouldBeThePreviousOneWhenTheLatestWasRemovedByOtherInstance() {
+    //given
+    BucketsHandler otherInstanceBucketsHandler = new BucketsHandler(dbService.getSession());
+    Bucket firstBucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
+    Bucket secondBucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, firstBucket);
+    bucketsHandler.increaseBucketCount(BUCKETS_TABLE_NAME, secondBucket);
+    //when
+    otherInstanceBucketsHandler.removeBucket(BUCKETS_TABLE_NAME, secondBucket);
+    Bucket currentBucket = bucketsHandler.getCurrentBucket(BUCKETS_TABLE_NAME, "sampleObjectId");
+    //then
+    Assert.assertEquals(firstBucket.getBucketId(), currentBucket.getBucketId());
+    Assert.assertEquals(1, currentBucket.getRowsCount());
+  }
+
   @Test
   public void shouldCreateNewBucket() {
     Bucket bucket = new Bucket("sampleObjectId", new com.eaio.uuid.UUID().toString(), 0);
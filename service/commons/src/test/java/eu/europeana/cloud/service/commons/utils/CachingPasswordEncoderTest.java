@@ -0,0 +1,70 @@
+package eu.europeana.cloud.service.commons.utils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class CachingPasswordEncoderTest {
+
+  private static final String PASSWORD = "password";
+  private static final int AUTHENTICATIONS_COUNT = 1000;
+
+  private PasswordEncoder bcryptEncoder;
+  private String encodedPassword;
+
+  @Before
+  public void init() {
+    bcryptEncoder = spy(PasswordEncoderFactory.getPasswordEncoder());
+    encodedPassword = bcryptEncoder.encode(PASSWORD);
+  }
+
+  @Test
+  public void shouldVerifyPasswordOnceForManyAuthentications() {
+    PasswordEncoder encoder = new CachingPasswordEncoder(bcryptEncoder, 100, 60);
+
+    for (int i = 0; i < AUTHENTICATIONS_COUNT; i++) {
+      assertTrue(encoder.matches(PASSWORD, encodedPassword));
+    }
+
+    verify(bcryptEncoder, times(1)).matches(any(), anyString());
+  }
+
+  @Test
+  public void shouldNotCacheWrongPassword() {
+    PasswordEncoder encoder = new CachingPasswordEncoder(bcryptEncoder, 100, 60);
+
+    assertFalse(encoder.matches("wrong", encodedPassword));
+    assertFalse(encoder.matches("wrong", encodedPassword));
+
+    verify(bcryptEncoder, times(2)).matches(any(), anyString());
+  }
+
+  @Test
+  public void shouldNotAcceptOldPasswordAfterPasswordChange() {
+    PasswordEncoder encoder = new CachingPasswordEncoder(bcryptEncoder, 100, 60);
+    assertTrue(encoder.matches(PASSWORD, encodedPassword));
+
+    String newEncodedPassword = bcryptEncoder.encode("newPassword");
+
+    assertFalse(encoder.matches(PASSWORD, newEncodedPassword));
+    assertTrue(encoder.matches("newPassword", newEncodedPassword));
+  }
+
+  @Test
+  public void shouldVerifyPasswordAgainAfterTimeToLive() {
+    PasswordEncoder encoder = new CachingPasswordEncoder(bcryptEncoder, 100, 0);
+
+    assertTrue(encoder.matches(PASSWORD, encodedPassword));
+    assertTrue(encoder.matches(PASSWORD, encodedPassword));
+
+    verify(bcryptEncoder, times(2)).matches(any(), anyString());
+  }
+}
@@ -79,6 +79,7 @@ public final class PluginParameterKeys {
   public static final String INCREMENTAL_INDEXING = "INCREMENTAL_INDEXING";
   public static final String HARVEST_DATE = "HARVEST_DATE";
   public static final String RECORD_DATESTAMP = "RECORD_DATESTAMP";
+  public static final String RECORD_MD5 = "RECORD_MD5";
 
   //Media
   public static final String RESOURCE_LINKS_COUNT = "RESOURCE_LINKS_COUNT";
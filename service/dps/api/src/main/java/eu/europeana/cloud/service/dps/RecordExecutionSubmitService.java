@@ -1,5 +1,6 @@
 package eu.europeana.cloud.service.dps;
 
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service to fetch / submit tasks
@@ -13,4 +14,15 @@ public interface RecordExecutionSubmitService {
    */
   void submitRecord(DpsRecord dpsRecord, String topic);
 
+  /**
+   * Submits a record for execution without waiting for the acknowledgement.
+   * <p>
+   * Failures are reported through the returned future and are not retried, so the caller may retry them with
+   * {@link #submitRecord(DpsRecord, String)}. The default implementation submits the record synchronously.
+   */
+  default CompletableFuture<Void> submitRecordAsync(DpsRecord dpsRecord, String topic) {
+    submitRecord(dpsRecord, topic);
+    return CompletableFuture.completedFuture(null);
+  }
+
 }
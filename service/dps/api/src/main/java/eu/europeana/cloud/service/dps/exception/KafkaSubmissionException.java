@@ -7,4 +7,8 @@ public class KafkaSubmissionException extends RuntimeException {
   public KafkaSubmissionException(String message, ExecutionException e) {
     super(message, e);
   }
+
+  public KafkaSubmissionException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
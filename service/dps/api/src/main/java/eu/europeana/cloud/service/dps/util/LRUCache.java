@@ -1,8 +1,10 @@
 package eu.europeana.cloud.service.dps.util;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * An LRU cache, based on <code>LinkedHashMap</code>.
@@ -70,6 +72,25 @@ public class LRUCache<K, V> implements Serializable {
     map.put(key, value);
   }
 
+  /**
+   * Removes an entry from the cache.
+   *
+   * @param key the key whose entry is to be removed.
+   * @return the value previously associated with this key, or null if there was no entry for this key.
+   */
+  public V remove(K key) {
+    return map.remove(key);
+  }
+
+  /**
+   * Returns the keys of all the entries in the cache. Neither the entries nor their order of usage are changed.
+   *
+   * @return copy of the keys of the entries currently in the cache.
+   */
+  public Set<K> keys() {
+    return new HashSet<>(map.keySet());
+  }
+
   /**
    * Clears the cache.
    */
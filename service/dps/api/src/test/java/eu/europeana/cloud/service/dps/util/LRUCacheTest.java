@@ -0,0 +1,63 @@
+package eu.europeana.cloud.service.dps.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LRUCacheTest {
+
+  private LRUCache<Long, String> cache;
+
+  @Before
+  public void init() {
+    cache = new LRUCache<>(2);
+  }
+
+  @Test
+  public void shouldRemoveEntryAndReturnItsValue() {
+    cache.put(1L, "first");
+    cache.put(2L, "second");
+
+    String removed = cache.remove(1L);
+
+    assertEquals("first", removed);
+    assertNull(cache.get(1L));
+    assertEquals("second", cache.get(2L));
+    assertEquals(1, cache.usedEntries());
+  }
+
+  @Test
+  public void shouldReturnNullWhenRemovingMissingEntry() {
+    cache.put(1L, "first");
+
+    assertNull(cache.remove(2L));
+    assertEquals(1, cache.usedEntries());
+  }
+
+  @Test
+  public void shouldNotDropOtherEntriesWhenAddingEntryInPlaceOfRemovedOne() {
+    cache.put(1L, "first");
+    cache.put(2L, "second");
+    cache.remove(2L);
+
+    cache.put(3L, "third");
+
+    assertEquals("first", cache.get(1L));
+    assertEquals("third", cache.get(3L));
+  }
+
+  @Test
+  public void shouldDropLeastRecentlyUsedEntryWhenFull() {
+    cache.put(1L, "first");
+    cache.put(2L, "second");
+    cache.get(1L);
+
+    cache.put(3L, "third");
+
+    assertNull(cache.get(2L));
+    assertEquals(Set.of(1L, 3L), cache.keys());
+  }
+}
@@ -24,6 +24,7 @@ import eu.europeana.cloud.common.model.dps.SubTaskInfo;
 import eu.europeana.cloud.common.model.dps.TaskErrorsInfo;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
 import eu.europeana.cloud.common.response.ErrorInfo;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
 import eu.europeana.cloud.service.dps.DpsTask;
 import eu.europeana.cloud.service.dps.RestInterfaceConstants;
 import eu.europeana.cloud.service.dps.exception.DPSClientException;
@@ -41,7 +42,6 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.ServiceUnavailableException;
 import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericType;
@@ -67,9 +67,9 @@ public class DpsClient implements AutoCloseable {
   private final String dpsUrl;
 
   private final Client client =
-      ClientBuilder.newBuilder()
-                   .register(JacksonFeature.class)
-                   .build();
+      HttpClientConnectionPool.newPooledClientBuilder()
+                              .register(JacksonFeature.class)
+                              .build();
 
   /**
    * Creates a new instance of this class.
@@ -25,6 +25,7 @@ import eu.europeana.cloud.common.model.dps.TaskErrorInfo;
 import eu.europeana.cloud.common.model.dps.TaskErrorsInfo;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
 import eu.europeana.cloud.common.model.dps.TaskState;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
 import eu.europeana.cloud.service.dps.DpsTask;
 import eu.europeana.cloud.service.dps.OAIPMHHarvestingDetails;
 import eu.europeana.cloud.service.dps.exception.AccessDeniedOrObjectDoesNotExistException;
@@ -34,6 +35,7 @@ import eu.europeana.cloud.test.WiremockHelper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import org.apache.hc.core5.pool.PoolStats;
 import org.glassfish.jersey.uri.UriComponent;
 import org.junit.Before;
 import org.junit.Rule;
@@ -475,4 +477,19 @@ public class DPSClientTest {
     }
     return info;
   }
+
+  @Test
+  public void shouldReturnConnectionToSharedPoolAfterRequest() throws DpsException {
+    dpsClient = new DpsClient(BASE_URL, REGULAR_USER_NAME, REGULAR_USER_PASSWORD);
+    new WiremockHelper(wireMockRule).stubGetWithJsonContent(
+        "/services/TopologyName/tasks/12345/statistics",
+        200,
+        "{\"nodeStatistics\":[],\"taskId\":12345}");
+
+    dpsClient.getTaskStatisticsReport(TOPOLOGY_NAME, TASK_ID);
+
+    PoolStats poolStats = HttpClientConnectionPool.getTotalStats();
+    assertEquals(0, poolStats.getLeased());
+    assertTrue(poolStats.getAvailable() > 0);
+  }
 }
@@ -1,8 +1,11 @@
 package eu.europeana.cloud.service.dps.config;
 
 
+import eu.europeana.cloud.cassandra.CassandraConnectionPoolMetricsBinder;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
+import eu.europeana.cloud.cassandra.CassandraQueryMetricsBinder;
 import eu.europeana.cloud.client.uis.rest.UISClient;
+import eu.europeana.cloud.common.web.HttpClientConnectionPoolMetricsBinder;
 import eu.europeana.cloud.mcs.driver.DataSetServiceClient;
 import eu.europeana.cloud.mcs.driver.RecordServiceClient;
 import eu.europeana.cloud.mcs.driver.RevisionServiceClient;
@@ -13,6 +16,7 @@ import eu.europeana.cloud.service.dps.http.FileURLCreator;
 import eu.europeana.cloud.service.dps.metis.indexing.DatasetStatsRetriever;
 import eu.europeana.cloud.service.dps.properties.GeneralProperties;
 import eu.europeana.cloud.service.dps.properties.KafkaProperties;
+import eu.europeana.cloud.service.dps.properties.SubmitterProperties;
 import eu.europeana.cloud.service.dps.properties.TopologyProperties;
 import eu.europeana.cloud.service.dps.service.utils.TopologyManager;
 import eu.europeana.cloud.service.dps.service.utils.indexing.IndexWrapper;
@@ -48,7 +52,9 @@ import eu.europeana.cloud.service.web.common.LoggingContextCopingTaskDecorator;
 import eu.europeana.cloud.service.web.common.LoggingFilter;
 import eu.europeana.cloud.common.properties.CassandraProperties;
 import eu.europeana.cloud.common.properties.IndexingProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.Arrays;
+import java.util.List;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.MethodInvokingFactoryBean;
@@ -99,6 +105,12 @@ public class ServiceConfiguration implements WebMvcConfigurer, AsyncConfigurer {
     return new GeneralProperties();
   }
 
+  @Bean
+  @ConfigurationProperties(prefix = "submitter")
+  public SubmitterProperties submitterProperties() {
+    return new SubmitterProperties();
+  }
+
   @Bean
   @ConfigurationProperties(prefix = "topology")
   public TopologyProperties topologyProperties() {
@@ -168,6 +180,21 @@ public class ServiceConfiguration implements WebMvcConfigurer, AsyncConfigurer {
     );
   }
 
+  @Bean
+  public MeterBinder cassandraQueryMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraQueryMetricsBinder(cassandraConnectionProviders);
+  }
+
+  @Bean
+  public MeterBinder cassandraConnectionPoolMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraConnectionPoolMetricsBinder(cassandraConnectionProviders);
+  }
+
+  @Bean
+  public MeterBinder httpClientConnectionPoolMetrics() {
+    return new HttpClientConnectionPoolMetricsBinder();
+  }
+
   @Bean
   public String applicationIdentifier() {
     return applicationIdentifier;
@@ -271,7 +298,9 @@ public class ServiceConfiguration implements WebMvcConfigurer, AsyncConfigurer {
   public MCSTaskSubmitter mcsTaskSubmitter() {
     return new MCSTaskSubmitter(taskStatusChecker(), taskStatusUpdater(), recordSubmitService(), mcsLocation(),
         topologyProperties().getUser(),
-        topologyProperties().getPassword());
+        topologyProperties().getPassword(),
+        submitterProperties().getResolvingThreadsCount(),
+        submitterProperties().getPrefetchedElementsCount());
   }
 
   @Bean
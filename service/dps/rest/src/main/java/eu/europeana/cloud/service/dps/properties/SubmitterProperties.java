@@ -0,0 +1,13 @@
+package eu.europeana.cloud.service.dps.properties;
+
+import eu.europeana.cloud.service.dps.services.submitters.MCSTaskSubmitter;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SubmitterProperties {
+
+  private int resolvingThreadsCount = MCSTaskSubmitter.DEFAULT_RESOLVING_THREADS_COUNT;
+  private int prefetchedElementsCount = MCSTaskSubmitter.DEFAULT_PREFETCHED_ELEMENTS_COUNT;
+}
@@ -6,6 +6,7 @@ import eu.europeana.cloud.service.dps.DpsRecordSerializer;
 import eu.europeana.cloud.service.dps.RecordExecutionSubmitService;
 import eu.europeana.cloud.service.dps.exception.KafkaSubmissionException;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
@@ -21,6 +22,8 @@ public class RecordKafkaSubmitService implements RecordExecutionSubmitService {
   //Together with default ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG 30,000, it gives about one minute between retries.
   public static final int SLEEP_TIME_BETWEEN_RETRIES_MS = 30_000;
   public static final int MAX_ATTEMPTS = 10;
+  //Gives the producer a moment to batch the records sent without waiting for the previous acknowledgements.
+  private static final String LINGER_MS = "5";
   private final Producer<String, DpsRecord> producer;
 
   public RecordKafkaSubmitService(String kafkaBroker) {
@@ -29,13 +32,13 @@ public class RecordKafkaSubmitService implements RecordExecutionSubmitService {
     properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, DpsRecordSerializer.class.getName());
     properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
     properties.put(ProducerConfig.ACKS_CONFIG, "all");
+    properties.put(ProducerConfig.LINGER_MS_CONFIG, LINGER_MS);
     producer = new KafkaProducer<>(properties);
   }
 
   @Override
   public void submitRecord(DpsRecord dpsRecord, String topic) {
-    ProducerRecord<String, DpsRecord> data =
-        new ProducerRecord<>(topic, dpsRecord.getTaskId() + "_" + dpsRecord.getRecordId(), dpsRecord);
+    ProducerRecord<String, DpsRecord> data = createProducerRecord(dpsRecord, topic);
     try {
       RetryableMethodExecutor.execute("Could not send record to Kafka: " + dpsRecord,
           MAX_ATTEMPTS, SLEEP_TIME_BETWEEN_RETRIES_MS, () -> producer.send(data).get());
@@ -43,4 +46,29 @@ public class RecordKafkaSubmitService implements RecordExecutionSubmitService {
       throw new KafkaSubmissionException("Could not send record to Kafka: " + dpsRecord, e);
     }
   }
+
+  /**
+   * Sends the record without blocking until it is acknowledged. The call still blocks when the producer buffer is full,
+   * which slows the submitting thread down to the pace the brokers are able to accept.
+   */
+  @Override
+  public CompletableFuture<Void> submitRecordAsync(DpsRecord dpsRecord, String topic) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    try {
+      producer.send(createProducerRecord(dpsRecord, topic), (metadata, exception) -> {
+        if (exception == null) {
+          result.complete(null);
+        } else {
+          result.completeExceptionally(exception);
+        }
+      });
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  private ProducerRecord<String, DpsRecord> createProducerRecord(DpsRecord dpsRecord, String topic) {
+    return new ProducerRecord<>(topic, dpsRecord.getTaskId() + "_" + dpsRecord.getRecordId(), dpsRecord);
+  }
 }
@@ -23,6 +23,7 @@ import eu.europeana.cloud.service.dps.storm.dao.ExistingInMetisHarvestedRecordsB
 import eu.europeana.cloud.service.dps.storm.dao.HarvestedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.utils.HarvestedRecord;
+import eu.europeana.cloud.service.dps.storm.utils.ParallelBucketRecordIterator;
 import eu.europeana.cloud.service.dps.storm.utils.TaskStatusChecker;
 import eu.europeana.cloud.service.dps.storm.utils.TaskStatusUpdater;
 import eu.europeana.cloud.service.dps.storm.utils.TopologiesNames;
@@ -104,8 +105,10 @@ public class HarvestingPostProcessor extends TaskPostProcessor {
       taskStatusUpdater.updateState(dpsTask.getTaskId(), TaskState.IN_POST_PROCESSING,
           "Postprocessing - synchronizing existing records from Metis.");
       updateHarvestedRecordsTableWithRecordsExistingInMetis(dpsTask);
-      taskStatusUpdater.updateExpectedPostProcessedRecordsNumber(dpsTask.getTaskId(),
-          Iterators.size(fetchDeletedRecords(dpsTask)));
+      try (var allRecords = fetchDatasetRecords(dpsTask)) {
+        taskStatusUpdater.updateExpectedPostProcessedRecordsNumber(dpsTask.getTaskId(),
+            Iterators.size(filterDeletedRecords(dpsTask, allRecords)));
+      }
       taskStatusUpdater.updateState(dpsTask.getTaskId(), TaskState.IN_POST_PROCESSING,
           "Postprocessing - adding removed records to result revision.");
       addDeletedRecordsToTaskResultRevision(dpsTask);
@@ -120,7 +123,12 @@ public class HarvestingPostProcessor extends TaskPostProcessor {
   }
 
   private void addDeletedRecordsToTaskResultRevision(DpsTask dpsTask) {
-    Iterator<HarvestedRecord> it = fetchDeletedRecords(dpsTask);
+    try (var allRecords = fetchDatasetRecords(dpsTask)) {
+      addDeletedRecordsToTaskResultRevision(dpsTask, filterDeletedRecords(dpsTask, allRecords));
+    }
+  }
+
+  private void addDeletedRecordsToTaskResultRevision(DpsTask dpsTask, Iterator<HarvestedRecord> it) {
     int postProcessedRecordsCount = 0;
     while (it.hasNext()) {
       taskStatusChecker.checkNotDropped(dpsTask);
@@ -173,10 +181,12 @@ public class HarvestingPostProcessor extends TaskPostProcessor {
     }
   }
 
-  private Iterator<HarvestedRecord> fetchDeletedRecords(DpsTask task) {
+  private ParallelBucketRecordIterator<HarvestedRecord> fetchDatasetRecords(DpsTask task) {
+    return harvestedRecordsDAO.findDatasetRecordsInParallel(task.getParameter(PluginParameterKeys.METIS_DATASET_ID));
+  }
+
+  private Iterator<HarvestedRecord> filterDeletedRecords(DpsTask task, Iterator<HarvestedRecord> allRecords) {
     var harvestDate = DateHelper.parseISODate(task.getParameter(PluginParameterKeys.HARVEST_DATE));
-    Iterator<HarvestedRecord> allRecords =
-        harvestedRecordsDAO.findDatasetRecords(task.getParameter(PluginParameterKeys.METIS_DATASET_ID));
     return Iterators.filter(allRecords, theRecord ->
         latestHarvestDateNotFromCurrentHarvest(theRecord, harvestDate));
   }
@@ -95,16 +95,20 @@ public class DepublicationTaskSubmitter implements TaskSubmitter {
   private int submitRecords(Stream<String> recordsForDepublication, SubmitTaskParameters parameters) {
     long taskId = parameters.getTask().getTaskId();
     AtomicInteger recordCounter = new AtomicInteger(0);
-    recordsForDepublication.forEach(recordId -> {
-      checkIfTaskIsKilled(parameters.getTask());
-      DpsRecord aRecord = DpsRecord.builder()
-                                   .taskId(taskId)
-                                   .recordId(recordId)
-                                   .build();
-      if (recordSubmitService.submitRecord(aRecord, parameters)) {
-        recordCounter.incrementAndGet();
-      }
-    });
+    try {
+      recordsForDepublication.forEach(recordId -> {
+        checkIfTaskIsKilled(parameters.getTask());
+        DpsRecord aRecord = DpsRecord.builder()
+                                     .taskId(taskId)
+                                     .recordId(recordId)
+                                     .build();
+        if (recordSubmitService.submitRecord(aRecord, parameters)) {
+          recordCounter.incrementAndGet();
+        }
+      });
+    } finally {
+      recordSubmitService.waitForSubmittedRecords(taskId);
+    }
     return recordCounter.get();
   }
 
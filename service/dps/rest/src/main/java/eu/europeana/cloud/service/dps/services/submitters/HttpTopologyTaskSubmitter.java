@@ -113,6 +113,8 @@ public class HttpTopologyTaskSubmitter implements TaskSubmitter {
       }
     } catch (IOException e) {
       throw new HarvesterException(e);
+    } finally {
+      recordSubmitService.waitForSubmittedRecords(submitTaskParameters.getTask().getTaskId());
     }
     return expectedSize;
   }
@@ -6,7 +6,6 @@ import eu.europeana.cloud.common.model.dps.TaskState;
 import eu.europeana.cloud.common.response.CloudTagsResponse;
 import eu.europeana.cloud.common.response.RepresentationRevisionResponse;
 import eu.europeana.cloud.common.response.ResultSlice;
-import eu.europeana.cloud.mcs.driver.RepresentationIterator;
 import eu.europeana.cloud.service.commons.urls.UrlParser;
 import eu.europeana.cloud.service.commons.urls.UrlPart;
 import eu.europeana.cloud.service.dps.DpsRecord;
@@ -22,23 +21,31 @@ import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
 
 import static eu.europeana.cloud.service.dps.InputDataType.FILE_URLS;
 
 public class MCSTaskSubmitter {
 
   public static final int LOGGING_FREQUENCY = 1000;
-  private static final int INTERNAL_THREADS_NUMBER = 10;
-  private static final int MAX_BATCH_SIZE = 100;
+  public static final int DEFAULT_RESOLVING_THREADS_COUNT = 10;
+  public static final int DEFAULT_PREFETCHED_ELEMENTS_COUNT = 1000;
+  private static final int PREFETCHED_CHUNKS_COUNT = 1;
+  private static final Duration RESOLVING_TERMINATION_TIMEOUT = Duration.ofMinutes(30);
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MCSTaskSubmitter.class);
 
@@ -52,14 +59,34 @@ public class MCSTaskSubmitter {
   private final String userName;
   private final String password;
 
+  private final int resolvingThreadsCount;
+
+  private final int prefetchedElementsCount;
+
   public MCSTaskSubmitter(TaskStatusChecker taskStatusChecker, TaskStatusUpdater taskStatusUpdater,
       RecordSubmitService recordSubmitService, String mcsClientURL, String userName, String password) {
+    this(taskStatusChecker, taskStatusUpdater, recordSubmitService, mcsClientURL, userName, password,
+        DEFAULT_RESOLVING_THREADS_COUNT, DEFAULT_PREFETCHED_ELEMENTS_COUNT);
+  }
+
+  /**
+   * Creates the submitter.
+   *
+   * @param resolvingThreadsCount number of threads resolving the revisions of the cloud identifiers concurrently
+   * @param prefetchedElementsCount maximal number of representations or cloud identifiers which are read from MCS in
+   * advance, before they are processed
+   */
+  public MCSTaskSubmitter(TaskStatusChecker taskStatusChecker, TaskStatusUpdater taskStatusUpdater,
+      RecordSubmitService recordSubmitService, String mcsClientURL, String userName, String password,
+      int resolvingThreadsCount, int prefetchedElementsCount) {
     this.taskStatusChecker = taskStatusChecker;
     this.taskStatusUpdater = taskStatusUpdater;
     this.recordSubmitService = recordSubmitService;
     this.mcsClientURL = mcsClientURL;
     this.userName = userName;
     this.password = password;
+    this.resolvingThreadsCount = resolvingThreadsCount;
+    this.prefetchedElementsCount = prefetchedElementsCount;
   }
 
   public void execute(SubmitTaskParameters submitParameters) throws InterruptedException {
@@ -72,10 +99,14 @@ public class MCSTaskSubmitter {
 
       logProgress(submitParameters, 0);
       int expectedSize;
-      if (taskContainsFileUrls(task)) {
-        expectedSize = executeForFilesList(submitParameters);
-      } else {
-        expectedSize = executeForDatasetList(submitParameters);
+      try {
+        if (taskContainsFileUrls(task)) {
+          expectedSize = executeForFilesList(submitParameters);
+        } else {
+          expectedSize = executeForDatasetList(submitParameters);
+        }
+      } finally {
+        recordSubmitService.waitForSubmittedRecords(task.getTaskId());
       }
 
       checkIfTaskIsKilled(task);
@@ -149,29 +180,36 @@ public class MCSTaskSubmitter {
 
   private int executeForEntireDataset(UrlParser urlParser, SubmitTaskParameters submitParameters, MCSReader reader) {
     var expectedSize = 0;
-    RepresentationIterator iterator = reader.getRepresentationsOfEntireDataset(urlParser);
-    while (iterator.hasNext()) {
-      checkIfTaskIsKilled(submitParameters.getTask());
-      expectedSize += submitRecordsForRepresentation(iterator.next(), submitParameters);
+    try (var iterator = new PrefetchingIterator<>(reader.getRepresentationsOfEntireDataset(urlParser),
+        prefetchedElementsCount)) {
+      while (iterator.hasNext()) {
+        checkIfTaskIsKilled(submitParameters.getTask());
+        expectedSize += submitRecordsForRepresentation(iterator.next(), submitParameters);
+      }
     }
     return expectedSize;
   }
 
   private int executeForRevision(String datasetName, String datasetProvider, SubmitTaskParameters submitParameters,
-      MCSReader reader) throws InterruptedException, MCSException, ExecutionException {
-    ExecutorService executor = Executors.newFixedThreadPool(INTERNAL_THREADS_NUMBER);
+      MCSReader reader) throws InterruptedException, ExecutionException {
+    DpsTask task = submitParameters.getTask();
+    var count = new AtomicInteger();
+    var failure = new AtomicReference<Exception>();
+    var resolvingSlots = new Semaphore(resolvingThreadsCount + prefetchedElementsCount);
+    var submittingGuard = new ResolvedRecordsSubmittingGuard();
+    ExecutorService executor = Executors.newFixedThreadPool(resolvingThreadsCount, runnable -> {
+      Thread thread = new Thread(runnable, "revisions-resolver-" + task.getTaskId());
+      thread.setDaemon(true);
+      return thread;
+    });
+    var chunks = new PrefetchingIterator<>(
+        new CloudIdsChunkIterator(datasetName, datasetProvider, submitParameters, reader), PREFETCHED_CHUNKS_COUNT);
     try {
-      DpsTask task = submitParameters.getTask();
       var maxRecordsCount = submitParameters.getMaxRecordsCount();
-      var count = 0;
-      String startFrom = null;
-      Set<Future<Integer>> futures = HashSet.newHashSet(INTERNAL_THREADS_NUMBER);
       var total = 0;
-      do {
+      while (total < maxRecordsCount && failure.get() == null && chunks.hasNext()) {
         checkIfTaskIsKilled(task);
-        ResultSlice<CloudTagsResponse> slice = getCloudIdsChunk(datasetName, datasetProvider, startFrom, submitParameters,
-            reader);
-        List<CloudTagsResponse> cloudTagsResponseList = slice.getResults();
+        List<CloudTagsResponse> cloudTagsResponseList = chunks.next();
 
         int maxRecordsLeft = maxRecordsCount - total;
         if (cloudTagsResponseList.size() > maxRecordsLeft) {
@@ -179,32 +217,51 @@ public class MCSTaskSubmitter {
         }
         total += cloudTagsResponseList.size();
 
-        final List<CloudTagsResponse> finalCloudTagsResponseList = cloudTagsResponseList;
-        futures.add(
-            executor.submit(() -> executeGettingFileUrlsForCloudIdList(finalCloudTagsResponseList, submitParameters, reader)));
-
-        if (futures.size() >= INTERNAL_THREADS_NUMBER * MAX_BATCH_SIZE) {
-          count += getCountAndWait(futures);
+        for (CloudTagsResponse response : cloudTagsResponseList) {
+          resolvingSlots.acquire();
+          executor.execute(() -> {
+            try {
+              if (failure.get() == null) {
+                List<RepresentationRevisionResponse> representationRevisions =
+                    getRevisionsForOneCloudId(response, submitParameters, reader);
+                count.addAndGet(submittingGuard.submitUnlessCancelled(
+                    () -> submitRecordsForRepresentationRevisions(representationRevisions, submitParameters,
+                        response.isDeleted())));
+              }
+            } catch (Exception e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              resolvingSlots.release();
+            }
+          });
         }
-        startFrom = slice.getNextSlice();
       }
-      while ((startFrom != null) && (total < maxRecordsCount));
+    } finally {
+      chunks.close();
+      awaitResolvingTermination(executor, submittingGuard, task);
+    }
 
-      if (!futures.isEmpty()) {
-        count += getCountAndWait(futures);
-      }
+    if (failure.get() instanceof TaskDroppedException) {
+      LOGGER.debug("Caught exception while resolving revisions. Task was killed.");
+      throw new TaskDroppedException(task);
+    } else if (failure.get() != null) {
+      throw new ExecutionException(failure.get());
+    }
+    return count.get();
+  }
 
-      return count;
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof TaskDroppedException) {
-        LOGGER.debug("Caught ExecutionException from Threads executor. Task was killed.");
-        throw new TaskDroppedException(submitParameters.getTask());
-      } else {
-        throw e;
+  private void awaitResolvingTermination(ExecutorService executor, ResolvedRecordsSubmittingGuard submittingGuard,
+      DpsTask task) throws InterruptedException {
+    executor.shutdown();
+    long deadline = System.nanoTime() + RESOLVING_TERMINATION_TIMEOUT.toNanos();
+    while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+      if (System.nanoTime() - deadline > 0) {
+        executor.shutdownNow();
+        submittingGuard.cancel();
+        throw new TaskSubmitException("Resolving the revisions of task id=" + task.getTaskId()
+            + " did not finish in " + RESOLVING_TERMINATION_TIMEOUT);
       }
-    } finally {
-      executor.shutdown();
-      executor.awaitTermination(1, TimeUnit.MINUTES);
+      LOGGER.info("Waiting for resolving the revisions of task id={}", task.getTaskId());
     }
   }
 
@@ -217,30 +274,22 @@ public class MCSTaskSubmitter {
         datasetProvider, datasetName, startFrom);
   }
 
-  private Integer executeGettingFileUrlsForCloudIdList(List<CloudTagsResponse> responseList,
-      SubmitTaskParameters submitParameters,
-      MCSReader reader) throws MCSException {
-    var count = 0;
-    for (CloudTagsResponse response : responseList) {
-      count += executeGettingFileUrlsForOneCloudId(response, submitParameters, reader);
-    }
-
-    return count;
-  }
-
-  private int executeGettingFileUrlsForOneCloudId(CloudTagsResponse response, SubmitTaskParameters submitParameters,
-      MCSReader reader) throws MCSException {
-
-    var count = 0;
+  private List<RepresentationRevisionResponse> getRevisionsForOneCloudId(CloudTagsResponse response,
+      SubmitTaskParameters submitParameters, MCSReader reader) throws MCSException {
     checkIfTaskIsKilled(submitParameters.getTask());
-    List<RepresentationRevisionResponse> representationRevisions = reader.getRevisionsForTheRepresentation(
+    return reader.getRevisionsForTheRepresentation(
         submitParameters.getRepresentationName(),
         submitParameters.getInputRevision().getRevisionName(),
         submitParameters.getInputRevision().getRevisionProviderId(),
         submitParameters.getInputRevision().getCreationTimeStamp(),
         response.getCloudId());
+  }
+
+  private int submitRecordsForRepresentationRevisions(List<RepresentationRevisionResponse> representationRevisions,
+      SubmitTaskParameters submitParameters, boolean markedAsDeleted) {
+    var count = 0;
     for (RepresentationRevisionResponse representationRevision : representationRevisions) {
-      count += submitRecordsForRepresentationRevision(representationRevision, submitParameters, response.isDeleted());
+      count += submitRecordsForRepresentationRevision(representationRevision, submitParameters, markedAsDeleted);
     }
     return count;
   }
@@ -313,16 +362,78 @@ public class MCSTaskSubmitter {
     return task.getInputData().get(FILE_URLS) != null;
   }
 
-  private int getCountAndWait(Set<Future<Integer>> futures) throws InterruptedException, ExecutionException {
-    var count = 0;
-    for (Future<Integer> future : futures) {
-      count += future.get();
+  private void checkIfTaskIsKilled(DpsTask task) {
+    taskStatusChecker.checkNotDropped(task);
+  }
+
+  /**
+   * Reads the consecutive chunks of cloud identifiers of the data set revision.
+   */
+  private class CloudIdsChunkIterator implements Iterator<List<CloudTagsResponse>> {
+
+    private final String datasetName;
+    private final String datasetProvider;
+    private final SubmitTaskParameters submitParameters;
+    private final MCSReader reader;
+    private String startFrom;
+    private boolean lastChunkRead;
+
+    CloudIdsChunkIterator(String datasetName, String datasetProvider, SubmitTaskParameters submitParameters,
+        MCSReader reader) {
+      this.datasetName = datasetName;
+      this.datasetProvider = datasetProvider;
+      this.submitParameters = submitParameters;
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !lastChunkRead;
+    }
+
+    @Override
+    public List<CloudTagsResponse> next() {
+      if (lastChunkRead) {
+        throw new NoSuchElementException("All the chunks of cloud identifiers were already read.");
+      }
+      try {
+        ResultSlice<CloudTagsResponse> slice = getCloudIdsChunk(datasetName, datasetProvider, startFrom, submitParameters,
+            reader);
+        startFrom = slice.getNextSlice();
+        lastChunkRead = startFrom == null;
+        return slice.getResults();
+      } catch (MCSException e) {
+        throw new TaskSubmitException(e.getMessage(), e);
+      }
     }
-    futures.clear();
-    return count;
   }
 
-  private void checkIfTaskIsKilled(DpsTask task) {
-    taskStatusChecker.checkNotDropped(task);
+  /**
+   * Stops the resolver threads, which are still running after the resolving timeout, from submitting the records of
+   * the task, which submission is already finished. Records are submitted under the read lock, so the cancellation
+   * waits for the submissions in progress, and no record is submitted after it.
+   */
+  private static class ResolvedRecordsSubmittingGuard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean cancelled;
+
+    private int submitUnlessCancelled(IntSupplier submission) {
+      lock.readLock().lock();
+      try {
+        return cancelled ? 0 : submission.getAsInt();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private void cancel() {
+      lock.writeLock().lock();
+      try {
+        cancelled = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
   }
 }
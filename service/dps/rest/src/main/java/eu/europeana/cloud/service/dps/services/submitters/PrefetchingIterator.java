@@ -0,0 +1,110 @@
+package eu.europeana.cloud.service.dps.services.submitters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iterator which reads the elements of the source iterator in a background thread, so the next elements are already
+ * fetched while the current ones are processed. At most <code>capacity</code> elements are read ahead, so the reading
+ * slows down to the pace of the processing. Exceptions and errors thrown by the source iterator are rethrown by
+ * {@link #hasNext()} when the iterator reaches the place where they occurred. The reading thread is interrupted when the
+ * iterator is closed.
+ *
+ * @param <T> type of the elements
+ */
+class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingIterator.class);
+  private static final long CLOSE_TIMEOUT_IN_SECONDS = 10;
+  private static final Object END = new Object();
+  private static final Object NULL_ELEMENT = new Object();
+
+  private final BlockingQueue<Object> elements;
+  private final ExecutorService reader;
+  private volatile Throwable readingFailure;
+  private Object nextElement;
+
+  PrefetchingIterator(Iterator<T> source, int capacity) {
+    elements = new ArrayBlockingQueue<>(capacity);
+    reader = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "prefetching-iterator-reader");
+      thread.setDaemon(true);
+      return thread;
+    });
+    reader.execute(() -> read(source));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextElement == null) {
+      nextElement = takeElement();
+    }
+    if (nextElement == END && readingFailure != null) {
+      rethrowReadingFailure();
+    }
+    return nextElement != END;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("Calling next on exhausted prefetching iterator.");
+    }
+    Object element = nextElement;
+    nextElement = null;
+    return element == NULL_ELEMENT ? null : (T) element;
+  }
+
+  @Override
+  public void close() {
+    reader.shutdownNow();
+    try {
+      if (!reader.awaitTermination(CLOSE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Reading thread of the prefetching iterator did not stop in {} seconds", CLOSE_TIMEOUT_IN_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void read(Iterator<T> source) {
+    try {
+      try {
+        while (source.hasNext()) {
+          T element = source.next();
+          elements.put(element == null ? NULL_ELEMENT : element);
+        }
+      } catch (RuntimeException | Error e) {
+        //Every failure must be passed to the consumer, otherwise it would wait for the end of the elements forever
+        readingFailure = e;
+      }
+      elements.put(END);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void rethrowReadingFailure() {
+    if (readingFailure instanceof Error error) {
+      throw error;
+    }
+    throw (RuntimeException) readingFailure;
+  }
+
+  private Object takeElement() {
+    try {
+      return elements.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TaskSubmitException("Interrupted while waiting for the next element", e);
+    }
+  }
+}
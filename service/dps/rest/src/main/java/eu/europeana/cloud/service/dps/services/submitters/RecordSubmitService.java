@@ -4,25 +4,59 @@ import eu.europeana.cloud.common.model.dps.ProcessedRecord;
 import eu.europeana.cloud.common.model.dps.RecordState;
 import eu.europeana.cloud.service.dps.DpsRecord;
 import eu.europeana.cloud.service.dps.RecordExecutionSubmitService;
+import eu.europeana.cloud.service.dps.exception.KafkaSubmissionException;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.utils.SubmitTaskParameters;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Submits record to storm cluster by sending it to valid Kafka topic. Class is also responsible for adding suitable entry in
  * processedRecordState table, and based on this table not sending record twice, in case of retry or duplication detection.
+ * <p>
+ * New records are sent to Kafka asynchronously. Up to {@link #MAX_IN_FLIGHT_RECORDS_PER_TASK} records of the task could wait
+ * for the acknowledgement at the same time, and the entry in the processedRecordState table is added only after the record
+ * is acknowledged. Records which could not be sent or saved in the background are retried synchronously by the submitting
+ * thread. A record with the id of a record still in flight waits until the previous one is saved, so the duplicate is
+ * detected based on the processedRecordState table as before. Submitters have to call {@link #waitForSubmittedRecords(long)}
+ * before they update the task state. If the synchronous retry of a record fails, the exception is thrown to the
+ * submitter, and waiting for the records of the task ends with the same failure.
  */
-public class RecordSubmitService {
+public class RecordSubmitService implements AutoCloseable {
+
+  public static final int MAX_IN_FLIGHT_RECORDS_PER_TASK = 500;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RecordSubmitService.class);
+  private static final int PROCESSED_RECORDS_WRITER_THREADS = 8;
+  private static final long IN_FLIGHT_RECORDS_CHECK_INTERVAL_MS = 100;
 
   private final ProcessedRecordsDAO processedRecordsDAO;
 
   private final RecordExecutionSubmitService kafkaSubmitService;
 
+  private final Map<Long, TaskSubmission> taskSubmissions = new ConcurrentHashMap<>();
+
+  private final ExecutorService processedRecordsWriter = Executors.newFixedThreadPool(PROCESSED_RECORDS_WRITER_THREADS,
+      runnable -> {
+        Thread thread = new Thread(runnable, "processed-records-writer");
+        thread.setDaemon(true);
+        return thread;
+      });
+
   public RecordSubmitService(ProcessedRecordsDAO processedRecordsDAO, RecordExecutionSubmitService kafkaSubmitService) {
     this.processedRecordsDAO = processedRecordsDAO;
     this.kafkaSubmitService = kafkaSubmitService;
@@ -39,16 +73,25 @@ public class RecordSubmitService {
    * such task would be never marked as finished. finish.
    */
   public boolean submitRecord(DpsRecord dpsRecord, SubmitTaskParameters submitParameters) {
-    Optional<ProcessedRecord> alreadySubmittedRecord = processedRecordsDAO.selectByPrimaryKey(dpsRecord.getTaskId(),
-        dpsRecord.getRecordId());
+    TaskSubmission submission = taskSubmissions.computeIfAbsent(dpsRecord.getTaskId(), taskId -> new TaskSubmission());
+    retryFailedRecords(submission);
+    markInFlight(submission, dpsRecord.getRecordId());
+
+    Optional<ProcessedRecord> alreadySubmittedRecord;
+    try {
+      alreadySubmittedRecord = processedRecordsDAO.selectByPrimaryKey(dpsRecord.getTaskId(), dpsRecord.getRecordId());
+    } catch (RuntimeException e) {
+      submission.removeInFlight(dpsRecord.getRecordId());
+      throw e;
+    }
 
     if (alreadySubmittedRecord.isEmpty()) {
-      kafkaSubmitService.submitRecord(dpsRecord, submitParameters.getTopicName());
-      LOGGER.debug("Updating record in processed_records table: {}", dpsRecord);
-      processedRecordsDAO.insert(dpsRecord.getTaskId(), dpsRecord.getRecordId(), 0,
-          "", submitParameters.getTaskInfo().getTopologyName(), RecordState.QUEUED.toString(), "", "");
+      submitInBackground(submission, dpsRecord, submitParameters);
       return true;
-    } else if (isResendingAfterFail(alreadySubmittedRecord.get(), submitParameters)) {
+    }
+
+    submission.removeInFlight(dpsRecord.getRecordId());
+    if (isResendingAfterFail(alreadySubmittedRecord.get(), submitParameters)) {
       LOGGER.info("Omitting record already sent to Kafka {}", dpsRecord);
       processedRecordsDAO.updateStartTime(dpsRecord.getTaskId(), dpsRecord.getRecordId(), new Date());
       return true;
@@ -56,7 +99,144 @@ public class RecordSubmitService {
       LOGGER.warn("Omitting duplicated record {}", dpsRecord);
       return false;
     }
+  }
+
+  /**
+   * Waits until all the records of the given task are acknowledged by Kafka and saved in the processedRecordState table.
+   * Records that failed in the background are retried by the calling thread.
+   *
+   * @param taskId identifier of the task
+   * @throws KafkaSubmissionException if the retry of any record of the task failed
+   */
+  public void waitForSubmittedRecords(long taskId) {
+    TaskSubmission submission = taskSubmissions.get(taskId);
+    if (submission == null) {
+      return;
+    }
+    try {
+      while (!tryAcquire(submission.inFlightPermits, MAX_IN_FLIGHT_RECORDS_PER_TASK)) {
+        throwIfRetryFailed(submission, taskId);
+        retryFailedRecords(submission);
+      }
+      throwIfRetryFailed(submission, taskId);
+      submission.inFlightPermits.release(MAX_IN_FLIGHT_RECORDS_PER_TASK);
+    } finally {
+      taskSubmissions.remove(taskId);
+    }
+  }
 
+  @Override
+  public void close() {
+    processedRecordsWriter.shutdown();
+  }
+
+  private void submitInBackground(TaskSubmission submission, DpsRecord dpsRecord, SubmitTaskParameters submitParameters) {
+    String recordId = dpsRecord.getRecordId();
+    try {
+      while (!tryAcquire(submission.inFlightPermits, 1)) {
+        retryFailedRecords(submission);
+      }
+    } catch (RuntimeException e) {
+      submission.removeInFlight(recordId);
+      throw e;
+    }
+
+    try {
+      kafkaSubmitService.submitRecordAsync(dpsRecord, submitParameters.getTopicName())
+                        .whenComplete((result, sendError) -> {
+                          if (sendError == null) {
+                            saveInBackground(submission, dpsRecord, submitParameters);
+                          } else {
+                            LOGGER.warn("Could not send record to Kafka in the background, it will be retried: {}",
+                                dpsRecord, sendError);
+                            submission.failedRecords.add(new FailedRecord(recordId, () -> {
+                              kafkaSubmitService.submitRecord(dpsRecord, submitParameters.getTopicName());
+                              saveQueuedRecord(dpsRecord, submitParameters);
+                            }));
+                          }
+                        });
+    } catch (RuntimeException e) {
+      submission.finished(recordId);
+      throw e;
+    }
+  }
+
+  private void saveInBackground(TaskSubmission submission, DpsRecord dpsRecord, SubmitTaskParameters submitParameters) {
+    var failedSave = new FailedRecord(dpsRecord.getRecordId(), () -> saveQueuedRecord(dpsRecord, submitParameters));
+    try {
+      processedRecordsWriter.execute(() -> {
+        try {
+          saveQueuedRecord(dpsRecord, submitParameters);
+          submission.finished(dpsRecord.getRecordId());
+        } catch (RuntimeException e) {
+          LOGGER.warn("Could not save record sent to Kafka in the background, it will be retried: {}", dpsRecord, e);
+          submission.failedRecords.add(failedSave);
+        }
+      });
+    } catch (RuntimeException e) {
+      submission.failedRecords.add(failedSave);
+    }
+  }
+
+  private void saveQueuedRecord(DpsRecord dpsRecord, SubmitTaskParameters submitParameters) {
+    LOGGER.debug("Updating record in processed_records table: {}", dpsRecord);
+    processedRecordsDAO.insert(dpsRecord.getTaskId(), dpsRecord.getRecordId(), 0,
+        "", submitParameters.getTaskInfo().getTopologyName(), RecordState.QUEUED.toString(), "", "");
+  }
+
+  private void markInFlight(TaskSubmission submission, String recordId) {
+    CompletableFuture<Void> saved = new CompletableFuture<>();
+    CompletableFuture<Void> previouslySaved;
+    while ((previouslySaved = submission.inFlightRecords.putIfAbsent(recordId, saved)) != null) {
+      LOGGER.debug("Waiting until the record with the same id is saved: {}", recordId);
+      while (!isDone(previouslySaved)) {
+        retryFailedRecords(submission);
+      }
+    }
+  }
+
+  private boolean isDone(CompletableFuture<Void> future) {
+    try {
+      future.get(IN_FLIGHT_RECORDS_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    } catch (ExecutionException e) {
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KafkaSubmissionException("Interrupted while waiting for the records sent to Kafka", e);
+    }
+  }
+
+  private void retryFailedRecords(TaskSubmission submission) {
+    FailedRecord failedRecord;
+    while ((failedRecord = submission.failedRecords.poll()) != null) {
+      try {
+        failedRecord.retry.run();
+      } catch (RuntimeException e) {
+        submission.retryFailure.compareAndSet(null, e);
+        throw e;
+      } finally {
+        submission.finished(failedRecord.recordId);
+      }
+    }
+  }
+
+  private void throwIfRetryFailed(TaskSubmission submission, long taskId) {
+    RuntimeException retryFailure = submission.retryFailure.get();
+    if (retryFailure != null) {
+      throw new KafkaSubmissionException("Could not submit the records of task id=" + taskId, retryFailure);
+    }
+  }
+
+  private boolean tryAcquire(Semaphore permits, int count) {
+    try {
+      return permits.tryAcquire(count, IN_FLIGHT_RECORDS_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KafkaSubmissionException("Interrupted while waiting for the records sent to Kafka", e);
+    }
   }
 
   private boolean isResendingAfterFail(ProcessedRecord alreadySubmittedRecord, SubmitTaskParameters submitParameters) {
@@ -64,4 +244,39 @@ public class RecordSubmitService {
     return submitParameters.isRestarted() && alreadySubmittedRecord.getStarTime().before(currentExecutionStart);
   }
 
+  private static class TaskSubmission {
+
+    private final Semaphore inFlightPermits = new Semaphore(MAX_IN_FLIGHT_RECORDS_PER_TASK);
+    private final Map<String, CompletableFuture<Void>> inFlightRecords = new ConcurrentHashMap<>();
+    private final Queue<FailedRecord> failedRecords = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<RuntimeException> retryFailure = new AtomicReference<>();
+
+    private void finished(String recordId) {
+      removeInFlight(recordId);
+      inFlightPermits.release();
+    }
+
+    private void removeInFlight(String recordId) {
+      CompletableFuture<Void> saved = inFlightRecords.remove(recordId);
+      if (saved != null) {
+        saved.complete(null);
+      }
+    }
+  }
+
+  /**
+   * Record which could not be sent or saved in the background. It is finished when it is retried, even if the retry
+   * fails, so waiting for the records of the task does not hang.
+   */
+  private static class FailedRecord {
+
+    private final String recordId;
+    private final Runnable retry;
+
+    private FailedRecord(String recordId, Runnable retry) {
+      this.recordId = recordId;
+      this.retry = retry;
+    }
+  }
+
 }
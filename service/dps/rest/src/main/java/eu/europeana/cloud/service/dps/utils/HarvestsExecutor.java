@@ -81,6 +81,8 @@ public class HarvestsExecutor {
       }
     } catch (IOException e) {
       throw new HarvesterRuntimeException(e);
+    } finally {
+      recordSubmitService.waitForSubmittedRecords(parameters.getTask().getTaskId());
     }
     if (taskDropped) {
       return HarvestResult.builder()
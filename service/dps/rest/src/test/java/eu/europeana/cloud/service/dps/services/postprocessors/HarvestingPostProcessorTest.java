@@ -37,6 +37,7 @@ import eu.europeana.cloud.service.dps.service.utils.indexing.IndexWrapper;
 import eu.europeana.cloud.service.dps.storm.dao.HarvestedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.utils.HarvestedRecord;
+import eu.europeana.cloud.service.dps.storm.utils.ParallelBucketRecordIterator;
 import eu.europeana.cloud.service.dps.storm.utils.TaskDroppedException;
 import eu.europeana.cloud.service.dps.storm.utils.TaskStatusChecker;
 import eu.europeana.cloud.service.dps.storm.utils.TaskStatusUpdater;
@@ -134,7 +135,8 @@ public class HarvestingPostProcessorTest {
 
   private void mockDAOs() {
     allHarvestedRecords = new ArrayList<>();
-    when(harvestedRecordsDAO.findDatasetRecords(METIS_DATASET_ID)).thenAnswer(invocation -> allHarvestedRecords.iterator());
+    when(harvestedRecordsDAO.findDatasetRecordsInParallel(METIS_DATASET_ID)).thenAnswer(
+        invocation -> new ParallelBucketRecordIterator<>(1, bucketNumber -> allHarvestedRecords.iterator()));
     when(processedRecordsDAO.selectByPrimaryKey(anyLong(), anyString())).thenReturn(Optional.empty());
   }
 
@@ -46,6 +46,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -160,10 +161,13 @@ public class MCSTaskSubmitterTest {
 
   private SubmitTaskParameters submitParameters;
 
+  private RecordSubmitService recordSubmitService;
+
   @Before
   public void setup() throws Exception {
     MockitoAnnotations.initMocks(this);
-    RecordSubmitService recordSubmitService = new RecordSubmitService(processedRecordsDAO, recordKafkaSubmitService);
+    when(recordKafkaSubmitService.submitRecordAsync(any(DpsRecord.class), anyString())).thenCallRealMethod();
+    recordSubmitService = new RecordSubmitService(processedRecordsDAO, recordKafkaSubmitService);
     submitter = new MCSTaskSubmitter(taskStatusChecker, taskStatusUpdater, recordSubmitService, null, null, null);
     whenNew(DataSetServiceClient.class).withAnyArguments().thenReturn(dataSetServiceClient);
     whenNew(FileServiceClient.class).withAnyArguments().thenReturn(fileServiceClient);
@@ -399,6 +403,57 @@ public class MCSTaskSubmitterTest {
     assertTrue(recordCaptor.getValue().isMarkedAsDeleted());
   }
 
+  @Test
+  public void executeMcsBasedTask_lastRevisionsWithOneResolvingThreadAndOnePrefetchedElement_verifyAllRecordsSent()
+      throws MCSException, InterruptedException {
+    prepareInvocationForLastRevisionForThreeObjectsInThreeChunks();
+    submitter = new MCSTaskSubmitter(taskStatusChecker, taskStatusUpdater, recordSubmitService, null, null, null, 1, 1);
+
+    submitter.execute(submitParameters);
+
+    verifyValidTaskSent(FILE_URL_1, FILE_URL_1, FILE_URL_1);
+  }
+
+  @Test
+  public void executeMcsBasedTask_lastRevisionsOfManyObjects_verifyResolvingThreadsCountNotExceeded()
+      throws MCSException, InterruptedException {
+    int resolvingThreadsCount = 3;
+    int objectsCount = 30;
+    prepareInvocationForLastRevisionOfTwoObjects();
+    for (int i = cloudTagsResponse.size(); i < objectsCount; i++) {
+      cloudTagsResponse.add(new CloudTagsResponse(CLOUD_ID1, false));
+    }
+    AtomicInteger concurrentCalls = new AtomicInteger();
+    AtomicInteger maxConcurrentCalls = new AtomicInteger();
+    when(recordServiceClient.getRepresentationRawRevisions(anyString(), anyString(), any(Revision.class)))
+        .thenAnswer(invocation -> {
+          maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+          Thread.sleep(10);
+          concurrentCalls.decrementAndGet();
+          return Collections.singletonList(REPRESENTATION_REVISION_1);
+        });
+    submitter = new MCSTaskSubmitter(taskStatusChecker, taskStatusUpdater, recordSubmitService, null, null, null,
+        resolvingThreadsCount, 2);
+
+    submitter.execute(submitParameters);
+
+    verifyValidTaskSent(Collections.nCopies(objectsCount, FILE_URL_1).toArray(new String[0]));
+    assertTrue(maxConcurrentCalls.get() <= resolvingThreadsCount);
+  }
+
+  @Test
+  public void executeMcsBasedTask_errorWhileResolvingLastRevision_verifyTaskDropped()
+      throws MCSException, InterruptedException {
+    prepareInvocationForLastRevisionOfTwoObjects();
+    when(recordServiceClient.getRepresentationRawRevisions(anyString(), anyString(), any(Revision.class)))
+        .thenThrow(new MCSException("Error while resolving revisions"));
+
+    submitter.execute(submitParameters);
+
+    verify(taskStatusUpdater).setTaskDropped(eq(TASK_ID), anyString());
+    verify(recordKafkaSubmitService, never()).submitRecord(any(DpsRecord.class), anyString());
+  }
+
   private void prepareInvocationForLastRevisionOfTwoObjects() throws MCSException {
     task.addDataEntry(InputDataType.DATASET_URLS, Collections.singletonList(DATASET_URL_1));
     task.addParameter(PluginParameterKeys.REVISION_NAME, REVISION_NAME);
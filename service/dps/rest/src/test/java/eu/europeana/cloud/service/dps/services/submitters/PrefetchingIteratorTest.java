@@ -0,0 +1,121 @@
+package eu.europeana.cloud.service.dps.services.submitters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class PrefetchingIteratorTest {
+
+  @Test
+  public void shouldReturnAllElementsInTheSourceOrder() {
+    List<Integer> source = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    List<Integer> result = new ArrayList<>();
+
+    try (var iterator = new PrefetchingIterator<>(source.iterator(), 3)) {
+      iterator.forEachRemaining(result::add);
+    }
+
+    assertEquals(source, result);
+  }
+
+  @Test
+  public void shouldReturnNullElements() {
+    try (var iterator = new PrefetchingIterator<>(Arrays.asList("a", null, "b").iterator(), 1)) {
+      assertEquals("a", iterator.next());
+      assertNull(iterator.next());
+      assertEquals("b", iterator.next());
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  public void shouldRethrowExceptionOfTheSourceAfterElementsReadBeforeIt() {
+    Iterator<String> failingSource = new Iterator<>() {
+      private boolean first = true;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        if (first) {
+          first = false;
+          return "a";
+        }
+        throw new IllegalStateException("Source failed");
+      }
+    };
+
+    try (var iterator = new PrefetchingIterator<>(failingSource, 5)) {
+      assertTrue(iterator.hasNext());
+      assertEquals("a", iterator.next());
+      iterator.hasNext();
+    } catch (IllegalStateException e) {
+      assertEquals("Source failed", e.getMessage());
+      return;
+    }
+    throw new AssertionError("Exception of the source was not rethrown");
+  }
+
+  @Test(timeout = 10000)
+  public void shouldRethrowErrorOfTheSourceInsteadOfWaitingForNextElement() {
+    Iterator<String> failingSource = new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new StackOverflowError("Source crashed");
+      }
+    };
+
+    try (var iterator = new PrefetchingIterator<>(failingSource, 5)) {
+      iterator.hasNext();
+    } catch (StackOverflowError e) {
+      assertEquals("Source crashed", e.getMessage());
+      return;
+    }
+    throw new AssertionError("Error of the source was not rethrown");
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowNoSuchElementExceptionWhenExhausted() {
+    try (var iterator = new PrefetchingIterator<>(List.of("a").iterator(), 1)) {
+      iterator.next();
+      iterator.next();
+    }
+  }
+
+  @Test
+  public void shouldStopNamedDaemonReadingThreadWhenClosed() throws InterruptedException {
+    AtomicReference<Thread> readingThread = new AtomicReference<>();
+    Iterator<Integer> infiniteSource = Stream.iterate(0, i -> i + 1)
+                                             .peek(i -> readingThread.set(Thread.currentThread()))
+                                             .iterator();
+
+    try (var iterator = new PrefetchingIterator<>(infiniteSource, 1)) {
+      assertEquals(Integer.valueOf(0), iterator.next());
+    }
+
+    readingThread.get().join(1000);
+    assertEquals("prefetching-iterator-reader", readingThread.get().getName());
+    assertTrue(readingThread.get().isDaemon());
+    assertFalse(readingThread.get().isAlive());
+  }
+}
@@ -1,12 +1,18 @@
 package eu.europeana.cloud.service.dps.services.submitters;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -15,12 +21,15 @@ import eu.europeana.cloud.common.model.dps.RecordState;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
 import eu.europeana.cloud.service.dps.DpsRecord;
 import eu.europeana.cloud.service.dps.RecordExecutionSubmitService;
+import eu.europeana.cloud.service.dps.exception.KafkaSubmissionException;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.utils.SubmitTaskParameters;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -59,9 +68,11 @@ public class RecordSubmitServiceTest {
 
   @Test
   public void shouldSubmitRecordThatNotAlreadyExists() {
+    givenKafkaAcknowledgesRecords();
+
     service.submitRecord(record, parameters);
 
-    verify(kafkaSubmitService).submitRecord(record, TOPIC);
+    verify(kafkaSubmitService).submitRecordAsync(record, TOPIC);
   }
 
 
@@ -71,12 +82,16 @@ public class RecordSubmitServiceTest {
 
     service.submitRecord(record, parameters);
 
+    verify(kafkaSubmitService, never()).submitRecordAsync(eq(record), eq(TOPIC));
     verify(kafkaSubmitService, never()).submitRecord(eq(record), eq(TOPIC));
   }
 
   @Test
   public void shouldSaveRecordThatNotAlreadyExists() {
+    givenKafkaAcknowledgesRecords();
+
     service.submitRecord(record, parameters);
+    service.waitForSubmittedRecords(TASK_ID);
 
     verify(processedRecordsDAO).insert(anyLong(), anyString(), eq(0), anyString(),
         anyString(), eq(RecordState.QUEUED.toString()), anyString(), anyString());
@@ -92,9 +107,55 @@ public class RecordSubmitServiceTest {
         anyString(), anyString(), anyString(), anyString());
   }
 
+  @Test
+  public void shouldResendSynchronouslyRecordThatFailedInTheBackground() {
+    CompletableFuture<Void> failedSubmission = new CompletableFuture<>();
+    failedSubmission.completeExceptionally(new RuntimeException("Broker not available"));
+    when(kafkaSubmitService.submitRecordAsync(any(DpsRecord.class), anyString())).thenReturn(failedSubmission);
+
+    service.submitRecord(record, parameters);
+    service.waitForSubmittedRecords(TASK_ID);
+
+    verify(kafkaSubmitService).submitRecord(record, TOPIC);
+    verify(processedRecordsDAO).insert(anyLong(), anyString(), eq(0), anyString(),
+        anyString(), eq(RecordState.QUEUED.toString()), anyString(), anyString());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldStopWaitingAndRethrowWhenSynchronousRetryFails() {
+    givenKafkaFailsInTheBackground();
+    RuntimeException retryFailure = new RuntimeException("Broker still not available");
+    doThrow(retryFailure).when(kafkaSubmitService).submitRecord(record, TOPIC);
+    service.submitRecord(record, parameters);
+
+    RuntimeException thrown = assertThrows(RuntimeException.class, () -> service.waitForSubmittedRecords(TASK_ID));
+
+    assertSame(retryFailure, thrown);
+    verify(processedRecordsDAO, never()).insert(anyLong(), anyString(), anyInt(), anyString(),
+        anyString(), anyString(), anyString(), anyString());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldReleaseRecordAndFailWaitingWhenSynchronousRetryOfNextSubmissionFails() {
+    givenKafkaFailsInTheBackground();
+    RuntimeException retryFailure = new RuntimeException("Broker still not available");
+    doThrow(retryFailure).when(kafkaSubmitService).submitRecord(record, TOPIC);
+    DpsRecord nextRecord = DpsRecord.builder().taskId(TASK_ID).recordId("nextRecordId").build();
+    service.submitRecord(record, parameters);
+
+    RuntimeException submissionFailure = assertThrows(RuntimeException.class,
+        () -> service.submitRecord(nextRecord, parameters));
+    KafkaSubmissionException waitingFailure = assertThrows(KafkaSubmissionException.class,
+        () -> service.waitForSubmittedRecords(TASK_ID));
+
+    assertSame(retryFailure, submissionFailure);
+    assertSame(retryFailure, waitingFailure.getCause());
+  }
 
   @Test
   public void shouldReturnTrueWhenSubmitingNewRecord() {
+    givenKafkaAcknowledgesRecords();
+
     boolean result = service.submitRecord(record, parameters);
 
     assertTrue(result);
@@ -134,4 +195,33 @@ public class RecordSubmitServiceTest {
   }
 
 
-}
\ No newline at end of file
+  @Test
+  public void shouldCheckDuplicatedRecordOnlyAfterThePreviousOneIsSaved() {
+    givenKafkaAcknowledgesRecords();
+    when(processedRecordsDAO.selectByPrimaryKey(anyLong(), anyString()))
+        .thenReturn(Optional.empty(), Optional.of(alreadyProcessedRecord));
+
+    boolean firstResult = service.submitRecord(record, parameters);
+    boolean secondResult = service.submitRecord(record, parameters);
+
+    assertTrue(firstResult);
+    assertFalse(secondResult);
+    InOrder inOrder = inOrder(processedRecordsDAO);
+    inOrder.verify(processedRecordsDAO).insert(anyLong(), anyString(), eq(0), anyString(),
+        anyString(), eq(RecordState.QUEUED.toString()), anyString(), anyString());
+    inOrder.verify(processedRecordsDAO).selectByPrimaryKey(TASK_ID, RECORD_ID);
+    verify(kafkaSubmitService, times(1)).submitRecordAsync(record, TOPIC);
+  }
+
+  private void givenKafkaFailsInTheBackground() {
+    CompletableFuture<Void> failedSubmission = new CompletableFuture<>();
+    failedSubmission.completeExceptionally(new RuntimeException("Broker not available"));
+    when(kafkaSubmitService.submitRecordAsync(any(DpsRecord.class), anyString())).thenReturn(failedSubmission);
+  }
+
+  private void givenKafkaAcknowledgesRecords() {
+    when(kafkaSubmitService.submitRecordAsync(any(DpsRecord.class), anyString()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+}
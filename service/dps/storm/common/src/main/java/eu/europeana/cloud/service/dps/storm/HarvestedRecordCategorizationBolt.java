@@ -7,6 +7,7 @@ import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.storm.incremental.CategorizationParameters;
 import eu.europeana.cloud.service.dps.storm.incremental.CategorizationResult;
 import eu.europeana.cloud.service.dps.storm.service.HarvestedRecordCategorizationService;
+import java.util.UUID;
 import org.apache.storm.tuple.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +45,7 @@ public abstract class HarvestedRecordCategorizationBolt extends AbstractDpsBolt
                                    .fullHarvest(!isIncrementalHarvesting(tuple))
                                    .datasetId(tuple.getParameter(PluginParameterKeys.METIS_DATASET_ID))
                                    .recordId(tuple.getParameter(PluginParameterKeys.CLOUD_LOCAL_IDENTIFIER))
-                                   .recordMd5(FileMd5GenerationService.generateUUID(tuple.getFileData()))
+                                   .recordMd5(recordMd5(tuple))
                                    .currentHarvestDate(DateHelper.parse(tuple.getParameter(PluginParameterKeys.HARVEST_DATE)))
                                    .recordDateStamp(tuple.getParameter(PluginParameterKeys.RECORD_DATESTAMP) != null ?
                                        DateHelper.parse(tuple.getParameter(PluginParameterKeys.RECORD_DATESTAMP))
@@ -52,6 +53,12 @@ public abstract class HarvestedRecordCategorizationBolt extends AbstractDpsBolt
                                    .build();
   }
 
+  private UUID recordMd5(StormTaskTuple tuple) {
+    //md5 could be already computed by the harvesting bolt, while it was downloading the file
+    String md5 = tuple.getParameters().remove(PluginParameterKeys.RECORD_MD5);
+    return md5 != null ? FileMd5GenerationService.md5ToUUID(md5) : FileMd5GenerationService.generateUUID(tuple.getFileData());
+  }
+
   private boolean isIncrementalHarvesting(StormTaskTuple tuple) {
     return "true".equals(tuple.getParameter(PluginParameterKeys.INCREMENTAL_HARVEST));
   }
@@ -14,11 +14,13 @@ import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
 import eu.europeana.cloud.service.dps.storm.dao.TasksByStateDAO;
 import eu.europeana.cloud.service.dps.storm.notification.NotificationCacheEntry;
 import eu.europeana.cloud.service.dps.storm.notification.NotificationEntryCacheBuilder;
-import eu.europeana.cloud.service.dps.storm.notification.handler.NotificationHandlerConfig;
-import eu.europeana.cloud.service.dps.storm.notification.handler.NotificationHandlerConfigBuilder;
 import eu.europeana.cloud.service.dps.storm.notification.handler.NotificationTupleHandler;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.DiagnosticContextWrapper;
 import eu.europeana.cloud.service.dps.util.LRUCache;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.storm.Config;
 import org.apache.storm.task.OutputCollector;
@@ -31,6 +33,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This bolt is responsible for store notifications to Cassandra.
+ * <p>
+ * Tuples are accumulated per task and stored together, when the number of tuples of the task reaches the configured
+ * batch size or when the flush interval elapses (triggered by tick tuples). The batch of the task is stored also when
+ * it reaches the maximal parallelization of the task, because more records of the task are not processed at the same
+ * time, so the batch could not grow any more. Tuples are acknowledged when all of their data is stored. Data of the
+ * tuples of one batch is written as separate, concurrent statements, not as one atomic batch. If storing of the batch
+ * fails, the whole task is marked as dropped.
  *
  * @author Pavel Kefurt <Pavel.Kefurt@gmail.com>
  */
@@ -43,13 +52,15 @@ public class NotificationBolt extends BaseRichBolt {
   private final String keyspaceName;
   private final String userName;
   private final String password;
+  private final BoltBatchingSettings batchingSettings;
   protected transient OutputCollector outputCollector;
   protected LRUCache<Long, NotificationCacheEntry> cache = new LRUCache<>(50);
 
   protected String topologyName;
-  private transient NotificationTupleHandler notificationTupleHandler;
+  transient NotificationTupleHandler notificationTupleHandler;
   private transient NotificationEntryCacheBuilder notificationEntryCacheBuilder;
   private transient BatchExecutor batchExecutor;
+  private transient Map<Long, List<Tuple>> pendingTuples;
 
   /**
    * Constructor of notification bolt.
@@ -62,36 +73,74 @@ public class NotificationBolt extends BaseRichBolt {
    */
   public NotificationBolt(String hosts, int port, String keyspaceName,
       String userName, String password) {
+    this(hosts, port, keyspaceName, userName, password, BoltBatchingSettings.NO_BATCHING);
+  }
+
+  /**
+   * Constructor of notification bolt that stores tuples in batches.
+   *
+   * @param hosts Cassandra hosts separated by comma (e.g. localhost,192.168.47.129)
+   * @param port Cassandra port
+   * @param keyspaceName Cassandra keyspace name
+   * @param userName Cassandra username
+   * @param password Cassandra password
+   * @param batchingSettings maximal number of tuples of one task stored together, and maximal time the tuples wait in
+   * the batch before they are stored
+   */
+  public NotificationBolt(String hosts, int port, String keyspaceName,
+      String userName, String password, BoltBatchingSettings batchingSettings) {
     this.hosts = hosts;
     this.port = port;
     this.keyspaceName = keyspaceName;
     this.userName = userName;
     this.password = password;
-
+    this.batchingSettings = batchingSettings;
   }
 
   @Override
   public void execute(Tuple tuple) {
+    if (BoltBatchingSettings.flushOnTick(tuple, this::flushAll)) {
+      return;
+    }
     var notificationTuple = NotificationTuple.fromStormTuple(tuple);
+    LOGGER.debug("{} Performing execute on tuple {}", getClass().getName(), notificationTuple);
+    List<Tuple> tuplesOfTask = pendingTuples.computeIfAbsent(notificationTuple.getTaskId(), id -> new ArrayList<>());
+    tuplesOfTask.add(tuple);
+    if (batchingSettings.isFull(tuplesOfTask.size())
+        || tuplesOfTask.size() >= notificationTuple.readParallelizationParam()) {
+      flush(notificationTuple.getTaskId());
+    }
+  }
+
+  @Override
+  public Map<String, Object> getComponentConfiguration() {
+    return batchingSettings.addTickTupleFrequency(super.getComponentConfiguration());
+  }
+
+  private void flushAll() {
+    new ArrayList<>(pendingTuples.keySet()).forEach(this::flush);
+  }
+
+  private void flush(long taskId) {
+    List<Tuple> tuples = pendingTuples.remove(taskId);
+    List<NotificationTuple> notificationTuples = new ArrayList<>(tuples.size());
+    tuples.forEach(tuple -> notificationTuples.add(NotificationTuple.fromStormTuple(tuple)));
     try {
-      LOGGER.debug("{} Performing execute on tuple {}", getClass().getName(), notificationTuple);
-      prepareDiagnosticContext(notificationTuple);
-      var cachedCounters = readCachedCounters(notificationTuple);
-      NotificationHandlerConfig notificationHandlerConfig =
-          NotificationHandlerConfigBuilder.prepareNotificationHandlerConfig(notificationTuple, cachedCounters);
-      notificationTupleHandler.handle(notificationTuple, notificationHandlerConfig);
-      outputCollector.ack(tuple);
+      prepareDiagnosticContext(notificationTuples.get(0));
+      var cachedCounters = readCachedCounters(taskId);
+      notificationTupleHandler.handle(taskId, notificationTuples, cachedCounters);
+      tuples.forEach(outputCollector::ack);
     } catch (RetryInterruptedException ex) {
       LOGGER.error("Notification interrupted: {}", ex.getMessage(), ex);
-      outputCollector.fail(tuple);
+      tuples.forEach(outputCollector::fail);
     } catch (Exception ex) {
       LOGGER.error("Cannot store notification to Cassandra because: {}", ex.getMessage(), ex);
       batchExecutor.executeAll(
           notificationTupleHandler.prepareStatementsForTupleContainingLastRecord(
-              notificationTuple,
+              notificationTuples.get(0),
               TaskState.DROPPED,
               ex.getMessage()));
-      outputCollector.ack(tuple);
+      tuples.forEach(outputCollector::ack);
     } finally {
       clearDiagnosticContext();
     }
@@ -100,6 +149,7 @@ public class NotificationBolt extends BaseRichBolt {
   @Override
   public void prepare(Map stormConf, TopologyContext tc, OutputCollector outputCollector) {
     this.outputCollector = outputCollector;
+    this.pendingTuples = new LinkedHashMap<>();
 
     var cassandraConnectionProvider =
         CassandraConnectionProviderSingleton.getCassandraConnectionProvider(
@@ -130,14 +180,14 @@ public class NotificationBolt extends BaseRichBolt {
     //last bolt in all topologies, nothing to declare
   }
 
-  private NotificationCacheEntry readCachedCounters(NotificationTuple notificationTuple) {
-    var cachedCounters = cache.get(notificationTuple.getTaskId());
+  private NotificationCacheEntry readCachedCounters(long taskId) {
+    var cachedCounters = cache.get(taskId);
     if (cachedCounters == null) {
-      cachedCounters = notificationEntryCacheBuilder.build(notificationTuple.getTaskId());
-      cache.put(notificationTuple.getTaskId(), cachedCounters);
+      cachedCounters = notificationEntryCacheBuilder.build(taskId);
+      cache.put(taskId, cachedCounters);
     } else {
-      cachedCounters = updateExpectedRecordsNumberIfNeeded(cachedCounters, notificationTuple.getTaskId());
-      cache.put(notificationTuple.getTaskId(), cachedCounters);
+      cachedCounters = updateExpectedRecordsNumberIfNeeded(cachedCounters, taskId);
+      cache.put(taskId, cachedCounters);
     }
     return cachedCounters;
   }
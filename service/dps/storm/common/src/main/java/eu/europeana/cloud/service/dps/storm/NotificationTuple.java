@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
@@ -57,6 +58,10 @@ public class NotificationTuple {
     if (stormTaskTuple.isMarkedAsDeleted()) {
       parameters.put(PluginParameterKeys.MARKED_AS_DELETED, "true");
     }
+    if (stormTaskTuple.getParameter(PluginParameterKeys.MAXIMUM_PARALLELIZATION) != null) {
+      parameters.put(PluginParameterKeys.MAXIMUM_PARALLELIZATION,
+          stormTaskTuple.getParameter(PluginParameterKeys.MAXIMUM_PARALLELIZATION));
+    }
     return new NotificationTuple(stormTaskTuple.getTaskId(), parameters, stormTaskTuple.getReportSet());
   }
 
@@ -95,6 +100,15 @@ public class NotificationTuple {
     return parameters.get(key);
   }
 
+  /**
+   * @return maximal number of the records of the task processed at the same time, or Integer.MAX_VALUE if it is not
+   * limited
+   */
+  public int readParallelizationParam() {
+    return Optional.ofNullable(getParameter(PluginParameterKeys.MAXIMUM_PARALLELIZATION))
+                   .map(String::valueOf).map(Integer::parseInt).orElse(Integer.MAX_VALUE);
+  }
+
   public void addParameter(String key, String value) {
     parameters.put(key, value);
   }
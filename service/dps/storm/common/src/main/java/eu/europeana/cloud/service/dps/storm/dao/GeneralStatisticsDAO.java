@@ -43,7 +43,7 @@ public class GeneralStatisticsDAO extends CassandraDAO {
     updateStatement = dbService.getSession().prepare(
         "UPDATE " + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_TABLE
             + " SET " + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_OCCURRENCE + " = "
-            + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_OCCURRENCE + " + 1 "
+            + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_OCCURRENCE + " + ? "
             + "WHERE " + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_TASK_ID + " = ? "
             + "AND " + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_PARENT_XPATH + " = ? "
             + "AND " + CassandraTablesAndColumnsNames.GENERAL_STATISTICS_NODE_XPATH + " = ?"
@@ -68,7 +68,18 @@ public class GeneralStatisticsDAO extends CassandraDAO {
    * @param nodeStatistics node statistics object with all the necessary information
    */
   public void updateGeneralStatistics(long taskId, NodeStatistics nodeStatistics) {
-    dbService.getSession().execute(updateStatement.bind(taskId, nodeStatistics.getParentXpath(), nodeStatistics.getXpath()));
+    dbService.getSession().execute(updateStatement.bind(1L, taskId, nodeStatistics.getParentXpath(), nodeStatistics.getXpath()));
+  }
+
+  /**
+   * It will increase the counter for the specified node in general statistics table by the given occurrence
+   *
+   * @param taskId task identifier
+   * @param generalStatistics general statistics object with the occurrence to add
+   */
+  public void updateGeneralStatistics(long taskId, GeneralStatistics generalStatistics) {
+    dbService.getSession().execute(updateStatement.bind(generalStatistics.getOccurrence(), taskId,
+        generalStatistics.getParentXpath(), generalStatistics.getNodeXpath()));
   }
 
   public void removeGeneralStatistics(long taskId) {
@@ -6,7 +6,9 @@ import static eu.europeana.cloud.service.dps.storm.topologies.properties.Topolog
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
+import com.google.common.collect.Iterators;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.common.annotation.Retryable;
 import eu.europeana.cloud.service.commons.utils.RetryableMethodExecutor;
@@ -15,8 +17,11 @@ import eu.europeana.cloud.service.dps.storm.utils.BucketRecordIterator;
 import eu.europeana.cloud.service.dps.storm.utils.BucketUtils;
 import eu.europeana.cloud.service.dps.storm.utils.CassandraTablesAndColumnsNames;
 import eu.europeana.cloud.service.dps.storm.utils.HarvestedRecord;
+import eu.europeana.cloud.service.dps.storm.utils.ParallelBucketRecordIterator;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -134,12 +139,14 @@ public class HarvestedRecordsDAO extends CassandraDAO {
             + " AND " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_BUCKET_NUMBER + " = ? "
             + " AND " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_LOCAL_ID + " = ? "
     );
+    findRecordStatement.setIdempotent(true);
 
     findAllRecordInDatasetStatement = dbService.getSession().prepare(
         "SELECT * FROM " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_TABLE
             + " WHERE " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_METIS_DATASET_ID + " = ? "
             + " AND " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_BUCKET_NUMBER + " = ? "
     );
+    findAllRecordInDatasetStatement.setIdempotent(true);
 
     deleteRecordStatement = dbService.getSession().prepare(
         "DELETE FROM " + CassandraTablesAndColumnsNames.HARVESTED_RECORD_TABLE
@@ -155,6 +162,18 @@ public class HarvestedRecordsDAO extends CassandraDAO {
     dbService.getSession().execute(prepareInsertStatement(harvestedRecord));
   }
 
+  /**
+   * Inserts all the given records. Inserts are issued concurrently, and the method returns when all of them are completed.
+   */
+  @Retryable(maxAttempts = DPS_DEFAULT_MAX_ATTEMPTS)
+  public void insertHarvestedRecords(Collection<HarvestedRecord> harvestedRecords) {
+    List<ResultSetFuture> inserts = harvestedRecords.stream()
+                                                    .map(harvestedRecord -> dbService.getSession().executeAsync(
+                                                        prepareInsertStatement(harvestedRecord)))
+                                                    .toList();
+    inserts.forEach(ResultSetFuture::getUninterruptibly);
+  }
+
   public BoundStatement prepareInsertStatement(HarvestedRecord harvestedRecord) {
     return insertHarvestedRecordStatement.bind(harvestedRecord.getMetisDatasetId(),
         bucketNoFor(harvestedRecord.getRecordLocalId()), harvestedRecord.getRecordLocalId(),
@@ -249,6 +268,24 @@ public class HarvestedRecordsDAO extends CassandraDAO {
         HarvestedRecord::from);
   }
 
+  /**
+   * Returns all the records of the dataset, reading {@link ParallelBucketRecordIterator#DEFAULT_PARALLELISM} buckets at the
+   * same time. Records are not ordered by bucket. The returned iterator should be closed if it is not consumed till the end.
+   */
+  public ParallelBucketRecordIterator<HarvestedRecord> findDatasetRecordsInParallel(String metisDatasetId) {
+    return new ParallelBucketRecordIterator<>(MAX_NUMBER_OF_BUCKETS,
+        bucketNumber -> Iterators.transform(queryBucketWithAsyncPaging(metisDatasetId, bucketNumber), HarvestedRecord::from));
+  }
+
+  private Iterator<Row> queryBucketWithAsyncPaging(String metisDatasetId, Integer bucketNumber) {
+    return RetryableMethodExecutor.execute(DB_COMMUNICATION_FAILURE_MESSAGE,
+        DPS_DEFAULT_MAX_ATTEMPTS,
+        DEFAULT_DELAY_BETWEEN_ATTEMPTS,
+        () -> ParallelBucketRecordIterator.withAsyncPaging(dbService.getSession().execute(
+            findAllRecordInDatasetStatement.bind(metisDatasetId, bucketNumber)))
+    );
+  }
+
   private Iterator<Row> queryBucket(String metisDatasetId, Integer bucketNumber) {
     return RetryableMethodExecutor.execute(DB_COMMUNICATION_FAILURE_MESSAGE,
         DPS_DEFAULT_MAX_ATTEMPTS,
@@ -16,6 +16,7 @@ import static eu.europeana.cloud.service.dps.storm.utils.CassandraTablesAndColum
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
@@ -122,6 +123,7 @@ public class ProcessedRecordsDAO extends CassandraDAO {
             + "AND " + PROCESSED_RECORDS_RECORD_ID + " = ? "
             + "AND " + PROCESSED_RECORDS_BUCKET_NUMBER + " = ?"
     );
+    selectByPrimaryKeyStatement.setIdempotent(true);
 
   }
 
@@ -140,6 +142,20 @@ public class ProcessedRecordsDAO extends CassandraDAO {
         theRecord.getAdditionalInformations());
   }
 
+  public BoundStatement insertRecordStatement(ProcessedRecord theRecord) {
+    return insertStatement.bind(theRecord.getTaskId(), theRecord.getRecordId(),
+        BucketUtils.bucketNumber(theRecord.getRecordId(), BUCKETS_COUNT), theRecord.getAttemptNumber(),
+        theRecord.getDstIdentifier(), theRecord.getTopologyName(), theRecord.getState().toString(),
+        Calendar.getInstance().getTime(), theRecord.getInfoText(), theRecord.getAdditionalInformations());
+  }
+
+  /**
+   * Inserts the record without waiting for the result. Failures are reported through the returned future.
+   */
+  public ResultSetFuture insertAsync(ProcessedRecord theRecord) {
+    return dbService.getSession().executeAsync(insertRecordStatement(theRecord));
+  }
+
   public BoundStatement updateProcessedRecordStateStatement(long taskId, String recordId, RecordState state) {
     return updateRecordStateStatement.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT), state.toString());
   }
@@ -150,10 +166,22 @@ public class ProcessedRecordsDAO extends CassandraDAO {
 
   public Optional<ProcessedRecord> selectByPrimaryKey(long taskId, String recordId)
       throws NoHostAvailableException, QueryExecutionException {
-    ProcessedRecord result = null;
-
     ResultSet rs = dbService.getSession().execute(
         selectByPrimaryKeyStatement.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT)));
+    return readProcessedRecord(taskId, recordId, rs);
+  }
+
+  /**
+   * Issues the select without waiting for the result. The result could be read with
+   * {@link #readProcessedRecord(long, String, ResultSet)}.
+   */
+  public ResultSetFuture selectByPrimaryKeyAsync(long taskId, String recordId) {
+    return dbService.getSession().executeAsync(
+        selectByPrimaryKeyStatement.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT)));
+  }
+
+  public Optional<ProcessedRecord> readProcessedRecord(long taskId, String recordId, ResultSet rs) {
+    ProcessedRecord result = null;
     Row row = rs.one();
     if (row != null) {
       result = ProcessedRecord
@@ -178,9 +206,20 @@ public class ProcessedRecordsDAO extends CassandraDAO {
         updateRecordStartTime.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT), startTime));
   }
 
+  public BoundStatement updateRecordAttemptNumberStatement(long taskId, String recordId, int attemptNumber) {
+    return updateAttemptNumberStatement.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT),
+        attemptNumber);
+  }
+
   public void updateAttempNumber(long taskId, String recordId, int attempNumber) {
-    dbService.getSession().execute(
-        updateAttemptNumberStatement.bind(taskId, recordId, BucketUtils.bucketNumber(recordId, BUCKETS_COUNT), attempNumber));
+    dbService.getSession().execute(updateRecordAttemptNumberStatement(taskId, recordId, attempNumber));
+  }
+
+  /**
+   * Updates the attempt number without waiting for the result. Failures are reported through the returned future.
+   */
+  public ResultSetFuture updateAttemptNumberAsync(long taskId, String recordId, int attemptNumber) {
+    return dbService.getSession().executeAsync(updateRecordAttemptNumberStatement(taskId, recordId, attemptNumber));
   }
 
 }
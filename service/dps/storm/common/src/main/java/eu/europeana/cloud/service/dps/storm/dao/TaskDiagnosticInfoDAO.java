@@ -13,6 +13,7 @@ import static eu.europeana.cloud.service.dps.storm.utils.CassandraTablesAndColum
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
@@ -31,6 +32,7 @@ public class TaskDiagnosticInfoDAO extends CassandraDAO {
   private PreparedStatement findByIdStatement;
   private PreparedStatement updateRecordsRetryCount;
   private PreparedStatement updateStartedRecordsCount;
+  private PreparedStatement updateRecordsCounters;
   private PreparedStatement updateStartOnStormTime;
   private PreparedStatement updateFinishOnStormTime;
   private PreparedStatement updatePostprocessingStartTime;
@@ -63,6 +65,10 @@ public class TaskDiagnosticInfoDAO extends CassandraDAO {
         TASK_DIAGNOSTIC_INFO_TABLE, TASK_DIAGNOSTIC_INFO_ID));
     updateStartedRecordsCount = prepareUpdateQuery(TASK_DIAGNOSTIC_INFO_STARTED_RECORDS_COUNT);
     updateRecordsRetryCount = prepareUpdateQuery(TASK_DIAGNOSTIC_INFO_RECORDS_RETRY_COUNT);
+    updateRecordsCounters = prepare(String.format(
+        "INSERT INTO %s(%s,%s,%s) VALUES(?,?,?)",
+        TASK_DIAGNOSTIC_INFO_TABLE, TASK_DIAGNOSTIC_INFO_ID, TASK_DIAGNOSTIC_INFO_STARTED_RECORDS_COUNT,
+        TASK_DIAGNOSTIC_INFO_RECORDS_RETRY_COUNT));
     updateQueuedTime = prepareUpdateQuery(TASK_DIAGNOSTIC_INFO_QUEUED_TIME);
     updateStartOnStormTime = prepareUpdateQuery(TASK_DIAGNOSTIC_INFO_START_ON_STORM_TIME);
     updateLastRecordFinishedOnStormTime = prepareUpdateQuery(TASK_DIAGNOSTIC_INFO_LAST_RECORD_FINISHED_ON_STORM_TIME);
@@ -92,6 +98,18 @@ public class TaskDiagnosticInfoDAO extends CassandraDAO {
     dbService.getSession().execute(updateStartedRecordsCount.bind(taskId, startedCount));
   }
 
+  /**
+   * Stores both record counters of the task without waiting for the result. Failures are reported through the returned
+   * future.
+   */
+  public ResultSetFuture updateRecordsCountersAsync(long taskId, int startedCount, int retryCount) {
+    return dbService.getSession().executeAsync(updateRecordsCounters.bind(taskId, startedCount, retryCount));
+  }
+
+  public ResultSetFuture updateStartOnStormTimeAsync(long taskId, Instant time) {
+    return dbService.getSession().executeAsync(updateStartOnStormTime.bind(taskId, Date.from(time)));
+  }
+
   public void updateQueuedTime(long taskId, Instant time) {
     dbService.getSession().execute(updateQueuedTime.bind(taskId, Date.from(time)));
   }
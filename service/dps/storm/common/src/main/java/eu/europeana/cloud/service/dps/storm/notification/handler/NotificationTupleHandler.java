@@ -1,6 +1,7 @@
 package eu.europeana.cloud.service.dps.storm.notification.handler;
 
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import eu.europeana.cloud.common.model.dps.*;
 import eu.europeana.cloud.service.commons.utils.BatchExecutor;
 import eu.europeana.cloud.service.dps.Constants;
@@ -51,23 +52,65 @@ public class NotificationTupleHandler {
 
   }
 
-  public void handle(NotificationTuple notificationTuple, NotificationHandlerConfig config) {
-    LOGGER.debug("Executing notification handler");
-    long taskId = notificationTuple.getTaskId();
-    var resource = String.valueOf(notificationTuple.getParameters().get(NotificationParameterKeys.RESOURCE));
-    //
-    if (tupleShouldBeProcessed(taskId, resource)) {
+  /**
+   * Stores results of all the given tuples belonging to the same task. Statements related to the particular records
+   * (notifications, errors, record states) are executed as a group of concurrent asynchronous statements. Task counters,
+   * which could be changed by many records, are merged and stored only once for the whole group.
+   *
+   * @param taskId identifier of the task that all the tuples belong to
+   * @param notificationTuples tuples to be stored
+   * @param notificationCacheEntry cached counters of the task
+   */
+  public void handle(long taskId, List<NotificationTuple> notificationTuples, NotificationCacheEntry notificationCacheEntry) {
+    LOGGER.debug("Executing notification handler for {} tuples", notificationTuples.size());
+    List<NotificationTuple> tuplesToBeProcessed = selectTuplesToBeProcessed(taskId, notificationTuples);
+    List<BoundStatement> statementsToBeExecuted = new ArrayList<>();
+    Map<String, ErrorType> modifiedErrorTypes = new HashMap<>();
+
+    for (NotificationTuple notificationTuple : tuplesToBeProcessed) {
+      NotificationHandlerConfig config =
+          NotificationHandlerConfigBuilder.prepareNotificationHandlerConfig(notificationTuple, notificationCacheEntry);
       config.getNotificationCacheEntry().incrementCounters(notificationTuple);
       Notification notification = prepareNotification(notificationTuple, config.getNotificationCacheEntry().getProcessed());
-      List<BoundStatement> statementsToBeExecutedInBatch = new ArrayList<>();
+      statementsToBeExecuted.add(subTaskInfoDAO.insertNotificationStatement(notification));
+      statementsToBeExecuted.addAll(
+          prepareStatementsForErrors(notificationTuple, config.getNotificationCacheEntry(), modifiedErrorTypes));
+      statementsToBeExecuted.addAll(
+          prepareStatementsForReports(notificationTuple, config.getNotificationCacheEntry(), modifiedErrorTypes));
+      statementsToBeExecuted.addAll(prepareStatementsForRecordState(notificationTuple, config));
+    }
 
-      statementsToBeExecutedInBatch.addAll(prepareCommonStatementsForAllTuples(notification, config.getNotificationCacheEntry()));
-      statementsToBeExecutedInBatch.addAll(prepareStatementsForErrors(notificationTuple, config.getNotificationCacheEntry()));
-      statementsToBeExecutedInBatch.addAll(prepareStatementsForReports(notificationTuple, config.getNotificationCacheEntry()));
-      statementsToBeExecutedInBatch.addAll(prepareStatementsForRecordState(notificationTuple, config));
-      batchExecutor.executeAll(statementsToBeExecutedInBatch);
+    if (!tuplesToBeProcessed.isEmpty()) {
+      statementsToBeExecuted.add(prepareTaskCountersStatement(taskId, notificationCacheEntry));
+      modifiedErrorTypes.values().forEach(
+          errorType -> statementsToBeExecuted.add(taskErrorDAO.insertErrorCounterStatement(taskId, errorType)));
     }
-    taskDiagnosticInfoDAO.updateLastRecordFinishedOnStormTime(notificationTuple.getTaskId(), Instant.now());
+    statementsToBeExecuted.add(taskDiagnosticInfoDAO.updateLastRecordFinishedOnStormTimeStatement(taskId, Instant.now()));
+    batchExecutor.executeAllAsync(statementsToBeExecuted);
+  }
+
+  /**
+   * Filters out tuples of the records that are already finished, also the ones repeated in the given list. States of all
+   * the records are read concurrently.
+   */
+  private List<NotificationTuple> selectTuplesToBeProcessed(long taskId, List<NotificationTuple> notificationTuples) {
+    Map<String, NotificationTuple> uniqueTuples = new LinkedHashMap<>();
+    notificationTuples.forEach(tuple -> uniqueTuples.putIfAbsent(
+        String.valueOf(tuple.getParameters().get(NotificationParameterKeys.RESOURCE)), tuple));
+
+    Map<String, ResultSetFuture> recordsInDb = new HashMap<>();
+    uniqueTuples.keySet().forEach(
+        resource -> recordsInDb.put(resource, processedRecordsDAO.selectByPrimaryKeyAsync(taskId, resource)));
+
+    List<NotificationTuple> result = new ArrayList<>();
+    uniqueTuples.forEach((resource, tuple) -> {
+      Optional<ProcessedRecord> theRecord = processedRecordsDAO.readProcessedRecord(taskId, resource,
+          recordsInDb.get(resource).getUninterruptibly());
+      if (theRecord.isEmpty() || !isFinished(theRecord.get())) {
+        result.add(tuple);
+      }
+    });
+    return result;
   }
 
   private boolean isFinished(ProcessedRecord theRecord) {
@@ -88,25 +131,13 @@ public class NotificationTupleHandler {
                        .build();
   }
 
-  private boolean tupleShouldBeProcessed(long taskId, String recordId) {
-    Optional<ProcessedRecord> theRecord = processedRecordsDAO.selectByPrimaryKey(taskId, recordId);
-    return theRecord.isEmpty() || !isFinished(theRecord.get());
-  }
-
-  private List<BoundStatement> prepareCommonStatementsForAllTuples(Notification notification, NotificationCacheEntry nCache) {
-    List<BoundStatement> statementsToBeExecuted = new ArrayList<>();
-
-    statementsToBeExecuted.add(subTaskInfoDAO.insertNotificationStatement(notification));
-    statementsToBeExecuted.add(taskInfoDAO.updateProcessedFilesStatement(notification.getTaskId(),
+  private BoundStatement prepareTaskCountersStatement(long taskId, NotificationCacheEntry nCache) {
+    return taskInfoDAO.updateProcessedFilesStatement(taskId,
         nCache.getProcessedRecordsCount(),
         nCache.getIgnoredRecordsCount(),
         nCache.getDeletedRecordsCount(),
         nCache.getProcessedErrorsCount(),
-        nCache.getDeletedErrorsCount()));
-    statementsToBeExecuted.add(taskDiagnosticInfoDAO.updateLastRecordFinishedOnStormTimeStatement(
-        notification.getTaskId(), Instant.now()
-    ));
-    return statementsToBeExecuted;
+        nCache.getDeletedErrorsCount());
   }
 
   private boolean isError(NotificationTuple notificationTuple) {
@@ -118,32 +149,38 @@ public class NotificationTupleHandler {
     return !notificationTuple.getReportSet().isEmpty();
   }
 
-  private List<BoundStatement> prepareStatementsForErrors(NotificationTuple notificationTuple, NotificationCacheEntry nCache) {
+  private List<BoundStatement> prepareStatementsForErrors(NotificationTuple notificationTuple, NotificationCacheEntry nCache,
+      Map<String, ErrorType> modifiedErrorTypes) {
     if (isError(notificationTuple)) {
       ErrorNotification errorNotification = prepareErrorNotificationFromTuple(notificationTuple, nCache);
-      return getStatementsToBeExecutedFromErrorNotification(notificationTuple, nCache, errorNotification);
+      return getStatementsToBeExecutedFromErrorNotification(notificationTuple, nCache, errorNotification, modifiedErrorTypes);
     }
     return Collections.emptyList();
   }
 
-  private List<BoundStatement> prepareStatementsForReports(NotificationTuple notificationTuple, NotificationCacheEntry nCache) {
+  private List<BoundStatement> prepareStatementsForReports(NotificationTuple notificationTuple, NotificationCacheEntry nCache,
+      Map<String, ErrorType> modifiedErrorTypes) {
     List<BoundStatement> statementsToBeExecuted = new ArrayList<>();
     if (isReportPresent(notificationTuple)) {
       List<ErrorNotification> errorNotifications = prepareErrorNotificationsFromTupleReports(notificationTuple, nCache);
       errorNotifications.forEach(
           errorNotification -> statementsToBeExecuted.addAll(
-              getStatementsToBeExecutedFromErrorNotification(notificationTuple, nCache, errorNotification))
+              getStatementsToBeExecutedFromErrorNotification(notificationTuple, nCache, errorNotification,
+                  modifiedErrorTypes))
       );
     }
     return statementsToBeExecuted;
   }
 
+  /**
+   * Error counter is only incremented here, its statement is prepared once for all the processed tuples.
+   */
   private List<BoundStatement> getStatementsToBeExecutedFromErrorNotification(NotificationTuple notificationTuple,
-      NotificationCacheEntry nCache, ErrorNotification errorNotification) {
+      NotificationCacheEntry nCache, ErrorNotification errorNotification, Map<String, ErrorType> modifiedErrorTypes) {
     ErrorType errorType = nCache.getErrorType(errorNotification.getErrorMessage());
     List<BoundStatement> statementsToBeExecuted = new ArrayList<>();
     errorType.incrementCounter();
-    statementsToBeExecuted.add(taskErrorDAO.insertErrorCounterStatement(notificationTuple.getTaskId(), errorType));
+    modifiedErrorTypes.put(errorType.getUuid(), errorType);
 
     if (!maximumNumberOfErrorsReached(errorType)) {
       statementsToBeExecuted.add(taskErrorDAO.insertErrorStatement(
@@ -120,6 +120,30 @@ public class ValidationStatisticsServiceImpl implements ValidationStatisticsServ
     }
   }
 
+  /**
+   * Insert statistics aggregated from many records of the task. Every entry is stored with one counter update. Values of the
+   * attributes should be already limited by the caller, so the attribute statistics are stored without reading the values
+   * already stored.
+   *
+   * @param taskId task identifier
+   * @param generalStatistics aggregated general statistics of the nodes
+   * @param nodes aggregated node statistics objects
+   */
+  public void insertAggregatedStatistics(long taskId, List<GeneralStatistics> generalStatistics, List<NodeStatistics> nodes) {
+    for (GeneralStatistics general : generalStatistics) {
+      generalStatisticsDAO.updateGeneralStatistics(taskId, general);
+    }
+    for (NodeStatistics nodeStatistics : nodes) {
+      if (nodeStatistics.getValue() != null) {
+        cassandraNodeStatisticsDAO.updateNodeStatistics(taskId, nodeStatistics);
+      }
+      for (AttributeStatistics attributeStatistics : nodeStatistics.getAttributesStatistics()) {
+        cassandraAttributeStatisticsDAO.insertAttributeStatistics(taskId, nodeStatistics.getXpath(), nodeStatistics.getValue(),
+            attributeStatistics);
+      }
+    }
+  }
+
   /**
    * Inserts the statistics for all the attributes in the given list.
    *
@@ -1,9 +1,9 @@
 package eu.europeana.cloud.service.dps.storm.spout;
 
+import com.datastax.driver.core.ResultSetFuture;
 import eu.europeana.cloud.cassandra.CassandraConnectionProviderSingleton;
 import eu.europeana.cloud.common.model.dps.ProcessedRecord;
 import eu.europeana.cloud.common.model.dps.RecordState;
-import eu.europeana.cloud.common.model.dps.TaskDiagnosticInfo;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
 import eu.europeana.cloud.common.properties.CassandraProperties;
 import eu.europeana.cloud.service.commons.utils.DateHelper;
@@ -32,7 +32,6 @@ import org.slf4j.LoggerFactory;
 import javax.management.*;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
-import java.time.Instant;
 import java.util.*;
 
 import static eu.europeana.cloud.service.dps.PluginParameterKeys.*;
@@ -56,6 +55,11 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
   protected transient TaskStatusChecker taskStatusChecker;
   protected transient ProcessedRecordsDAO processedRecordsDAO;
   protected transient TasksCache tasksCache;
+  protected transient TaskDiagnosticInfoUpdater taskDiagnosticInfoUpdater;
+  /**
+   * Writes to the processed_records table issued for the emitted messages, which are not yet acknowledged.
+   */
+  private transient PendingRecordWrites pendingRecordWrites;
   protected transient ECloudSpoutSamplerMXBean eCloudSpoutSamplerMXBean;
   private transient ECloudOutputCollector eCloudOutputCollector;
   protected long maxTaskPending = Long.MAX_VALUE;
@@ -76,16 +80,29 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
   public void ack(Object messageId) {
     eCloudSpoutSamplerMXBean.lastAckedMessageId = String.valueOf(messageId);
     LOGGER.info("Record acknowledged {}", messageId);
-    super.ack(messageId);
+    pendingRecordWrites.ack(messageId);
   }
 
   @Override
   public void fail(Object messageId) {
     eCloudSpoutSamplerMXBean.lastFailedMessageId = String.valueOf(messageId);
     LOGGER.error("Record failed {}", messageId);
+    pendingRecordWrites.remove(messageId);
     super.fail(messageId);
   }
 
+  @Override
+  public void deactivate() {
+    taskDiagnosticInfoUpdater.flush();
+    super.deactivate();
+  }
+
+  @Override
+  public void close() {
+    taskDiagnosticInfoUpdater.flush();
+    super.close();
+  }
+
   @Override
   public void open(Map conf, TopologyContext context, SpoutOutputCollector collector) {
     eCloudSpoutSamplerMXBean = new ECloudSpoutSamplerMXBean();
@@ -105,6 +122,8 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
     processedRecordsDAO = ProcessedRecordsDAO.getInstance(cassandraConnectionProvider);
     taskDiagnosticInfoDAO = TaskDiagnosticInfoDAO.getInstance(cassandraConnectionProvider);
     tasksCache = new TasksCache(cassandraConnectionProvider);
+    taskDiagnosticInfoUpdater = new TaskDiagnosticInfoUpdater(tasksCache, taskDiagnosticInfoDAO);
+    pendingRecordWrites = new PendingRecordWrites(super::ack, super::fail);
   }
 
   @Override
@@ -114,7 +133,7 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
   }
 
   private void ackIgnoredMessage(Object messageId) {
-    super.ack(messageId);
+    pendingRecordWrites.ack(messageId);
   }
 
   private StormTaskTuple getStormTaskTupleFromMessage(DpsRecord message) {
@@ -144,19 +163,19 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
         LOGGER.info("Reading message from Queue");
         if (taskStatusChecker.hasDroppedStatus(message.getTaskId())) {
           eCloudSpoutSamplerMXBean.lastConsumedMessageCanceled = true;
+          taskDiagnosticInfoUpdater.flush();
+          tasksCache.invalidate(message.getTaskId());
           return omitMessageFromDroppedTask(messageId);
         }
         eCloudSpoutSamplerMXBean.lastConsumedMessageCanceled = false;
 
-        ProcessedRecord aRecord = prepareRecordForExecution(message);
-        if (isFinished(aRecord)) {
-          return omitAlreadyProcessedRecord(messageId);
-        }
-
-        if (maxTriesReached(aRecord)) {
-          return emitMaxTriesReachedNotification(message, messageId);
-        } else {
-          return emitRecordForProcessing(streamId, message, aRecord, messageId);
+        ProcessedRecord aRecord = prepareRecordForExecution(message, messageId);
+        try {
+          return emitPreparedRecord(streamId, message, aRecord, messageId);
+        } catch (IOException | TaskInfoDoesNotExistException | RuntimeException e) {
+          //The message was not emitted, so it would never be acknowledged or failed by the topology
+          pendingRecordWrites.remove(messageId);
+          throw e;
         }
       } catch (IOException | NullPointerException e) {
         LOGGER.error("Unable to read message", e);
@@ -169,6 +188,19 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
       }
     }
 
+    private List<Integer> emitPreparedRecord(String streamId, DpsRecord message, ProcessedRecord aRecord,
+        Object messageId) throws TaskInfoDoesNotExistException, IOException {
+      if (isFinished(aRecord)) {
+        return omitAlreadyProcessedRecord(messageId);
+      }
+
+      if (maxTriesReached(aRecord)) {
+        return emitMaxTriesReachedNotification(message, messageId);
+      } else {
+        return emitRecordForProcessing(streamId, message, aRecord, messageId);
+      }
+    }
+
     private boolean maxTriesReached(ProcessedRecord aRecord) {
       return aRecord.getAttemptNumber() > MAX_RETRIES;
     }
@@ -193,7 +225,8 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
           dpsTask.getTaskName(),
           dpsRecord.getRecordId(),
           null,
-          dpsTask.getParameters(),
+          //DpsTask instance is shared between records of the task, so its parameters must not be modified
+          new HashMap<>(dpsTask.getParameters()),
           dpsTask.getOutputRevision(),
           dpsTask.getHarvestingDetails());
       //
@@ -215,34 +248,19 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
       return stormTaskTuple;
     }
 
-    private void updateDiagnosticCounters(ProcessedRecord aRecord) {
-      TaskDiagnosticInfo taskInfo = tasksCache.getDiagnosticInfo(aRecord.getTaskId());
-
-      if (taskInfo.getStartedRecordsCount() == 0) {
-        taskInfo.setStartOnStormTime(Instant.now());
-        taskDiagnosticInfoDAO.updateStartOnStormTime(taskInfo.getTaskId(), taskInfo.getStartOnStormTime());
-        taskDiagnosticInfoDAO.updateRecordsRetryCount(taskInfo.getTaskId(), 0);
-      }
-
-      if (aRecord.getAttemptNumber() > 1) {
-        LOGGER.info("Record is repeated - {} attempt!", aRecord.getAttemptNumber());
-        int retryCount = taskInfo.getRecordsRetryCount();
-        retryCount++;
-        taskInfo.setRecordsRetryCount(retryCount);
-        taskDiagnosticInfoDAO.updateRecordsRetryCount(taskInfo.getTaskId(), retryCount);
-      } else {
-        taskInfo.setStartedRecordsCount(taskInfo.getStartedRecordsCount() + 1);
-        taskDiagnosticInfoDAO.updateStartedRecordsCount(taskInfo.getTaskId(), taskInfo.getStartedRecordsCount());
-      }
-    }
-
-    private ProcessedRecord prepareRecordForExecution(DpsRecord message) {
+    /**
+     * Reads the record state and stores the next attempt number. The write is performed asynchronously, the message could be
+     * acknowledged only after it is completed.
+     */
+    private ProcessedRecord prepareRecordForExecution(DpsRecord message, Object messageId) {
       ProcessedRecord aRecord;
+      ResultSetFuture recordWrite;
       Optional<ProcessedRecord> recordInDb = processedRecordsDAO.selectByPrimaryKey(message.getTaskId(), message.getRecordId());
       if (recordInDb.isPresent()) {
         aRecord = recordInDb.get();
         aRecord.setAttemptNumber(aRecord.getAttemptNumber() + 1);
-        processedRecordsDAO.updateAttempNumber(aRecord.getTaskId(), aRecord.getRecordId(), aRecord.getAttemptNumber());
+        recordWrite = processedRecordsDAO.updateAttemptNumberAsync(aRecord.getTaskId(), aRecord.getRecordId(),
+            aRecord.getAttemptNumber());
       } else {
         aRecord = ProcessedRecord.builder()
                                  .taskId(message.getTaskId())
@@ -251,8 +269,9 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
                                  .state(RecordState.QUEUED)
                                  .topologyName(topologyName)
                                  .build();
-        processedRecordsDAO.insert(aRecord);
+        recordWrite = processedRecordsDAO.insertAsync(aRecord);
       }
+      pendingRecordWrites.register(messageId, recordWrite);
       return aRecord;
     }
 
@@ -270,8 +289,8 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
     List<Integer> emitRecordForProcessing(String streamId, DpsRecord message, ProcessedRecord aRecord,
         Object compositeMessageId) throws TaskInfoDoesNotExistException, IOException {
       var taskInfo = getTaskInfo(message);
-      var dpsTask = DpsTask.fromTaskInfo(taskInfo);
-      updateDiagnosticCounters(aRecord);
+      var dpsTask = tasksCache.getDpsTask(message);
+      taskDiagnosticInfoUpdater.recordStarted(aRecord);
       var stormTaskTuple = prepareTaskForEmission(taskInfo, dpsTask, message, aRecord);
       performThrottling(stormTaskTuple);
       LOGGER.info("Emitting a record to the subsequent bolt maxPending: {}", maxTaskPending);
@@ -391,6 +410,9 @@ public class ECloudSpout extends KafkaSpout<String, DpsRecord> {
 
   @Override
   public void nextTuple() {
+    pendingRecordWrites.processCompletedWrites();
+    taskDiagnosticInfoUpdater.flushIfNeeded();
+    tasksCache.invalidateFinishedTasksIfNeeded();
     if (eCloudOutputCollector.getPendingCount() < maxTaskPending) {
       super.nextTuple();
     }
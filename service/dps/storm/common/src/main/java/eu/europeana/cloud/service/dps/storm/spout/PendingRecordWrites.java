@@ -0,0 +1,93 @@
+package eu.europeana.cloud.service.dps.storm.spout;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the writes to the processed_records table issued for the emitted messages, and acknowledges a message only when its
+ * write is completed. If the write is still in progress, the acknowledgement is postponed until
+ * {@link #processCompletedWrites()} is called after the write completes. If the write failed, the message is failed, so it
+ * is delivered again.
+ * <p>
+ * Instances are not thread safe. They are intended to be used only by the spout thread, only the completion of the writes is
+ * reported from the database driver threads.
+ */
+class PendingRecordWrites {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PendingRecordWrites.class);
+
+  private final Consumer<Object> ackAction;
+  private final Consumer<Object> failAction;
+  private final Map<Object, ListenableFuture<?>> writes = new HashMap<>();
+  private final Set<Object> acksWaitingForWrites = new HashSet<>();
+  private final Queue<Object> completedWrites = new ConcurrentLinkedQueue<>();
+
+  PendingRecordWrites(Consumer<Object> ackAction, Consumer<Object> failAction) {
+    this.ackAction = ackAction;
+    this.failAction = failAction;
+  }
+
+  void register(Object messageId, ListenableFuture<?> write) {
+    writes.put(messageId, write);
+  }
+
+  /**
+   * Forgets the write of the message, used when the message is failed or could not be emitted at all.
+   */
+  void remove(Object messageId) {
+    writes.remove(messageId);
+    acksWaitingForWrites.remove(messageId);
+  }
+
+  void ack(Object messageId) {
+    ListenableFuture<?> write = writes.get(messageId);
+    if (write == null) {
+      ackAction.accept(messageId);
+    } else if (write.isDone()) {
+      completeAck(messageId);
+    } else {
+      LOGGER.debug("Postponing acknowledgement of {} until the record write is completed", messageId);
+      acksWaitingForWrites.add(messageId);
+      write.addListener(() -> completedWrites.add(messageId), MoreExecutors.directExecutor());
+    }
+  }
+
+  /**
+   * Performs the acknowledgements postponed until now, whose writes are already completed. Only the completed writes are
+   * visited, so the cost does not depend on the number of acknowledgements still waiting.
+   */
+  void processCompletedWrites() {
+    Object messageId;
+    while ((messageId = completedWrites.poll()) != null) {
+      ListenableFuture<?> write = writes.get(messageId);
+      //The message could be failed and emitted again in the meantime, then the acknowledgement waits for the new write
+      if (write != null && write.isDone() && acksWaitingForWrites.remove(messageId)) {
+        completeAck(messageId);
+      }
+    }
+  }
+
+  private void completeAck(Object messageId) {
+    ListenableFuture<?> write = writes.remove(messageId);
+    try {
+      write.get();
+      ackAction.accept(messageId);
+    } catch (ExecutionException e) {
+      LOGGER.error("Unable to store processed record for message {}", messageId, e.getCause());
+      failAction.accept(messageId);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failAction.accept(messageId);
+    }
+  }
+}
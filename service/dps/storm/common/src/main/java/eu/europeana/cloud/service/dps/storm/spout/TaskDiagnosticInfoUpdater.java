@@ -0,0 +1,105 @@
+package eu.europeana.cloud.service.dps.storm.spout;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import eu.europeana.cloud.common.model.dps.ProcessedRecord;
+import eu.europeana.cloud.common.model.dps.TaskDiagnosticInfo;
+import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the diagnostic counters of the tasks started by the spout and stores them in the database periodically. Counters
+ * are kept in memory and only the latest value of every modified task is written, asynchronously, once per flush interval.
+ * <p>
+ * Instances are not thread safe. They are intended to be used only by the spout thread.
+ */
+public class TaskDiagnosticInfoUpdater {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskDiagnosticInfoUpdater.class);
+
+  public static final long DEFAULT_FLUSH_INTERVAL_IN_MILLISECONDS = 5_000;
+
+  private final TasksCache tasksCache;
+  private final TaskDiagnosticInfoDAO taskDiagnosticInfoDAO;
+  private final long flushIntervalInMilliseconds;
+  private final Map<Long, TaskDiagnosticInfo> modifiedTasks = new HashMap<>();
+  private long lastFlushTime = System.currentTimeMillis();
+
+  public TaskDiagnosticInfoUpdater(TasksCache tasksCache, TaskDiagnosticInfoDAO taskDiagnosticInfoDAO) {
+    this(tasksCache, taskDiagnosticInfoDAO, DEFAULT_FLUSH_INTERVAL_IN_MILLISECONDS);
+  }
+
+  public TaskDiagnosticInfoUpdater(TasksCache tasksCache, TaskDiagnosticInfoDAO taskDiagnosticInfoDAO,
+      long flushIntervalInMilliseconds) {
+    this.tasksCache = tasksCache;
+    this.taskDiagnosticInfoDAO = taskDiagnosticInfoDAO;
+    this.flushIntervalInMilliseconds = flushIntervalInMilliseconds;
+  }
+
+  /**
+   * Updates the counters of the task the given record belongs to. Start time of the task is stored immediately, counters are
+   * stored during the next flush.
+   *
+   * @param aRecord record that is emitted by the spout
+   */
+  public void recordStarted(ProcessedRecord aRecord) {
+    TaskDiagnosticInfo taskInfo = tasksCache.getDiagnosticInfo(aRecord.getTaskId());
+
+    if (taskInfo.getStartOnStormTime() == null && taskInfo.getStartedRecordsCount() == 0) {
+      taskInfo.setStartOnStormTime(Instant.now());
+      taskInfo.setRecordsRetryCount(0);
+      logFailure(taskDiagnosticInfoDAO.updateStartOnStormTimeAsync(taskInfo.getTaskId(), taskInfo.getStartOnStormTime()),
+          taskInfo.getTaskId());
+    }
+
+    if (aRecord.getAttemptNumber() > 1) {
+      LOGGER.info("Record is repeated - {} attempt!", aRecord.getAttemptNumber());
+      taskInfo.setRecordsRetryCount(taskInfo.getRecordsRetryCount() + 1);
+    } else {
+      taskInfo.setStartedRecordsCount(taskInfo.getStartedRecordsCount() + 1);
+    }
+    modifiedTasks.put(taskInfo.getTaskId(), taskInfo);
+  }
+
+  /**
+   * Stores the modified counters if the flush interval elapsed since the last flush.
+   */
+  public void flushIfNeeded() {
+    if (System.currentTimeMillis() - lastFlushTime >= flushIntervalInMilliseconds) {
+      flush();
+    }
+  }
+
+  /**
+   * Stores the counters of all the tasks modified since the last flush.
+   */
+  public void flush() {
+    for (TaskDiagnosticInfo taskInfo : modifiedTasks.values()) {
+      LOGGER.debug("Storing diagnostic counters of the task {}", taskInfo.getTaskId());
+      logFailure(taskDiagnosticInfoDAO.updateRecordsCountersAsync(taskInfo.getTaskId(), taskInfo.getStartedRecordsCount(),
+          taskInfo.getRecordsRetryCount()), taskInfo.getTaskId());
+    }
+    modifiedTasks.clear();
+    lastFlushTime = System.currentTimeMillis();
+  }
+
+  private <T> void logFailure(ListenableFuture<T> future, long taskId) {
+    Futures.addCallback(future, new FutureCallback<>() {
+      @Override
+      public void onSuccess(T result) {
+        //nothing to do
+      }
+
+      @Override
+      public void onFailure(Throwable t) {
+        LOGGER.warn("Unable to store diagnostic info of the task {}", taskId, t);
+      }
+    }, MoreExecutors.directExecutor());
+  }
+}
@@ -3,32 +3,61 @@ package eu.europeana.cloud.service.dps.storm.spout;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.common.model.dps.TaskDiagnosticInfo;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
+import eu.europeana.cloud.common.model.dps.TaskState;
 import eu.europeana.cloud.service.dps.DpsRecord;
+import eu.europeana.cloud.service.dps.DpsTask;
 import eu.europeana.cloud.service.dps.exception.TaskInfoDoesNotExistException;
 import eu.europeana.cloud.service.dps.storm.dao.CassandraTaskInfoDAO;
 import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
 import eu.europeana.cloud.service.dps.util.LRUCache;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Keeps tasks in cache so there is not need to query database every time.
+ * <p>
+ * States of the cached tasks are checked in the database periodically, and the tasks which are no longer processed by
+ * the topology are removed from the cache.
  */
 public class TasksCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TasksCache.class);
 
+  public static final long DEFAULT_FINISHED_TASKS_CHECK_INTERVAL_IN_MILLISECONDS = 60_000;
+
+  private static final Set<TaskState> FINISHED_TASK_STATES = EnumSet.of(TaskState.DROPPED, TaskState.PROCESSED,
+      TaskState.READY_FOR_POST_PROCESSING, TaskState.IN_POST_PROCESSING);
+
   private final LRUCache<Long, TaskInfo> cache = new LRUCache<>(50);
 
+  private final LRUCache<Long, DpsTask> dpsTaskCache = new LRUCache<>(50);
+
   private final LRUCache<Long, TaskDiagnosticInfo> diagnosticCache = new LRUCache<>(50);
 
   private CassandraTaskInfoDAO taskInfoDAO;
 
   private TaskDiagnosticInfoDAO taskDiagnosticInfoDAO;
 
+  private final long finishedTasksCheckIntervalInMilliseconds;
+
+  private long lastFinishedTasksCheckTime = System.currentTimeMillis();
+
   public TasksCache(CassandraConnectionProvider cassandraConnectionProvider) {
-    taskInfoDAO = CassandraTaskInfoDAO.getInstance(cassandraConnectionProvider);
-    taskDiagnosticInfoDAO = TaskDiagnosticInfoDAO.getInstance(cassandraConnectionProvider);
+    this(CassandraTaskInfoDAO.getInstance(cassandraConnectionProvider),
+        TaskDiagnosticInfoDAO.getInstance(cassandraConnectionProvider),
+        DEFAULT_FINISHED_TASKS_CHECK_INTERVAL_IN_MILLISECONDS);
+  }
+
+  TasksCache(CassandraTaskInfoDAO taskInfoDAO, TaskDiagnosticInfoDAO taskDiagnosticInfoDAO,
+      long finishedTasksCheckIntervalInMilliseconds) {
+    this.taskInfoDAO = taskInfoDAO;
+    this.taskDiagnosticInfoDAO = taskDiagnosticInfoDAO;
+    this.finishedTasksCheckIntervalInMilliseconds = finishedTasksCheckIntervalInMilliseconds;
   }
 
   public TaskInfo getTaskInfo(DpsRecord message) throws TaskInfoDoesNotExistException {
@@ -44,6 +73,61 @@ public class TasksCache {
     return taskInfo;
   }
 
+  /**
+   * Returns the task definition parsed from the {@link TaskInfo#getDefinition()} JSON. The definition is parsed only once per
+   * task and reused for all the following records of this task, so the returned instance must be treated as read-only.
+   *
+   * @param message kafka message of the record that belongs to the task
+   * @return parsed task definition
+   * @throws TaskInfoDoesNotExistException if the task does not exist in the database
+   * @throws IOException if the task definition could not be parsed
+   */
+  public DpsTask getDpsTask(DpsRecord message) throws TaskInfoDoesNotExistException, IOException {
+    var dpsTask = dpsTaskCache.get(message.getTaskId());
+    if (dpsTask == null) {
+      LOGGER.debug("DpsTask NOT found in cache");
+      dpsTask = DpsTask.fromTaskInfo(getTaskInfo(message));
+      dpsTaskCache.put(message.getTaskId(), dpsTask);
+    }
+    return dpsTask;
+  }
+
+  /**
+   * Removes all the cached information about the given task. Should be called when the task is no longer active (for example
+   * was dropped), so its definition is not kept in memory and is read again from the database if it is needed.
+   *
+   * @param taskId identifier of the task
+   */
+  public void invalidate(long taskId) {
+    cache.remove(taskId);
+    dpsTaskCache.remove(taskId);
+    diagnosticCache.remove(taskId);
+  }
+
+  /**
+   * Removes all the cached information about the tasks, which are finished, dropped or already post-processed, if the
+   * check interval elapsed since the previous check. States of the cached tasks are read from the database.
+   */
+  public void invalidateFinishedTasksIfNeeded() {
+    if (System.currentTimeMillis() - lastFinishedTasksCheckTime >= finishedTasksCheckIntervalInMilliseconds) {
+      invalidateFinishedTasks();
+      lastFinishedTasksCheckTime = System.currentTimeMillis();
+    }
+  }
+
+  private void invalidateFinishedTasks() {
+    Set<Long> cachedTaskIds = new HashSet<>(cache.keys());
+    cachedTaskIds.addAll(dpsTaskCache.keys());
+    cachedTaskIds.addAll(diagnosticCache.keys());
+    for (long taskId : cachedTaskIds) {
+      Optional<TaskState> state = taskInfoDAO.findById(taskId).map(TaskInfo::getState);
+      if (state.isEmpty() || FINISHED_TASK_STATES.contains(state.get())) {
+        LOGGER.info("Removing task {} from the cache, its state is: {}", taskId, state.orElse(null));
+        invalidate(taskId);
+      }
+    }
+  }
+
   private boolean taskFoundInCache(TaskInfo taskInfo) {
     return taskInfo != null;
   }
@@ -12,6 +12,13 @@ public final class TopologyDefaultsConstants {
   public static final int DPS_DEFAULT_MAX_ATTEMPTS = 7;
   public static final int DEFAULT_SPOUT_SLEEP_MS = 1;
   public static final int DEFAULT_SPOUT_SLEEP_EVERY_N_IDLE_ITERATIONS = 32;
+  public static final int DEFAULT_NOTIFICATION_BOLT_BATCH_SIZE = 50; //tuples
+  public static final int DEFAULT_NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS = 1;
+  public static final int DEFAULT_STATISTICS_BOLT_BATCH_SIZE = 100; //records
+  public static final int DEFAULT_STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS = 1;
+  public static final int DEFAULT_INDEXING_BOLT_BATCH_SIZE = 20; //records
+  public static final int DEFAULT_INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS = 1;
+  public static final int DEFAULT_INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS = 8;
 
   private TopologyDefaultsConstants() {
   }
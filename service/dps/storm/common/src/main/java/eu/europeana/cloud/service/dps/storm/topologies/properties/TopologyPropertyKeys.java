@@ -34,10 +34,17 @@ public final class TopologyPropertyKeys {
   public static final String WRITE_BOLT_NUMBER_OF_TASKS = "WRITE_BOLT_NUMBER_OF_TASKS";
   public static final String REVISION_WRITER_BOLT_NUMBER_OF_TASKS = "REVISION_WRITER_BOLT_NUMBER_OF_TASKS";
   public static final String NOTIFICATION_BOLT_NUMBER_OF_TASKS = "NOTIFICATION_BOLT_NUMBER_OF_TASKS";
+  public static final String NOTIFICATION_BOLT_BATCH_SIZE = "NOTIFICATION_BOLT_BATCH_SIZE";
+  public static final String NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS = "NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS";
   public static final String NIMBUS_SEEDS = "NIMBUS_SEEDS";
   public static final String VALIDATION_BOLT_NUMBER_OF_TASKS = "VALIDATION_BOLT_NUMBER_OF_TASKS";
   public static final String INDEXING_BOLT_NUMBER_OF_TASKS = "INDEXING_BOLT_NUMBER_OF_TASKS";
+  public static final String INDEXING_BOLT_BATCH_SIZE = "INDEXING_BOLT_BATCH_SIZE";
+  public static final String INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS = "INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS";
+  public static final String INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS = "INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS";
   public static final String STATISTICS_BOLT_NUMBER_OF_TASKS = "STATISTICS_BOLT_NUMBER_OF_TASKS";
+  public static final String STATISTICS_BOLT_BATCH_SIZE = "STATISTICS_BOLT_BATCH_SIZE";
+  public static final String STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS = "STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS";
   public static final String DUPLICATES_BOLT_PARALLEL = "DUPLICATES_BOLT_PARALLEL";
   public static final String DUPLICATES_BOLT_NUMBER_OF_TASKS = "DUPLICATES_BOLT_NUMBER_OF_TASKS";
   public static final String EDM_OBJECT_PROCESSOR_BOLT_PARALLEL = "EDM_OBJECT_PROCESSOR_BOLT_PARALLEL";
@@ -0,0 +1,132 @@
+package eu.europeana.cloud.service.dps.storm.utils;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.storm.Config;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+/**
+ * Settings of the bolts, which collect tuples in per-task batches. A batch is completed when it reaches the maximal size,
+ * or when the flush interval elapses, which is triggered by the tick tuples sent to the bolt by Storm.
+ * <p>
+ * Batch size greater than 1 requires a positive flush interval, otherwise the last, partial batch of the task would never
+ * be completed.
+ */
+public class BoltBatchingSettings implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Settings of the bolt, which completes every tuple separately.
+   */
+  public static final BoltBatchingSettings NO_BATCHING = new BoltBatchingSettings(1, 0);
+
+  private final int maxBatchSize;
+  private final int flushIntervalInSeconds;
+
+  /**
+   * @param maxBatchSize maximal number of the tuples of one task collected together
+   * @param flushIntervalInSeconds maximal time the tuples wait in the batch before it is completed
+   * @throws IllegalArgumentException if the batch size is not positive, or the batch size is greater than 1 and the
+   * flush interval is not positive
+   */
+  public BoltBatchingSettings(int maxBatchSize, int flushIntervalInSeconds) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive, but it is: " + maxBatchSize);
+    }
+    if (maxBatchSize > 1 && flushIntervalInSeconds < 1) {
+      throw new IllegalArgumentException("Flush interval must be positive for the batch size: " + maxBatchSize
+          + ", otherwise the last batch of the task is never completed, but it is: " + flushIntervalInSeconds);
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.flushIntervalInSeconds = flushIntervalInSeconds;
+  }
+
+  /**
+   * Reads the batching settings from the topology properties, using the default values for the missing properties.
+   *
+   * @param properties topology properties
+   * @param batchSizePropertyName name of the property containing the maximal batch size
+   * @param defaultBatchSize batch size used if the property is missing
+   * @param flushIntervalPropertyName name of the property containing the flush interval in seconds
+   * @param defaultFlushIntervalInSeconds flush interval used if the property is missing
+   * @return settings read from the properties
+   * @throws TopologyPropertiesException if the properties are not integers, or they are not valid together
+   */
+  public static BoltBatchingSettings fromProperties(Properties properties, String batchSizePropertyName,
+      int defaultBatchSize, String flushIntervalPropertyName, int defaultFlushIntervalInSeconds) {
+    int maxBatchSize = TopologyHelper.getIntProperty(properties, batchSizePropertyName, defaultBatchSize);
+    int flushIntervalInSeconds = TopologyHelper.getIntProperty(properties, flushIntervalPropertyName,
+        defaultFlushIntervalInSeconds);
+    try {
+      return new BoltBatchingSettings(maxBatchSize, flushIntervalInSeconds);
+    } catch (IllegalArgumentException e) {
+      throw new TopologyPropertiesException(
+          "Invalid topology properties: " + batchSizePropertyName + ", " + flushIntervalPropertyName + ". "
+              + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * @return maximal number of the tuples of one task collected together
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * @return maximal time the tuples wait in the batch before it is completed
+   */
+  public int getFlushIntervalInSeconds() {
+    return flushIntervalInSeconds;
+  }
+
+  /**
+   * @param batchSize current number of the tuples in the batch
+   * @return true if the batch should be completed
+   */
+  public boolean isFull(int batchSize) {
+    return batchSize >= maxBatchSize;
+  }
+
+  /**
+   * Adds the frequency of the tick tuples completing the batches to the component configuration of the bolt. The
+   * configuration is not changed if every tuple is completed separately.
+   *
+   * @param componentConfiguration configuration of the bolt, could be null
+   * @return configuration of the bolt with the tick tuple frequency
+   */
+  public Map<String, Object> addTickTupleFrequency(Map<String, Object> componentConfiguration) {
+    if (maxBatchSize == 1) {
+      return componentConfiguration;
+    }
+    Map<String, Object> configuration = componentConfiguration != null
+        ? new HashMap<>(componentConfiguration) : new HashMap<>();
+    configuration.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, flushIntervalInSeconds);
+    return configuration;
+  }
+
+  /**
+   * Completes all the pending batches of the bolt, if the given tuple is a tick tuple.
+   *
+   * @param tuple tuple received by the bolt
+   * @param flushAll action completing all the pending batches of the bolt
+   * @return true if the tuple is a tick tuple, so it should not be processed any further
+   */
+  public static boolean flushOnTick(Tuple tuple, Runnable flushAll) {
+    if (TupleUtils.isTick(tuple)) {
+      flushAll.run();
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "BoltBatchingSettings{maxBatchSize=" + maxBatchSize + ", flushIntervalInSeconds=" + flushIntervalInSeconds
+        + '}';
+  }
+}
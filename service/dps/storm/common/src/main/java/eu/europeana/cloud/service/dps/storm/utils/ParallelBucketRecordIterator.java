@@ -0,0 +1,159 @@
+package eu.europeana.cloud.service.dps.storm.utils;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import eu.europeana.cloud.service.commons.utils.RetryInterruptedException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Iterator over all the buckets of the table, which, unlike {@link BucketRecordIterator}, scans up to
+ * <code>parallelism</code> buckets at the same time in background threads. Each bucket is scanned by
+ * <code>bucketQueryMethod</code>, which should also convert the rows, so the conversion is done in parallel too.
+ * <p>
+ * The elements read but not consumed yet are kept in bounded queues, so the scanning slows down to the pace of the consumer.
+ * If <code>orderedByBucket</code> is set, elements are returned bucket after bucket, in the same order as
+ * {@link BucketRecordIterator} returns them, otherwise in the order they are read. The iterator should be closed if it is
+ * not consumed till the end.
+ *
+ * @param <T> type of the elements
+ */
+public class ParallelBucketRecordIterator<T> implements Iterator<T>, AutoCloseable {
+
+  public static final int DEFAULT_PARALLELISM = 8;
+  public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+  private static final int PAGE_PREFETCH_THRESHOLD = 100;
+  private static final Object BUCKET_END = new Object();
+
+  private final int bucketCount;
+  private final boolean orderedByBucket;
+  private final List<BlockingQueue<Object>> queues;
+  private final ExecutorService executor;
+
+  private int finishedBucketsCount;
+  private Object nextElement;
+
+  public ParallelBucketRecordIterator(int bucketCount, IntFunction<Iterator<T>> bucketQueryMethod) {
+    this(bucketCount, bucketQueryMethod, DEFAULT_PARALLELISM, DEFAULT_QUEUE_CAPACITY, false);
+  }
+
+  public ParallelBucketRecordIterator(int bucketCount, IntFunction<Iterator<T>> bucketQueryMethod, int parallelism,
+      int queueCapacity, boolean orderedByBucket) {
+    this.bucketCount = bucketCount;
+    this.orderedByBucket = orderedByBucket;
+    int queuesCount = orderedByBucket ? bucketCount : 1;
+    queues = new ArrayList<>(queuesCount);
+    for (int i = 0; i < queuesCount; i++) {
+      queues.add(new ArrayBlockingQueue<>(queueCapacity));
+    }
+    executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, bucketCount)), runnable -> {
+      Thread thread = new Thread(runnable, "bucket-scanner");
+      thread.setDaemon(true);
+      return thread;
+    });
+    //Buckets are started in order, so in the ordered mode the bucket being consumed is always scanned or already finished.
+    for (int bucketNumber = 0; bucketNumber < bucketCount; bucketNumber++) {
+      int scannedBucketNumber = bucketNumber;
+      executor.execute(() -> scanBucket(scannedBucketNumber, bucketQueryMethod));
+    }
+    executor.shutdown();
+  }
+
+  /**
+   * Wraps the result set into the iterator, which requests the next page of the result set asynchronously, while the rows of
+   * the current page are still being processed.
+   */
+  public static Iterator<Row> withAsyncPaging(ResultSet resultSet) {
+    Iterator<Row> rows = resultSet.iterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        if (resultSet.getAvailableWithoutFetching() == PAGE_PREFETCH_THRESHOLD && !resultSet.isFullyFetched()) {
+          resultSet.fetchMoreResults();
+        }
+        return rows.hasNext();
+      }
+
+      @Override
+      public Row next() {
+        return rows.next();
+      }
+    };
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (nextElement == null && finishedBucketsCount < bucketCount) {
+      Object element = take(queues.get(orderedByBucket ? finishedBucketsCount : 0));
+      if (element == BUCKET_END) {
+        finishedBucketsCount++;
+      } else if (element instanceof ScanFailure failure) {
+        close();
+        throw failure.exception;
+      } else {
+        nextElement = element;
+      }
+    }
+    return nextElement != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("All the buckets were already read.");
+    }
+    Object element = nextElement;
+    nextElement = null;
+    return (T) element;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private void scanBucket(int bucketNumber, IntFunction<Iterator<T>> bucketQueryMethod) {
+    BlockingQueue<Object> queue = queues.get(orderedByBucket ? bucketNumber : 0);
+    try {
+      try {
+        Iterator<T> bucketIterator = Objects.requireNonNull(bucketQueryMethod.apply(bucketNumber));
+        while (bucketIterator.hasNext()) {
+          queue.put(bucketIterator.next());
+        }
+      } catch (RuntimeException e) {
+        queue.put(new ScanFailure(e));
+      }
+      queue.put(BUCKET_END);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Object take(BlockingQueue<Object> queue) {
+    try {
+      return queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new RetryInterruptedException(e);
+    }
+  }
+
+  private static class ScanFailure {
+
+    private final RuntimeException exception;
+
+    private ScanFailure(RuntimeException exception) {
+      this.exception = exception;
+    }
+  }
+}
@@ -92,6 +92,27 @@ public final class TopologyHelper {
         .getProperty(propertyKey) != null ? Integer.valueOf(topologyProperties.getProperty(propertyKey)) : null;
   }
 
+  /**
+   * Reads the integer property of the topology, using the default value if the property is missing.
+   *
+   * @param topologyProperties topology properties
+   * @param propertyName name of the property
+   * @param defaultValue value used if the property is missing
+   * @return value of the property
+   * @throws TopologyPropertiesException if the property is not an integer
+   */
+  public static int getIntProperty(Properties topologyProperties, String propertyName, int defaultValue) {
+    String value = topologyProperties.getProperty(propertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new TopologyPropertiesException("Not integer property: " + propertyName, e);
+    }
+  }
+
   public static Config buildConfig(Properties topologyProperties) {
     SpoutProperties spoutProperties = createSpoutProperties(topologyProperties);
     Config config = new Config();
@@ -5,7 +5,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
@@ -17,14 +24,18 @@ import eu.europeana.cloud.common.model.dps.TaskErrorInfo;
 import eu.europeana.cloud.common.model.dps.TaskErrorsInfo;
 import eu.europeana.cloud.common.model.dps.TaskInfo;
 import eu.europeana.cloud.common.model.dps.TaskState;
+import eu.europeana.cloud.service.commons.utils.BatchExecutor;
 import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.exception.AccessDeniedOrObjectDoesNotExistException;
 import eu.europeana.cloud.service.dps.storm.dao.CassandraTaskErrorsDAO;
 import eu.europeana.cloud.service.dps.storm.dao.CassandraTaskInfoDAO;
 import eu.europeana.cloud.service.dps.storm.dao.NotificationsDAO;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
+import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
+import eu.europeana.cloud.service.dps.storm.dao.TasksByStateDAO;
 import eu.europeana.cloud.service.dps.storm.notification.handler.NotificationTupleHandler;
 import eu.europeana.cloud.service.dps.storm.service.TaskExecutionReportServiceImpl;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.CassandraTestBase;
 import eu.europeana.cloud.service.dps.storm.utils.StormTaskTupleHelper;
 import eu.europeana.cloud.test.CassandraTestInstance;
@@ -38,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.apache.storm.Config;
+import org.apache.storm.Constants;
 import org.apache.storm.task.GeneralTopologyContext;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.topology.TopologyBuilder;
@@ -63,6 +75,7 @@ public class NotificationBoltTest extends CassandraTestBase {
   private static final String TOPOLOGY_NAME = "test_topology";
   public static final int TASK_ID = 1;
   private OutputCollector collector;
+  private CassandraConnectionProvider db;
   private NotificationBolt testedBolt;
   private CassandraTaskInfoDAO taskInfoDAO;
   private CassandraTaskErrorsDAO taskErrorsDAO;
@@ -75,7 +88,7 @@ public class NotificationBoltTest extends CassandraTestBase {
   public void setUp() throws Exception {
     collector = Mockito.mock(OutputCollector.class);
     createBolt();
-    CassandraConnectionProvider db = CassandraConnectionProviderSingleton.getCassandraConnectionProvider(HOST,
+    db = CassandraConnectionProviderSingleton.getCassandraConnectionProvider(HOST,
         CassandraTestInstance.getPort(), KEYSPACE, USER_NAME,
         PASSWORD);
     taskInfoDAO = CassandraTaskInfoDAO.getInstance(db);
@@ -86,8 +99,16 @@ public class NotificationBoltTest extends CassandraTestBase {
   }
 
   private void createBolt() {
-    testedBolt = new NotificationBolt(HOST, CassandraTestInstance.getPort(), KEYSPACE, "", "");
+    createBolt(new NotificationBolt(HOST, CassandraTestInstance.getPort(), KEYSPACE, "", ""));
+  }
+
+  private void createBatchingBolt(int maxBatchSize) {
+    createBolt(new NotificationBolt(HOST, CassandraTestInstance.getPort(), KEYSPACE, "", "",
+        new BoltBatchingSettings(maxBatchSize, 1)));
+  }
 
+  private void createBolt(NotificationBolt bolt) {
+    testedBolt = bolt;
     Map<String, Object> boltConfig = new HashMap<>();
     boltConfig.put(Config.STORM_ZOOKEEPER_SERVERS, Arrays.asList("", ""));
     boltConfig.put(Config.STORM_ZOOKEEPER_PORT, "");
@@ -208,6 +229,101 @@ public class NotificationBoltTest extends CassandraTestBase {
   }
 
 
+  @Test
+  public void shouldStoreBatchOfTuplesWhenItIsFull() throws Exception {
+    insertTaskToDB(TASK_ID, TOPOLOGY_NAME, 10, TaskState.QUEUED, "");
+    createBatchingBolt(3);
+
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.ERROR));
+
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(0));
+    verify(collector, never()).ack(any());
+
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+
+    TaskInfo taskProgress = reportService.getTaskProgress(TASK_ID);
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(3));
+    assertEquals(3, taskProgress.getProcessedRecordsCount());
+    assertEquals(1, taskProgress.getProcessedErrorsCount());
+    verify(collector, times(3)).ack(any());
+  }
+
+  @Test
+  public void shouldStorePartialBatchOnTickTuple() throws Exception {
+    insertTaskToDB(TASK_ID, TOPOLOGY_NAME, 10, TaskState.QUEUED, "");
+    createBatchingBolt(50);
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+
+    testedBolt.execute(createTickTuple());
+
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(2));
+    assertEquals(2, reportService.getTaskProgress(TASK_ID).getProcessedRecordsCount());
+    verify(collector, times(2)).ack(any());
+  }
+
+  @Test
+  public void shouldStoreBatchWhenItReachesMaximumParallelizationOfTask() throws Exception {
+    insertTaskToDB(TASK_ID, TOPOLOGY_NAME, 10, TaskState.QUEUED, "");
+    createBatchingBolt(50);
+
+    testedBolt.execute(createNotificationTupleWithMaximumParallelization(TASK_ID, 2));
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(0));
+    testedBolt.execute(createNotificationTupleWithMaximumParallelization(TASK_ID, 2));
+
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(2));
+    assertEquals(2, reportService.getTaskProgress(TASK_ID).getProcessedRecordsCount());
+    verify(collector, times(2)).ack(any());
+  }
+
+  @Test
+  public void shouldRequestTickTuplesOnlyForBatchingBolt() {
+    assertNull(testedBolt.getComponentConfiguration());
+
+    createBatchingBolt(50);
+
+    assertEquals(1, testedBolt.getComponentConfiguration().get(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS));
+  }
+
+  @Test
+  public void shouldStoreOnlyOneNotificationForRecordRepeatedInBatch() throws Exception {
+    insertTaskToDB(TASK_ID, TOPOLOGY_NAME, 10, TaskState.QUEUED, "");
+    createBatchingBolt(3);
+    Tuple tuple = createNotificationTuple(TASK_ID, RecordState.SUCCESS);
+
+    testedBolt.execute(tuple);
+    testedBolt.execute(tuple);
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(2));
+    assertEquals(2, reportService.getTaskProgress(TASK_ID).getProcessedRecordsCount());
+    verify(collector, times(3)).ack(any());
+  }
+
+  @Test
+  public void shouldDropTaskAndAckAllTuplesOfBatchWhenOneOfThemCouldNotBeStored() throws Exception {
+    insertTaskToDB(TASK_ID, TOPOLOGY_NAME, 10, TaskState.QUEUED, "");
+    createBatchingBolt(3);
+    NotificationsDAO failingNotificationsDAO = Mockito.spy(subtaskDAO);
+    doCallRealMethod().doThrow(new IllegalStateException("Notification could not be prepared"))
+                      .when(failingNotificationsDAO).insertNotificationStatement(any());
+    testedBolt.notificationTupleHandler = new NotificationTupleHandler(processedRecordsDAO,
+        TaskDiagnosticInfoDAO.getInstance(db), failingNotificationsDAO, taskErrorsDAO, taskInfoDAO,
+        TasksByStateDAO.getInstance(db), BatchExecutor.getInstance(db), "");
+
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+    testedBolt.execute(createNotificationTuple(TASK_ID, RecordState.SUCCESS));
+
+    TaskInfo taskProgress = reportService.getTaskProgress(TASK_ID);
+    assertEquals(TaskState.DROPPED, taskProgress.getState());
+    assertEquals(0, taskProgress.getProcessedRecordsCount());
+    assertThat(reportService.getDetailedTaskReport(TASK_ID, 0, 100), hasSize(0));
+    verify(collector, times(3)).ack(any());
+    verify(collector, never()).fail(any());
+  }
+
   @Test
   public void testSuccessfulNotificationFor101Tuples() throws Exception {
     //given
@@ -343,6 +459,13 @@ public class NotificationBoltTest extends CassandraTestBase {
     return createNotificationTuple(taskId, state, resource);
   }
 
+  private Tuple createNotificationTupleWithMaximumParallelization(long taskId, int maximumParallelization) {
+    StormTaskTuple stormTaskTuple = createStormTaskTuple(taskId, "resource" + ++resourceCounter, false, "", "1");
+    stormTaskTuple.addParameter(PluginParameterKeys.MAXIMUM_PARALLELIZATION, String.valueOf(maximumParallelization));
+    return createTestTuple(NotificationTuple.prepareNotificationWithResultResource(stormTaskTuple, RecordState.SUCCESS,
+        "text", "additionalInformation"));
+  }
+
   private StormTaskTuple createStormTaskTuple(long taskId, String resource, boolean markAsDeleted) {
     return createStormTaskTuple(taskId, resource, markAsDeleted, "", "0");
   }
@@ -599,6 +722,13 @@ public class NotificationBoltTest extends CassandraTestBase {
   }
 
 
+  private Tuple createTickTuple() {
+    Tuple tuple = Mockito.mock(Tuple.class);
+    when(tuple.getSourceComponent()).thenReturn(Constants.SYSTEM_COMPONENT_ID);
+    when(tuple.getSourceStreamId()).thenReturn(Constants.SYSTEM_TICK_STREAM_ID);
+    return tuple;
+  }
+
   private Tuple createTestTuple(NotificationTuple tuple) {
 
     String recordId = (String) tuple.getParameters().get(NotificationParameterKeys.RESOURCE);
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertThat;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.cassandra.CassandraConnectionProviderSingleton;
 import eu.europeana.cloud.common.model.dps.AttributeStatistics;
+import eu.europeana.cloud.common.model.dps.GeneralStatistics;
 import eu.europeana.cloud.common.model.dps.NodeReport;
 import eu.europeana.cloud.common.model.dps.NodeStatistics;
 import eu.europeana.cloud.common.model.dps.StatisticsReport;
@@ -323,6 +324,22 @@ public class ValidationStatisticsServiceImplTest extends CassandraTestBase {
     }
   }
 
+  @Test
+  public void testShouldProperlyStoreAggregatedStatistics() {
+    // given
+    NodeStatistics node = new NodeStatistics(ROOT_XPATH, NODE_1_XPATH, NODE_1_VALUE, 3L, prepareAttributeStatistics());
+    List<GeneralStatistics> generalStatistics = List.of(new GeneralStatistics(ROOT_XPATH, NODE_1_XPATH, 2L));
+
+    // when
+    validationStatisticsService.insertAggregatedStatistics(TASK_ID, generalStatistics, List.of(node));
+
+    // then
+    List<NodeStatistics> retrieved = validationStatisticsService.getNodeStatistics(TASK_ID);
+    Assert.assertEquals(1, retrieved.size());
+    Assert.assertEquals(3L, retrieved.get(0).getOccurrence());
+    Assert.assertEquals(node.getAttributesStatistics(), retrieved.get(0).getAttributesStatistics());
+  }
+
   private Set<AttributeStatistics> prepareAttributeStatistics() {
     Set<AttributeStatistics> statistics = new HashSet<>();
     statistics.add(new AttributeStatistics(ATTRIBUTE_1_NAME, ATTRIBUTE_1_VALUE));
@@ -0,0 +1,107 @@
+package eu.europeana.cloud.service.dps.storm.spout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PendingRecordWritesTest {
+
+  private static final String MESSAGE_ID = "message-1";
+
+  private List<Object> ackedMessages;
+  private List<Object> failedMessages;
+  private PendingRecordWrites pendingRecordWrites;
+
+  @Before
+  public void init() {
+    ackedMessages = new ArrayList<>();
+    failedMessages = new ArrayList<>();
+    pendingRecordWrites = new PendingRecordWrites(ackedMessages::add, failedMessages::add);
+  }
+
+  @Test
+  public void shouldAckMessageWithoutWriteImmediately() {
+    pendingRecordWrites.ack(MESSAGE_ID);
+
+    assertEquals(List.of(MESSAGE_ID), ackedMessages);
+  }
+
+  @Test
+  public void shouldAckMessageImmediatelyWhenWriteIsCompleted() {
+    SettableFuture<Object> write = SettableFuture.create();
+    pendingRecordWrites.register(MESSAGE_ID, write);
+    write.set(null);
+
+    pendingRecordWrites.ack(MESSAGE_ID);
+
+    assertEquals(List.of(MESSAGE_ID), ackedMessages);
+  }
+
+  @Test
+  public void shouldWaitWithAckUntilWriteIsCompleted() {
+    SettableFuture<Object> write = SettableFuture.create();
+    pendingRecordWrites.register(MESSAGE_ID, write);
+
+    pendingRecordWrites.ack(MESSAGE_ID);
+    pendingRecordWrites.processCompletedWrites();
+    assertTrue(ackedMessages.isEmpty());
+
+    write.set(null);
+    pendingRecordWrites.processCompletedWrites();
+
+    assertEquals(List.of(MESSAGE_ID), ackedMessages);
+    assertTrue(failedMessages.isEmpty());
+  }
+
+  @Test
+  public void shouldFailMessageWhenWriteFailed() {
+    SettableFuture<Object> write = SettableFuture.create();
+    pendingRecordWrites.register(MESSAGE_ID, write);
+
+    pendingRecordWrites.ack(MESSAGE_ID);
+    write.setException(new RuntimeException("Cassandra unavailable"));
+    pendingRecordWrites.processCompletedWrites();
+
+    assertTrue(ackedMessages.isEmpty());
+    assertEquals(List.of(MESSAGE_ID), failedMessages);
+  }
+
+  @Test
+  public void shouldNotAckRemovedMessageWhenItsWriteCompletes() {
+    SettableFuture<Object> write = SettableFuture.create();
+    pendingRecordWrites.register(MESSAGE_ID, write);
+    pendingRecordWrites.ack(MESSAGE_ID);
+
+    pendingRecordWrites.remove(MESSAGE_ID);
+    write.set(null);
+    pendingRecordWrites.processCompletedWrites();
+
+    assertTrue(ackedMessages.isEmpty());
+    assertTrue(failedMessages.isEmpty());
+  }
+
+  @Test
+  public void shouldWaitForWriteOfMessageEmittedAgain() {
+    SettableFuture<Object> firstWrite = SettableFuture.create();
+    SettableFuture<Object> secondWrite = SettableFuture.create();
+    pendingRecordWrites.register(MESSAGE_ID, firstWrite);
+    pendingRecordWrites.ack(MESSAGE_ID);
+    pendingRecordWrites.remove(MESSAGE_ID);
+    pendingRecordWrites.register(MESSAGE_ID, secondWrite);
+    pendingRecordWrites.ack(MESSAGE_ID);
+
+    firstWrite.set(null);
+    pendingRecordWrites.processCompletedWrites();
+    assertTrue(ackedMessages.isEmpty());
+
+    secondWrite.set(null);
+    pendingRecordWrites.processCompletedWrites();
+
+    assertEquals(List.of(MESSAGE_ID), ackedMessages);
+  }
+}
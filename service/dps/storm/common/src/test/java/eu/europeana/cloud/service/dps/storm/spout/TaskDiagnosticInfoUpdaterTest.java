@@ -0,0 +1,91 @@
+package eu.europeana.cloud.service.dps.storm.spout;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.ResultSetFuture;
+import eu.europeana.cloud.common.model.dps.ProcessedRecord;
+import eu.europeana.cloud.common.model.dps.TaskDiagnosticInfo;
+import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
+import java.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TaskDiagnosticInfoUpdaterTest {
+
+  private static final long TASK_ID = 1L;
+
+  private TasksCache tasksCache;
+  private TaskDiagnosticInfoDAO taskDiagnosticInfoDAO;
+  private TaskDiagnosticInfoUpdater updater;
+
+  @Before
+  public void init() {
+    tasksCache = mock(TasksCache.class);
+    taskDiagnosticInfoDAO = mock(TaskDiagnosticInfoDAO.class);
+    when(tasksCache.getDiagnosticInfo(TASK_ID)).thenReturn(TaskDiagnosticInfo.builder().taskId(TASK_ID).build());
+    when(taskDiagnosticInfoDAO.updateStartOnStormTimeAsync(anyLong(), any(Instant.class)))
+        .thenReturn(mock(ResultSetFuture.class));
+    when(taskDiagnosticInfoDAO.updateRecordsCountersAsync(anyLong(), anyInt(), anyInt()))
+        .thenReturn(mock(ResultSetFuture.class));
+    updater = new TaskDiagnosticInfoUpdater(tasksCache, taskDiagnosticInfoDAO, Long.MAX_VALUE);
+  }
+
+  @Test
+  public void shouldStoreStartTimeOnlyForFirstRecord() {
+    updater.recordStarted(record(1));
+    updater.recordStarted(record(1));
+
+    verify(taskDiagnosticInfoDAO, times(1)).updateStartOnStormTimeAsync(eq(TASK_ID), any(Instant.class));
+  }
+
+  @Test
+  public void shouldNotStoreCountersBeforeFlush() {
+    updater.recordStarted(record(1));
+    updater.flushIfNeeded();
+
+    verify(taskDiagnosticInfoDAO, never()).updateRecordsCountersAsync(anyLong(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void shouldStoreCoalescedCountersOnFlush() {
+    updater.recordStarted(record(1));
+    updater.recordStarted(record(1));
+    updater.recordStarted(record(2));
+
+    updater.flush();
+
+    verify(taskDiagnosticInfoDAO, times(1)).updateRecordsCountersAsync(anyLong(), anyInt(), anyInt());
+    verify(taskDiagnosticInfoDAO).updateRecordsCountersAsync(TASK_ID, 2, 1);
+  }
+
+  @Test
+  public void shouldNotStoreUnmodifiedTasksOnNextFlush() {
+    updater.recordStarted(record(1));
+    updater.flush();
+    updater.flush();
+
+    verify(taskDiagnosticInfoDAO, times(1)).updateRecordsCountersAsync(anyLong(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void shouldFlushWhenIntervalElapsed() {
+    updater = new TaskDiagnosticInfoUpdater(tasksCache, taskDiagnosticInfoDAO, 0);
+    updater.recordStarted(record(1));
+
+    updater.flushIfNeeded();
+
+    verify(taskDiagnosticInfoDAO).updateRecordsCountersAsync(TASK_ID, 1, 0);
+  }
+
+  private ProcessedRecord record(int attemptNumber) {
+    return ProcessedRecord.builder().taskId(TASK_ID).recordId("record").attemptNumber(attemptNumber).build();
+  }
+}
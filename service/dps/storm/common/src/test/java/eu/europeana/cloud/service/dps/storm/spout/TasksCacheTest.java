@@ -0,0 +1,90 @@
+package eu.europeana.cloud.service.dps.storm.spout;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import eu.europeana.cloud.common.model.dps.TaskInfo;
+import eu.europeana.cloud.common.model.dps.TaskState;
+import eu.europeana.cloud.service.dps.DpsRecord;
+import eu.europeana.cloud.service.dps.storm.dao.CassandraTaskInfoDAO;
+import eu.europeana.cloud.service.dps.storm.dao.TaskDiagnosticInfoDAO;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TasksCacheTest {
+
+  private static final long TASK_ID = 1L;
+  private static final DpsRecord RECORD = DpsRecord.builder().taskId(TASK_ID).recordId("recordId").build();
+
+  private CassandraTaskInfoDAO taskInfoDAO;
+  private TasksCache tasksCache;
+
+  @Before
+  public void init() {
+    taskInfoDAO = mock(CassandraTaskInfoDAO.class);
+    tasksCache = new TasksCache(taskInfoDAO, mock(TaskDiagnosticInfoDAO.class), 0);
+  }
+
+  @Test
+  public void shouldReadTaskFromDatabaseOnlyOnce() throws Exception {
+    TaskInfo taskInfo = task(TaskState.QUEUED);
+    when(taskInfoDAO.findById(TASK_ID)).thenReturn(Optional.of(taskInfo));
+
+    tasksCache.getTaskInfo(RECORD);
+
+    assertSame(taskInfo, tasksCache.getTaskInfo(RECORD));
+    verify(taskInfoDAO, times(1)).findById(TASK_ID);
+  }
+
+  @Test
+  public void shouldKeepTaskWhichIsStillProcessed() throws Exception {
+    when(taskInfoDAO.findById(TASK_ID)).thenReturn(Optional.of(task(TaskState.QUEUED)));
+    tasksCache.getTaskInfo(RECORD);
+
+    tasksCache.invalidateFinishedTasksIfNeeded();
+    tasksCache.getTaskInfo(RECORD);
+
+    //once for the first read and once for the state check
+    verify(taskInfoDAO, times(2)).findById(TASK_ID);
+  }
+
+  @Test
+  public void shouldRemoveFinishedTask() throws Exception {
+    TaskInfo processedTask = task(TaskState.PROCESSED);
+    when(taskInfoDAO.findById(TASK_ID)).thenReturn(Optional.of(task(TaskState.QUEUED)), Optional.of(processedTask));
+    tasksCache.getTaskInfo(RECORD);
+
+    tasksCache.invalidateFinishedTasksIfNeeded();
+
+    assertSame(processedTask, tasksCache.getTaskInfo(RECORD));
+    verify(taskInfoDAO, times(3)).findById(TASK_ID);
+  }
+
+  @Test
+  public void shouldNotCheckTasksBeforeIntervalElapsed() throws Exception {
+    tasksCache = new TasksCache(taskInfoDAO, mock(TaskDiagnosticInfoDAO.class), Long.MAX_VALUE);
+    when(taskInfoDAO.findById(TASK_ID)).thenReturn(Optional.of(task(TaskState.PROCESSED)));
+    tasksCache.getTaskInfo(RECORD);
+
+    tasksCache.invalidateFinishedTasksIfNeeded();
+    tasksCache.getTaskInfo(RECORD);
+
+    verify(taskInfoDAO, times(1)).findById(TASK_ID);
+  }
+
+  @Test
+  public void shouldNotQueryDatabaseWhenNoTaskIsCached() {
+    tasksCache.invalidateFinishedTasksIfNeeded();
+
+    verify(taskInfoDAO, never()).findById(TASK_ID);
+  }
+
+  private TaskInfo task(TaskState state) {
+    return TaskInfo.builder().id(TASK_ID).state(state).build();
+  }
+}
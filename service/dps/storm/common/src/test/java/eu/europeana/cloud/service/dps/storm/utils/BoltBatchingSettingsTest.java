@@ -0,0 +1,114 @@
+package eu.europeana.cloud.service.dps.storm.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.storm.Config;
+import org.apache.storm.Constants;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Test;
+
+public class BoltBatchingSettingsTest {
+
+  private static final String BATCH_SIZE = "BATCH_SIZE";
+  private static final String FLUSH_INTERVAL = "FLUSH_INTERVAL";
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectBatchingWithoutFlushInterval() {
+    new BoltBatchingSettings(50, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectNotPositiveBatchSize() {
+    new BoltBatchingSettings(0, 1);
+  }
+
+  @Test
+  public void shouldAcceptNoBatchingWithoutFlushInterval() {
+    BoltBatchingSettings settings = new BoltBatchingSettings(1, 0);
+
+    assertTrue(settings.isFull(1));
+  }
+
+  @Test
+  public void shouldCompleteBatchWhenItReachesMaxSize() {
+    BoltBatchingSettings settings = new BoltBatchingSettings(3, 1);
+
+    assertFalse(settings.isFull(2));
+    assertTrue(settings.isFull(3));
+  }
+
+  @Test
+  public void shouldAddTickTupleFrequencyToComponentConfiguration() {
+    Map<String, Object> configuration = new BoltBatchingSettings(50, 5).addTickTupleFrequency(
+        Map.of(Config.TOPOLOGY_MAX_TASK_PARALLELISM, 2));
+
+    assertEquals(5, configuration.get(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS));
+    assertEquals(2, configuration.get(Config.TOPOLOGY_MAX_TASK_PARALLELISM));
+  }
+
+  @Test
+  public void shouldNotRequestTickTuplesWithoutBatching() {
+    Map<String, Object> configuration = Map.of(Config.TOPOLOGY_MAX_TASK_PARALLELISM, 2);
+
+    assertSame(configuration, BoltBatchingSettings.NO_BATCHING.addTickTupleFrequency(configuration));
+    assertNull(BoltBatchingSettings.NO_BATCHING.addTickTupleFrequency(null));
+  }
+
+  @Test
+  public void shouldReadSettingsFromProperties() {
+    Properties properties = new Properties();
+    properties.setProperty(BATCH_SIZE, "20");
+
+    BoltBatchingSettings settings = BoltBatchingSettings.fromProperties(properties, BATCH_SIZE, 50, FLUSH_INTERVAL, 3);
+
+    assertEquals(20, settings.getMaxBatchSize());
+    assertEquals(3, settings.getFlushIntervalInSeconds());
+  }
+
+  @Test(expected = TopologyPropertiesException.class)
+  public void shouldRejectPropertiesWithBatchingWithoutFlushInterval() {
+    Properties properties = new Properties();
+    properties.setProperty(FLUSH_INTERVAL, "0");
+
+    BoltBatchingSettings.fromProperties(properties, BATCH_SIZE, 50, FLUSH_INTERVAL, 1);
+  }
+
+  @Test(expected = TopologyPropertiesException.class)
+  public void shouldRejectNotIntegerProperty() {
+    Properties properties = new Properties();
+    properties.setProperty(BATCH_SIZE, "many");
+
+    BoltBatchingSettings.fromProperties(properties, BATCH_SIZE, 50, FLUSH_INTERVAL, 1);
+  }
+
+  @Test
+  public void shouldFlushOnTickTuple() {
+    Tuple tickTuple = mock(Tuple.class);
+    when(tickTuple.getSourceComponent()).thenReturn(Constants.SYSTEM_COMPONENT_ID);
+    when(tickTuple.getSourceStreamId()).thenReturn(Constants.SYSTEM_TICK_STREAM_ID);
+    AtomicInteger flushes = new AtomicInteger();
+
+    assertTrue(BoltBatchingSettings.flushOnTick(tickTuple, flushes::incrementAndGet));
+    assertEquals(1, flushes.get());
+  }
+
+  @Test
+  public void shouldNotFlushOnOtherTuple() {
+    Tuple tuple = mock(Tuple.class);
+    when(tuple.getSourceComponent()).thenReturn("bolt");
+    when(tuple.getSourceStreamId()).thenReturn("default");
+    AtomicInteger flushes = new AtomicInteger();
+
+    assertFalse(BoltBatchingSettings.flushOnTick(tuple, flushes::incrementAndGet));
+    assertEquals(0, flushes.get());
+  }
+}
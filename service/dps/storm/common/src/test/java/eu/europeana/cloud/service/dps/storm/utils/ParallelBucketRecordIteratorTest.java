@@ -0,0 +1,97 @@
+package eu.europeana.cloud.service.dps.storm.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class ParallelBucketRecordIteratorTest {
+
+  private static final int BUCKET_COUNT = 16;
+  private static final int RECORDS_PER_BUCKET = 50;
+
+  @Test
+  public void hasNextShouldReturnFalseWhenEveryBucketIsEmpty() {
+    try (var iterator = new ParallelBucketRecordIterator<String>(4, bucketNumber -> Collections.emptyIterator())) {
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void nextShouldThrowNoSuchElementExceptionWhenEveryBucketIsEmpty() {
+    try (var iterator = new ParallelBucketRecordIterator<String>(4, bucketNumber -> Collections.emptyIterator())) {
+      iterator.next();
+    }
+  }
+
+  @Test
+  public void shouldReturnAllElementsOfEveryBucket() {
+    List<String> result = new ArrayList<>();
+
+    try (var iterator = new ParallelBucketRecordIterator<>(BUCKET_COUNT, this::bucket, 4, 3, false)) {
+      iterator.forEachRemaining(result::add);
+    }
+
+    assertEquals(allRecords(), result.stream().sorted().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldReturnElementsInBucketOrderWhenOrderedByBucket() {
+    List<String> result = new ArrayList<>();
+
+    try (var iterator = new ParallelBucketRecordIterator<>(BUCKET_COUNT, this::bucket, 4, 3, true)) {
+      iterator.forEachRemaining(result::add);
+    }
+
+    assertEquals(allRecords(), result);
+  }
+
+  @Test
+  public void shouldReturnElementsOfMiddleBucketWhenOtherBucketsAreEmpty() {
+    IntFunction<Iterator<String>> query = bucketNumber ->
+        bucketNumber == 2 ? Arrays.asList("a", "b").iterator() : Collections.emptyIterator();
+
+    try (var iterator = new ParallelBucketRecordIterator<>(4, query, 2, 1, true)) {
+      assertTrue(iterator.hasNext());
+      assertEquals("a", iterator.next());
+      assertTrue(iterator.hasNext());
+      assertEquals("b", iterator.next());
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRethrowExceptionThrownWhileScanningBucket() {
+    IntFunction<Iterator<String>> query = bucketNumber -> {
+      throw new IllegalStateException("Could not query bucket " + bucketNumber);
+    };
+
+    try (var iterator = new ParallelBucketRecordIterator<>(4, query)) {
+      iterator.hasNext();
+    }
+  }
+
+  private Iterator<String> bucket(int bucketNumber) {
+    return IntStream.range(0, RECORDS_PER_BUCKET).mapToObj(i -> record(bucketNumber, i)).iterator();
+  }
+
+  private List<String> allRecords() {
+    return IntStream.range(0, BUCKET_COUNT).boxed()
+                    .flatMap(bucketNumber -> IntStream.range(0, RECORDS_PER_BUCKET).mapToObj(i -> record(bucketNumber, i)))
+                    .collect(Collectors.toList());
+  }
+
+  private static String record(int bucketNumber, int index) {
+    return String.format("%03d-%03d", bucketNumber, index);
+  }
+}
@@ -1,12 +1,16 @@
 package eu.europeana.cloud.service.dps.storm.io;
 
 import static eu.europeana.cloud.service.dps.storm.AbstractDpsBolt.NOTIFICATION_STREAM_NAME;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_NOTIFICATION_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_HOSTS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_KEYSPACE_NAME;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_PORT;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_SECRET_TOKEN;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_USERNAME;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.MCS_URL;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.NOTIFICATION_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.NOTIFICATION_BOLT_NUMBER_OF_TASKS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.NOTIFICATION_BOLT_PARALLEL;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.RETRIEVE_FILE_BOLT_NUMBER_OF_TASKS;
@@ -27,6 +31,7 @@ import static java.lang.Integer.parseInt;
 
 import eu.europeana.cloud.service.dps.storm.NotificationBolt;
 import eu.europeana.cloud.service.dps.storm.NotificationTuple;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.TopologyHelper;
 import java.util.List;
 import java.util.Properties;
@@ -226,7 +231,11 @@ public class ECloudTopologyPipeline {
                              getIntProperty(CASSANDRA_PORT),
                              topologyProperties.getProperty(CASSANDRA_KEYSPACE_NAME),
                              topologyProperties.getProperty(CASSANDRA_USERNAME),
-                             topologyProperties.getProperty(CASSANDRA_SECRET_TOKEN)),
+                             topologyProperties.getProperty(CASSANDRA_SECRET_TOKEN),
+                             BoltBatchingSettings.fromProperties(topologyProperties,
+                                 NOTIFICATION_BOLT_BATCH_SIZE, DEFAULT_NOTIFICATION_BOLT_BATCH_SIZE,
+                                 NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS,
+                                 DEFAULT_NOTIFICATION_BOLT_FLUSH_INTERVAL_IN_SECONDS)),
                          getIntProperty(NOTIFICATION_BOLT_PARALLEL))
                           .setNumTasks(
                          getIntProperty(NOTIFICATION_BOLT_NUMBER_OF_TASKS));
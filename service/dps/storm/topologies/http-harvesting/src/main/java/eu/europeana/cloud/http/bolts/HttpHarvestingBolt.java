@@ -1,7 +1,5 @@
 package eu.europeana.cloud.http.bolts;
 
-import static eu.europeana.metis.utils.TempFileUtils.createSecureTempFile;
-
 import eu.europeana.cloud.common.properties.CassandraProperties;
 import eu.europeana.cloud.harvesting.commons.IdentifierSupplier;
 import eu.europeana.cloud.service.commons.utils.RetryInterruptedException;
@@ -9,19 +7,29 @@ import eu.europeana.cloud.service.commons.utils.RetryableMethodExecutor;
 import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.storm.AbstractDpsBolt;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.storm.tuple.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URLConnection;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
+/**
+ * Downloads the record file by http. The response body is read as a stream: MIME type of the file is guessed from its
+ * name, or sniffed from its first bytes if the name is not known, and md5 of the file is computed while it is read, so
+ * the content is read only once.
+ */
 public class HttpHarvestingBolt extends AbstractDpsBolt {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HttpHarvestingBolt.class);
@@ -63,37 +71,61 @@ public class HttpHarvestingBolt extends AbstractDpsBolt {
   }
 
   private void harvestRecord(StormTaskTuple tuple) throws Exception {
-    HttpResponse<byte[]> response = tryLoadHttpFileCoupleOfTimes(tuple);
-    byte[] fileContent = response.body();
-    tuple.setFileData(fileContent);
-    tuple.addParameter(PluginParameterKeys.OUTPUT_MIME_TYPE, probeMimeType(tuple.getFileUrl(), fileContent));
+    HarvestedFile harvestedFile = tryLoadHttpFileCoupleOfTimes(tuple);
+    tuple.setFileData(harvestedFile.content);
+    tuple.addParameter(PluginParameterKeys.OUTPUT_MIME_TYPE, harvestedFile.mimeType);
+    tuple.addParameter(PluginParameterKeys.RECORD_MD5, harvestedFile.md5);
     identifierSupplier.prepareIdentifiers(tuple);
   }
 
-  private String probeMimeType(String fileUrl, byte[] fileContent) throws IOException {
-    String extension = FilenameUtils.getExtension(fileUrl);
-    Path tempFile = createSecureTempFile("http_harvest", "." + extension);
-    Files.write(tempFile, fileContent);
-    String mimeType = Files.probeContentType(tempFile);
-    Files.delete(tempFile);
-    return mimeType;
-  }
-
-  private HttpResponse<byte[]> tryLoadHttpFileCoupleOfTimes(StormTaskTuple tuple) throws Exception {
+  private HarvestedFile tryLoadHttpFileCoupleOfTimes(StormTaskTuple tuple) throws Exception {
     //Because data are always loaded from the same given application server, relatively big retry count,
     //and time is used to assure some resistance for server, inaccessibility.
-    return RetryableMethodExecutor.<HttpResponse<byte[]>, Exception>
+    return RetryableMethodExecutor.<HarvestedFile, Exception>
                                       execute("Loading file by http failed!", 6, SLEEP_TIME_BETWEEN_RETRIES_MS,
         () -> loadHttpFile(tuple));
   }
 
-  private HttpResponse<byte[]> loadHttpFile(StormTaskTuple tuple) throws IOException, InterruptedException {
+  private HarvestedFile loadHttpFile(StormTaskTuple tuple) throws IOException, InterruptedException {
     HttpRequest request = HttpRequest.newBuilder(URI.create(tuple.getFileUrl())).GET().build();
-    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
-    if (response.statusCode() != 200) {
-      throw new IOException("Bad return status code: " + response.statusCode());
+    HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    try (InputStream body = response.body()) {
+      if (response.statusCode() != 200) {
+        throw new IOException("Bad return status code: " + response.statusCode());
+      }
+      MessageDigest md5 = createMd5Digest();
+      //Buffered stream is above the digest one, so bytes read again after sniffing are not digested twice.
+      InputStream content = new BufferedInputStream(new DigestInputStream(body, md5));
+      String mimeType = detectMimeType(tuple.getFileUrl(), content);
+      return new HarvestedFile(content.readAllBytes(), mimeType, Hex.encodeHexString(md5.digest()));
+    }
+  }
+
+  private String detectMimeType(String fileUrl, InputStream content) throws IOException {
+    //The file name is more reliable, the content sniffing reports e.g. xml starting with a comment as text/html.
+    String mimeType = URLConnection.guessContentTypeFromName(FilenameUtils.getName(fileUrl));
+    return mimeType != null ? mimeType : URLConnection.guessContentTypeFromStream(content);
+  }
+
+  private MessageDigest createMd5Digest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("MD5 algorithm is not supported", e);
+    }
+  }
+
+  private static class HarvestedFile {
+
+    private final byte[] content;
+    private final String mimeType;
+    private final String md5;
+
+    private HarvestedFile(byte[] content, String mimeType, String md5) {
+      this.content = content;
+      this.mimeType = mimeType;
+      this.md5 = md5;
     }
-    return response;
   }
 
 }
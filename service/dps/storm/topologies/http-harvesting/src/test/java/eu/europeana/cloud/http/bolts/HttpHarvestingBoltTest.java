@@ -7,6 +7,7 @@ import eu.europeana.cloud.service.commons.utils.RetryableMethodExecutor;
 import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import jakarta.ws.rs.core.MediaType;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
 import org.junit.Before;
@@ -20,6 +21,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -83,6 +86,7 @@ public class HttpHarvestingBoltTest {
     verify(outputCollector).emit(eq(anchorTuple), resultTupleCaptor.capture());
     StormTaskTuple resultTuple = getResultStormTaskTuple();
     assertArrayEquals(readTestFile("record.xml"), resultTuple.getFileData());
+    assertEquals(DigestUtils.md5Hex(readTestFile("record.xml")), resultTuple.getParameter(PluginParameterKeys.RECORD_MD5));
     assertEquals("/100/object_DCU_24927017", resultTuple.getParameter(PluginParameterKeys.CLOUD_LOCAL_IDENTIFIER));
     assertEquals("http://more.locloud.eu/object/DCU/24927017",
         resultTuple.getParameter(PluginParameterKeys.ADDITIONAL_LOCAL_IDENTIFIER));
@@ -91,6 +95,36 @@ public class HttpHarvestingBoltTest {
         anyOf(is(MediaType.TEXT_XML), is(MediaType.APPLICATION_XML)));
   }
 
+  @Test
+  public void shouldDetectXmlMimeTypeFromNameWhenFileStartsWithComment() throws IOException {
+    byte[] content = withPrefix("<!-- Exported record -->\n", readTestFile("record.xml"));
+    mockContentOnHttpServer("record_with_comment.xml", content);
+    tuple.setFileUrl(fileUrl("record_with_comment.xml"));
+
+    bolt.execute(anchorTuple, tuple);
+
+    verify(outputCollector).emit(eq(anchorTuple), resultTupleCaptor.capture());
+    StormTaskTuple resultTuple = getResultStormTaskTuple();
+    assertArrayEquals(content, resultTuple.getFileData());
+    assertThat(resultTuple.getParameter(PluginParameterKeys.OUTPUT_MIME_TYPE),
+        anyOf(is(MediaType.TEXT_XML), is(MediaType.APPLICATION_XML)));
+  }
+
+  @Test
+  public void shouldSniffMimeTypeFromContentWhenFileNameHasNoExtension() throws IOException {
+    byte[] content = withPrefix("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n", readTestFile("record.xml"));
+    mockContentOnHttpServer("record", content);
+    tuple.setFileUrl(fileUrl("record"));
+
+    bolt.execute(anchorTuple, tuple);
+
+    verify(outputCollector).emit(eq(anchorTuple), resultTupleCaptor.capture());
+    StormTaskTuple resultTuple = getResultStormTaskTuple();
+    assertArrayEquals(content, resultTuple.getFileData());
+    assertEquals(DigestUtils.md5Hex(content), resultTuple.getParameter(PluginParameterKeys.RECORD_MD5));
+    assertEquals(MediaType.APPLICATION_XML, resultTuple.getParameter(PluginParameterKeys.OUTPUT_MIME_TYPE));
+  }
+
   @Test
   public void shouldRetryWhenCantDownloadFileFirstTime() throws IOException {
     assumeTrue((
@@ -133,6 +167,20 @@ public class HttpHarvestingBoltTest {
             .withBodyFile(fileName)));
   }
 
+  private void mockContentOnHttpServer(String fileName, byte[] content) {
+    wireMockRule.stubFor(get(urlEqualTo(fileRelativeUrl(fileName)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withBody(content)));
+  }
+
+  private byte[] withPrefix(String prefix, byte[] content) {
+    byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+    byte[] result = Arrays.copyOf(prefixBytes, prefixBytes.length + content.length);
+    System.arraycopy(content, 0, result, prefixBytes.length, content.length);
+    return result;
+  }
+
   private void mockErrorOnHttpOnServer(String fileName) {
     wireMockRule.stubFor(get(urlEqualTo(fileRelativeUrl(fileName)))
         .willReturn(aResponse()
@@ -159,6 +207,10 @@ public class HttpHarvestingBoltTest {
             .withBodyFile(fileName)));
   }
 
+  private String fileUrl(String fileName) {
+    return "http://localhost:" + wireMockRule.port() + fileRelativeUrl(fileName);
+  }
+
   private String fileRelativeUrl(String fileName) {
     return TASK_RELATIVE_URL + fileName;
   }
@@ -1,5 +1,11 @@
 package eu.europeana.cloud.service.dps.storm.topologies.indexing;
 
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_INDEXING_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.INDEXING_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.INDEXING_BOLT_NUMBER_OF_TASKS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.INDEXING_BOLT_PARALLEL;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.MCS_URL;
@@ -13,11 +19,13 @@ import static eu.europeana.cloud.service.dps.storm.utils.TopologyHelper.INDEXING
 import static eu.europeana.cloud.service.dps.storm.utils.TopologyHelper.REVISION_WRITER_BOLT;
 import static eu.europeana.cloud.service.dps.storm.utils.TopologyHelper.buildConfig;
 import static eu.europeana.cloud.service.dps.storm.utils.TopologyHelper.createCassandraProperties;
+import static eu.europeana.cloud.service.dps.storm.utils.TopologyHelper.getIntProperty;
 
 import eu.europeana.cloud.service.dps.storm.io.ECloudTopologyPipeline;
 import eu.europeana.cloud.service.dps.storm.io.IndexingRevisionWriter;
 import eu.europeana.cloud.service.dps.storm.topologies.indexing.bolts.IndexingBolt;
 import eu.europeana.cloud.service.dps.storm.topologies.properties.PropertyFileLoader;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.TopologiesNames;
 import eu.europeana.cloud.service.dps.storm.utils.TopologyPropertiesValidator;
 import eu.europeana.cloud.service.dps.storm.utils.TopologySubmitter;
@@ -53,7 +61,12 @@ public final class IndexingTopology {
             indexingProperties,
             topologyProperties.getProperty(UIS_URL),
             topologyProperties.getProperty(TOPOLOGY_USER_NAME),
-            topologyProperties.getProperty(TOPOLOGY_USER_PASSWORD)
+            topologyProperties.getProperty(TOPOLOGY_USER_PASSWORD),
+            BoltBatchingSettings.fromProperties(topologyProperties,
+                INDEXING_BOLT_BATCH_SIZE, DEFAULT_INDEXING_BOLT_BATCH_SIZE,
+                INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS, DEFAULT_INDEXING_BOLT_FLUSH_INTERVAL_IN_SECONDS),
+            getIntProperty(topologyProperties, INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS,
+                DEFAULT_INDEXING_BOLT_EUROPEANA_ID_FINDING_THREADS)
         ), INDEXING_BOLT_PARALLEL, INDEXING_BOLT_NUMBER_OF_TASKS)
         .addBolt(REVISION_WRITER_BOLT, new IndexingRevisionWriter(createCassandraProperties(topologyProperties),
                 topologyProperties.getProperty(MCS_URL),
@@ -14,6 +14,7 @@ import eu.europeana.cloud.service.dps.storm.AbstractDpsBolt;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.cloud.service.dps.storm.TopologyGeneralException;
 import eu.europeana.cloud.service.dps.storm.dao.HarvestedRecordsDAO;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.HarvestedRecord;
 import eu.europeana.indexing.IndexingProperties;
 import eu.europeana.indexing.exception.IndexingException;
@@ -28,13 +29,29 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Indexes the records in the preview or publish database.
+ * <p>
+ * Records are collected per task and indexed together, when the number of records of the task reaches the configured batch
+ * size or when the flush interval elapses (triggered by tick tuples). Europeana ids of the batch are resolved in UIS
+ * concurrently, harvested records of the whole batch are saved together, and the tuples are emitted and acknowledged when
+ * the harvested records are saved.
+ * <p>
  * Created by pwozniak on 4/6/18
  */
 public class IndexingBolt extends AbstractDpsBolt {
@@ -42,6 +59,7 @@ public class IndexingBolt extends AbstractDpsBolt {
   public static final String PARSE_RECORD_DATE_ERROR_MESSAGE = "Could not parse RECORD_DATE parameter";
   public static final String INDEXING_FILE_ERROR_MESSAGE = "Unable to index file";
   private static final Logger LOGGER = LoggerFactory.getLogger(IndexingBolt.class);
+  private static final int DEFAULT_EUROPEANA_ID_FINDING_THREADS_COUNT = 1;
   private transient IndexWrapper indexWrapper;
   private final Properties indexingProperties;
   private transient HarvestedRecordsDAO harvestedRecordsDAO;
@@ -50,6 +68,10 @@ public class IndexingBolt extends AbstractDpsBolt {
   private final String topologyUserPassword;
   private transient EuropeanaIdFinder europeanaIdFinder;
   private transient IndexedRecordRemover recordRemover;
+  private final BoltBatchingSettings batchingSettings;
+  private final int europeanaIdFindingThreadsCount;
+  private transient ExecutorService europeanaIdFindingThreads;
+  private transient Map<Long, List<PendingRecord>> pendingBatches;
 
 
   public IndexingBolt(
@@ -57,11 +79,29 @@ public class IndexingBolt extends AbstractDpsBolt {
       Properties indexingProperties,
       String uisAddress, String topologyUserName,
       String topologyUserPassword) {
+    this(cassandraProperties, indexingProperties, uisAddress, topologyUserName, topologyUserPassword,
+        BoltBatchingSettings.NO_BATCHING, DEFAULT_EUROPEANA_ID_FINDING_THREADS_COUNT);
+  }
+
+  /**
+   * Constructor of indexing bolt that indexes the records in batches.
+   *
+   * @param batchingSettings maximal number of records of one task, which are indexed together, and maximal time the
+   * records wait in the batch before they are indexed
+   * @param europeanaIdFindingThreadsCount number of threads resolving europeana ids of the batch in UIS
+   */
+  public IndexingBolt(
+      CassandraProperties cassandraProperties,
+      Properties indexingProperties,
+      String uisAddress, String topologyUserName,
+      String topologyUserPassword, BoltBatchingSettings batchingSettings, int europeanaIdFindingThreadsCount) {
     super(cassandraProperties);
     this.indexingProperties = indexingProperties;
     this.uisAddress = uisAddress;
     this.topologyUserName = topologyUserName;
     this.topologyUserPassword = topologyUserPassword;
+    this.batchingSettings = batchingSettings;
+    this.europeanaIdFindingThreadsCount = europeanaIdFindingThreadsCount;
   }
 
   @Override
@@ -75,6 +115,35 @@ public class IndexingBolt extends AbstractDpsBolt {
     prepareEuropeanaIdFinder();
     prepareIndexer();
     recordRemover = new IndexedRecordRemover(indexWrapper);
+    prepareBatching();
+  }
+
+  void prepareBatching() {
+    pendingBatches = new LinkedHashMap<>();
+    europeanaIdFindingThreads = Executors.newFixedThreadPool(europeanaIdFindingThreadsCount, runnable -> {
+      Thread thread = new Thread(runnable, "europeana-id-finder");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public void cleanup() {
+    if (europeanaIdFindingThreads != null) {
+      europeanaIdFindingThreads.shutdownNow();
+    }
+  }
+
+  @Override
+  public Map<String, Object> getComponentConfiguration() {
+    return batchingSettings.addTickTupleFrequency(super.getComponentConfiguration());
+  }
+
+  @Override
+  public void execute(Tuple tuple) {
+    if (!BoltBatchingSettings.flushOnTick(tuple, this::flushAll)) {
+      super.execute(tuple);
+    }
   }
 
   @Override
@@ -95,12 +164,88 @@ public class IndexingBolt extends AbstractDpsBolt {
       validateHarvestDate(stormTaskTuple);
       final var properties = new IndexingProperties(recordDate,
           preserveTimestampsString, datasetIdsToRedirectFromList, performRedirects, TierCalculationMode.OVERWRITE);
-      String metisDatasetId = stormTaskTuple.getParameter(PluginParameterKeys.METIS_DATASET_ID);
-      String europeanaId = europeanaIdFinder.findForFileUrl(metisDatasetId, stormTaskTuple.getFileUrl());
+      long taskId = stormTaskTuple.getTaskId();
+      List<PendingRecord> batch = pendingBatches.computeIfAbsent(taskId, id -> new ArrayList<>());
+      batch.add(new PendingRecord(anchorTuple, stormTaskTuple, database, properties));
+      if (batchingSettings.isFull(batch.size())) {
+        flush(taskId);
+      }
+    } catch (DateTimeParseException e) {
+      logAndEmitError(anchorTuple, e, PARSE_RECORD_DATE_ERROR_MESSAGE, stormTaskTuple);
+      outputCollector.ack(anchorTuple);
+    }
+  }
+
+  private void flushAll() {
+    new ArrayList<>(pendingBatches.keySet()).forEach(this::flush);
+  }
+
+  private void flush(long taskId) {
+    List<PendingRecord> batch = pendingBatches.remove(taskId);
+    findEuropeanaIds(batch);
+    List<PendingRecord> indexedRecords = new ArrayList<>();
+    for (PendingRecord pendingRecord : batch) {
+      if (index(pendingRecord)) {
+        indexedRecords.add(pendingRecord);
+      }
+    }
+    if (indexedRecords.isEmpty()) {
+      return;
+    }
+    //Inserts are executed concurrently, so only the last version of the harvested record repeated in the batch is saved.
+    Map<String, HarvestedRecord> harvestedRecords = new LinkedHashMap<>();
+    indexedRecords.forEach(pendingRecord -> harvestedRecords.put(
+        pendingRecord.harvestedRecord.getMetisDatasetId() + "/" + pendingRecord.europeanaId, pendingRecord.harvestedRecord));
+    try {
+      harvestedRecordsDAO.insertHarvestedRecords(new ArrayList<>(harvestedRecords.values()));
+    } catch (RetryInterruptedException e) {
+      indexedRecords.forEach(pendingRecord -> handleInterruption(e, pendingRecord.anchorTuple));
+      return;
+    } catch (RuntimeException e) {
+      indexedRecords.forEach(pendingRecord -> {
+        logAndEmitError(pendingRecord.anchorTuple, e, e.getMessage(), pendingRecord.stormTaskTuple);
+        outputCollector.ack(pendingRecord.anchorTuple);
+      });
+      return;
+    }
+    indexedRecords.forEach(this::emit);
+  }
+
+  /**
+   * Starts finding europeana ids of all the records of the batch. UIS does not allow finding ids of many records with one
+   * request, so the ids are found concurrently, unless there is only one record in the batch.
+   */
+  private void findEuropeanaIds(List<PendingRecord> batch) {
+    Executor executor = batch.size() > 1 ? europeanaIdFindingThreads : Runnable::run;
+    for (PendingRecord pendingRecord : batch) {
+      StormTaskTuple stormTaskTuple = pendingRecord.stormTaskTuple;
+      pendingRecord.europeanaIdLookup = CompletableFuture.supplyAsync(() -> {
+        try {
+          return europeanaIdFinder.findForFileUrl(stormTaskTuple.getParameter(PluginParameterKeys.METIS_DATASET_ID),
+              stormTaskTuple.getFileUrl());
+        } catch (MalformedURLException | CloudException e) {
+          throw new CompletionException(e);
+        }
+      }, executor);
+    }
+  }
+
+  /**
+   * Indexes or removes the record and prepares its harvested record to be saved.
+   *
+   * @return true if the record was processed successfully, false if the error was already reported for its tuple
+   */
+  private boolean index(PendingRecord pendingRecord) {
+    Tuple anchorTuple = pendingRecord.anchorTuple;
+    StormTaskTuple stormTaskTuple = pendingRecord.stormTaskTuple;
+    TargetIndexingDatabase database = pendingRecord.database;
+    try {
+      String europeanaId = europeanaIdOf(pendingRecord);
+      pendingRecord.europeanaId = europeanaId;
 
       boolean recordNotSuitableForPublication = false;
       if (!stormTaskTuple.isMarkedAsDeleted()) {
-        recordNotSuitableForPublication = !indexRecord(stormTaskTuple, database, properties);
+        recordNotSuitableForPublication = !indexRecord(stormTaskTuple, database, pendingRecord.properties);
       }
       boolean recordShouldBeDeleted = stormTaskTuple.isMarkedAsDeleted() || recordNotSuitableForPublication;
 
@@ -109,25 +254,11 @@ public class IndexingBolt extends AbstractDpsBolt {
       } else{
         indexWrapper.getIndexer(database).removeTombstone(europeanaId);
       }
-      updateHarvestedRecord(stormTaskTuple, europeanaId, recordShouldBeDeleted);
-      if (recordNotSuitableForPublication) {
-        String information = "Record deleted from database " + database + ", cause it was in media tier 0!" +
-            " EuropeanaId: " + europeanaId;
-        emitErrorNotification(anchorTuple, stormTaskTuple, "Record not suitable for publication", information);
-        LOGGER.warn(information);
-      } else {
-        prepareTuple(stormTaskTuple, europeanaId);
-        outputCollector.emit(anchorTuple, stormTaskTuple.toStormTuple());
-        LOGGER.info(
-            "Indexing bolt executed for: {} (record date: {}, preserve timestamps: {}).",
-            database, recordDate, preserveTimestampsString);
-      }
-      outputCollector.ack(anchorTuple);
+      pendingRecord.harvestedRecord = prepareHarvestedRecord(stormTaskTuple, europeanaId, recordShouldBeDeleted);
+      pendingRecord.recordNotSuitableForPublication = recordNotSuitableForPublication;
+      return true;
     } catch (RetryInterruptedException e) {
       handleInterruption(e, anchorTuple);
-    } catch (DateTimeParseException e) {
-      logAndEmitError(anchorTuple, e, PARSE_RECORD_DATE_ERROR_MESSAGE, stormTaskTuple);
-      outputCollector.ack(anchorTuple);
     } catch (RuntimeException | MalformedURLException | CloudException e) {
       logAndEmitError(anchorTuple, e, e.getMessage(), stormTaskTuple);
       outputCollector.ack(anchorTuple);
@@ -135,6 +266,43 @@ public class IndexingBolt extends AbstractDpsBolt {
       logAndEmitError(anchorTuple, e, INDEXING_FILE_ERROR_MESSAGE, stormTaskTuple);
       outputCollector.ack(anchorTuple);
     }
+    return false;
+  }
+
+  private String europeanaIdOf(PendingRecord pendingRecord) throws MalformedURLException, CloudException {
+    try {
+      return pendingRecord.europeanaIdLookup.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof MalformedURLException malformedURLException) {
+        throw malformedURLException;
+      } else if (cause instanceof CloudException cloudException) {
+        throw cloudException;
+      } else if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private void emit(PendingRecord pendingRecord) {
+    Tuple anchorTuple = pendingRecord.anchorTuple;
+    StormTaskTuple stormTaskTuple = pendingRecord.stormTaskTuple;
+    String europeanaId = pendingRecord.europeanaId;
+    if (pendingRecord.recordNotSuitableForPublication) {
+      String information = "Record deleted from database " + pendingRecord.database + ", cause it was in media tier 0!" +
+          " EuropeanaId: " + europeanaId;
+      emitErrorNotification(anchorTuple, stormTaskTuple, "Record not suitable for publication", information);
+      LOGGER.warn(information);
+    } else {
+      prepareTuple(stormTaskTuple, europeanaId);
+      outputCollector.emit(anchorTuple, stormTaskTuple.toStormTuple());
+      LOGGER.info(
+          "Indexing bolt executed for: {} (record date: {}, preserve timestamps: {}).",
+          pendingRecord.database, stormTaskTuple.getParameter(PluginParameterKeys.METIS_RECORD_DATE),
+          stormTaskTuple.getParameter(PluginParameterKeys.METIS_PRESERVE_TIMESTAMPS));
+    }
+    outputCollector.ack(anchorTuple);
   }
 
   private void removeIndexedRecord(StormTaskTuple stormTaskTuple, TargetIndexingDatabase database, String europeanaId)
@@ -188,7 +356,7 @@ public class IndexingBolt extends AbstractDpsBolt {
             "Error while indexing. The full error is: " + ExceptionUtils.getStackTrace(e));
   }
 
-  private void updateHarvestedRecord(StormTaskTuple stormTaskTuple, String europeanaId, boolean recordDeleted) {
+  private HarvestedRecord prepareHarvestedRecord(StormTaskTuple stormTaskTuple, String europeanaId, boolean recordDeleted) {
     String metisDatasetId = stormTaskTuple.getParameter(PluginParameterKeys.METIS_DATASET_ID);
 
     var harvestedRecord = harvestedRecordsDAO.findRecord(metisDatasetId, europeanaId)
@@ -215,7 +383,7 @@ public class IndexingBolt extends AbstractDpsBolt {
 
     LOGGER.info("Saving harvested record for environment: {}, taskId: {}, recordId:{}, harvestedRecord: {}",
         database, harvestedRecord, stormTaskTuple.getTaskId(), stormTaskTuple.getFileUrl());
-    harvestedRecordsDAO.insertHarvestedRecord(harvestedRecord);
+    return harvestedRecord;
   }
 
   private HarvestedRecord prepareNewHarvestedRecord(StormTaskTuple stormTaskTuple, String europeanaId, String metisDatasetId) {
@@ -236,4 +404,24 @@ public class IndexingBolt extends AbstractDpsBolt {
     stormTaskTuple.getHarvestDate();
   }
 
+  private static class PendingRecord {
+
+    private final Tuple anchorTuple;
+    private final StormTaskTuple stormTaskTuple;
+    private final TargetIndexingDatabase database;
+    private final IndexingProperties properties;
+    private CompletableFuture<String> europeanaIdLookup;
+    private String europeanaId;
+    private HarvestedRecord harvestedRecord;
+    private boolean recordNotSuitableForPublication;
+
+    private PendingRecord(Tuple anchorTuple, StormTaskTuple stormTaskTuple, TargetIndexingDatabase database,
+        IndexingProperties properties) {
+      this.anchorTuple = anchorTuple;
+      this.stormTaskTuple = stormTaskTuple;
+      this.database = database;
+      this.properties = properties;
+    }
+  }
+
 }
@@ -2,6 +2,7 @@ package eu.europeana.cloud.service.dps.storm.topologies.indexing.bolts;
 
 import static eu.europeana.cloud.service.dps.storm.AbstractDpsBolt.NOTIFICATION_STREAM_NAME;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -24,6 +25,7 @@ import eu.europeana.cloud.service.dps.service.utils.indexing.IndexedRecordRemove
 import eu.europeana.cloud.service.dps.storm.NotificationParameterKeys;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.cloud.service.dps.storm.dao.HarvestedRecordsDAO;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.HarvestedRecord;
 import eu.europeana.corelib.solr.bean.impl.FullBeanImpl;
 import eu.europeana.indexing.Indexer;
@@ -36,15 +38,19 @@ import eu.europeana.metis.utils.DepublicationReason;
 import java.net.MalformedURLException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.function.Predicate;
+import org.apache.storm.Config;
+import org.apache.storm.Constants;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.TupleImpl;
 import org.apache.storm.tuple.Values;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -91,10 +97,22 @@ public class IndexingBoltTest {
   @InjectMocks
   private final IndexingBolt indexingBolt = new IndexingBolt(null, indexingProperties, "uisLocation", "user", "password");
 
+  @InjectMocks
+  private final IndexingBolt batchingIndexingBolt = new IndexingBolt(null, indexingProperties, "uisLocation", "user",
+      "password", new BoltBatchingSettings(2, 1), 2);
+
   @Before
   public void init() {
     MockitoAnnotations.initMocks(this);
     when(indexWrapper.getIndexer(Mockito.any())).thenReturn(indexer);
+    indexingBolt.prepareBatching();
+    batchingIndexingBolt.prepareBatching();
+  }
+
+  @After
+  public void cleanup() {
+    indexingBolt.cleanup();
+    batchingIndexingBolt.cleanup();
   }
 
   @Captor
@@ -120,15 +138,15 @@ public class IndexingBoltTest {
     verify(indexer).index(anyString(), any(), any());
     Mockito.verify(outputCollector).emit(any(Tuple.class), captor.capture());
     Mockito.verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .latestHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .previewHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .previewHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .publishedHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .publishedHarvestMd5(EARLIER_HARVEST_MD5).build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .previewHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .previewHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .publishedHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .publishedHarvestMd5(EARLIER_HARVEST_MD5).build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -158,15 +176,15 @@ public class IndexingBoltTest {
     verify(indexer).index(anyString(), any(), any());
     Mockito.verify(outputCollector).emit(any(Tuple.class), captor.capture());
     Mockito.verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .latestHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .previewHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .previewHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .publishedHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .publishedHarvestMd5(EARLIER_HARVEST_MD5).build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .previewHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .previewHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .publishedHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .publishedHarvestMd5(EARLIER_HARVEST_MD5).build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -198,15 +216,15 @@ public class IndexingBoltTest {
     verify(indexer).index(anyString(), any(), any());
     Mockito.verify(outputCollector, Mockito.times(1)).emit(any(Tuple.class), captor.capture());
     Mockito.verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .latestHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .previewHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .previewHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .publishedHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .publishedHarvestMd5(LATEST_HARVEST_MD5).build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .previewHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .previewHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .publishedHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .publishedHarvestMd5(LATEST_HARVEST_MD5).build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -238,15 +256,15 @@ public class IndexingBoltTest {
     verify(indexedRecordRemover).removeRecord(TargetIndexingDatabase.PUBLISH, LOCAL_ID, DepublicationReason.REMOVED_DATA_AT_SOURCE);
     Mockito.verify(outputCollector).emit(any(String.class), any(Tuple.class), captor.capture());
     Mockito.verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .latestHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .previewHarvestDate(LATEST_HARVEST_DATE)
-                                                                             .previewHarvestMd5(LATEST_HARVEST_MD5)
-                                                                             .publishedHarvestDate(null).publishedHarvestMd5(null)
-                                                                             .build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .previewHarvestDate(LATEST_HARVEST_DATE)
+                                                                                      .previewHarvestMd5(LATEST_HARVEST_MD5)
+                                                                                      .publishedHarvestDate(null).publishedHarvestMd5(null)
+                                                                                      .build()));
     var val = (Map<String, String>) captor.getValue().get(1);
     assertEquals(
         "https://test.ecloud.psnc.pl/api/records/ZWUNIWERLFGQJUBIDPKLMSTHIDJMXC7U7LE6INQ2IZ32WHCZLHLA/representations/metadataRecord/versions/a9c549c0-88b1-11eb-b210-fa163e8d4ae3/files/ab67baa7-665f-418b-8c31-81713b0a324b",
@@ -277,16 +295,16 @@ public class IndexingBoltTest {
     Mockito.verify(outputCollector).emit(any(Tuple.class), captor.capture());
     verify(indexer, never()).index(Mockito.anyString(), Mockito.any(), any());
     verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .latestHarvestMd5(EARLIER_HARVEST_MD5)
-                                                                             .previewHarvestDate(null)
-                                                                             .previewHarvestMd5(null)
-                                                                             .publishedHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .publishedHarvestMd5(EARLIER_HARVEST_MD5)
-                                                                             .build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(EARLIER_HARVEST_MD5)
+                                                                                      .previewHarvestDate(null)
+                                                                                      .previewHarvestMd5(null)
+                                                                                      .publishedHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .publishedHarvestMd5(EARLIER_HARVEST_MD5)
+                                                                                      .build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -318,15 +336,15 @@ public class IndexingBoltTest {
     Mockito.verify(outputCollector).emit(any(Tuple.class), captor.capture());
     verify(indexer, never()).index(Mockito.anyString(), Mockito.any(), any());
     verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .latestHarvestMd5(EARLIER_HARVEST_MD5)
-                                                                             .previewHarvestDate(EARLIER_HARVEST_DATE)
-                                                                             .previewHarvestMd5(EARLIER_HARVEST_MD5)
-                                                                             .publishedHarvestDate(null).publishedHarvestMd5(null)
-                                                                             .build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .latestHarvestMd5(EARLIER_HARVEST_MD5)
+                                                                                      .previewHarvestDate(EARLIER_HARVEST_DATE)
+                                                                                      .previewHarvestMd5(EARLIER_HARVEST_MD5)
+                                                                                      .publishedHarvestDate(null).publishedHarvestMd5(null)
+                                                                                      .build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -353,11 +371,11 @@ public class IndexingBoltTest {
     verify(indexer).index(anyString(), any(), any());
     Mockito.verify(outputCollector, Mockito.times(1)).emit(any(Tuple.class), captor.capture());
     Mockito.verify(harvestedRecordsDAO).findRecord(anyString(), anyString());
-    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecord(HarvestedRecord.builder()
-                                                                             .metisDatasetId(METIS_DATASET_ID)
-                                                                             .recordLocalId(LOCAL_ID)
-                                                                             .latestHarvestDate(HARVEST_DATE)
-                                                                             .publishedHarvestDate(HARVEST_DATE).build());
+    Mockito.verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(HarvestedRecord.builder()
+                                                                                      .metisDatasetId(METIS_DATASET_ID)
+                                                                                      .recordLocalId(LOCAL_ID)
+                                                                                      .latestHarvestDate(HARVEST_DATE)
+                                                                                      .publishedHarvestDate(HARVEST_DATE).build()));
     Values capturedValues = captor.getValue();
     assertEquals(10, capturedValues.size());
     assertEquals(
@@ -367,6 +385,60 @@ public class IndexingBoltTest {
     assertEquals(7, parameters.size());
   }
 
+  @Test
+  public void shouldIndexRecordsOfTheTaskInBatch() throws Exception {
+    //given
+    String secondFileUrl = FILE_URL.replace("ZWUNIWERLFGQJUBIDPKLMSTHIDJMXC7U7LE6INQ2IZ32WHCZLHLA",
+        "7MZWQJF2S4HQK4GRTN3KY6UXLRZJ2S5GQCCGV5VQZGJYFRUPBXSA");
+    mockEuropeanaIdFinder();
+    when(europeanaIdFinder.findForFileUrl(METIS_DATASET_ID, secondFileUrl)).thenReturn("secondLocalId");
+    when(harvestedRecordsDAO.findRecord(anyString(), anyString())).thenReturn(Optional.empty());
+    Tuple firstAnchorTuple = mock(TupleImpl.class);
+    Tuple secondAnchorTuple = mock(TupleImpl.class);
+    StormTaskTuple secondTuple = mockStormTupleFor("PREVIEW");
+    secondTuple.setFileUrl(secondFileUrl);
+    mockIndexer();
+    //when
+    batchingIndexingBolt.execute(firstAnchorTuple, mockStormTupleFor("PREVIEW"));
+    //then
+    verifyNoInteractions(indexer, harvestedRecordsDAO, outputCollector);
+    //when
+    batchingIndexingBolt.execute(secondAnchorTuple, secondTuple);
+    //then
+    verify(indexer, Mockito.times(2)).index(anyString(), any(), any());
+    verify(harvestedRecordsDAO).insertHarvestedRecords(List.of(
+        HarvestedRecord.builder().metisDatasetId(METIS_DATASET_ID).recordLocalId(LOCAL_ID)
+                       .latestHarvestDate(HARVEST_DATE).previewHarvestDate(HARVEST_DATE).build(),
+        HarvestedRecord.builder().metisDatasetId(METIS_DATASET_ID).recordLocalId("secondLocalId")
+                       .latestHarvestDate(HARVEST_DATE).previewHarvestDate(HARVEST_DATE).build()));
+    verify(outputCollector).emit(eq(firstAnchorTuple), any());
+    verify(outputCollector).emit(eq(secondAnchorTuple), any());
+    verify(outputCollector).ack(firstAnchorTuple);
+    verify(outputCollector).ack(secondAnchorTuple);
+  }
+
+  @Test
+  public void shouldIndexIncompleteBatchWhenTickTupleArrives() throws Exception {
+    //given
+    mockEuropeanaIdFinder();
+    when(harvestedRecordsDAO.findRecord(anyString(), anyString())).thenReturn(Optional.empty());
+    Tuple anchorTuple = mock(TupleImpl.class);
+    mockIndexer();
+    batchingIndexingBolt.execute(anchorTuple, mockStormTupleFor("PREVIEW"));
+    //when
+    batchingIndexingBolt.execute(createTickTuple());
+    //then
+    verify(indexer).index(anyString(), any(), any());
+    verify(outputCollector).emit(eq(anchorTuple), any());
+    verify(outputCollector).ack(anchorTuple);
+  }
+
+  @Test
+  public void shouldRequestTickTuplesWithFlushIntervalOnlyWhenBatching() {
+    assertEquals(1, batchingIndexingBolt.getComponentConfiguration().get(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS));
+    assertNull(indexingBolt.getComponentConfiguration());
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void shouldEmitErrorNotificationForIndexerConfiguration() throws IndexingException {
@@ -452,7 +524,7 @@ public class IndexingBoltTest {
     indexingBolt.execute(anchorTuple, tuple);
 
     verify(outputCollector).emit(eq(NOTIFICATION_STREAM_NAME), any(Tuple.class), captor.capture());
-    verify(harvestedRecordsDAO, never()).insertHarvestedRecord(any());
+    verify(harvestedRecordsDAO, never()).insertHarvestedRecords(any());
     verifyNoInteractions(indexer);
   }
 
@@ -466,11 +538,18 @@ public class IndexingBoltTest {
     indexingBolt.execute(anchorTuple, tuple);
 
     verify(outputCollector).emit(eq(NOTIFICATION_STREAM_NAME), any(Tuple.class), captor.capture());
-    verify(harvestedRecordsDAO, never()).insertHarvestedRecord(any());
+    verify(harvestedRecordsDAO, never()).insertHarvestedRecords(any());
     verifyNoInteractions(indexer);
   }
 
 
+  private Tuple createTickTuple() {
+    Tuple tuple = mock(Tuple.class);
+    when(tuple.getSourceComponent()).thenReturn(Constants.SYSTEM_COMPONENT_ID);
+    when(tuple.getSourceStreamId()).thenReturn(Constants.SYSTEM_TICK_STREAM_ID);
+    return tuple;
+  }
+
   private void mockEuropeanaIdFinder() throws CloudException, MalformedURLException {
     when(europeanaIdFinder.findForFileUrl(METIS_DATASET_ID, FILE_URL)).thenReturn(LOCAL_ID);
   }
@@ -1,5 +1,7 @@
 package eu.europeana.cloud.service.dps.storm.topologies.link.check;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import eu.europeana.cloud.common.properties.CassandraProperties;
 import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.storm.AbstractDpsBolt;
@@ -8,16 +10,34 @@ import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.metis.mediaprocessing.LinkChecker;
 import eu.europeana.metis.mediaprocessing.MediaProcessorFactory;
 import lombok.ToString;
+import lombok.Value;
+import org.apache.storm.Config;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Checks the links of the records.
+ * <p>
+ * Links are checked concurrently in the background, with at most {@link #MAX_CONCURRENT_CHECKS_PER_HOST} checks of the same
+ * host at the same time. Results are kept for {@link #CHECKED_LINKS_CACHE_TTL_IN_MINUTES} minutes, so the link repeated in
+ * many records of the task is checked once. Results of the checks are processed by the executor thread, on the next tuple or
+ * on a tick tuple, and all the tuples of the record are acked when all of its links are checked.
+ * <p>
  * Created by pwozniak on 2/5/19
  */
 public class LinkCheckBolt extends AbstractDpsBolt {
@@ -25,9 +45,18 @@ public class LinkCheckBolt extends AbstractDpsBolt {
   private static final Logger LOGGER = LoggerFactory.getLogger(LinkCheckBolt.class);
 
   private static final int CACHE_SIZE = 1024;
+  private static final int MAX_CONCURRENT_CHECKS = 32;
+  private static final int MAX_CONCURRENT_CHECKS_PER_HOST = 4;
+  private static final int CHECKED_LINKS_CACHE_SIZE = 10000;
+  private static final int CHECKED_LINKS_CACHE_TTL_IN_MINUTES = 10;
+  private static final int COMPLETED_CHECKS_PROCESSING_INTERVAL_IN_SECONDS = 1;
   transient Map<String, FileInfo> cache;
 
   private transient LinkChecker linkChecker;
+  private transient ExecutorService checkingThreads;
+  private transient PerHostLimitedExecutor linkCheckingExecutor;
+  private transient Cache<CheckedLinkKey, CompletableFuture<String>> checkedLinks;
+  private transient Queue<CompletedCheck> completedChecks;
 
   public LinkCheckBolt(CassandraProperties cassandraProperties) {
     super(cassandraProperties);
@@ -44,6 +73,12 @@ public class LinkCheckBolt extends AbstractDpsBolt {
       final MediaProcessorFactory processorFactory = new MediaProcessorFactory();
       linkChecker = processorFactory.createLinkChecker();
       cache = new HashMap<>(CACHE_SIZE);
+      checkingThreads = Executors.newFixedThreadPool(MAX_CONCURRENT_CHECKS, runnable -> {
+        Thread thread = new Thread(runnable, "link-checker");
+        thread.setDaemon(true);
+        return thread;
+      });
+      prepareLinkChecking(checkingThreads);
     } catch (Exception e) {
       LOGGER.error("error while initializing Link checker {}", e.getCause(), e);
       throw new BoltInitializationException("error while initializing Link checker", e);
@@ -51,8 +86,33 @@ public class LinkCheckBolt extends AbstractDpsBolt {
 
   }
 
+  void prepareLinkChecking(Executor executor) {
+    linkCheckingExecutor = new PerHostLimitedExecutor(executor, MAX_CONCURRENT_CHECKS_PER_HOST);
+    checkedLinks = CacheBuilder.newBuilder()
+                               .maximumSize(CHECKED_LINKS_CACHE_SIZE)
+                               .expireAfterWrite(CHECKED_LINKS_CACHE_TTL_IN_MINUTES, TimeUnit.MINUTES)
+                               .build();
+    completedChecks = new ConcurrentLinkedQueue<>();
+  }
+
+  @Override
+  public Map<String, Object> getComponentConfiguration() {
+    Map<String, Object> configuration = new HashMap<>();
+    configuration.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, COMPLETED_CHECKS_PROCESSING_INTERVAL_IN_SECONDS);
+    return configuration;
+  }
+
+  @Override
+  public void execute(Tuple tuple) {
+    if (TupleUtils.isTick(tuple)) {
+      processCompletedChecks();
+      return;
+    }
+    super.execute(tuple);
+  }
+
   /**
-   * Performs link checking for given tuple
+   * Starts link checking for given tuple
    *
    * @param tuple tuple that will be used for link checking
    */
@@ -71,18 +131,52 @@ public class LinkCheckBolt extends AbstractDpsBolt {
                 "The EDM file has no resources");
         outputCollector.ack(anchorTuple);
     } else {
-      FileInfo edmFile = checkProvidedLink(tuple, resourceInfo);
+      FileInfo edmFile = prepareFileInfo(tuple, resourceInfo);
       edmFile.addSourceTuple(anchorTuple);
-      if (isFileFullyProcessed(edmFile)) {
-        cache.remove(edmFile.fileUrl);
-        if (edmFile.errors == null || edmFile.errors.isEmpty()) {
-            emitSuccessNotification(anchorTuple, tuple, "", "");
-        } else {
-            emitSuccessNotification(anchorTuple, tuple, "", "", "resource exception", edmFile.errors);
-        }
-        ackAllSourceTuplesForFile(edmFile);
+      checkLink(tuple.getTaskId(), resourceInfo)
+          .thenAccept(error -> completedChecks.add(new CompletedCheck(anchorTuple, tuple, edmFile, error)));
+    }
+    processCompletedChecks();
+  }
+
+  @Override
+  public void cleanup() {
+    if (checkingThreads != null) {
+      checkingThreads.shutdownNow();
+    }
+  }
+
+  private void processCompletedChecks() {
+    CompletedCheck completedCheck;
+    while ((completedCheck = completedChecks.poll()) != null) {
+      processCompletedCheck(completedCheck);
+    }
+  }
+
+  private void processCompletedCheck(CompletedCheck completedCheck) {
+    FileInfo edmFile = completedCheck.getEdmFile();
+    if (takeFileFromCache(edmFile.fileUrl) != edmFile) {
+      LOGGER.info("Ignoring result of the link check for file {}, it was from previous attempt.", edmFile.fileUrl);
+      return;
+    }
+    edmFile.linksChecked++;
+    if (completedCheck.getError() != null) {
+      if (edmFile.errors == null || edmFile.errors.isEmpty()) {
+        edmFile.errors = completedCheck.getError();
+      } else {
+        edmFile.errors = edmFile.errors + "," + completedCheck.getError();
       }
     }
+    if (isFileFullyProcessed(edmFile)) {
+      cache.remove(edmFile.fileUrl);
+      if (edmFile.errors == null || edmFile.errors.isEmpty()) {
+          emitSuccessNotification(completedCheck.getAnchorTuple(), completedCheck.getTuple(), "", "");
+      } else {
+          emitSuccessNotification(completedCheck.getAnchorTuple(), completedCheck.getTuple(), "", "", "resource exception",
+              edmFile.errors);
+      }
+      ackAllSourceTuplesForFile(edmFile);
+    }
   }
 
   private void ackAllSourceTuplesForFile(FileInfo edmFile) {
@@ -103,15 +197,12 @@ public class LinkCheckBolt extends AbstractDpsBolt {
     return resourceInfo.expectedSize > 0;
   }
 
-  private FileInfo checkProvidedLink(StormTaskTuple tuple, ResourceInfo resourceInfo) {
-    FileInfo edmFile = takeFileFromCache(resourceInfo);
+  private FileInfo prepareFileInfo(StormTaskTuple tuple, ResourceInfo resourceInfo) {
+    FileInfo edmFile = takeFileFromCache(resourceInfo.edmUrl);
     if (edmFile == null || (edmFile.taskId != tuple.getTaskId())) {
       edmFile = new FileInfo(tuple.getTaskId(), resourceInfo.edmUrl, resourceInfo.expectedSize, 0,
           tuple.getRecordAttemptNumber());
-      checkLink(resourceInfo, edmFile);
       putFileToCache(edmFile);
-    } else {
-      checkLink(resourceInfo, edmFile);
     }
     return edmFile;
   }
@@ -120,34 +211,59 @@ public class LinkCheckBolt extends AbstractDpsBolt {
     return fileInfo.linksChecked >= fileInfo.expectedNumberOfLinks;
   }
 
-  private FileInfo takeFileFromCache(ResourceInfo resourceInfo) {
-    return cache.get(resourceInfo.edmUrl);
+  private FileInfo takeFileFromCache(String edmUrl) {
+    return cache.get(edmUrl);
   }
 
   private void putFileToCache(FileInfo fileInfo) {
     cache.put(fileInfo.fileUrl, fileInfo);
   }
 
-  private void checkLink(ResourceInfo resourceInfo, FileInfo fileInfo) {
-    LOGGER.info("Checking resource url {}", resourceInfo.edmUrl);
-    try {
-      linkChecker.performLinkChecking(resourceInfo.linkUrl);
-    } catch (Exception e) {
-      LOGGER.info("There was exception while checking the link: {}", resourceInfo.edmUrl, e);
-      String error = e.getMessage() + " . Because of: " + e.getCause();
-      if (fileInfo.errors == null || fileInfo.errors.isEmpty()) {
-        fileInfo.errors = error;
-      } else {
-        fileInfo.errors = fileInfo.errors + "," + error;
+  /**
+   * Returns the result of the link check, started now or earlier in the same task. Only correct links are remembered
+   * after their check is completed. The failed check is shared only by the resources waiting for it, so the link is
+   * checked again for the next resources.
+   *
+   * @return future completed with the error description, or with null if the link is correct
+   */
+  private CompletableFuture<String> checkLink(long taskId, ResourceInfo resourceInfo) {
+    var key = new CheckedLinkKey(taskId, resourceInfo.linkUrl);
+    CompletableFuture<String> check = checkedLinks.asMap().computeIfAbsent(key, k -> startLinkCheck(resourceInfo));
+    check.thenAccept(error -> {
+      if (error != null) {
+        checkedLinks.asMap().remove(key, check);
       }
-    } finally {
-      fileInfo.linksChecked++;
+    });
+    return check;
+  }
+
+  private CompletableFuture<String> startLinkCheck(ResourceInfo resourceInfo) {
+    CompletableFuture<String> result = new CompletableFuture<>();
+    linkCheckingExecutor.execute(hostOf(resourceInfo.linkUrl), () -> {
+      LOGGER.info("Checking resource url {}", resourceInfo.edmUrl);
+      try {
+        linkChecker.performLinkChecking(resourceInfo.linkUrl);
+        result.complete(null);
+      } catch (Exception e) {
+        LOGGER.info("There was exception while checking the link: {}", resourceInfo.edmUrl, e);
+        result.complete(e.getMessage() + " . Because of: " + e.getCause());
+      }
+    });
+    return result;
+  }
+
+  private static String hostOf(String linkUrl) {
+    try {
+      String host = URI.create(linkUrl).getHost();
+      return host != null ? host : "";
+    } catch (IllegalArgumentException e) {
+      return "";
     }
   }
 
   protected void cleanInvalidData(StormTaskTuple tuple) {
     ResourceInfo resourceInfo = readResourceInfoFromTuple(tuple);
-    FileInfo cachedEdmFile = takeFileFromCache(resourceInfo);
+    FileInfo cachedEdmFile = takeFileFromCache(resourceInfo.edmUrl);
 
     if ((cachedEdmFile != null) && cachedFileIsFromPreviousAttempt(tuple, cachedEdmFile)) {
       cache.remove(resourceInfo.edmUrl);
@@ -159,6 +275,22 @@ public class LinkCheckBolt extends AbstractDpsBolt {
   private boolean cachedFileIsFromPreviousAttempt(StormTaskTuple tuple, FileInfo cachedEdmFile) {
     return cachedEdmFile.attemptNumber < tuple.getRecordAttemptNumber();
   }
+
+  @Value
+  private static class CheckedLinkKey {
+
+    long taskId;
+    String linkUrl;
+  }
+
+  @Value
+  private static class CompletedCheck {
+
+    Tuple anchorTuple;
+    StormTaskTuple tuple;
+    FileInfo edmFile;
+    String error;
+  }
 }
 
 /**
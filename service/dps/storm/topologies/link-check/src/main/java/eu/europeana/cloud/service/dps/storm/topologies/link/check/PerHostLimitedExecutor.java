@@ -0,0 +1,55 @@
+package eu.europeana.cloud.service.dps.storm.topologies.link.check;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Executor which runs at most <code>maxTasksPerHost</code> tasks concerning the same host at the same time. Tasks exceeding
+ * the limit wait in the queue of the host, without occupying threads of the underlying executor, so tasks of other hosts are
+ * not blocked by a slow host.
+ */
+class PerHostLimitedExecutor {
+
+  private final Executor executor;
+  private final int maxTasksPerHost;
+  private final Map<String, Integer> runningTasks = new HashMap<>();
+  private final Map<String, Queue<Runnable>> waitingTasks = new HashMap<>();
+
+  PerHostLimitedExecutor(Executor executor, int maxTasksPerHost) {
+    this.executor = executor;
+    this.maxTasksPerHost = maxTasksPerHost;
+  }
+
+  synchronized void execute(String host, Runnable task) {
+    if (runningTasks.getOrDefault(host, 0) < maxTasksPerHost) {
+      runningTasks.merge(host, 1, Integer::sum);
+      executor.execute(() -> runAndStartNext(host, task));
+    } else {
+      waitingTasks.computeIfAbsent(host, h -> new ArrayDeque<>()).add(task);
+    }
+  }
+
+  private void runAndStartNext(String host, Runnable task) {
+    try {
+      task.run();
+    } finally {
+      startNext(host);
+    }
+  }
+
+  private synchronized void startNext(String host) {
+    Queue<Runnable> tasksOfHost = waitingTasks.get(host);
+    Runnable next = tasksOfHost != null ? tasksOfHost.poll() : null;
+    if (tasksOfHost != null && tasksOfHost.isEmpty()) {
+      waitingTasks.remove(host);
+    }
+    if (next != null) {
+      executor.execute(() -> runAndStartNext(host, next));
+    } else {
+      runningTasks.computeIfPresent(host, (h, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+}
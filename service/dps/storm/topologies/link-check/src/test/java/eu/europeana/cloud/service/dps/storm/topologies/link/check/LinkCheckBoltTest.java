@@ -18,7 +18,9 @@ import eu.europeana.cloud.service.dps.storm.NotificationParameterKeys;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.metis.mediaprocessing.LinkChecker;
 import eu.europeana.metis.mediaprocessing.exception.LinkCheckingException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
@@ -51,6 +53,7 @@ public class LinkCheckBoltTest {
   public void init() {
     MockitoAnnotations.initMocks(this);
     linkCheckBolt.cache = new HashMap<>();
+    linkCheckBolt.prepareLinkChecking(Runnable::run);
   }
 
   @Test
@@ -84,23 +87,79 @@ public class LinkCheckBoltTest {
 
   @Test
   public void shouldEmitTupleAfterCheckingAllResourcesFromFile() throws Exception {
+    Tuple anchorTuple = mock(TupleImpl.class);
+    for (int i = 1; i < 5; i++) {
+      StormTaskTuple tuple = prepareRandomTuple("resourceUrl" + i);
+      linkCheckBolt.execute(anchorTuple, tuple);
+      verify(outputCollector, times(0)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
+      verify(linkChecker, times(1)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
+    }
+    linkCheckBolt.execute(anchorTuple, prepareRandomTuple("resourceUrl5"));
+    verify(outputCollector, times(1)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
+    verify(outputCollector, times(5)).ack(anchorTuple);
+    verify(linkChecker, times(5)).performLinkChecking(Mockito.anyString());
+  }
+
+  @Test
+  public void shouldCheckTheSameLinkOnlyOnceInTask() throws Exception {
     Tuple anchorTuple = mock(TupleImpl.class);
     StormTaskTuple tuple = prepareRandomTuple();
-    linkCheckBolt.execute(anchorTuple, tuple);
-    verify(outputCollector, times(0)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
+    for (int i = 0; i < 5; i++) {
+      linkCheckBolt.execute(anchorTuple, tuple);
+    }
+    verify(outputCollector, times(1)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
     verify(linkChecker, times(1)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
-    linkCheckBolt.execute(anchorTuple, tuple);
-    verify(outputCollector, times(0)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
+  }
+
+  @Test
+  public void shouldCheckTheSameLinkAgainInTaskWhenPreviousCheckFailed() throws Exception {
+    Tuple anchorTuple = mock(TupleImpl.class);
+    doThrow(new LinkCheckingException(new Throwable())).doNothing()
+                                                       .when(linkChecker).performLinkChecking(Mockito.anyString());
+    StormTaskTuple tuple = prepareRandomTuple();
+
+    for (int i = 0; i < 3; i++) {
+      linkCheckBolt.execute(anchorTuple, tuple);
+    }
+
     verify(linkChecker, times(2)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
+  }
+
+  @Test
+  public void shouldShareFailedCheckWithResourcesWaitingForIt() throws Exception {
+    List<Runnable> pendingChecks = new ArrayList<>();
+    linkCheckBolt.prepareLinkChecking(pendingChecks::add);
+    doThrow(new LinkCheckingException(new Throwable())).when(linkChecker).performLinkChecking(Mockito.anyString());
+    Tuple anchorTuple = mock(TupleImpl.class);
+    StormTaskTuple tuple = prepareRandomTuple();
+    tuple.addParameter(RESOURCE_LINKS_COUNT, "2");
+
     linkCheckBolt.execute(anchorTuple, tuple);
-    verify(outputCollector, times(0)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
-    verify(linkChecker, times(3)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
     linkCheckBolt.execute(anchorTuple, tuple);
-    verify(outputCollector, times(0)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
-    verify(linkChecker, times(4)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
+    pendingChecks.forEach(Runnable::run);
+    linkCheckBolt.execute(mock(TupleImpl.class), prepareTupleWithLinksCountEqualsToZero());
+
+    assertEquals(1, pendingChecks.size());
+    verify(linkChecker, times(1)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
+    verify(outputCollector, times(2)).ack(anchorTuple);
+  }
+
+  @Test
+  public void shouldNotAckTupleBeforeItsLinkIsChecked() throws Exception {
+    List<Runnable> pendingChecks = new ArrayList<>();
+    linkCheckBolt.prepareLinkChecking(pendingChecks::add);
+    Tuple anchorTuple = mock(TupleImpl.class);
+    StormTaskTuple tuple = prepareRandomTuple();
+    tuple.addParameter(RESOURCE_LINKS_COUNT, "1");
+
     linkCheckBolt.execute(anchorTuple, tuple);
-    verify(outputCollector, times(1)).emit(eq("NotificationStream"), any(Tuple.class), Mockito.anyList());
-    verify(linkChecker, times(5)).performLinkChecking(Mockito.anyString());
+    verify(outputCollector, times(0)).ack(anchorTuple);
+
+    pendingChecks.forEach(Runnable::run);
+    linkCheckBolt.execute(mock(TupleImpl.class), prepareTupleWithLinksCountEqualsToZero());
+
+    verify(linkChecker, times(1)).performLinkChecking(tuple.getParameter(PluginParameterKeys.RESOURCE_URL));
+    verify(outputCollector, times(1)).ack(anchorTuple);
   }
 
   @Test
@@ -119,10 +178,14 @@ public class LinkCheckBoltTest {
 
 
   private StormTaskTuple prepareRandomTuple() {
+    return prepareRandomTuple("resourceUrl");
+  }
+
+  private StormTaskTuple prepareRandomTuple(String resourceUrl) {
     StormTaskTuple tuple = new StormTaskTuple();
     tuple.setFileUrl("ecloudFileUrl");
     tuple.addParameter(RESOURCE_LINKS_COUNT, 5 + "");
-    tuple.addParameter(RESOURCE_URL, "resourceUrl");
+    tuple.addParameter(RESOURCE_URL, resourceUrl);
     tuple.addParameter(PluginParameterKeys.MESSAGE_PROCESSING_START_TIME_IN_MS, "1");
     return tuple;
   }
@@ -19,7 +19,6 @@ import eu.europeana.metis.mediaprocessing.RdfDeserializer;
 import eu.europeana.metis.mediaprocessing.exception.RdfDeserializationException;
 import eu.europeana.metis.mediaprocessing.model.RdfResourceEntry;
 import eu.europeana.metis.mediaprocessing.model.ResourceExtractionResult;
-import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
 import java.util.Set;
@@ -156,7 +155,7 @@ public class EDMObjectProcessorBolt extends ReadFileBolt {
   }
 
   private void storeThumbnails(StormTaskTuple stormTaskTuple, StringBuilder exception,
-      ResourceExtractionResult resourceExtractionResult) throws IOException {
+      ResourceExtractionResult resourceExtractionResult) {
     thumbnailUploader.storeThumbnails(stormTaskTuple, exception, resourceExtractionResult);
   }
 
@@ -174,6 +173,13 @@ public class EDMObjectProcessorBolt extends ReadFileBolt {
     }
   }
 
+  @Override
+  public void cleanup() {
+    if (thumbnailUploader != null) {
+      thumbnailUploader.shutdown();
+    }
+  }
+
   private void buildErrorMessage(StringBuilder message, String newMessage) {
     LOGGER.error("Error while processing {}", newMessage);
     if (message.toString().isEmpty()) {
@@ -16,7 +16,6 @@ import eu.europeana.metis.mediaprocessing.MediaProcessorFactory;
 import eu.europeana.metis.mediaprocessing.exception.MediaProcessorException;
 import eu.europeana.metis.mediaprocessing.model.RdfResourceEntry;
 import eu.europeana.metis.mediaprocessing.model.ResourceExtractionResult;
-import java.io.IOException;
 import java.time.Instant;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -102,7 +101,7 @@ public class ResourceProcessingBolt extends AbstractDpsBolt {
   }
 
   private void storeThumbnails(StormTaskTuple stormTaskTuple, StringBuilder exception,
-      ResourceExtractionResult resourceExtractionResult) throws IOException {
+      ResourceExtractionResult resourceExtractionResult) {
     thumbnailUploader.storeThumbnails(stormTaskTuple, exception, resourceExtractionResult);
   }
 
@@ -118,6 +117,13 @@ public class ResourceProcessingBolt extends AbstractDpsBolt {
     }
   }
 
+  @Override
+  public void cleanup() {
+    if (thumbnailUploader != null) {
+      thumbnailUploader.shutdown();
+    }
+  }
+
   void initGson() {
     gson = new Gson();
   }
@@ -9,48 +9,95 @@ import eu.europeana.metis.mediaprocessing.model.Thumbnail;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Uploads thumbnails generated for the resource to S3. Thumbnails of the resource are uploaded concurrently, with at most
+ * {@value #MAX_CONCURRENT_UPLOADS} uploads in flight per uploader (so per bolt executor), and
+ * {@link #storeThumbnails(StormTaskTuple, StringBuilder, ResourceExtractionResult)} returns when all of them are completed.
+ * Temporary file of the thumbnail is removed as soon as its upload is completed.
+ */
 public class ThumbnailUploader {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailUploader.class);
+  private static final int MAX_CONCURRENT_UPLOADS = 4;
 
   private final TaskStatusChecker taskStatusChecker;
   private final AmazonClient amazonClient;
+  private final ExecutorService uploadingThreads;
 
   public ThumbnailUploader(TaskStatusChecker taskStatusChecker, AmazonClient amazonClient) {
     this.taskStatusChecker = taskStatusChecker;
     this.amazonClient = amazonClient;
+    uploadingThreads = Executors.newFixedThreadPool(MAX_CONCURRENT_UPLOADS, runnable -> {
+      Thread thread = new Thread(runnable, "thumbnail-uploader");
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   public void storeThumbnails(StormTaskTuple stormTaskTuple, StringBuilder exception,
-      ResourceExtractionResult resourceExtractionResult) throws IOException {
+      ResourceExtractionResult resourceExtractionResult) {
     LOGGER.info("Storing the thumbnail for resourceExtractionResult={}", resourceExtractionResult);
     Instant processingStartTime = Instant.now();
     List<Thumbnail> thumbnails = resourceExtractionResult.getThumbnails();
     if (thumbnails != null) {
+      List<CompletableFuture<String>> uploads = new ArrayList<>();
+      boolean taskDropped = false;
       for (Thumbnail thumbnail : thumbnails) {
-        if (taskStatusChecker.hasDroppedStatus(stormTaskTuple.getTaskId())) {
-          break;
+        taskDropped = taskDropped || taskStatusChecker.hasDroppedStatus(stormTaskTuple.getTaskId());
+        if (taskDropped) {
+          closeThumbnail(thumbnail);
+        } else {
+          uploads.add(CompletableFuture.supplyAsync(() -> upload(thumbnail), uploadingThreads));
         }
-        try (InputStream thumbnailContentStream = thumbnail.getContentStream()) {
-          amazonClient.putObject(thumbnail.getTargetName(), thumbnailContentStream, prepareObjectMetadata(thumbnail));
-        } catch (Exception e) {
-          String errorMessage = "Error while uploading " + thumbnail.getTargetName()
-              + " to S3 in Bluemix. The full error message is: " + e.getMessage()
-              + " because of: " + e.getCause();
-          LOGGER.error(errorMessage, e);
+      }
+      for (CompletableFuture<String> upload : uploads) {
+        String errorMessage = upload.join();
+        if (errorMessage != null) {
           buildErrorMessage(exception, errorMessage);
-        } finally {
-          thumbnail.close();
         }
       }
     }
     LOGGER.info("Storing the thumbnail finished in {}ms", Clock.millisecondsSince(processingStartTime));
   }
 
+  /**
+   * Stops the threads uploading thumbnails. Should be called when the uploader is no longer used.
+   */
+  public void shutdown() {
+    uploadingThreads.shutdownNow();
+  }
+
+  private String upload(Thumbnail thumbnail) {
+    try (InputStream thumbnailContentStream = thumbnail.getContentStream()) {
+      amazonClient.putObject(thumbnail.getTargetName(), thumbnailContentStream, prepareObjectMetadata(thumbnail));
+      return null;
+    } catch (Exception e) {
+      String errorMessage = "Error while uploading " + thumbnail.getTargetName()
+          + " to S3 in Bluemix. The full error message is: " + e.getMessage()
+          + " because of: " + e.getCause();
+      LOGGER.error(errorMessage, e);
+      return errorMessage;
+    } finally {
+      closeThumbnail(thumbnail);
+    }
+  }
+
+  private void closeThumbnail(Thumbnail thumbnail) {
+    try {
+      thumbnail.close();
+    } catch (IOException e) {
+      LOGGER.warn("Could not remove temporary file of the thumbnail {}", thumbnail.getTargetName(), e);
+    }
+  }
+
   private ObjectMetadata prepareObjectMetadata(Thumbnail thumbnail) throws IOException {
     final ObjectMetadata objectMetadata = new ObjectMetadata();
     objectMetadata.setContentType(thumbnail.getMimeType());
@@ -35,6 +35,8 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.storm.shade.org.apache.commons.lang.StringUtils;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
@@ -134,6 +136,42 @@ public class ResourceProcessingBoltTest {
   }
 
 
+  @Test
+  public void shouldUploadThumbnailsConcurrentlyAndRemoveThemAfterUpload() throws Exception {
+    Tuple anchorTuple = mock(TupleImpl.class);
+    stormTaskTuple.addParameter(PluginParameterKeys.RESOURCE_LINKS_COUNT, Integer.toString(5));
+    stormTaskTuple.addParameter(PluginParameterKeys.RESOURCE_LINK_KEY,
+        "{\"resourceUrl\":\"http://contribute.europeana.eu/media/d2136d50-5b4c-0136-9258-16256f71c4b1\",\"urlTypes\":[\"HAS_VIEW\"]}");
+
+    int thumbnailCount = 3;
+    List<Thumbnail> thumbnailList = getThumbnails(thumbnailCount);
+    AbstractResourceMetadata resourceMetadata = new TextResourceMetadata("text/xml", "RESOURCE_URL", 100L, false, 10,
+        thumbnailList);
+    ResourceExtractionResult resourceExtractionResult = new ResourceExtractionResultImpl(resourceMetadata, thumbnailList);
+
+    when(mediaExtractor.performMediaExtraction(any(RdfResourceEntry.class), anyBoolean())).thenReturn(resourceExtractionResult);
+    //every upload waits until all of them are started, so they succeed only when performed concurrently
+    CountDownLatch startedUploads = new CountDownLatch(thumbnailCount);
+    when(amazonClient.putObject(anyString(), any(InputStream.class), any(ObjectMetadata.class))).thenAnswer(invocation -> {
+      startedUploads.countDown();
+      if (!startedUploads.await(10, TimeUnit.SECONDS)) {
+        throw new AmazonServiceException("Uploads are not performed concurrently");
+      }
+      return new PutObjectResult();
+    });
+    when(taskStatusChecker.hasDroppedStatus(TASK_ID)).thenReturn(false);
+
+    resourceProcessingBolt.execute(anchorTuple, stormTaskTuple);
+
+    verify(outputCollector, Mockito.times(1)).emit(eq(anchorTuple), captor.capture());
+    Map<String, String> parameters = (Map) captor.getValue().get(4);
+    assertNull(parameters.get(PluginParameterKeys.EXCEPTION_ERROR_MESSAGE));
+    for (Thumbnail thumbnail : thumbnailList) {
+      verify(thumbnail).close();
+    }
+  }
+
+
   @Test
   public void shouldDropTheTaskAndStopProcessing() throws Exception {
     Tuple anchorTuple = mock(TupleImpl.class);
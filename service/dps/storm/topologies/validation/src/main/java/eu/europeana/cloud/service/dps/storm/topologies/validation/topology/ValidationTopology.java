@@ -1,10 +1,14 @@
 package eu.europeana.cloud.service.dps.storm.topologies.validation.topology;
 
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_STATISTICS_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyDefaultsConstants.DEFAULT_STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_HOSTS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_KEYSPACE_NAME;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_PORT;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_SECRET_TOKEN;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.CASSANDRA_USERNAME;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.STATISTICS_BOLT_BATCH_SIZE;
+import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.STATISTICS_BOLT_NUMBER_OF_TASKS;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.STATISTICS_BOLT_PARALLEL;
 import static eu.europeana.cloud.service.dps.storm.topologies.properties.TopologyPropertyKeys.TOPOLOGY_NAME;
@@ -19,6 +23,7 @@ import eu.europeana.cloud.service.dps.storm.io.ECloudTopologyPipeline;
 import eu.europeana.cloud.service.dps.storm.topologies.properties.PropertyFileLoader;
 import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.bolts.StatisticsBolt;
 import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.bolts.ValidationBolt;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.TopologiesNames;
 import eu.europeana.cloud.service.dps.storm.utils.TopologyPropertiesValidator;
 import eu.europeana.cloud.service.dps.storm.utils.TopologySubmitter;
@@ -56,7 +61,10 @@ public class ValidationTopology {
         .addBolt(STATISTICS_BOLT, new StatisticsBolt(createCassandraProperties(topologyProperties),
                 topologyProperties.getProperty(CASSANDRA_HOSTS), Integer.parseInt(topologyProperties.getProperty(CASSANDRA_PORT)),
                 topologyProperties.getProperty(CASSANDRA_KEYSPACE_NAME), topologyProperties.getProperty(CASSANDRA_USERNAME),
-                topologyProperties.getProperty(CASSANDRA_SECRET_TOKEN)),
+                topologyProperties.getProperty(CASSANDRA_SECRET_TOKEN),
+                BoltBatchingSettings.fromProperties(topologyProperties,
+                    STATISTICS_BOLT_BATCH_SIZE, DEFAULT_STATISTICS_BOLT_BATCH_SIZE,
+                    STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS, DEFAULT_STATISTICS_BOLT_FLUSH_INTERVAL_IN_SECONDS)),
             STATISTICS_BOLT_PARALLEL, STATISTICS_BOLT_NUMBER_OF_TASKS)
         .addRevisionWriterBolt()
         .buildTopology();
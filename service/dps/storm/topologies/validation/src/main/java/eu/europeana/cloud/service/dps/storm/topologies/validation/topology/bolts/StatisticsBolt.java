@@ -1,7 +1,10 @@
 package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.bolts;
 
+import static eu.europeana.cloud.service.dps.storm.service.ValidationStatisticsServiceImpl.ATTRIBUTES_MAX_ALLOWED_VALUES;
+
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.cassandra.CassandraConnectionProviderSingleton;
+import eu.europeana.cloud.common.model.dps.NodeStatistics;
 import eu.europeana.cloud.common.model.dps.ProcessedRecord;
 import eu.europeana.cloud.common.model.dps.RecordState;
 import eu.europeana.cloud.common.properties.CassandraProperties;
@@ -10,40 +13,69 @@ import eu.europeana.cloud.service.dps.storm.AbstractDpsBolt;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.cloud.service.dps.storm.dao.ProcessedRecordsDAO;
 import eu.europeana.cloud.service.dps.storm.service.ValidationStatisticsServiceImpl;
+import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics.AttributeValuesLimiter;
 import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics.RecordStatisticsGenerator;
+import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics.StatisticsAggregator;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.service.dps.storm.utils.StormTaskTupleHelper;
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import org.apache.storm.tuple.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.SAXException;
 
 
+/**
+ * Counts statistics of the nodes and attributes of the records.
+ * <p>
+ * Statistics of the records are aggregated per task and stored together, when the number of records of the task reaches the
+ * configured batch size or when the flush interval elapses (triggered by tick tuples). Tuples are emitted and acknowledged
+ * when the statistics of their records are stored.
+ */
 public class StatisticsBolt extends AbstractDpsBolt {
 
   private static final long serialVersionUID = 1L;
   public static final Logger LOGGER = LoggerFactory.getLogger(StatisticsBolt.class);
+  private static final int MAX_TRACKED_ATTRIBUTES_COUNT = 10000;
+  private static final String STATISTICS_ERROR_MESSAGE = "Statistics for the given file could not be prepared.";
 
   private final String hosts;
   private final int port;
   private final String keyspaceName;
   private final String userName;
   private final String password;
+  private final BoltBatchingSettings batchingSettings;
   private transient ValidationStatisticsServiceImpl statisticsService;
   private transient ProcessedRecordsDAO processedRecordsDAO;
+  private transient AttributeValuesLimiter attributeValuesLimiter;
+  private transient Map<Long, StatisticsBatch> pendingBatches;
 
   public StatisticsBolt(CassandraProperties cassandraProperties, String hosts, int port,
       String keyspaceName, String userName, String password) {
+    this(cassandraProperties, hosts, port, keyspaceName, userName, password, BoltBatchingSettings.NO_BATCHING);
+  }
+
+  /**
+   * Constructor of statistics bolt that stores statistics of the records in batches.
+   *
+   * @param batchingSettings maximal number of records of one task, which statistics are stored together, and maximal
+   * time the records wait in the batch before their statistics are stored
+   */
+  public StatisticsBolt(CassandraProperties cassandraProperties, String hosts, int port,
+      String keyspaceName, String userName, String password, BoltBatchingSettings batchingSettings) {
     super(cassandraProperties);
     this.hosts = hosts;
     this.port = port;
     this.keyspaceName = keyspaceName;
     this.userName = userName;
     this.password = password;
+    this.batchingSettings = batchingSettings;
   }
 
   @Override
@@ -53,6 +85,20 @@ public class StatisticsBolt extends AbstractDpsBolt {
         userName, password);
     statisticsService = ValidationStatisticsServiceImpl.getInstance(cassandraConnectionProvider);
     processedRecordsDAO = ProcessedRecordsDAO.getInstance(cassandraConnectionProvider);
+    attributeValuesLimiter = new AttributeValuesLimiter(ATTRIBUTES_MAX_ALLOWED_VALUES, MAX_TRACKED_ATTRIBUTES_COUNT);
+    pendingBatches = new LinkedHashMap<>();
+  }
+
+  @Override
+  public Map<String, Object> getComponentConfiguration() {
+    return batchingSettings.addTickTupleFrequency(super.getComponentConfiguration());
+  }
+
+  @Override
+  public void execute(Tuple tuple) {
+    if (!BoltBatchingSettings.flushOnTick(tuple, this::flushAll)) {
+      super.execute(tuple);
+    }
   }
 
   @Override
@@ -60,20 +106,16 @@ public class StatisticsBolt extends AbstractDpsBolt {
     try {
       if (statsShouldBeGenerated(stormTaskTuple)) {
         LOGGER.info("Calculating file statistics for {}", stormTaskTuple);
-        countStatistics(stormTaskTuple);
-        markRecordStatsAsCalculated(stormTaskTuple);
+        countStatistics(anchorTuple, stormTaskTuple);
       } else {
         LOGGER.info("File stats will NOT be calculated for: {}", stormTaskTuple.getFileUrl());
+        emit(anchorTuple, stormTaskTuple);
       }
-      // we can remove the file content before emitting further
-      stormTaskTuple.setFileData((byte[]) null);
-      outputCollector.emit(anchorTuple, stormTaskTuple.toStormTuple());
-      outputCollector.ack(anchorTuple);
     } catch (RetryInterruptedException e) {
       handleInterruption(e, anchorTuple);
     } catch (Exception e) {
-      emitErrorNotification(anchorTuple, stormTaskTuple, e.getMessage(), "Statistics for the given file could not be prepared.");
-        outputCollector.ack(anchorTuple);
+      emitErrorNotification(anchorTuple, stormTaskTuple, e.getMessage(), STATISTICS_ERROR_MESSAGE);
+      outputCollector.ack(anchorTuple);
     }
   }
 
@@ -89,10 +131,54 @@ public class StatisticsBolt extends AbstractDpsBolt {
                .contains(processingRecordStage.get().getState());
   }
 
-  private void countStatistics(StormTaskTuple stormTaskTuple) throws ParserConfigurationException, SAXException, IOException {
+  private void countStatistics(Tuple anchorTuple, StormTaskTuple stormTaskTuple) throws XMLStreamException {
     String document = new String(stormTaskTuple.getFileData(), StandardCharsets.UTF_8);
-    RecordStatisticsGenerator statisticsGenerator = new RecordStatisticsGenerator(document);
-    statisticsService.insertNodeStatistics(stormTaskTuple.getTaskId(), statisticsGenerator.getStatistics());
+    List<NodeStatistics> statistics = new RecordStatisticsGenerator(document).getStatistics();
+    long taskId = stormTaskTuple.getTaskId();
+    StatisticsBatch batch = pendingBatches.computeIfAbsent(taskId,
+        id -> new StatisticsBatch(new StatisticsAggregator(id, attributeValuesLimiter)));
+    batch.aggregator.add(statistics);
+    // we can remove the file content while the tuple waits for the batch
+    stormTaskTuple.setFileData((byte[]) null);
+    batch.anchorTuples.add(anchorTuple);
+    batch.stormTaskTuples.add(stormTaskTuple);
+    if (batchingSettings.isFull(batch.anchorTuples.size())) {
+      flush(taskId);
+    }
+  }
+
+  private void flushAll() {
+    new ArrayList<>(pendingBatches.keySet()).forEach(this::flush);
+  }
+
+  private void flush(long taskId) {
+    StatisticsBatch batch = pendingBatches.remove(taskId);
+    try {
+      statisticsService.insertAggregatedStatistics(taskId, batch.aggregator.getGeneralStatistics(),
+          batch.aggregator.getNodeStatistics());
+      batch.stormTaskTuples.forEach(this::markRecordStatsAsCalculated);
+    } catch (RetryInterruptedException e) {
+      batch.anchorTuples.forEach(anchorTuple -> handleInterruption(e, anchorTuple));
+      return;
+    } catch (Exception e) {
+      LOGGER.error("Cannot store statistics of {} records of task {}", batch.anchorTuples.size(), taskId, e);
+      for (int i = 0; i < batch.anchorTuples.size(); i++) {
+        emitErrorNotification(batch.anchorTuples.get(i), batch.stormTaskTuples.get(i), e.getMessage(),
+            STATISTICS_ERROR_MESSAGE);
+        outputCollector.ack(batch.anchorTuples.get(i));
+      }
+      return;
+    }
+    for (int i = 0; i < batch.anchorTuples.size(); i++) {
+      emit(batch.anchorTuples.get(i), batch.stormTaskTuples.get(i));
+    }
+  }
+
+  private void emit(Tuple anchorTuple, StormTaskTuple stormTaskTuple) {
+    // we can remove the file content before emitting further
+    stormTaskTuple.setFileData((byte[]) null);
+    outputCollector.emit(anchorTuple, stormTaskTuple.toStormTuple());
+    outputCollector.ack(anchorTuple);
   }
 
   private void markRecordStatsAsCalculated(StormTaskTuple stormTaskTuple) {
@@ -101,4 +187,15 @@ public class StatisticsBolt extends AbstractDpsBolt {
           RecordState.STATS_GENERATED);
     }
   }
+
+  private static class StatisticsBatch {
+
+    private final StatisticsAggregator aggregator;
+    private final List<Tuple> anchorTuples = new ArrayList<>();
+    private final List<StormTaskTuple> stormTaskTuples = new ArrayList<>();
+
+    private StatisticsBatch(StatisticsAggregator aggregator) {
+      this.aggregator = aggregator;
+    }
+  }
 }
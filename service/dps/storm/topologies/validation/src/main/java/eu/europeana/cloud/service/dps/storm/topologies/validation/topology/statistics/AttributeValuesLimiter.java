@@ -0,0 +1,62 @@
+package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics;
+
+import eu.europeana.cloud.service.dps.util.LRUCache;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * Limits the number of distinct values of the attribute stored in the statistics of the node, without reading the statistics
+ * already stored in the database. Up to <code>maxValuesCount</code> distinct values of every attribute are remembered in
+ * memory, and the following new values are rejected. Remembered values are always accepted, so their occurrences are still
+ * counted.
+ * <p>
+ * The limit is approximate. Values are remembered per bolt instance and only for <code>maxTrackedAttributesCount</code>
+ * recently used attributes, so values stored by other bolt instances, or before the attribute was evicted, are not known.
+ */
+public class AttributeValuesLimiter {
+
+  private final int maxValuesCount;
+  private final LRUCache<AttributeKey, Set<String>> knownValues;
+
+  public AttributeValuesLimiter(int maxValuesCount, int maxTrackedAttributesCount) {
+    this.maxValuesCount = maxValuesCount;
+    this.knownValues = new LRUCache<>(maxTrackedAttributesCount);
+  }
+
+  /**
+   * Checks if the statistics of the given attribute value should be stored.
+   *
+   * @param taskId task identifier
+   * @param nodeXpath xpath of the node owning the attribute
+   * @param nodeValue value of the node owning the attribute
+   * @param attributeName name (xpath) of the attribute
+   * @param attributeValue value of the attribute
+   * @return true if the value is already known or the limit of the values of the attribute is not reached yet
+   */
+  public boolean accept(long taskId, String nodeXpath, String nodeValue, String attributeName, String attributeValue) {
+    AttributeKey key = new AttributeKey(taskId, nodeXpath, nodeValue, attributeName);
+    Set<String> values = knownValues.get(key);
+    if (values == null) {
+      values = new HashSet<>();
+      knownValues.put(key, values);
+    }
+    if (values.contains(attributeValue)) {
+      return true;
+    }
+    if (values.size() < maxValuesCount) {
+      values.add(attributeValue);
+      return true;
+    }
+    return false;
+  }
+
+  @Value
+  private static class AttributeKey {
+
+    long taskId;
+    String nodeXpath;
+    String nodeValue;
+    String attributeName;
+  }
+}
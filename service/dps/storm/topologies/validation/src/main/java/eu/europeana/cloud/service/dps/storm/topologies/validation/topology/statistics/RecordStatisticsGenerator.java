@@ -2,129 +2,119 @@ package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.stat
 
 import eu.europeana.cloud.common.model.dps.AttributeStatistics;
 import eu.europeana.cloud.common.model.dps.NodeStatistics;
-import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import org.w3c.dom.Attr;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
+ * Generates statistics of the nodes and attributes of the record. The record is read in one pass with the StAX parser, so
+ * the document tree is not built, and xpaths are derived from the xpath of the parent element. Text of CDATA sections is a
+ * part of the node value.
+ * <p>
  * Created by Tarek on 1/9/2018.
  */
 public class RecordStatisticsGenerator {
 
   private static final int MAX_SIZE = 1000;
-  private Map<String, NodeStatistics> nodeStatistics;
-  private String fileContent;
+  private static final String ROOT_PARENT_XPATH = "";
+  private static final String DOCUMENT_XPATH = "/";
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private final Map<String, Map<String, NodeStatistics>> nodeStatistics;
+  private final String fileContent;
 
   public RecordStatisticsGenerator(String fileContent) {
     this.fileContent = fileContent;
     nodeStatistics = new HashMap<>();
-
-  }
-
-  public List<NodeStatistics> getStatistics() throws SAXException, IOException, ParserConfigurationException {
-    Document doc = getParsedDocument();
-    doc.getDocumentElement().normalize();
-    Node root = doc.getDocumentElement();
-    addRootToNodeList(root);
-    prepareNodeStatistics(root);
-    return new ArrayList<>(nodeStatistics.values());
-  }
-
-
-  private Document getParsedDocument() throws ParserConfigurationException, SAXException, IOException {
-    DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-    dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-    DocumentBuilder db = dbf.newDocumentBuilder();
-    InputSource is = new InputSource();
-    is.setCharacterStream(new StringReader(fileContent));
-    return db.parse(is);
-  }
-
-  private void addRootToNodeList(Node root) {
-    String nodeXpath = getXPath(root);
-    String nodeValue = getFirstLevelTextContent(root);
-    String modelKey = getKey(nodeXpath, nodeValue);
-    nodeStatistics.put(modelKey, new NodeStatistics("", nodeXpath, nodeValue, 1));
   }
 
-  private void prepareNodeStatistics(Node root) {
-    String parentXpath = getXPath(root);
-    NodeList childrenNodes = root.getChildNodes();
-    for (int i = 0; i < childrenNodes.getLength(); i++) {
-      Node node = childrenNodes.item(i);
-      if (node instanceof Element) {
-        String nodeXpath = getXPath(node);
-        String nodeValue = getFirstLevelTextContent(node);
-        String modelKey = getKey(nodeXpath, nodeValue);
-        NodeStatistics nodeModel = nodeStatistics.get(modelKey);
-        if (nodeModel == null) {
-          nodeModel = new NodeStatistics(parentXpath, nodeXpath, nodeValue, 1);
-        } else {
-          nodeModel.increaseOccurrence();
+  public List<NodeStatistics> getStatistics() throws XMLStreamException {
+    XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(fileContent));
+    try {
+      Deque<OpenElement> openElements = new ArrayDeque<>();
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.DTD -> throw new XMLStreamException("DOCTYPE is not allowed in the record",
+              reader.getLocation());
+          case XMLStreamConstants.START_ELEMENT -> openElements.push(openElement(reader, openElements.peek()));
+          case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA ->
+              appendFirstLevelText(reader, openElements.peek());
+          case XMLStreamConstants.END_ELEMENT -> addNodeStatistics(openElements.pop());
+          default -> {
+            //other events are not a part of statistics
+          }
         }
-        assignAttributesToNode(nodeModel.getAttributesStatistics(), node.getAttributes());
-        nodeStatistics.put(modelKey, nodeModel);
-        prepareNodeStatistics(node);
       }
+    } finally {
+      reader.close();
     }
+    List<NodeStatistics> result = new ArrayList<>();
+    nodeStatistics.values().forEach(valueStatistics -> result.addAll(valueStatistics.values()));
+    return result;
   }
 
-
-  private void assignAttributesToNode(Set<AttributeStatistics> existedAttributes, NamedNodeMap attributes) {
-    for (int j = 0; j < attributes.getLength(); j++) {
-      Attr attr = (Attr) attributes.item(j);
-      String attrName = getAttributeXPath(attr);
-      String attrValue = attr.getNodeValue();
-      if (existedAttributes.isEmpty()) {
-        AttributeStatistics attributeModel = new AttributeStatistics(attrName, attrValue, 1);
-        existedAttributes.add(attributeModel);
-      } else {
-        AttributeStatistics attributeModel = new AttributeStatistics(attrName, attrValue, 1);
-        if (existedAttributes.contains(attributeModel)) {
-          increaseOccurrence(existedAttributes, attributeModel);
-        } else {
-          existedAttributes.add(attributeModel);
-        }
-      }
+  private OpenElement openElement(XMLStreamReader reader, OpenElement parent) {
+    String name = qualifiedName(reader.getPrefix(), reader.getLocalName());
+    if (parent == null) {
+      //Attributes of the root are not a part of statistics.
+      return new OpenElement(ROOT_PARENT_XPATH, DOCUMENT_XPATH + "/" + name, new ArrayList<>(0));
+    }
+    String xpath = parent.xpath + "/" + name;
+    List<AttributeStatistics> attributes = new ArrayList<>();
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      String prefix = reader.getNamespacePrefix(i);
+      String attrName = prefix == null || prefix.isEmpty() ? "xmlns" : "xmlns:" + prefix;
+      attributes.add(new AttributeStatistics(xpath + "/@" + attrName, reader.getNamespaceURI(i), 1));
     }
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      String attrName = qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+      attributes.add(new AttributeStatistics(xpath + "/@" + attrName, reader.getAttributeValue(i), 1));
+    }
+    return new OpenElement(parent.xpath, xpath, attributes);
   }
 
-  private String getXPath(Node node) {
-    Node parent = node.getParentNode();
-    if (parent == null) {
-      return "/";
+  private void appendFirstLevelText(XMLStreamReader reader, OpenElement element) {
+    if (element == null) {
+      return;
+    }
+    int remaining = MAX_SIZE - element.text.length();
+    if (remaining > 0) {
+      element.text.append(reader.getTextCharacters(), reader.getTextStart(), Math.min(remaining, reader.getTextLength()));
     }
-    return getXPath(parent) + "/" + node.getNodeName();
   }
 
-  private String getKey(String name, String value) {
-    String key = name + "-" + value;
-    return String.valueOf(key.hashCode());
+  private void addNodeStatistics(OpenElement element) {
+    String nodeValue = element.text.toString().trim();
+    Map<String, NodeStatistics> valueStatistics = nodeStatistics.computeIfAbsent(element.xpath, xpath -> new HashMap<>());
+    NodeStatistics nodeModel = valueStatistics.get(nodeValue);
+    if (nodeModel == null) {
+      nodeModel = new NodeStatistics(element.parentXpath, element.xpath, nodeValue, 1);
+      valueStatistics.put(nodeValue, nodeModel);
+    } else {
+      nodeModel.increaseOccurrence();
+    }
+    assignAttributesToNode(nodeModel.getAttributesStatistics(), element.attributes);
   }
 
-  private String getAttributeXPath(Attr attr) {
-    Node owner = attr.getOwnerElement();
-    return getXPath(owner) + "/@" + attr.getNodeName();
+  private void assignAttributesToNode(Set<AttributeStatistics> existedAttributes, List<AttributeStatistics> attributes) {
+    for (AttributeStatistics attributeModel : attributes) {
+      if (existedAttributes.contains(attributeModel)) {
+        increaseOccurrence(existedAttributes, attributeModel);
+      } else {
+        existedAttributes.add(attributeModel);
+      }
+    }
   }
 
-
   private void increaseOccurrence(Set<AttributeStatistics> models, AttributeStatistics comparableAttributeModel) {
     for (AttributeStatistics attributeModel : models) {
       if (attributeModel.equals(comparableAttributeModel)) {
@@ -134,19 +124,29 @@ public class RecordStatisticsGenerator {
     }
   }
 
-  private String getFirstLevelTextContent(Node node) {
-    NodeList list = node.getChildNodes();
-    StringBuilder textContent = new StringBuilder();
-    for (int i = 0; i < list.getLength(); ++i) {
-      Node child = list.item(i);
-      if (child.getNodeType() == Node.TEXT_NODE) {
-        textContent.append(child.getTextContent());
-      }
-    }
+  private static String qualifiedName(String prefix, String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  private static class OpenElement {
+
+    private final String parentXpath;
+    private final String xpath;
+    private final List<AttributeStatistics> attributes;
+    private final StringBuilder text = new StringBuilder();
 
-    if (textContent.length() > MAX_SIZE) {
-      return textContent.substring(0, MAX_SIZE).trim();
+    private OpenElement(String parentXpath, String xpath, List<AttributeStatistics> attributes) {
+      this.parentXpath = parentXpath;
+      this.xpath = xpath;
+      this.attributes = attributes;
     }
-    return textContent.toString().trim();
   }
 }
@@ -0,0 +1,83 @@
+package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics;
+
+import eu.europeana.cloud.common.model.dps.AttributeStatistics;
+import eu.europeana.cloud.common.model.dps.GeneralStatistics;
+import eu.europeana.cloud.common.model.dps.NodeStatistics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aggregates statistics generated for many records of the task, so every general, node and attribute statistics entry could
+ * be stored with one counter update, instead of one update for every record containing it.
+ * <p>
+ * The general statistics entry of the node is increased once per every record statistics entry of the node, the same way
+ * they were increased when records were stored one by one. Attribute values are filtered with the given
+ * {@link AttributeValuesLimiter}.
+ */
+public class StatisticsAggregator {
+
+  private final long taskId;
+  private final AttributeValuesLimiter attributeValuesLimiter;
+  private final Map<String, GeneralStatistics> generalStatistics = new HashMap<>();
+  private final Map<String, Map<String, NodeStatistics>> nodeStatistics = new HashMap<>();
+
+  public StatisticsAggregator(long taskId, AttributeValuesLimiter attributeValuesLimiter) {
+    this.taskId = taskId;
+    this.attributeValuesLimiter = attributeValuesLimiter;
+  }
+
+  /**
+   * Adds statistics of one record to the aggregated ones.
+   *
+   * @param recordStatistics statistics generated for the record by {@link RecordStatisticsGenerator}
+   */
+  public void add(List<NodeStatistics> recordStatistics) {
+    for (NodeStatistics node : recordStatistics) {
+      GeneralStatistics general = generalStatistics.computeIfAbsent(node.getXpath(),
+          xpath -> new GeneralStatistics(node.getParentXpath(), xpath, 0L));
+      general.setOccurrence(general.getOccurrence() + 1);
+
+      Map<String, NodeStatistics> valueStatistics = nodeStatistics.computeIfAbsent(node.getXpath(), xpath -> new HashMap<>());
+      NodeStatistics aggregated = valueStatistics.get(node.getValue());
+      if (aggregated == null) {
+        aggregated = new NodeStatistics(node.getParentXpath(), node.getXpath(), node.getValue(), node.getOccurrence());
+        valueStatistics.put(node.getValue(), aggregated);
+      } else {
+        aggregated.setOccurrence(aggregated.getOccurrence() + node.getOccurrence());
+      }
+      addAttributes(aggregated, node.getAttributesStatistics());
+    }
+  }
+
+  public List<GeneralStatistics> getGeneralStatistics() {
+    return new ArrayList<>(generalStatistics.values());
+  }
+
+  public List<NodeStatistics> getNodeStatistics() {
+    List<NodeStatistics> result = new ArrayList<>();
+    nodeStatistics.values().forEach(valueStatistics -> result.addAll(valueStatistics.values()));
+    return result;
+  }
+
+  private void addAttributes(NodeStatistics aggregated, Set<AttributeStatistics> attributes) {
+    for (AttributeStatistics attribute : attributes) {
+      if (attributeValuesLimiter.accept(taskId, aggregated.getXpath(), aggregated.getValue(), attribute.getName(),
+          attribute.getValue())) {
+        addAttribute(aggregated.getAttributesStatistics(), attribute);
+      }
+    }
+  }
+
+  private void addAttribute(Set<AttributeStatistics> aggregatedAttributes, AttributeStatistics attribute) {
+    for (AttributeStatistics aggregatedAttribute : aggregatedAttributes) {
+      if (aggregatedAttribute.equals(attribute)) {
+        aggregatedAttribute.setOccurrence(aggregatedAttribute.getOccurrence() + attribute.getOccurrence());
+        return;
+      }
+    }
+    aggregatedAttributes.add(new AttributeStatistics(attribute.getName(), attribute.getValue(), attribute.getOccurrence()));
+  }
+}
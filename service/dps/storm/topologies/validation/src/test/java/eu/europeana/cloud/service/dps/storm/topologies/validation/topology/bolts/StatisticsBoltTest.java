@@ -3,6 +3,7 @@ package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.bolt
 import static eu.europeana.cloud.service.dps.test.TestConstants.SOURCE_VERSION_URL;
 import static eu.europeana.cloud.service.dps.test.TestConstants.SOURCE_VERSION_URL_CLOUD_ID2;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import eu.europeana.cloud.cassandra.CassandraConnectionProviderSingleton;
 import eu.europeana.cloud.common.model.Revision;
@@ -15,12 +16,15 @@ import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.cloud.service.dps.storm.service.ValidationStatisticsServiceImpl;
 import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.helper.CassandraTestBase;
 import eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics.RecordStatisticsGenerator;
+import eu.europeana.cloud.service.dps.storm.utils.BoltBatchingSettings;
 import eu.europeana.cloud.test.CassandraTestInstance;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import org.apache.storm.Config;
+import org.apache.storm.Constants;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.TupleImpl;
@@ -47,10 +51,15 @@ public class StatisticsBoltTest extends CassandraTestBase {
   private StatisticsBolt statisticsBolt = new StatisticsBolt(new CassandraProperties(),
       HOST, CassandraTestInstance.getPort(), KEYSPACE, "", "");
 
+  @InjectMocks
+  private StatisticsBolt batchingStatisticsBolt = new StatisticsBolt(new CassandraProperties(),
+      HOST, CassandraTestInstance.getPort(), KEYSPACE, "", "", new BoltBatchingSettings(10, 5));
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     statisticsBolt.prepare();
+    batchingStatisticsBolt.prepare();
     statisticsService = Mockito.spy(ValidationStatisticsServiceImpl.getInstance(
         CassandraConnectionProviderSingleton.getCassandraConnectionProvider(HOST, CassandraTestInstance.getPort(), KEYSPACE, "",
             "")));
@@ -142,6 +151,45 @@ public class StatisticsBoltTest extends CassandraTestBase {
     assertFailure();
   }
 
+  @Test
+  public void shouldStoreStatisticsOfBatchWhenTickTupleArrives() throws Exception {
+    //given
+    Tuple anchorTuple = mock(TupleImpl.class);
+    Tuple anchorTuple2 = mock(TupleImpl.class);
+    byte[] fileData = Files.readAllBytes(Paths.get("src/test/resources/example1.xml"));
+    StormTaskTuple tuple = new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL, fileData, prepareStormTaskTupleParameters(),
+        new Revision());
+    List<NodeStatistics> generated = new RecordStatisticsGenerator(new String(fileData)).getStatistics();
+    byte[] fileData2 = Files.readAllBytes(Paths.get("src/test/resources/example2.xml"));
+    StormTaskTuple tuple2 = new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL_CLOUD_ID2, fileData2,
+        prepareStormTaskTupleParameters(), new Revision());
+    List<NodeStatistics> generated2 = new RecordStatisticsGenerator(new String(fileData2)).getStatistics();
+    batchingStatisticsBolt.execute(anchorTuple, tuple);
+    batchingStatisticsBolt.execute(anchorTuple2, tuple2);
+    assertSuccess(0);
+    Assert.assertTrue(statisticsService.getNodeStatistics(TASK_ID).isEmpty());
+
+    //when
+    batchingStatisticsBolt.execute(createTickTuple());
+
+    //then
+    assertSuccess(2);
+    assertDataStoring(generated, generated2);
+  }
+
+  @Test
+  public void shouldRequestTickTuplesWithFlushIntervalOnlyWhenBatching() {
+    Assert.assertEquals(5, batchingStatisticsBolt.getComponentConfiguration().get(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS));
+    Assert.assertNull(statisticsBolt.getComponentConfiguration());
+  }
+
+  private Tuple createTickTuple() {
+    Tuple tuple = mock(Tuple.class);
+    when(tuple.getSourceComponent()).thenReturn(Constants.SYSTEM_COMPONENT_ID);
+    when(tuple.getSourceStreamId()).thenReturn(Constants.SYSTEM_TICK_STREAM_ID);
+    return tuple;
+  }
+
   private void assertDataStoring(List<NodeStatistics> generated, List<NodeStatistics> generated2) {
     List<NodeStatistics> statistics = statisticsService.getNodeStatistics(TASK_ID);
 
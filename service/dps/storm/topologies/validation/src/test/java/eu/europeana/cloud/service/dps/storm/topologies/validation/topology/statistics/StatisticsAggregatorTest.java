@@ -0,0 +1,86 @@
+package eu.europeana.cloud.service.dps.storm.topologies.validation.topology.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import eu.europeana.cloud.common.model.dps.AttributeStatistics;
+import eu.europeana.cloud.common.model.dps.GeneralStatistics;
+import eu.europeana.cloud.common.model.dps.NodeStatistics;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class StatisticsAggregatorTest {
+
+  private static final long TASK_ID = 1;
+
+  @Test
+  public void shouldSumStatisticsOfRecords() throws Exception {
+    StatisticsAggregator aggregator = new StatisticsAggregator(TASK_ID, new AttributeValuesLimiter(15, 100));
+
+    aggregator.add(generate("src/test/resources/example1.xml"));
+    aggregator.add(generate("src/test/resources/example1.xml"));
+
+    NodeStatistics childA = findNode(aggregator.getNodeStatistics(), "//root/father3/childA", "Tarek");
+    assertEquals(4, childA.getOccurrence());
+    assertEquals(2, findAttribute(childA, "Poland").getOccurrence());
+    assertEquals(2, findAttribute(childA, "Syria").getOccurrence());
+    assertEquals(2, findNode(aggregator.getNodeStatistics(), "//root", "").getOccurrence());
+    assertEquals(4, findGeneral(aggregator.getGeneralStatistics(), "//root/father1/childA").getOccurrence().longValue());
+    assertEquals(2, findGeneral(aggregator.getGeneralStatistics(), "//root/father3/childA").getOccurrence().longValue());
+  }
+
+  @Test
+  public void shouldSkipAttributeValuesAboveTheLimit() {
+    StatisticsAggregator aggregator = new StatisticsAggregator(TASK_ID, new AttributeValuesLimiter(2, 100));
+
+    aggregator.add(List.of(nodeWithAttribute("a")));
+    aggregator.add(List.of(nodeWithAttribute("b")));
+    aggregator.add(List.of(nodeWithAttribute("c")));
+    aggregator.add(List.of(nodeWithAttribute("a")));
+
+    NodeStatistics node = findNode(aggregator.getNodeStatistics(), "//root/node", "value");
+    assertEquals(4, node.getOccurrence());
+    assertEquals(2, node.getAttributesStatistics().size());
+    assertEquals(2, findAttribute(node, "a").getOccurrence());
+    assertEquals(1, findAttribute(node, "b").getOccurrence());
+  }
+
+  private NodeStatistics nodeWithAttribute(String attributeValue) {
+    NodeStatistics node = new NodeStatistics("//root", "//root/node", "value", 1);
+    node.getAttributesStatistics().add(new AttributeStatistics("//root/node/@attr", attributeValue, 1));
+    return node;
+  }
+
+  private List<NodeStatistics> generate(String filePath) throws Exception {
+    return new RecordStatisticsGenerator(readFile(filePath)).getStatistics();
+  }
+
+  private NodeStatistics findNode(List<NodeStatistics> nodes, String xpath, String value) {
+    List<NodeStatistics> found = new ArrayList<>();
+    nodes.stream().filter(node -> node.getXpath().equals(xpath) && node.getValue().equals(value)).forEach(found::add);
+    assertEquals(1, found.size());
+    return found.get(0);
+  }
+
+  private GeneralStatistics findGeneral(List<GeneralStatistics> generalStatistics, String xpath) {
+    GeneralStatistics found = generalStatistics.stream().filter(general -> general.getNodeXpath().equals(xpath))
+                                               .findFirst().orElse(null);
+    assertNotNull(found);
+    return found;
+  }
+
+  private AttributeStatistics findAttribute(NodeStatistics node, String value) {
+    AttributeStatistics found = node.getAttributesStatistics().stream().filter(attribute -> attribute.getValue().equals(value))
+                                    .findFirst().orElse(null);
+    assertNotNull(found);
+    return found;
+  }
+
+  private String readFile(String filePath) throws IOException {
+    return IOUtils.toString(new FileInputStream(filePath));
+  }
+}
@@ -8,6 +8,7 @@ import eu.europeana.cloud.service.dps.PluginParameterKeys;
 import eu.europeana.cloud.service.dps.storm.AbstractDpsBolt;
 import eu.europeana.cloud.service.dps.storm.StormTaskTuple;
 import eu.europeana.metis.transformation.service.*;
+import lombok.Value;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.storm.tuple.Tuple;
@@ -17,11 +18,20 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class XsltBolt extends AbstractDpsBolt {
 
   private static final long serialVersionUID = 1L;
   private static final Logger LOGGER = LoggerFactory.getLogger(XsltBolt.class);
+  private static final int MAX_CACHED_TRANSFORMERS = 16;
+
+  /**
+   * Transformers with compiled stylesheets, reused for the following records of the same task. Transformers are not thread
+   * safe, so every bolt instance, which is executed by the single executor thread, has its own cache.
+   */
+  private transient Map<TransformerKey, XsltTransformer> transformers;
 
   public XsltBolt(CassandraProperties cassandraProperties) {
     super(cassandraProperties);
@@ -82,8 +92,21 @@ public class XsltBolt extends AbstractDpsBolt {
     final String metisDatasetLanguage = stormTaskTuple
         .getParameter(PluginParameterKeys.METIS_DATASET_LANGUAGE);
 
-    return new XsltTransformer(xsltUrl, metisDatasetName, metisDatasetCountry,
+    //The task id is a part of the key, so the stylesheet changed under the same url is compiled again for the next task.
+    TransformerKey key = new TransformerKey(stormTaskTuple.getTaskId(), xsltUrl, metisDatasetName, metisDatasetCountry,
         metisDatasetLanguage);
+    XsltTransformer transformer = transformers.get(key);
+    if (transformer == null) {
+      LOGGER.info("Compiling xslt schema: {} for task: {}", xsltUrl, stormTaskTuple.getTaskId());
+      transformer = createXsltTransformer(xsltUrl, metisDatasetName, metisDatasetCountry, metisDatasetLanguage);
+      transformers.put(key, transformer);
+    }
+    return transformer;
+  }
+
+  XsltTransformer createXsltTransformer(String xsltUrl, String metisDatasetName, String metisDatasetCountry,
+      String metisDatasetLanguage) throws TransformationException {
+    return new XsltTransformer(xsltUrl, metisDatasetName, metisDatasetCountry, metisDatasetLanguage);
   }
 
   private EuropeanaGeneratedIdsMap prepareEuropeanaGeneratedIdsMap(StormTaskTuple stormTaskTuple)
@@ -110,5 +133,21 @@ public class XsltBolt extends AbstractDpsBolt {
 
   @Override
   public void prepare() {
+    transformers = new LinkedHashMap<>(MAX_CACHED_TRANSFORMERS, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<TransformerKey, XsltTransformer> eldest) {
+        return size() > MAX_CACHED_TRANSFORMERS;
+      }
+    };
+  }
+
+  @Value
+  private static class TransformerKey {
+
+    long taskId;
+    String xsltUrl;
+    String metisDatasetName;
+    String metisDatasetCountry;
+    String metisDatasetLanguage;
   }
 }
@@ -12,7 +12,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,17 +47,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 public class XsltBoltTest {
 
   private static final String EXAMPLE_METIS_DATASET_ID = "100";
   private final int TASK_ID = 1;
   private final String TASK_NAME = "TASK_NAME";
+  private final String LOCAL_XSLT_URL = getClass().getResource("/sample_xslt.xslt").toString();
 
   @Mock(name = "outputCollector")
   private OutputCollector outputCollector;
 
 
+  @Spy
   @InjectMocks
   private XsltBolt xsltBolt = new XsltBolt(new CassandraProperties());
 
@@ -103,9 +108,51 @@ public class XsltBoltTest {
     assertTrue(transformed.contains(EXAMPLE_METIS_DATASET_ID));
   }
 
+  @Test
+  public void executeBoltForTwoRecordsOfTheSameTask() throws Exception {
+    Tuple anchorTuple = mock(TupleImpl.class);
+    String sampleXmlFileName = "/xmlForTesting.xml";
+    for (int i = 0; i < 2; i++) {
+      StormTaskTuple tuple = new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL, readMockContentOfURL(sampleXmlFileName),
+          prepareStormTaskTupleParameters(LOCAL_XSLT_URL), new Revision());
+      xsltBolt.execute(anchorTuple, tuple);
+    }
+    verify(outputCollector, times(2)).emit(Mockito.any(Tuple.class), captor.capture());
+    List<Values> allValues = captor.getAllValues();
+    assertEmittedTuple(allValues.subList(0, 1), 4);
+    assertEmittedTuple(allValues.subList(1, 2), 4);
+    assertEquals(new String((byte[]) allValues.get(0).get(3)), new String((byte[]) allValues.get(1).get(3)));
+    verify(xsltBolt, times(1)).createXsltTransformer(eq(LOCAL_XSLT_URL), isNull(), isNull(), isNull());
+  }
+
+  @Test
+  public void executeBoltCompilesStylesheetForEveryTaskAndDatasetParameters() throws Exception {
+    Tuple anchorTuple = mock(TupleImpl.class);
+    byte[] fileData = readMockContentOfURL("/xmlForTesting.xml");
+    HashMap<String, String> parametersWithDatasetName = prepareStormTaskTupleParameters(LOCAL_XSLT_URL);
+    parametersWithDatasetName.put(PluginParameterKeys.METIS_DATASET_NAME, "datasetName");
+
+    xsltBolt.execute(anchorTuple, new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL, fileData,
+        prepareStormTaskTupleParameters(LOCAL_XSLT_URL), new Revision()));
+    xsltBolt.execute(anchorTuple, new StormTaskTuple(TASK_ID + 1, TASK_NAME, SOURCE_VERSION_URL, fileData,
+        prepareStormTaskTupleParameters(LOCAL_XSLT_URL), new Revision()));
+    xsltBolt.execute(anchorTuple, new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL, fileData,
+        parametersWithDatasetName, new Revision()));
+    xsltBolt.execute(anchorTuple, new StormTaskTuple(TASK_ID, TASK_NAME, SOURCE_VERSION_URL, fileData,
+        prepareStormTaskTupleParameters(LOCAL_XSLT_URL), new Revision()));
+
+    verify(outputCollector, times(4)).emit(Mockito.any(Tuple.class), captor.capture());
+    verify(xsltBolt, times(2)).createXsltTransformer(eq(LOCAL_XSLT_URL), isNull(), isNull(), isNull());
+    verify(xsltBolt, times(1)).createXsltTransformer(eq(LOCAL_XSLT_URL), eq("datasetName"), isNull(), isNull());
+  }
+
   private HashMap<String, String> prepareStormTaskTupleParameters() {
+    return prepareStormTaskTupleParameters("https://metis-core-rest.test.eanadev.org/datasets/xslt/default");
+  }
+
+  private HashMap<String, String> prepareStormTaskTupleParameters(String xsltUrl) {
     HashMap<String, String> parameters = new HashMap<>();
-    parameters.put(PluginParameterKeys.XSLT_URL, "https://metis-core-rest.test.eanadev.org/datasets/xslt/default");
+    parameters.put(PluginParameterKeys.XSLT_URL, xsltUrl);
     parameters.put(PluginParameterKeys.MESSAGE_PROCESSING_START_TIME_IN_MS, "1");
     return parameters;
   }
@@ -3,6 +3,7 @@ package eu.europeana.cloud.mcs.driver;
 import static eu.europeana.cloud.common.utils.UrlUtils.removeLastSlash;
 
 import eu.europeana.cloud.common.response.ErrorInfo;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
 import eu.europeana.cloud.mcs.driver.exception.DriverException;
 import eu.europeana.cloud.service.mcs.exception.MCSException;
 import java.io.ByteArrayInputStream;
@@ -15,7 +16,6 @@ import java.util.function.Supplier;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 import lombok.Getter;
@@ -33,10 +33,10 @@ public abstract class MCSClient implements AutoCloseable {
 
   protected final String baseUrl;
 
-  protected final Client client = ClientBuilder.newBuilder()
-                                               .register(JacksonFeature.class)
-                                               .register(MultiPartFeature.class)
-                                               .build();
+  protected final Client client = HttpClientConnectionPool.newPooledClientBuilder()
+                                                         .register(JacksonFeature.class)
+                                                         .register(MultiPartFeature.class)
+                                                         .build();
 
   protected MCSClient(final String baseUrl) {
     this.baseUrl = removeLastSlash(baseUrl);
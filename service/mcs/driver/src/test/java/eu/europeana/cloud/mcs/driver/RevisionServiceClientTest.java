@@ -8,6 +8,7 @@ import static org.junit.Assert.assertTrue;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import eu.europeana.cloud.common.model.Revision;
 import eu.europeana.cloud.common.utils.Tags;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
 import eu.europeana.cloud.service.commons.utils.DateHelper;
 import eu.europeana.cloud.service.mcs.exception.MCSException;
 import eu.europeana.cloud.service.mcs.exception.RepresentationNotExistsException;
@@ -15,6 +16,7 @@ import eu.europeana.cloud.test.WiremockHelper;
 import java.net.URI;
 import java.util.HashSet;
 import java.util.Set;
+import org.apache.hc.core5.pool.PoolStats;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -96,4 +98,19 @@ public class RevisionServiceClientTest {
     instance.deleteRevision(CLOUD_ID, "REP_NOT_FOUND", VERSION,
         new Revision(REVISION_NAME, PROVIDER_ID, DateHelper.parseISODate("2019-07-11T00:00:00Z")));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldReturnConnectionToSharedPoolAfterRequest() throws MCSException {
+    new WiremockHelper(wireMockRule).stubPost(
+        "/mcs/records/test_cloud_id/representations/test_representation/versions/de084210-a393-11e3-8614-50e549e85271/revisions",
+        201,
+        EXPECTED_REVISIONS_LOCATION,
+        null);
+
+    instance.addRevision(CLOUD_ID, REPRESENTATION_NAME, VERSION, new Revision(REVISION_NAME, PROVIDER_ID));
+
+    PoolStats poolStats = HttpClientConnectionPool.getTotalStats();
+    assertEquals(0, poolStats.getLeased());
+    assertTrue(poolStats.getAvailable() > 0);
+  }
+}
@@ -293,9 +293,7 @@ public class CassandraDataSetService implements DataSetService {
   }
 
   private List<Representation> getRepresentations(List<DatasetAssignment> assignments) {
-    return assignments.stream()
-                      .map(stub -> recordDAO.getRepresentation(stub.getCloudId(), stub.getSchema(), stub.getVersion()))
-                      .toList();
+    return recordDAO.getRepresentations(assignments);
   }
 
   /**
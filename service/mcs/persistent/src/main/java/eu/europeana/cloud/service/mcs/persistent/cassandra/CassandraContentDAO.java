@@ -8,7 +8,6 @@ import com.datastax.driver.core.Session;
 import com.datastax.driver.core.utils.Bytes;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.CountingInputStream;
-import com.google.common.primitives.Ints;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.common.annotation.Retryable;
 import eu.europeana.cloud.service.mcs.exception.FileAlreadyExistsException;
@@ -25,8 +24,6 @@ import java.nio.ByteBuffer;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 
 /**
@@ -77,15 +74,8 @@ public class CassandraContentDAO implements ContentDAO {
     if (row == null) {
       throw new FileNotExistsException(String.format(MSG_FILE_NOT_EXISTS, fileName));
     }
-    ByteArrayOutputStream os = new ByteArrayOutputStream();
-    try {
-      ByteBuffer wrappedBytes = row.getBytes("data");
-      streamCompressor.decompress(unwrap(wrappedBytes), os);
-      copySelectBytes(os, start, end, result);
-    } finally {
-      IOUtils.closeQuietly(os);
-    }
-
+    ByteBuffer wrappedBytes = row.getBytes("data");
+    streamCompressor.decompress(asInputStream(wrappedBytes), start, end, result);
   }
 
   /**
@@ -142,26 +132,15 @@ public class CassandraContentDAO implements ContentDAO {
     }
   }
 
-  private void copySelectBytes(ByteArrayOutputStream input, long start, long end, OutputStream result) throws IOException {
-    byte[] resultBytes;
-    if (start < 0 && end < 0) {
-      resultBytes = input.toByteArray();
-    } else {
-      resultBytes = getSelectedBytes(input.toByteArray(), start, end);
+  /**
+   * Wraps the buffer content in the stream, without copying it if the buffer is backed by an accessible array.
+   */
+  private InputStream asInputStream(ByteBuffer wrappedBytes) {
+    if (wrappedBytes.hasArray()) {
+      return new ByteArrayInputStream(wrappedBytes.array(), wrappedBytes.arrayOffset() + wrappedBytes.position(),
+          wrappedBytes.remaining());
     }
-    IOUtils.copy(new ByteArrayInputStream(resultBytes), result);
-  }
-
-  private byte[] unwrap(ByteBuffer wrappedBytes) {
-    return Bytes.getArray(wrappedBytes);
-  }
-
-  private byte[] getSelectedBytes(byte[] bytes, long start, long end) {
-    byte[] outputBytes;
-    final int from = start > -1 ? Ints.checkedCast(start) : 0;
-    final int to = end > -1 ? (Ints.checkedCast(end) + 1) : bytes.length;
-    outputBytes = Arrays.copyOfRange(bytes, from, to);
-    return outputBytes;
+    return new ByteArrayInputStream(Bytes.getArray(wrappedBytes));
   }
 
   private DigestInputStream prepareMd5DigestStream(InputStream is) {
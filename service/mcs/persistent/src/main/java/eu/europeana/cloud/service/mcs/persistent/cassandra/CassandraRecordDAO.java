@@ -3,6 +3,7 @@ package eu.europeana.cloud.service.mcs.persistent.cassandra;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
@@ -17,6 +18,7 @@ import eu.europeana.cloud.service.mcs.persistent.util.QueryTracer;
 import jakarta.annotation.PostConstruct;
 
 import java.util.*;
+import java.util.concurrent.Semaphore;
 
 import static eu.europeana.cloud.service.mcs.key.RepresentationVersionsDbColumnNames.*;
 
@@ -27,6 +29,7 @@ import static eu.europeana.cloud.service.mcs.key.RepresentationVersionsDbColumnN
 @Retryable
 public class CassandraRecordDAO {
   private static final String MSG_PARAMETERS_CANNOT_BE_NULL = "Parameters cannot be null";
+  private static final int MAX_CONCURRENT_REPRESENTATION_QUERIES = 32;
 
   // json serializer/deserializer
   private final Gson gson = new Gson();
@@ -187,17 +190,48 @@ public class CassandraRecordDAO {
 
     QueryTracer.logConsistencyLevel(boundStatement, rs);
 
-    Row row = rs.one();
-    if (row == null) {
-      return null;
-    } else {
-      Representation rep = mapToRepresentation(row);
-      rep.setFiles(deserializeFiles(row.getMap(FILES, String.class,
-          String.class)));
-      rep.setRevisions(deserializeRevisions(row.getMap(REVISIONS, String.class,
-          String.class)));
-      return rep;
+    return readRepresentation(rs.one());
+  }
+
+  /**
+   * Returns representations in specified versions. Queries are executed asynchronously, at most
+   * {@value #MAX_CONCURRENT_REPRESENTATION_QUERIES} of them at the same time, so the page of a data set costs a few
+   * round trips instead of one per representation.
+   *
+   * @param assignments cloud ids, schemas and versions of the representations
+   * @return list of representations in the order of the given assignments. Contains null for representation versions that
+   * do not exist.
+   * @throws IllegalArgumentException if cloud id, schema or version of any of the assignments is null.
+   * @throws QueryExecutionException if error occurred while executing a query.
+   * @throws NoHostAvailableException if no Cassandra host are available.
+   */
+  public List<Representation> getRepresentations(List<DatasetAssignment> assignments)
+      throws NoHostAvailableException, QueryExecutionException {
+    List<BoundStatement> boundStatements = new ArrayList<>(assignments.size());
+    for (DatasetAssignment assignment : assignments) {
+      if (assignment.getCloudId() == null || assignment.getSchema() == null || assignment.getVersion() == null) {
+        throw new IllegalArgumentException(MSG_PARAMETERS_CANNOT_BE_NULL);
+      }
+      boundStatements.add(getRepresentationVersionStatement.bind(
+          assignment.getCloudId(), assignment.getSchema(), UUID.fromString(assignment.getVersion())));
+    }
+
+    Semaphore queriesInProgress = new Semaphore(MAX_CONCURRENT_REPRESENTATION_QUERIES);
+    List<ResultSetFuture> futures = new ArrayList<>(boundStatements.size());
+    for (BoundStatement boundStatement : boundStatements) {
+      queriesInProgress.acquireUninterruptibly();
+      ResultSetFuture future = connectionProvider.getSession().executeAsync(boundStatement);
+      future.addListener(queriesInProgress::release, MoreExecutors.directExecutor());
+      futures.add(future);
+    }
+
+    List<Representation> result = new ArrayList<>(futures.size());
+    for (int i = 0; i < futures.size(); i++) {
+      ResultSet rs = futures.get(i).getUninterruptibly();
+      QueryTracer.logConsistencyLevel(boundStatements.get(i), rs);
+      result.add(readRepresentation(rs.one()));
     }
+    return result;
   }
 
   /**
@@ -576,6 +610,7 @@ public class CassandraRecordDAO {
             "FROM representation_versions " +
             "WHERE cloud_id = ? AND schema_id = ? AND version_id = ?;"
     );
+    getRepresentationVersionStatement.setIdempotent(true);
 
     getRepresentationDatasetIdAndProviderIdStatement = session.prepare(
             "SELECT dataset_id, provider_id" +
@@ -583,6 +618,7 @@ public class CassandraRecordDAO {
                     "WHERE cloud_id = ? AND schema_id = ? " +
                     "LIMIT 1;"
     );
+    getRepresentationDatasetIdAndProviderIdStatement.setIdempotent(true);
 
     listRepresentationVersionsStatement = session.prepare(
         "SELECT cloud_id, schema_id, version_id, provider_id, persistent, creation_date, files, revisions, dataset_id " +
@@ -590,12 +626,14 @@ public class CassandraRecordDAO {
             "WHERE cloud_id = ? AND schema_id = ? " +
             "ORDER BY schema_id DESC, version_id DESC;"
     );
+    listRepresentationVersionsStatement.setIdempotent(true);
 
     listRepresentationVersionsAllSchemasStatement = session.prepare(
         "SELECT cloud_id, schema_id, version_id, provider_id, persistent, creation_date, files,revisions, dataset_id " +
             "FROM representation_versions " +
             "WHERE cloud_id = ?;"
     );
+    listRepresentationVersionsAllSchemasStatement.setIdempotent(true);
 
     persistRepresentationStatement = session.prepare(
         "UPDATE representation_versions " +
@@ -643,6 +681,7 @@ public class CassandraRecordDAO {
             "FROM representation_versions " +
             "WHERE cloud_id = ? AND schema_id = ? AND version_id = ?;"
     );
+    getFilesStatement.setIdempotent(true);
 
     getAllRepresentationsForRecordStatement = session.prepare(
         "SELECT cloud_id, schema_id, version_id, provider_id, persistent, creation_date, files, dataset_id " +
@@ -650,6 +689,7 @@ public class CassandraRecordDAO {
             "WHERE cloud_id = ? " +
             "ORDER BY schema_id DESC, version_id DESC;"
     );
+    getAllRepresentationsForRecordStatement.setIdempotent(true);
 
     deleteRepresentationStatement = session.prepare(
         "DELETE " +
@@ -672,6 +712,7 @@ public class CassandraRecordDAO {
             "revision_name = ? AND " +
             "revision_timestamp = ?;"
     );
+    getRepresentationRevisionStatement.setIdempotent(true);
 
     getLatestRepresentationRevisionStatement = session.prepare(
         "SELECT version_id, files, revision_timestamp " +
@@ -679,6 +720,7 @@ public class CassandraRecordDAO {
             "WHERE cloud_id = ? AND representation_id = ? AND revision_provider_id = ? AND revision_name = ? " +
             "LIMIT 1;"
     );
+    getLatestRepresentationRevisionStatement.setIdempotent(true);
 
     getAllVersionsForRevisionNameStatement = session.prepare(
         "SELECT cloud_id, representation_id, revision_provider_id, revision_name, revision_timestamp, version_id " +
@@ -690,6 +732,7 @@ public class CassandraRecordDAO {
             "revision_timestamp > ? " +
             "LIMIT 100"
     );
+    getAllVersionsForRevisionNameStatement.setIdempotent(true);
 
     insertRepresentationRevisionStatement = session.prepare(
         "INSERT " +
@@ -730,6 +773,19 @@ public class CassandraRecordDAO {
     }
   }
 
+  private Representation readRepresentation(Row row) {
+    if (row == null) {
+      return null;
+    } else {
+      Representation rep = mapToRepresentation(row);
+      rep.setFiles(deserializeFiles(row.getMap(FILES, String.class,
+          String.class)));
+      rep.setRevisions(deserializeRevisions(row.getMap(REVISIONS, String.class,
+          String.class)));
+      return rep;
+    }
+  }
+
   private Representation mapToRepresentation(Row row) {
     Representation representation = new Representation();
     representation.setDataProvider(row.getString(PROVIDER_ID));
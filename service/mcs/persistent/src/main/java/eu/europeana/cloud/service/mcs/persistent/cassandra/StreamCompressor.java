@@ -8,6 +8,7 @@ import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 
 /**
  * Compress and decompress stream data via gzip algorithm.
@@ -17,16 +18,47 @@ import org.apache.commons.io.output.ByteArrayOutputStream;
 public class StreamCompressor {
 
   void decompress(byte[] compressedBytes, OutputStream os) throws IOException {
-    ByteArrayInputStream is = new ByteArrayInputStream(compressedBytes);
-    GZIPInputStream gis = new GZIPInputStream(is);
-    IOUtils.copy(gis, os);
+    decompress(new ByteArrayInputStream(compressedBytes), os);
+  }
+
+  void decompress(InputStream compressed, OutputStream os) throws IOException {
+    decompress(compressed, -1, -1, os);
+  }
+
+  /**
+   * Decompresses only the selected range of the data. Data is decompressed in stream, bytes before the range are skipped and
+   * decompression stops at the end of the range, so the whole decompressed content is never kept in memory.
+   *
+   * @param compressed gzip compressed data
+   * @param start index of the first byte of the range (inclusive), or -1 to start from the beginning
+   * @param end index of the last byte of the range (inclusive), or -1 to read to the end of data
+   * @param os stream the selected range is written to
+   * @throws IOException in case of decompression problems
+   */
+  void decompress(InputStream compressed, long start, long end, OutputStream os) throws IOException {
+    long from = start > -1 ? start : 0;
+    long length = end > -1 ? end + 1 - from : -1;
+    try (GZIPInputStream gis = new GZIPInputStream(compressed)) {
+      IOUtils.copyLarge(gis, os, from, length);
+    }
   }
 
   byte[] compress(final InputStream is) throws IOException {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
-    try (os; GZIPOutputStream gos = new GZIPOutputStream(os)) {
+    compress(is, os);
+    return os.toByteArray();
+  }
+
+  /**
+   * Compresses the data to the given stream. The stream is not closed, but the compressor resources are released.
+   *
+   * @param is data to compress
+   * @param os stream the compressed data is written to
+   * @throws IOException in case of compression problems
+   */
+  void compress(InputStream is, OutputStream os) throws IOException {
+    try (GZIPOutputStream gos = new GZIPOutputStream(CloseShieldOutputStream.wrap(os))) {
       IOUtils.copy(is, gos);
     }
-    return os.toByteArray();
   }
 }
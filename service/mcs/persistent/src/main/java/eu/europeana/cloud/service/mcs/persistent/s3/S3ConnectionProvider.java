@@ -1,5 +1,6 @@
 package eu.europeana.cloud.service.mcs.persistent.s3;
 
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 /**
@@ -12,6 +13,11 @@ public interface S3ConnectionProvider {
    */
   S3Client getS3Client();
 
+  /**
+   * @return {@link S3AsyncClient} connected to the same endpoint as {@link #getS3Client()}
+   */
+  S3AsyncClient getS3AsyncClient();
+
 
   /**
    * @return name of container
@@ -6,21 +6,29 @@ import eu.europeana.cloud.service.mcs.exception.FileNotExistsException;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Provides DAO operations for S3.
@@ -34,7 +42,9 @@ public class S3ContentDAO implements ContentDAO {
   @SuppressWarnings("java:S1312")
   private static final Logger LOGGER_S3_MODIFICATIONS = LoggerFactory.getLogger("S3Modifications");
   private static final Logger LOGGER = LoggerFactory.getLogger(S3ContentDAO.class);
+  public static final int DEFAULT_MAX_CONCURRENT_PARTS = 4;
   private Integer maxPartSize;
+  private final int maxConcurrentParts;
 
   private final S3ConnectionProvider connectionProvider;
 
@@ -44,8 +54,21 @@ public class S3ContentDAO implements ContentDAO {
    * @param maxPartSize maximum part size for multipart upload
    */
   public S3ContentDAO(S3ConnectionProvider connectionProvider, int maxPartSize) {
+    this(connectionProvider, maxPartSize, DEFAULT_MAX_CONCURRENT_PARTS);
+  }
+
+  /**
+   * Constructor for S3ContentDAO
+   * @param connectionProvider S3ConnectionProvider to be used
+   * @param maxPartSize maximum part size for multipart upload
+   * @param maxConcurrentParts maximum number of parts of a single file uploaded at the same time. Together with the
+   * maxPartSize it limits the memory used by a single upload, because a single upload reuses at most
+   * maxConcurrentParts buffers of the maxPartSize.
+   */
+  public S3ContentDAO(S3ConnectionProvider connectionProvider, int maxPartSize, int maxConcurrentParts) {
     this.connectionProvider = connectionProvider;
     this.maxPartSize = maxPartSize;
+    this.maxConcurrentParts = maxConcurrentParts;
   }
 
   @Override
@@ -54,9 +77,6 @@ public class S3ContentDAO implements ContentDAO {
 
     S3Client s3Client = connectionProvider.getS3Client();
     String container = connectionProvider.getContainer();
-    byte[] content = IOUtils.toByteArray(data);
-    byte[] md5 = DigestUtils.md5(content);
-    String hexMd5 = Hex.encodeHexString(md5);
 
     CreateMultipartUploadRequest createUploadRequest = CreateMultipartUploadRequest.builder()
             .bucket(container)
@@ -66,31 +86,74 @@ public class S3ContentDAO implements ContentDAO {
 
     String uploadId = createUploadResponse.uploadId();
 
-    int totalContentLength = content.length;
-    List<CompletedPart> completedParts = new ArrayList<>();
-
-    for (int i = 0; i < totalContentLength; i += maxPartSize) {
-      byte[] chunk = ArrayUtils.subarray(content, i,i + maxPartSize);
-      completedParts.add(uploadPart(fileName, uploadId, i+1, chunk));
-    }
+    try {
+      MessageDigest md5Digest = DigestUtils.getMd5Digest();
+      long totalContentLength = 0;
+      List<CompletableFuture<CompletedPart>> uploadedParts = new ArrayList<>();
+      BlockingQueue<byte[]> freeBuffers = new ArrayBlockingQueue<>(maxConcurrentParts);
+      AtomicBoolean partFailed = new AtomicBoolean();
+      // The first part is read into the buffer of the size of the data, so a small file does not need a full part buffer
+      byte[] buffer = data.readNBytes(maxPartSize);
+      int length = buffer.length;
+      int allocatedBuffers = 1;
+      int partNumber = 1;
+
+      while (true) {
+        md5Digest.update(buffer, 0, length);
+        totalContentLength += length;
+        byte[] partBuffer = buffer;
+        uploadedParts.add(uploadPart(fileName, uploadId, partNumber++, buffer, length)
+                .whenComplete((part, error) -> {
+                  if (error != null) {
+                    partFailed.set(true);
+                  }
+                  freeBuffers.offer(partBuffer);
+                }));
+        if (length < maxPartSize) {
+          break;
+        }
+
+        buffer = freeBuffers.poll();
+        if (buffer == null && allocatedBuffers < maxConcurrentParts) {
+          buffer = new byte[maxPartSize];
+          allocatedBuffers++;
+        } else if (buffer == null) {
+          buffer = take(freeBuffers);
+        }
+        if (partFailed.get()) {
+          // The upload is aborted anyway, so the rest of the data is not read
+          break;
+        }
+        length = data.readNBytes(buffer, 0, maxPartSize);
+        if (length == 0) {
+          break;
+        }
+      }
 
+      List<CompletedPart> completedParts = waitForParts(uploadedParts);
 
-    CompleteMultipartUploadRequest completeUploadRequest = CompleteMultipartUploadRequest.builder()
-            .bucket(container)
-            .key(fileName)
-            .uploadId(uploadId)
-            .multipartUpload(builder -> builder.parts(completedParts))
-            .build();
+      CompleteMultipartUploadRequest completeUploadRequest = CompleteMultipartUploadRequest.builder()
+              .bucket(container)
+              .key(fileName)
+              .uploadId(uploadId)
+              .multipartUpload(builder -> builder.parts(completedParts))
+              .build();
 
-    s3Client.completeMultipartUpload(completeUploadRequest);
-    return new PutResult(hexMd5, (long) totalContentLength);
+      s3Client.completeMultipartUpload(completeUploadRequest);
+      return new PutResult(Hex.encodeHexString(md5Digest.digest()), totalContentLength);
+    } catch (IOException | RuntimeException e) {
+      abortUpload(fileName, uploadId);
+      throw e;
+    }
   }
 
-  private CompletedPart uploadPart(String fileName, String uploadId, int partNumber, byte[] chunk) {
-    long chunkLength = chunk.length;
-    S3Client s3Client = connectionProvider.getS3Client();
+  private CompletableFuture<CompletedPart> uploadPart(String fileName, String uploadId, int partNumber, byte[] buffer,
+      int chunkLength) {
+    S3AsyncClient s3AsyncClient = connectionProvider.getS3AsyncClient();
     String container = connectionProvider.getContainer();
-    String chunkMd5 = Base64.getEncoder().encodeToString(DigestUtils.md5(chunk));
+    MessageDigest chunkMd5Digest = DigestUtils.getMd5Digest();
+    chunkMd5Digest.update(buffer, 0, chunkLength);
+    String chunkMd5 = Base64.getEncoder().encodeToString(chunkMd5Digest.digest());
 
     UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
             .bucket(container)
@@ -98,15 +161,53 @@ public class S3ContentDAO implements ContentDAO {
             .uploadId(uploadId)
             .partNumber(partNumber)
             .contentMD5(chunkMd5)
-            .contentLength(chunkLength)
+            .contentLength((long) chunkLength)
             .build();
 
-    UploadPartResponse uploadPartResponse = s3Client.uploadPart(uploadPartRequest, RequestBody.fromBytes(chunk));
+    // The buffer is reused only after the upload of the part is completed, so it does not need to be copied
+    return s3AsyncClient.uploadPart(uploadPartRequest,
+                    AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, chunkLength)))
+            .thenApply(uploadPartResponse -> CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(uploadPartResponse.eTag())
+                    .build());
+  }
 
-    return CompletedPart.builder()
-            .partNumber(partNumber)
-            .eTag(uploadPartResponse.eTag())
-            .build();
+  private List<CompletedPart> waitForParts(List<CompletableFuture<CompletedPart>> uploadedParts) throws IOException {
+    List<CompletedPart> completedParts = new ArrayList<>();
+    try {
+      for (CompletableFuture<CompletedPart> uploadedPart : uploadedParts) {
+        completedParts.add(uploadedPart.join());
+      }
+    } catch (CompletionException e) {
+      uploadedParts.forEach(uploadedPart -> uploadedPart.cancel(true));
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException("Could not upload part of the file", e.getCause());
+    }
+    return completedParts;
+  }
+
+  private byte[] take(BlockingQueue<byte[]> freeBuffers) throws InterruptedIOException {
+    try {
+      return freeBuffers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the upload of the previous parts");
+    }
+  }
+
+  private void abortUpload(String fileName, String uploadId) {
+    try {
+      connectionProvider.getS3Client().abortMultipartUpload(AbortMultipartUploadRequest.builder()
+              .bucket(connectionProvider.getContainer())
+              .key(fileName)
+              .uploadId(uploadId)
+              .build());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not abort multipart upload {} of the file {}", uploadId, fileName, e);
+    }
   }
 
   public void getContent(String fileName, long start, long end, OutputStream os)
@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -21,6 +22,7 @@ public class SimpleS3ConnectionProvider implements S3ConnectionProvider {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleS3ConnectionProvider.class);
   private S3Client s3Client;
+  private S3AsyncClient s3AsyncClient;
   private final String container;
   private final String region;
   private final AwsBasicCredentials awsCreds;
@@ -54,6 +56,14 @@ public class SimpleS3ConnectionProvider implements S3ConnectionProvider {
                       .build())
               .region(Region.of(region))
               .build();
+      this.s3AsyncClient = S3AsyncClient.builder()
+              .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+              .endpointOverride(URI.create(endpoint))
+              .serviceConfiguration(S3Configuration.builder()
+                      .pathStyleAccessEnabled(true)
+                      .build())
+              .region(Region.of(region))
+              .build();
       LOGGER.info("Connected to S3 bucket: {}", container);
   } catch (S3Exception e) {
       throw new CustomAwsClientException(e);
@@ -70,6 +80,7 @@ public class SimpleS3ConnectionProvider implements S3ConnectionProvider {
   public void closeConnections() {
     LOGGER.info("Shutting down S3 client connection");
     s3Client.close();
+    s3AsyncClient.close();
   }
 
   @Override
@@ -80,4 +91,9 @@ public class SimpleS3ConnectionProvider implements S3ConnectionProvider {
   public S3Client getS3Client() {
     return s3Client;
   }
+
+  @Override
+  public S3AsyncClient getS3AsyncClient() {
+    return s3AsyncClient;
+  }
 }
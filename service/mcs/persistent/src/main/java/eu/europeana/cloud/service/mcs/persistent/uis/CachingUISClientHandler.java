@@ -0,0 +1,89 @@
+package eu.europeana.cloud.service.mcs.persistent.uis;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import eu.europeana.cloud.common.model.CloudId;
+import eu.europeana.cloud.common.model.DataProvider;
+import eu.europeana.cloud.service.mcs.UISClientHandler;
+import eu.europeana.cloud.service.mcs.exception.ProviderNotExistsException;
+import eu.europeana.cloud.service.mcs.exception.RecordNotExistsException;
+import java.time.Duration;
+
+/**
+ * {@link UISClientHandler} that keeps the results of the lookups done in the Unique Identifier Service for a short
+ * time. Only positive answers are cached (existing cloud ids and existing providers), so a cloud id or provider
+ * created in UIS is visible in MCS immediately.
+ * <p>
+ * The cached data could be stale: a cloud id or provider removed from UIS, or a provider changed there, is still
+ * reported by this handler as it was, until the cache entry expires ({@link #DEFAULT_CACHE_EXPIRATION_TIME} by
+ * default).
+ */
+public class CachingUISClientHandler implements UISClientHandler {
+
+  public static final long DEFAULT_MAX_CACHE_SIZE = 10_000;
+  public static final Duration DEFAULT_CACHE_EXPIRATION_TIME = Duration.ofSeconds(30);
+
+  private final UISClientHandler uisClientHandler;
+  private final Cache<String, Boolean> existingCloudIds;
+  private final Cache<String, DataProvider> providers;
+
+  public CachingUISClientHandler(UISClientHandler uisClientHandler) {
+    this(uisClientHandler, DEFAULT_MAX_CACHE_SIZE, DEFAULT_CACHE_EXPIRATION_TIME);
+  }
+
+  public CachingUISClientHandler(UISClientHandler uisClientHandler, long maxCacheSize, Duration cacheExpirationTime) {
+    this.uisClientHandler = uisClientHandler;
+    existingCloudIds = CacheBuilder.newBuilder()
+                                   .maximumSize(maxCacheSize)
+                                   .expireAfterWrite(cacheExpirationTime)
+                                   .build();
+    providers = CacheBuilder.newBuilder()
+                            .maximumSize(maxCacheSize)
+                            .expireAfterWrite(cacheExpirationTime)
+                            .build();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public boolean existsCloudId(String cloudId) {
+    if (existingCloudIds.getIfPresent(cloudId) != null) {
+      return true;
+    }
+    boolean result = uisClientHandler.existsCloudId(cloudId);
+    if (result) {
+      existingCloudIds.put(cloudId, Boolean.TRUE);
+    }
+    return result;
+  }
+
+  @Override
+  public CloudId getCloudIdFromProviderAndLocalId(String providerId, String localId)
+      throws ProviderNotExistsException, RecordNotExistsException {
+    return uisClientHandler.getCloudIdFromProviderAndLocalId(providerId, localId);
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public boolean existsProvider(String providerId) {
+    return getProvider(providerId) != null;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public DataProvider getProvider(String providerId) {
+    DataProvider result = providers.getIfPresent(providerId);
+    if (result == null) {
+      result = uisClientHandler.getProvider(providerId);
+      if (result != null) {
+        providers.put(providerId, result);
+      }
+    }
+    return result;
+  }
+}
@@ -11,9 +11,12 @@ import eu.europeana.cloud.service.mcs.exception.ProviderNotExistsException;
 import eu.europeana.cloud.service.mcs.exception.RecordNotExistsException;
 import eu.europeana.cloud.service.mcs.exception.RevisionIsNotValidException;
 import eu.europeana.cloud.service.mcs.persistent.cassandra.CassandraRecordDAO;
+import eu.europeana.cloud.service.mcs.persistent.cassandra.DatasetAssignment;
 import eu.europeana.cloud.service.mcs.persistent.context.SpiedServicesTestContext;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import org.hamcrest.MatcherAssert;
 import org.junit.Assert;
@@ -136,4 +139,37 @@ public class CassandraRecordDAOTest extends CassandraTestBase {
     MatcherAssert.assertThat(response1.get(0).getFiles().size(), is(0));
     MatcherAssert.assertThat(response2.get(0).getFiles().size(), is(0));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldReturnRepresentationsInOrderOfAssignmentsAndNullForMissingOnes() {
+    List<DatasetAssignment> assignments = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      UUID version = UUID.fromString(new com.eaio.uuid.UUID().toString());
+      recordDAO.createRepresentation("cloudId_" + i, "repName", "provider", new Date(), version, "dataset");
+      assignments.add(0, DatasetAssignment.builder().cloudId("cloudId_" + i).schema("repName")
+                                           .version(version.toString()).build());
+    }
+    assignments.add(20, DatasetAssignment.builder().cloudId("notExistingCloudId").schema("repName")
+                                         .version(new com.eaio.uuid.UUID().toString()).build());
+
+    List<Representation> reps = recordDAO.getRepresentations(assignments);
+
+    MatcherAssert.assertThat(reps.size(), is(41));
+    for (int i = 0; i < assignments.size(); i++) {
+      if (i == 20) {
+        Assert.assertNull(reps.get(i));
+      } else {
+        MatcherAssert.assertThat(reps.get(i).getCloudId(), is(assignments.get(i).getCloudId()));
+        MatcherAssert.assertThat(reps.get(i).getVersion(), is(assignments.get(i).getVersion()));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldThrowExceptionWhenAnyOfRequestedRepresentationsHasNoVersion() {
+    recordDAO.getRepresentations(List.of(
+        DatasetAssignment.builder().cloudId("cloudId").schema("repName").version(new com.eaio.uuid.UUID().toString())
+                         .build(),
+        DatasetAssignment.builder().cloudId("cloudId").schema("repName").build()));
+  }
+}
@@ -4,6 +4,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.junit.Test;
 
@@ -29,4 +31,81 @@ public class StreamCompressorTest {
     assertThat(os.toByteArray(), is(bytes));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void shouldCompressAndDecompressContentBetweenStreams() throws Exception {
+    //given
+    byte[] bytes = "Test content".getBytes();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    //when
+    instance.compress(new ByteArrayInputStream(bytes), compressed);
+    instance.decompress(new ByteArrayInputStream(compressed.toByteArray()), os);
+
+    //then
+    assertThat(os.toByteArray(), is(bytes));
+  }
+
+  @Test
+  public void shouldNotCloseTargetStreamWhenCompressing() throws Exception {
+    //given
+    byte[] bytes = "Test content".getBytes();
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream() {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    //when
+    instance.compress(new ByteArrayInputStream(bytes), compressed);
+    instance.decompress(new ByteArrayInputStream(compressed.toByteArray()), os);
+
+    //then
+    assertThat(closed.get(), is(false));
+    assertThat(os.toByteArray(), is(bytes));
+  }
+
+  @Test
+  public void shouldDecompressSelectedRange() throws Exception {
+    //given
+    byte[] compressedBytes = instance.compress(new ByteArrayInputStream("Test content".getBytes()));
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    //when
+    instance.decompress(new ByteArrayInputStream(compressedBytes), 5, 8, os);
+
+    //then
+    assertThat(os.toByteArray(), is("cont".getBytes()));
+  }
+
+  @Test
+  public void shouldDecompressRangeFromStartOffsetToTheEnd() throws Exception {
+    //given
+    byte[] compressedBytes = instance.compress(new ByteArrayInputStream("Test content".getBytes()));
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    //when
+    instance.decompress(new ByteArrayInputStream(compressedBytes), 5, -1, os);
+
+    //then
+    assertThat(os.toByteArray(), is("content".getBytes()));
+  }
+
+  @Test
+  public void shouldDecompressRangeFromTheBeginningToEndOffset() throws Exception {
+    //given
+    byte[] compressedBytes = instance.compress(new ByteArrayInputStream("Test content".getBytes()));
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    //when
+    instance.decompress(new ByteArrayInputStream(compressedBytes), -1, 3, os);
+
+    //then
+    assertThat(os.toByteArray(), is("Test".getBytes()));
+  }
+
+}
@@ -0,0 +1,157 @@
+package eu.europeana.cloud.service.mcs.persistent.s3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+public class S3ContentDAOMultipartUploadTest {
+
+  private static final String FILE_NAME = "fileName";
+  private static final String UPLOAD_ID = "uploadId";
+  private static final int MAX_PART_SIZE = 4;
+
+  private S3Client s3Client;
+  private S3AsyncClient s3AsyncClient;
+  private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+  @Before
+  public void init() {
+    s3Client = mock(S3Client.class);
+    s3AsyncClient = mock(S3AsyncClient.class);
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+  }
+
+  @Test
+  public void shouldUploadFileInPartsAndCompleteThemInOrder() throws Exception {
+    mockSuccessfulPartUploads();
+    byte[] content = "0123456789".getBytes();
+
+    PutResult result = new S3ContentDAO(mockedConnectionProvider(), MAX_PART_SIZE, 2)
+        .putContent(FILE_NAME, new ByteArrayInputStream(content));
+
+    assertEquals(DigestUtils.md5Hex(content), result.getMd5());
+    assertEquals(content.length, result.getContentLength());
+    assertArrayEquals(content, reassembleUploadedParts());
+    ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+        ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeRequest.capture());
+    List<CompletedPart> completedParts = completeRequest.getValue().multipartUpload().parts();
+    assertEquals(3, completedParts.size());
+    for (int i = 0; i < completedParts.size(); i++) {
+      assertEquals(Integer.valueOf(i + 1), completedParts.get(i).partNumber());
+      assertEquals("etag" + (i + 1), completedParts.get(i).eTag());
+    }
+  }
+
+  @Test
+  public void shouldReuseBuffersOfUploadedPartsWhenOnlyOnePartIsUploadedAtOnce() throws Exception {
+    mockSuccessfulPartUploads();
+    byte[] content = "0123456789abcdef!".getBytes();
+
+    new S3ContentDAO(mockedConnectionProvider(), MAX_PART_SIZE, 1)
+        .putContent(FILE_NAME, new ByteArrayInputStream(content));
+
+    assertArrayEquals(content, reassembleUploadedParts());
+  }
+
+  @Test
+  public void shouldAbortUploadAndStopReadingDataWhenPartFailed() {
+    when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+        .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().message("Part failed").build()));
+    ByteArrayInputStream data = new ByteArrayInputStream(new byte[10 * MAX_PART_SIZE]);
+    S3ContentDAO dao = new S3ContentDAO(mockedConnectionProvider(), MAX_PART_SIZE, 1);
+
+    assertThrows(S3Exception.class, () -> dao.putContent(FILE_NAME, data));
+
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    verify(s3AsyncClient, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+    assertTrue(data.available() > 0);
+  }
+
+  private S3ConnectionProvider mockedConnectionProvider() {
+    S3ConnectionProvider connectionProvider = mock(S3ConnectionProvider.class);
+    when(connectionProvider.getS3Client()).thenReturn(s3Client);
+    when(connectionProvider.getS3AsyncClient()).thenReturn(s3AsyncClient);
+    when(connectionProvider.getContainer()).thenReturn("container");
+    return connectionProvider;
+  }
+
+  private void mockSuccessfulPartUploads() {
+    when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+      UploadPartRequest request = invocation.getArgument(0);
+      byte[] partContent = read(invocation.getArgument(1));
+      assertEquals(request.contentLength().longValue(), partContent.length);
+      uploadedParts.put(request.partNumber(), partContent);
+      return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag" + request.partNumber()).build());
+    });
+  }
+
+  private byte[] reassembleUploadedParts() {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    new TreeMap<>(uploadedParts).values().forEach(part -> result.write(part, 0, part.length));
+    return result.toByteArray();
+  }
+
+  private static byte[] read(AsyncRequestBody body) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    body.subscribe(new Subscriber<ByteBuffer>() {
+      @Override
+      public void onSubscribe(Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        result.write(bytes, 0, bytes.length);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        throw new IllegalStateException(throwable);
+      }
+
+      @Override
+      public void onComplete() {
+        // the whole body is already read
+      }
+    });
+    return result.toByteArray();
+  }
+}
@@ -0,0 +1,82 @@
+package eu.europeana.cloud.service.mcs.persistent.uis;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import eu.europeana.cloud.common.model.DataProvider;
+import eu.europeana.cloud.service.mcs.UISClientHandler;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingUISClientHandlerTest {
+
+  private static final String CLOUD_ID = "cloudId";
+  private static final String PROVIDER_ID = "providerId";
+
+  private UISClientHandler uisClientHandler;
+  private CachingUISClientHandler handler;
+
+  @Before
+  public void init() {
+    uisClientHandler = mock(UISClientHandler.class);
+    handler = new CachingUISClientHandler(uisClientHandler);
+  }
+
+  @Test
+  public void shouldAskUISOnlyOnceForExistingCloudId() {
+    when(uisClientHandler.existsCloudId(CLOUD_ID)).thenReturn(true);
+
+    assertTrue(handler.existsCloudId(CLOUD_ID));
+    assertTrue(handler.existsCloudId(CLOUD_ID));
+
+    verify(uisClientHandler, times(1)).existsCloudId(CLOUD_ID);
+  }
+
+  @Test
+  public void shouldNotCacheNotExistingCloudId() {
+    when(uisClientHandler.existsCloudId(CLOUD_ID)).thenReturn(false, true);
+
+    assertFalse(handler.existsCloudId(CLOUD_ID));
+    assertTrue(handler.existsCloudId(CLOUD_ID));
+
+    verify(uisClientHandler, times(2)).existsCloudId(CLOUD_ID);
+  }
+
+  @Test
+  public void shouldAskUISAgainAfterCloudIdExpired() throws InterruptedException {
+    handler = new CachingUISClientHandler(uisClientHandler, 10, Duration.ofMillis(1));
+    when(uisClientHandler.existsCloudId(CLOUD_ID)).thenReturn(true, false);
+
+    assertTrue(handler.existsCloudId(CLOUD_ID));
+    Thread.sleep(20);
+    assertFalse(handler.existsCloudId(CLOUD_ID));
+
+    verify(uisClientHandler, times(2)).existsCloudId(CLOUD_ID);
+  }
+
+  @Test
+  public void shouldServeProviderAndItsExistenceFromCache() {
+    DataProvider provider = new DataProvider();
+    when(uisClientHandler.getProvider(PROVIDER_ID)).thenReturn(provider);
+
+    assertSame(provider, handler.getProvider(PROVIDER_ID));
+    assertTrue(handler.existsProvider(PROVIDER_ID));
+
+    verify(uisClientHandler, times(1)).getProvider(PROVIDER_ID);
+  }
+
+  @Test
+  public void shouldNotCacheNotExistingProvider() {
+    assertNull(handler.getProvider(PROVIDER_ID));
+    assertFalse(handler.existsProvider(PROVIDER_ID));
+
+    verify(uisClientHandler, times(2)).getProvider(PROVIDER_ID);
+  }
+}
@@ -7,6 +7,7 @@ import eu.europeana.cloud.service.aas.authentication.repository.CassandraUserDAO
 import eu.europeana.cloud.service.commons.listeners.CustomLoggerListener;
 import eu.europeana.cloud.service.commons.utils.PasswordEncoderFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -44,8 +45,10 @@ public class AuthenticationConfiguration {
   }
 
   @Bean
-  PasswordEncoder passwordEncoder(){
-    return PasswordEncoderFactory.getPasswordEncoder();
+  PasswordEncoder passwordEncoder(
+      @Value("${aas.credentialsCache.maxSize:10000}") long maxSize,
+      @Value("${aas.credentialsCache.timeToLiveInSeconds:60}") long timeToLiveInSeconds) {
+    return PasswordEncoderFactory.getCachingPasswordEncoder(maxSize, timeToLiveInSeconds);
   }
 
   @Bean
@@ -67,8 +70,10 @@ public class AuthenticationConfiguration {
   }
 
   @Bean
-  UserDetailsService authenticationService() {
-    return new CassandraAuthenticationService();
+  UserDetailsService authenticationService(
+      @Value("${aas.userCache.maxSize:10000}") long maxSize,
+      @Value("${aas.userCache.timeToLiveInSeconds:60}") long timeToLiveInSeconds) {
+    return new CassandraAuthenticationService(maxSize, timeToLiveInSeconds);
   }
 
 }
@@ -1,6 +1,8 @@
 package eu.europeana.cloud.service.mcs.config;
 
+import eu.europeana.cloud.cassandra.CassandraConnectionPoolMetricsBinder;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
+import eu.europeana.cloud.cassandra.CassandraQueryMetricsBinder;
 import eu.europeana.cloud.common.properties.CassandraProperties;
 import eu.europeana.cloud.service.commons.utils.BucketsHandler;
 import eu.europeana.cloud.service.mcs.Storage;
@@ -17,12 +19,14 @@ import eu.europeana.cloud.service.mcs.persistent.s3.S3ConnectionProvider;
 import eu.europeana.cloud.service.mcs.persistent.s3.S3ContentDAO;
 import eu.europeana.cloud.service.mcs.persistent.s3.SimpleS3ConnectionProvider;
 import eu.europeana.cloud.service.mcs.properties.S3Properties;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -50,6 +54,16 @@ public class PersistenceConfiguration {
         cassandraMCSProperties().getPassword());
   }
 
+  @Bean
+  MeterBinder cassandraQueryMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraQueryMetricsBinder(cassandraConnectionProviders);
+  }
+
+  @Bean
+  MeterBinder cassandraConnectionPoolMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraConnectionPoolMetricsBinder(cassandraConnectionProviders);
+  }
+
   @Bean
   @ConfigurationProperties(prefix = "s3")
   S3Properties s3Properties() {
@@ -138,6 +152,6 @@ public class PersistenceConfiguration {
 
   @Bean
   ContentDAO s3ContentDAO(S3ConnectionProvider s3ConnectionProvider, S3Properties s3Properties) {
-    return new S3ContentDAO(s3ConnectionProvider, s3Properties.getMaxPartSize());
+    return new S3ContentDAO(s3ConnectionProvider, s3Properties.getMaxPartSize(), s3Properties.getMaxConcurrentParts());
   }
 }
@@ -1,12 +1,15 @@
 package eu.europeana.cloud.service.mcs.config;
 
 import eu.europeana.cloud.client.uis.rest.UISClient;
+import eu.europeana.cloud.common.web.HttpClientConnectionPoolMetricsBinder;
 import eu.europeana.cloud.service.commons.utils.RetryAspect;
 import eu.europeana.cloud.service.mcs.UISClientHandler;
+import eu.europeana.cloud.service.mcs.persistent.uis.CachingUISClientHandler;
 import eu.europeana.cloud.service.mcs.persistent.uis.UISClientHandlerImpl;
 import eu.europeana.cloud.service.mcs.properties.GeneralProperties;
 import eu.europeana.cloud.service.web.common.LoggingContextCopingTaskDecorator;
 import eu.europeana.cloud.service.web.common.LoggingFilter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -49,7 +52,7 @@ public class ServiceConfiguration implements WebMvcConfigurer {
 
   @Bean
   UISClientHandler uisHandler() {
-    return new UISClientHandlerImpl(uisClient());
+    return new CachingUISClientHandler(new UISClientHandlerImpl(uisClient()));
   }
 
   @Bean
@@ -57,6 +60,11 @@ public class ServiceConfiguration implements WebMvcConfigurer {
     return new UISClient(generalProperties().getUisLocation());
   }
 
+  @Bean
+  MeterBinder httpClientConnectionPoolMetrics() {
+    return new HttpClientConnectionPoolMetricsBinder();
+  }
+
   @Bean
   RetryAspect retryAspect() {
     return new RetryAspect();
@@ -5,12 +5,14 @@ import lombok.Setter;
 
 /**
  * Class that holds properties related with connection to S3
- * All fields are required beside partSize which has a default value of 15MB.
+ * All fields are required beside partSize which has a default value of 15MB and maxConcurrentParts which has
+ * a default value of 4.
  */
 @Setter
 @Getter
 public class S3Properties {
   private static final int DEFAULT_MAX_PART_SIZE = 15 * 1024 * 1024;
+  private static final int DEFAULT_MAX_CONCURRENT_PARTS = 4;
 
   private String container;
   private String endpoint;
@@ -18,4 +20,5 @@ public class S3Properties {
   private String password;
   private String region;
   private int maxPartSize = DEFAULT_MAX_PART_SIZE;
+  private int maxConcurrentParts = DEFAULT_MAX_CONCURRENT_PARTS;
 }
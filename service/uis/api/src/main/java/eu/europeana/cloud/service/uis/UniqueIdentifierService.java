@@ -2,6 +2,8 @@ package eu.europeana.cloud.service.uis;
 
 import eu.europeana.cloud.common.exceptions.ProviderDoesNotExistException;
 import eu.europeana.cloud.common.model.CloudId;
+import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.service.uis.exception.CloudIdAlreadyExistException;
 import eu.europeana.cloud.service.uis.exception.CloudIdDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
@@ -64,6 +66,26 @@ public interface UniqueIdentifierService {
       RecordDatasetEmptyException;
 
 
+  /**
+   * Create Unique Identifiers for all the given providerId/recordId pairs. Existing identifiers are returned as they are.
+   *
+   * @param localIds providerId/recordId pairs
+   * @return results in the order of the given pairs. Result contains the unique identifier or the error that prevented its
+   * creation, e.g. the provider does not exist
+   * @throws DatabaseConnectionException Problems with connection to database
+   */
+  List<CloudIdResult> createCloudIds(List<LocalId> localIds) throws DatabaseConnectionException;
+
+  /**
+   * Search for unique identifiers of all the given providerId/recordId pairs
+   *
+   * @param localIds providerId/recordId pairs
+   * @return results in the order of the given pairs. Result contains the unique identifier or the error if the record does
+   * not exist
+   * @throws DatabaseConnectionException Problems with connection to database
+   */
+  List<CloudIdResult> getCloudIds(List<LocalId> localIds) throws DatabaseConnectionException;
+
   /**
    * Search all the records that are linked to a unique identifier
    *
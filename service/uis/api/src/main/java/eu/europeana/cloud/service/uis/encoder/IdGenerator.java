@@ -3,14 +3,26 @@ package eu.europeana.cloud.service.uis.encoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import org.apache.commons.codec.binary.Base32;
 
 /**
  * IdGenerator generate unique id. The characters consists of Base32 dictionary. The implementation ensures that the same input
  * will generate the same result and that the output will always be 52 characters.
+ * <p>
+ * Digest instances are reused per thread and the digest is encoded directly into the result characters, so generating an id
+ * does not create any intermediate encoder or buffers.
  */
 public final class IdGenerator {
 
+  private static final int ID_LENGTH = 52;
+  private static final char[] BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
+  private static final ThreadLocal<MessageDigest> SHA256_DIGEST = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new RuntimeException(ex);
+    }
+  });
+
   private IdGenerator() {
   }
 
@@ -32,17 +44,31 @@ public final class IdGenerator {
    * @return A 52 character encoded version of the String representation
    */
   public static String encodeWithSha256AndBase32(String input) {
-    byte[] digest = null;
-    try {
-      final MessageDigest md = MessageDigest.getInstance("SHA-256");
-      md.update(input.getBytes(StandardCharsets.UTF_8));
-      digest = md.digest();
-    } catch (NoSuchAlgorithmException ex) {
-      throw new RuntimeException(ex);
-    }
+    final MessageDigest md = SHA256_DIGEST.get();
+    final byte[] digest = md.digest(input.getBytes(StandardCharsets.UTF_8));
+    return encodeWithBase32(digest);
+  }
 
-    final Base32 base32 = new Base32();
-    //substring removes padding
-    return base32.encodeAsString(digest).substring(0, 52);
+  /**
+   * Encodes the 32 bytes of SHA-256 digest with standard Base32 alphabet, without padding. Result is the same as the first 52
+   * characters of the commons-codec Base32 encoding.
+   */
+  private static String encodeWithBase32(byte[] digest) {
+    final char[] result = new char[ID_LENGTH];
+    int buffer = 0;
+    int bitsInBuffer = 0;
+    int position = 0;
+    for (byte b : digest) {
+      buffer = (buffer << 8) | (b & 0xFF);
+      bitsInBuffer += 8;
+      while (bitsInBuffer >= 5) {
+        bitsInBuffer -= 5;
+        result[position++] = BASE32_ALPHABET[(buffer >> bitsInBuffer) & 0x1F];
+      }
+    }
+    if (bitsInBuffer > 0) {
+      result[position] = BASE32_ALPHABET[(buffer << (5 - bitsInBuffer)) & 0x1F];
+    }
+    return new String(result);
   }
 }
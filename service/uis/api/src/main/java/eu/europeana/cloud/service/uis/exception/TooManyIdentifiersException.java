@@ -0,0 +1,31 @@
+package eu.europeana.cloud.service.uis.exception;
+
+import eu.europeana.cloud.common.exceptions.GenericException;
+import eu.europeana.cloud.common.model.IdentifierErrorInfo;
+import eu.europeana.cloud.common.response.ErrorInfo;
+
+/**
+ * This exception is thrown when too many provider id/record id pairs are requested at once
+ */
+public class TooManyIdentifiersException extends GenericException {
+
+  private static final long serialVersionUID = -2468205329187325704L;
+
+  /**
+   * Creates a new instance of this class.
+   *
+   * @param e
+   */
+  public TooManyIdentifiersException(ErrorInfo e) {
+    super(e);
+  }
+
+  /**
+   * Creates a new instance of this class.
+   *
+   * @param errorInfo
+   */
+  public TooManyIdentifiersException(IdentifierErrorInfo errorInfo) {
+    super(errorInfo);
+  }
+}
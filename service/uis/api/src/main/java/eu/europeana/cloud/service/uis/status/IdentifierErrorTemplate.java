@@ -12,6 +12,7 @@ import eu.europeana.cloud.service.uis.exception.RecordDatasetEmptyException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.RecordExistsException;
 import eu.europeana.cloud.service.uis.exception.RecordIdDoesNotExistException;
+import eu.europeana.cloud.service.uis.exception.TooManyIdentifiersException;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -264,6 +265,30 @@ public enum IdentifierErrorTemplate {
     }
   },
 
+  /**
+   * Too many provider id/record id pairs requested at once - HTTP code: 400
+   */
+  TOO_MANY_IDENTIFIERS {
+    @Override
+    public ErrorInfo getErrorInfo(String... args) {
+      return new ErrorInfo(
+          "TOO_MANY_IDENTIFIERS",
+          String.format(
+              "The request contains %s identifiers, but at most %s identifiers could be requested at once",
+              args[0], args[1]));
+    }
+
+    @Override
+    public Response.Status getHttpCode() {
+      return Response.Status.BAD_REQUEST;
+    }
+
+    @Override
+    public TooManyIdentifiersException getException(ErrorInfo e) {
+      return new TooManyIdentifiersException(e);
+    }
+  },
+
   ACCESS_DENIED_OR_OBJECT_DOES_NOT_EXIST_EXCEPTION {
     @Override
     public ErrorInfo getErrorInfo(String... args) {
@@ -4,8 +4,16 @@ import static org.junit.Assert.fail;
 
 import eu.europeana.cloud.service.uis.encoder.IdGenerator;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.commons.codec.binary.Base32;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -43,6 +51,40 @@ public class IdGeneratorTest {
 
   }
 
+  @Test
+  public void encode_generateTheSameIdAsCommonsCodecBase32() throws Exception {
+    for (int i = 0; i < 1000; i++) {
+      // given
+      final String testStr = "/provider/record" + i;
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(testStr.getBytes(StandardCharsets.UTF_8));
+      // when
+      final String id = IdGenerator.encodeWithSha256AndBase32(testStr);
+      // then
+      Assert.assertEquals(new Base32().encodeAsString(digest).substring(0, 52), id);
+    }
+  }
+
+  @Test
+  public void encode_generateTheSameIdInManyThreads() throws Exception {
+    // given
+    final String testStr = "123456789012345";
+    final String expectedId = IdGenerator.encodeWithSha256AndBase32(testStr);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> ids = new ArrayList<>();
+      // when
+      for (int i = 0; i < 1000; i++) {
+        ids.add(executor.submit(() -> IdGenerator.encodeWithSha256AndBase32(testStr)));
+      }
+      // then
+      for (Future<String> id : ids) {
+        Assert.assertEquals(expectedId, id.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void encode_generateTheSameId() {
     // given
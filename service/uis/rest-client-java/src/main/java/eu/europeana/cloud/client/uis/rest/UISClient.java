@@ -8,15 +8,17 @@ import eu.europeana.cloud.common.model.CloudId;
 import eu.europeana.cloud.common.model.DataProvider;
 import eu.europeana.cloud.common.model.DataProviderProperties;
 import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.common.response.ErrorInfo;
 import eu.europeana.cloud.common.response.ResultSlice;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
 import eu.europeana.cloud.common.web.UISParamConstants;
 import eu.europeana.cloud.service.uis.status.IdentifierErrorTemplate;
+import java.util.List;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Response;
 import lombok.Getter;
@@ -32,6 +34,8 @@ import org.slf4j.LoggerFactory;
 public class UISClient implements AutoCloseable {
 
   private static final String CLOUD_IDS_PATH = "/cloudIds";
+  private static final String CLOUD_IDS_BULK_CREATION_PATH = "/cloudIds/bulk-creation";
+  private static final String CLOUD_IDS_BULK_SEARCH_PATH = "/cloudIds/bulk-search";
   private static final String P_CLOUD_ID = "CLOUD_ID";
   private static final String P_PROVIDER_ID = "PROVIDER_ID";
   private static final String DATA_PROVIDERS_PATH_WITH_PROVIDER_ID = "/data-providers/{PROVIDER_ID}";
@@ -46,8 +50,8 @@ public class UISClient implements AutoCloseable {
   private UrlProvider urlProvider;
 
   protected final Client client =
-      ClientBuilder
-          .newBuilder()
+      HttpClientConnectionPool
+          .newPooledClientBuilder()
           .register(JacksonFeature.class)
           .build();
 
@@ -149,6 +153,46 @@ public class UISClient implements AutoCloseable {
     );
   }
 
+  /**
+   * Invoke the creation of cloud identifiers for many provider id and record id pairs in one REST call. The service accepts
+   * at most 1000 pairs in one call.
+   *
+   * @param localIds The provider id and record id pairs
+   * @return Results in the order of the given pairs. Every result contains the cloudId already assigned to the pair, newly
+   * generated cloudId or the error that occurred for the pair
+   * @throws CloudException The generic cloud exception wrapper, caused by the TooManyIdentifiersException if too many pairs
+   * were given
+   */
+  @SuppressWarnings("unchecked")
+  public ResultSlice<CloudIdResult> createCloudIds(List<LocalId> localIds) throws CloudException {
+    return manageResponse(new ResponseParams<>(ResultSlice.class), () -> passLogContext(client
+        .target(urlProvider.getBaseUrl())
+        .path(CLOUD_IDS_BULK_CREATION_PATH)
+        .request())
+        .post(Entity.json(localIds))
+    );
+  }
+
+  /**
+   * Invoke the retrieval of cloud identifiers for many provider id and record id pairs in one REST call. The service accepts
+   * at most 1000 pairs in one call.
+   *
+   * @param localIds The provider id and record id pairs
+   * @return Results in the order of the given pairs. Every result contains the retrieved cloudId or the error that occurred
+   * for the pair
+   * @throws CloudException The generic cloud exception wrapper, caused by the TooManyIdentifiersException if too many pairs
+   * were given
+   */
+  @SuppressWarnings("unchecked")
+  public ResultSlice<CloudIdResult> getCloudIds(List<LocalId> localIds) throws CloudException {
+    return manageResponse(new ResponseParams<>(ResultSlice.class), () -> passLogContext(client
+        .target(urlProvider.getBaseUrl())
+        .path(CLOUD_IDS_BULK_SEARCH_PATH)
+        .request())
+        .post(Entity.json(localIds))
+    );
+  }
+
   /**
    * Retrieve the local identifiers associated with a cloud identifier
    *
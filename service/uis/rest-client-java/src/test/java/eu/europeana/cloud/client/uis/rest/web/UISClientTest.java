@@ -4,6 +4,8 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
@@ -13,9 +15,14 @@ import eu.europeana.cloud.common.model.CloudId;
 import eu.europeana.cloud.common.model.DataProvider;
 import eu.europeana.cloud.common.model.DataProviderProperties;
 import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.common.response.ResultSlice;
+import eu.europeana.cloud.common.web.HttpClientConnectionPool;
+import eu.europeana.cloud.service.uis.exception.TooManyIdentifiersException;
 import eu.europeana.cloud.test.WiremockHelper;
+import java.util.List;
 import java.util.Map;
+import org.apache.hc.core5.pool.PoolStats;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -265,4 +272,70 @@ public class UISClientTest {
     CloudId cloudIdIGotBack = resultsSlice.getResults().iterator().next();
     assertEquals(cloudIdIhave, cloudIdIGotBack);
   }
+
+  @Test
+  public final void createCloudIdsTest() throws Exception {
+    UISClient uisClient = new UISClient(BASE_URL, username, password);
+
+    new WiremockHelper(wireMockRule).stubPost(
+        "/uis/cloudIds/bulk-creation",
+        200,
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><resultSlice><results xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"cloudIdResult\"><cloudId><id>SP46XMN47N2</id><localId><providerId>PROVIDER_1</providerId><recordId>TEST_RECORD_1</recordId></localId></cloudId><localId><providerId>PROVIDER_1</providerId><recordId>TEST_RECORD_1</recordId></localId></results><results xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"cloudIdResult\"><error><details>The supplied provider identifier PROVIDER_2 does not exist</details><errorCode>PROVIDER_DOES_NOT_EXIST</errorCode></error><localId><providerId>PROVIDER_2</providerId><recordId>TEST_RECORD_1</recordId></localId></results></resultSlice>");
+
+    ResultSlice<CloudIdResult> resultSlice = uisClient.createCloudIds(List.of(
+        new LocalId(PROVIDER_ID, RECORD_ID), new LocalId("PROVIDER_2", RECORD_ID)));
+
+    List<CloudIdResult> results = resultSlice.getResults();
+    assertEquals(2, results.size());
+    assertEquals("SP46XMN47N2", results.get(0).getCloudId().getId());
+    assertNull(results.get(0).getError());
+    assertEquals("PROVIDER_2", results.get(1).getLocalId().getProviderId());
+    assertNull(results.get(1).getCloudId());
+    assertEquals("PROVIDER_DOES_NOT_EXIST", results.get(1).getError().getErrorCode());
+  }
+
+  @Test
+  public final void getCloudIdsTest() throws Exception {
+    UISClient uisClient = new UISClient(BASE_URL, username, password);
+
+    new WiremockHelper(wireMockRule).stubPost(
+        "/uis/cloudIds/bulk-search",
+        200,
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><resultSlice><results xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"cloudIdResult\"><error><details>A global identifier for provider id PROVIDER_1 and record id TEST_RECORD_2 does not exist</details><errorCode>RECORD_DOES_NOT_EXIST</errorCode></error><localId><providerId>PROVIDER_1</providerId><recordId>TEST_RECORD_2</recordId></localId></results></resultSlice>");
+
+    ResultSlice<CloudIdResult> resultSlice = uisClient.getCloudIds(List.of(new LocalId(PROVIDER_ID, "TEST_RECORD_2")));
+
+    assertEquals(1, resultSlice.getResults().size());
+    assertEquals("RECORD_DOES_NOT_EXIST", resultSlice.getResults().get(0).getError().getErrorCode());
+  }
+
+  @Test
+  public final void shouldThrowTooManyIdentifiersExceptionWhenBulkRequestIsTooBig() {
+    UISClient uisClient = new UISClient(BASE_URL, username, password);
+
+    new WiremockHelper(wireMockRule).stubPost(
+        "/uis/cloudIds/bulk-search",
+        400,
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><errorInfo><details>The request contains 1001 identifiers, but at most 1000 identifiers could be requested at once</details><errorCode>TOO_MANY_IDENTIFIERS</errorCode></errorInfo>");
+
+    List<LocalId> localIds = List.of(new LocalId(PROVIDER_ID, RECORD_ID));
+    CloudException exception = assertThrows(CloudException.class, () -> uisClient.getCloudIds(localIds));
+
+    assertTrue(exception.getCause() instanceof TooManyIdentifiersException);
+  }
+
+  @Test
+  public final void shouldReturnConnectionToSharedPoolAfterRequest() throws Exception {
+    UISClient uisClient = new UISClient(BASE_URL, username, password);
+    new WiremockHelper(wireMockRule).stubPost(
+        "/uis/cloudIds/bulk-search",
+        200,
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><resultSlice/>");
+
+    uisClient.getCloudIds(List.of(new LocalId(PROVIDER_ID, RECORD_ID)));
+
+    PoolStats poolStats = HttpClientConnectionPool.getTotalStats();
+    assertEquals(0, poolStats.getLeased());
+    assertTrue(poolStats.getAvailable() > 0);
+  }
 }
@@ -6,6 +6,7 @@ import eu.europeana.cloud.service.aas.authentication.handlers.CloudAuthenticatio
 import eu.europeana.cloud.service.aas.authentication.repository.CassandraUserDAO;
 import eu.europeana.cloud.service.commons.listeners.CustomLoggerListener;
 import eu.europeana.cloud.service.commons.utils.PasswordEncoderFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -38,8 +39,10 @@ public class AuthenticationConfiguration {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder(){
-    return PasswordEncoderFactory.getPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${aas.credentialsCache.maxSize:10000}") long maxSize,
+      @Value("${aas.credentialsCache.timeToLiveInSeconds:60}") long timeToLiveInSeconds) {
+    return PasswordEncoderFactory.getCachingPasswordEncoder(maxSize, timeToLiveInSeconds);
   }
 
   /* Automatically receives AuthenticationEvent messages */
@@ -57,8 +60,10 @@ public class AuthenticationConfiguration {
   }
 
   @Bean
-  public UserDetailsService authenticationService() {
-    return new CassandraAuthenticationService();
+  public UserDetailsService authenticationService(
+      @Value("${aas.userCache.maxSize:10000}") long maxSize,
+      @Value("${aas.userCache.timeToLiveInSeconds:60}") long timeToLiveInSeconds) {
+    return new CassandraAuthenticationService(maxSize, timeToLiveInSeconds);
   }
 
   @Bean
@@ -2,12 +2,14 @@ package eu.europeana.cloud.service.uis.config;
 
 import eu.europeana.aas.authorization.CassandraMutableAclService;
 import eu.europeana.aas.authorization.ExtendedAclService;
+import eu.europeana.aas.authorization.InMemoryAclCache;
 import eu.europeana.aas.authorization.repository.AclRepository;
 import eu.europeana.aas.authorization.repository.CassandraAclRepository;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.common.model.Role;
 import eu.europeana.cloud.service.uis.ACLServiceWrapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -17,6 +19,7 @@ import org.springframework.security.acls.domain.AclAuthorizationStrategyImpl;
 import org.springframework.security.acls.domain.ConsoleAuditLogger;
 import org.springframework.security.acls.domain.DefaultPermissionFactory;
 import org.springframework.security.acls.domain.DefaultPermissionGrantingStrategy;
+import org.springframework.security.acls.model.AclCache;
 import org.springframework.security.acls.model.AclService;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -26,15 +29,21 @@ public class AuthorizationConfiguration {
   /* ========= PERMISSION STORAGE in CASSANDRA (Using Spring security ACL) ========= */
 
   @Bean
-  public CassandraMutableAclService aclService(AclRepository aclRepository) {
+  public CassandraMutableAclService aclService(AclRepository aclRepository, AclCache aclCache) {
     return new CassandraMutableAclService(
         aclRepository,
-        null,
+        aclCache,
         permissionGrantingStrategy(),
         authorizationStrategy(),
         permissionFactory());
   }
 
+  @Bean
+  public AclCache aclCache(@Value("${aas.aclCache.maxSize:10000}") long maxSize,
+      @Value("${aas.aclCache.timeToLiveInSeconds:60}") long timeToLiveInSeconds) {
+    return new InMemoryAclCache(maxSize, timeToLiveInSeconds, permissionGrantingStrategy(), authorizationStrategy());
+  }
+
   @Bean
   public CassandraAclRepository aclRepository(
       @Qualifier("aasCassandraProvider") CassandraConnectionProvider aasCassandraProvider) {
@@ -1,6 +1,8 @@
 package eu.europeana.cloud.service.uis.config;
 
+import eu.europeana.cloud.cassandra.CassandraConnectionPoolMetricsBinder;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
+import eu.europeana.cloud.cassandra.CassandraQueryMetricsBinder;
 import eu.europeana.cloud.service.commons.utils.BucketsHandler;
 import eu.europeana.cloud.service.commons.utils.RetryAspect;
 import eu.europeana.cloud.service.uis.UniqueIdentifierService;
@@ -12,6 +14,8 @@ import eu.europeana.cloud.service.uis.service.CassandraDataProviderService;
 import eu.europeana.cloud.service.uis.service.UniqueIdentifierServiceImpl;
 import eu.europeana.cloud.service.web.common.LoggingFilter;
 import eu.europeana.cloud.common.properties.CassandraProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.MethodInvokingFactoryBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -117,6 +121,16 @@ public class ServiceConfiguration implements WebMvcConfigurer {
             uisCassandraProperties.getPassword());
   }
 
+  @Bean
+  MeterBinder cassandraQueryMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraQueryMetricsBinder(cassandraConnectionProviders);
+  }
+
+  @Bean
+  MeterBinder cassandraConnectionPoolMetrics(List<CassandraConnectionProvider> cassandraConnectionProviders) {
+    return new CassandraConnectionPoolMetricsBinder(cassandraConnectionProviders);
+  }
+
   @Bean
   BucketsHandler bucketsHandler(CassandraConnectionProvider uisCassandraProvider) {
     return new BucketsHandler(uisCassandraProvider.getSession());
@@ -12,6 +12,7 @@ import eu.europeana.cloud.service.uis.exception.RecordDatasetEmptyException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.RecordExistsException;
 import eu.europeana.cloud.service.uis.exception.RecordIdDoesNotExistException;
+import eu.europeana.cloud.service.uis.exception.TooManyIdentifiersException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,6 +31,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice(basePackages = {"eu.europeana.cloud.service.uis.rest"})
 @ApiResponses(value = {
+    @ApiResponse(responseCode = "400", description = "Request is not valid",
+        content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorInfo.class)),
+            @Content(mediaType = MediaType.APPLICATION_XML_VALUE, schema = @Schema(implementation = ErrorInfo.class))
+        }),
     @ApiResponse(responseCode = "403", description = "Access has been denied",
         content = {
             @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorInfo.class)),
@@ -71,7 +77,8 @@ public class UnifiedExceptionsMapper {
       RecordIdDoesNotExistException.class,
       ProviderAlreadyExistsException.class,
       CloudIdAlreadyExistException.class,
-      CloudIdDoesNotExistException.class
+      CloudIdDoesNotExistException.class,
+      TooManyIdentifiersException.class
   })
   public ResponseEntity<ErrorInfo> handleException(GenericException e) {
     LOGGER.info("Exception handling fired for", e);
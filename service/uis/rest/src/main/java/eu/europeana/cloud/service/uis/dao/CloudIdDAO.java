@@ -45,6 +45,7 @@ public class CloudIdDAO {
   private void prepareStatements() {
     insertStatement = dbService.getSession().prepare("insert into cloud_id(cloud_id,provider_id,record_id) values(?,?,?)");
     searchStatementNonActive = dbService.getSession().prepare("select * from cloud_id where cloud_id=?");
+    searchStatementNonActive.setIdempotent(true);
   }
 
   public String getHostList() {
@@ -3,10 +3,15 @@ package eu.europeana.cloud.service.uis.dao;
 import com.datastax.driver.core.BoundStatement;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
 import eu.europeana.cloud.service.commons.utils.BatchExecutor;
+import eu.europeana.cloud.common.model.CloudId;
+import eu.europeana.cloud.common.model.LocalId;
 import java.util.ArrayList;
+import java.util.List;
 
 public class CloudIdLocalIdBatches {
 
+  private static final int MAX_INSERTED_IDS = 25;
+
   private final CloudIdDAO cloudIdDao;
   private final LocalIdDAO localIdDao;
   private final BatchExecutor batchExecutor;
@@ -25,4 +30,25 @@ public class CloudIdLocalIdBatches {
 
     batchExecutor.executeAll(statementsToBeExecuted);
   }
+
+  /**
+   * Inserts all the given cloud identifiers. Statements are executed concurrently, at most {@value #MAX_INSERTED_IDS} cloud
+   * identifiers at the same time, instead of one LOGGED batch per identifier. It is safe, because cloud identifiers are
+   * generated deterministically, so the whole group could be repeated in case of failure.
+   *
+   * @param cloudIds cloud identifiers together with their local identifiers
+   */
+  public void insertAll(List<CloudId> cloudIds) {
+    for (int from = 0; from < cloudIds.size(); from += MAX_INSERTED_IDS) {
+      var statementsToBeExecuted = new ArrayList<BoundStatement>();
+      for (CloudId cloudId : cloudIds.subList(from, Math.min(from + MAX_INSERTED_IDS, cloudIds.size()))) {
+        LocalId localId = cloudId.getLocalId();
+        statementsToBeExecuted.add(
+            localIdDao.bindInsertStatement(localId.getProviderId(), localId.getRecordId(), cloudId.getId()));
+        statementsToBeExecuted.add(
+            cloudIdDao.bindInsertStatement(cloudId.getId(), localId.getProviderId(), localId.getRecordId()));
+      }
+      batchExecutor.executeAllAsync(statementsToBeExecuted);
+    }
+  }
 }
@@ -2,6 +2,7 @@ package eu.europeana.cloud.service.uis.dao;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import eu.europeana.cloud.cassandra.CassandraConnectionProvider;
@@ -12,6 +13,8 @@ import eu.europeana.cloud.common.model.LocalId;
 import eu.europeana.cloud.common.utils.LogMessageCleaner;
 import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
 import eu.europeana.cloud.service.uis.status.IdentifierErrorTemplate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -23,6 +26,7 @@ import org.slf4j.LoggerFactory;
 public class LocalIdDAO {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LocalIdDAO.class);
+  private static final int MAX_CONCURRENT_QUERIES = 50;
   private final CassandraConnectionProvider dbService;
   private PreparedStatement insertStatement;
   private PreparedStatement searchByRecordIdStatement;
@@ -43,6 +47,7 @@ public class LocalIdDAO {
 
     searchByRecordIdStatement = dbService.getSession().prepare(
         "SELECT * FROM cloud_ids_by_record_id WHERE provider_id = ? AND record_id = ?");
+    searchByRecordIdStatement.setIdempotent(true);
   }
 
   @Retryable
@@ -79,6 +84,37 @@ public class LocalIdDAO {
     }
   }
 
+  /**
+   * Searches cloud identifiers of all the given local identifiers. Queries are executed asynchronously, at most
+   * {@value #MAX_CONCURRENT_QUERIES} at the same time.
+   *
+   * @param localIds providerId/recordId pairs
+   * @return list of found cloud identifiers, in the order of the given local identifiers
+   * @throws DatabaseConnectionException if no Cassandra host is available
+   */
+  @Retryable
+  public List<Optional<CloudId>> searchByIds(List<LocalId> localIds) throws DatabaseConnectionException {
+    List<Optional<CloudId>> result = new ArrayList<>(localIds.size());
+    try {
+      for (int from = 0; from < localIds.size(); from += MAX_CONCURRENT_QUERIES) {
+        List<ResultSetFuture> futures = new ArrayList<>();
+        for (LocalId localId : localIds.subList(from, Math.min(from + MAX_CONCURRENT_QUERIES, localIds.size()))) {
+          futures.add(dbService.getSession().executeAsync(
+              searchByRecordIdStatement.bind(localId.getProviderId(), localId.getRecordId())));
+        }
+        for (ResultSetFuture future : futures) {
+          result.add(Optional.ofNullable(future.getUninterruptibly().one()).map(this::createCloudIdFromProviderRecordRow));
+        }
+      }
+    } catch (NoHostAvailableException e) {
+      throw new DatabaseConnectionException(new IdentifierErrorInfo(
+          IdentifierErrorTemplate.DATABASE_CONNECTION_ERROR.getHttpCode(),
+          IdentifierErrorTemplate.DATABASE_CONNECTION_ERROR.getErrorInfo(dbService.getHosts(), dbService.getPort(),
+              e.getMessage())));
+    }
+    return result;
+  }
+
   @Retryable
   public CloudId insert(String providerId, String recordId, String cloudId) throws DatabaseConnectionException {
     try {
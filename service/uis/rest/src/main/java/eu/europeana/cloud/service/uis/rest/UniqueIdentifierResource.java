@@ -2,6 +2,9 @@ package eu.europeana.cloud.service.uis.rest;
 
 import eu.europeana.cloud.common.exceptions.ProviderDoesNotExistException;
 import eu.europeana.cloud.common.model.CloudId;
+import eu.europeana.cloud.common.model.IdentifierErrorInfo;
+import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.common.response.ResultSlice;
 import eu.europeana.cloud.service.uis.RestInterfaceConstants;
 import eu.europeana.cloud.service.uis.UniqueIdentifierService;
@@ -11,12 +14,16 @@ import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
 import eu.europeana.cloud.service.uis.exception.RecordDatasetEmptyException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.RecordExistsException;
+import eu.europeana.cloud.service.uis.exception.TooManyIdentifiersException;
+import eu.europeana.cloud.service.uis.status.IdentifierErrorTemplate;
+import java.util.List;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -29,6 +36,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class UniqueIdentifierResource {
 
+  /**
+   * Maximal number of provider identifier and record identifier pairs handled by one bulk request.
+   */
+  public static final int MAX_BULK_IDENTIFIERS = 1000;
+
   private final UniqueIdentifierService uniqueIdentifierService;
 
   public UniqueIdentifierResource(
@@ -93,6 +105,49 @@ public class UniqueIdentifierResource {
   }
 
 
+  /**
+   * Invokes the generation of cloud identifiers for many provider identifier and record identifier pairs at once. Every data
+   * provider is resolved only once per request.
+   * <p>
+   * <br/> <br/> <div style='border-left: solid 5px #999999; border-radius: 10px; padding: 6px;'> <strong>Required
+   * permissions:</strong>
+   * <ul>
+   * <li>Authenticated user</li>
+   * </ul>
+   * </div>
+   *
+   * @param localIds <strong>REQUIRED</strong> list of provider identifier and record identifier pairs
+   * @return Results in the order of the given pairs. Every result contains the cloud identifier already assigned to the pair,
+   * newly created cloud identifier or the error, if the supplied data-provider does not exist
+   * @throws DatabaseConnectionException database error
+   * @throws TooManyIdentifiersException more than {@link #MAX_BULK_IDENTIFIERS} pairs were given
+   */
+  @PostMapping(value = RestInterfaceConstants.CLOUD_IDS_BULK_CREATION, consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = {MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_JSON_VALUE})
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<ResultSlice<CloudIdResult>> createCloudIds(@RequestBody List<LocalId> localIds)
+      throws DatabaseConnectionException, TooManyIdentifiersException {
+    assertBulkSize(localIds);
+    return ResponseEntity.ok(new ResultSlice<>(null, uniqueIdentifierService.createCloudIds(localIds)));
+  }
+
+  /**
+   * Retrieves cloud identifiers of many provider identifier and record identifier pairs at once.
+   *
+   * @param localIds <strong>REQUIRED</strong> list of provider identifier and record identifier pairs
+   * @return Results in the order of the given pairs. Every result contains the cloud identifier associated with the pair or
+   * the error, if the record does not exist
+   * @throws DatabaseConnectionException database error
+   * @throws TooManyIdentifiersException more than {@link #MAX_BULK_IDENTIFIERS} pairs were given
+   */
+  @PostMapping(value = RestInterfaceConstants.CLOUD_IDS_BULK_SEARCH, consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = {MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ResultSlice<CloudIdResult>> getCloudIds(@RequestBody List<LocalId> localIds)
+      throws DatabaseConnectionException, TooManyIdentifiersException {
+    assertBulkSize(localIds);
+    return ResponseEntity.ok(new ResultSlice<>(null, uniqueIdentifierService.getCloudIds(localIds)));
+  }
+
   /**
    * Retrieves list of record Identifiers associated with the cloud identifier. Result is returned in slices which contain fixed
    * amount of results and reference (token) to next slice of results.
@@ -114,4 +169,12 @@ public class UniqueIdentifierResource {
     return ResponseEntity.ok(pList);
   }
 
+  private static void assertBulkSize(List<LocalId> localIds) throws TooManyIdentifiersException {
+    if (localIds.size() > MAX_BULK_IDENTIFIERS) {
+      throw new TooManyIdentifiersException(new IdentifierErrorInfo(
+          IdentifierErrorTemplate.TOO_MANY_IDENTIFIERS.getHttpCode(),
+          IdentifierErrorTemplate.TOO_MANY_IDENTIFIERS.getErrorInfo(
+              String.valueOf(localIds.size()), String.valueOf(MAX_BULK_IDENTIFIERS))));
+    }
+  }
 }
@@ -4,6 +4,7 @@ import eu.europeana.cloud.common.exceptions.ProviderDoesNotExistException;
 import eu.europeana.cloud.common.model.CloudId;
 import eu.europeana.cloud.common.model.IdentifierErrorInfo;
 import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.common.utils.LogMessageCleaner;
 import eu.europeana.cloud.service.uis.UniqueIdentifierService;
 import eu.europeana.cloud.service.uis.dao.CassandraDataProviderDAO;
@@ -15,7 +16,13 @@ import eu.europeana.cloud.service.uis.exception.CloudIdDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import eu.europeana.cloud.service.uis.status.IdentifierErrorTemplate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -96,16 +103,9 @@ public class UniqueIdentifierServiceImpl implements UniqueIdentifierService {
       return cloudIdOpt.get();
     }
 
-    String generatedCloudId = IdGenerator.encodeWithSha256AndBase32("/" + providerId + "/" + recordId);
-    cloudIdLocalIdBatches.insert(providerId, recordId, generatedCloudId);
-
-    return CloudId.builder()
-                  .id(generatedCloudId)
-                  .localId(LocalId.builder()
-                                  .providerId(providerId)
-                                  .recordId(recordId)
-                                  .build())
-                  .build();
+    CloudId generatedCloudId = generateCloudId(providerId, recordId);
+    cloudIdLocalIdBatches.insert(providerId, recordId, generatedCloudId.getId());
+    return generatedCloudId;
   }
 
 
@@ -127,6 +127,66 @@ public class UniqueIdentifierServiceImpl implements UniqueIdentifierService {
   }
 
 
+  @Override
+  public List<CloudIdResult> createCloudIds(List<LocalId> localIds) throws DatabaseConnectionException {
+    LOGGER.info("createCloudIds() creating {} cloudIds", localIds.size());
+    Map<String, Boolean> existingProviders = new HashMap<>();
+    for (LocalId localId : localIds) {
+      existingProviders.computeIfAbsent(localId.getProviderId(),
+          providerId -> dataProviderDao.getProvider(providerId) != null);
+    }
+
+    List<LocalId> localIdsOfExistingProviders = localIds.stream()
+                                                        .filter(localId -> existingProviders.get(localId.getProviderId()))
+                                                        .toList();
+    Iterator<Optional<CloudId>> foundCloudIds = localIdDao.searchByIds(localIdsOfExistingProviders).iterator();
+
+    List<CloudIdResult> results = new ArrayList<>(localIds.size());
+    Map<LocalId, CloudId> createdCloudIds = new LinkedHashMap<>();
+    for (LocalId localId : localIds) {
+      CloudIdResult.CloudIdResultBuilder result = CloudIdResult.builder().localId(localId);
+      if (Boolean.TRUE.equals(existingProviders.get(localId.getProviderId()))) {
+        result.cloudId(foundCloudIds.next().orElseGet(() -> createdCloudIds.computeIfAbsent(localId,
+            id -> generateCloudId(id.getProviderId(), id.getRecordId()))));
+      } else {
+        result.error(IdentifierErrorTemplate.PROVIDER_DOES_NOT_EXIST.getErrorInfo(localId.getProviderId()));
+      }
+      results.add(result.build());
+    }
+
+    cloudIdLocalIdBatches.insertAll(new ArrayList<>(createdCloudIds.values()));
+    LOGGER.info("createCloudIds() created {} new cloudIds", createdCloudIds.size());
+    return results;
+  }
+
+  @Override
+  public List<CloudIdResult> getCloudIds(List<LocalId> localIds) throws DatabaseConnectionException {
+    LOGGER.debug("getCloudIds() searching {} cloudIds", localIds.size());
+    List<Optional<CloudId>> foundCloudIds = localIdDao.searchByIds(localIds);
+    List<CloudIdResult> results = new ArrayList<>(localIds.size());
+    for (int i = 0; i < localIds.size(); i++) {
+      LocalId localId = localIds.get(i);
+      results.add(foundCloudIds.get(i)
+                               .map(cloudId -> CloudIdResult.builder().localId(localId).cloudId(cloudId).build())
+                               .orElseGet(() -> CloudIdResult.builder()
+                                                             .localId(localId)
+                                                             .error(IdentifierErrorTemplate.RECORD_DOES_NOT_EXIST
+                                                                 .getErrorInfo(localId.getProviderId(), localId.getRecordId()))
+                                                             .build()));
+    }
+    return results;
+  }
+
+  private static CloudId generateCloudId(String providerId, String recordId) {
+    return CloudId.builder()
+                  .id(IdGenerator.encodeWithSha256AndBase32("/" + providerId + "/" + recordId))
+                  .localId(LocalId.builder()
+                                  .providerId(providerId)
+                                  .recordId(recordId)
+                                  .build())
+                  .build();
+  }
+
   @Override
   public List<CloudId> getLocalIdsByCloudId(String cloudId)
       throws DatabaseConnectionException, CloudIdDoesNotExistException {
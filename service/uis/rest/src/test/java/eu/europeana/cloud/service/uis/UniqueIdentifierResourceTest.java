@@ -2,7 +2,9 @@ package eu.europeana.cloud.service.uis;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -12,6 +14,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import eu.europeana.cloud.common.model.CloudId;
 import eu.europeana.cloud.common.model.IdentifierErrorInfo;
 import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.common.response.ErrorInfo;
 import eu.europeana.cloud.common.response.ResultSlice;
 import eu.europeana.cloud.common.web.UISParamConstants;
@@ -21,8 +24,10 @@ import eu.europeana.cloud.service.uis.exception.CloudIdDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import eu.europeana.cloud.service.uis.exception.RecordExistsException;
+import eu.europeana.cloud.service.uis.rest.UniqueIdentifierResource;
 import eu.europeana.cloud.service.uis.status.IdentifierErrorTemplate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,6 +40,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -327,6 +333,112 @@ public class UniqueIdentifierResourceTest {
         IdentifierErrorTemplate.CLOUDID_DOES_NOT_EXIST.getErrorInfo("cloudId").getDetails());
   }
 
+  @Test
+  public void testCreateCloudIds()
+      throws Exception {
+    Mockito.reset(uniqueIdentifierService);
+    List<LocalId> localIds = List.of(createLocalId(providerId, recordId), createLocalId("notExisting", recordId));
+    Mockito.when(uniqueIdentifierService.createCloudIds(localIds)).thenReturn(List.of(
+        CloudIdResult.builder().localId(localIds.get(0)).cloudId(createCloudId(providerId, recordId)).build(),
+        CloudIdResult.builder().localId(localIds.get(1))
+                     .error(IdentifierErrorTemplate.PROVIDER_DOES_NOT_EXIST.getErrorInfo("notExisting")).build()));
+
+    MvcResult mvcResult = mockMvc.perform(bulkRequest("/cloudIds/bulk-creation", localIds))
+                                 .andExpect(status().isOk()).andReturn();
+
+    List<CloudIdResult> results = readCloudIdResults(mvcResult);
+    assertThat(results.size(), is(2));
+    assertEquals(createCloudId(providerId, recordId).getId(), results.get(0).getCloudId().getId());
+    assertNull(results.get(0).getError());
+    assertNull(results.get(1).getCloudId());
+    assertEquals("PROVIDER_DOES_NOT_EXIST", results.get(1).getError().getErrorCode());
+  }
+
+  @Test
+  public void testGetCloudIds()
+      throws Exception {
+    Mockito.reset(uniqueIdentifierService);
+    List<LocalId> localIds = List.of(createLocalId(providerId, recordId), createLocalId(providerId, "notExisting"));
+    Mockito.when(uniqueIdentifierService.getCloudIds(localIds)).thenReturn(List.of(
+        CloudIdResult.builder().localId(localIds.get(0)).cloudId(createCloudId(providerId, recordId)).build(),
+        CloudIdResult.builder().localId(localIds.get(1))
+                     .error(IdentifierErrorTemplate.RECORD_DOES_NOT_EXIST.getErrorInfo(providerId, "notExisting"))
+                     .build()));
+
+    MvcResult mvcResult = mockMvc.perform(bulkRequest("/cloudIds/bulk-search", localIds))
+                                 .andExpect(status().isOk()).andReturn();
+
+    List<CloudIdResult> results = readCloudIdResults(mvcResult);
+    assertThat(results.size(), is(2));
+    assertEquals(createCloudId(providerId, recordId).getId(), results.get(0).getCloudId().getId());
+    assertEquals("RECORD_DOES_NOT_EXIST", results.get(1).getError().getErrorCode());
+  }
+
+  @Test
+  public void testCreateCloudIdsTooManyIdentifiers()
+      throws Exception {
+    Mockito.reset(uniqueIdentifierService);
+
+    MvcResult mvcResult = mockMvc.perform(bulkRequest("/cloudIds/bulk-creation", tooManyLocalIds()))
+                                 .andExpect(status().isBadRequest()).andReturn();
+
+    assertTooManyIdentifiersError(mvcResult);
+    Mockito.verify(uniqueIdentifierService, Mockito.never()).createCloudIds(any());
+  }
+
+  @Test
+  public void testGetCloudIdsTooManyIdentifiers()
+      throws Exception {
+    Mockito.reset(uniqueIdentifierService);
+
+    MvcResult mvcResult = mockMvc.perform(bulkRequest("/cloudIds/bulk-search", tooManyLocalIds()))
+                                 .andExpect(status().isBadRequest()).andReturn();
+
+    assertTooManyIdentifiersError(mvcResult);
+    Mockito.verify(uniqueIdentifierService, Mockito.never()).getCloudIds(any());
+  }
+
+  @Test
+  public void testCreateCloudIdsMaxNumberOfIdentifiers()
+      throws Exception {
+    Mockito.reset(uniqueIdentifierService);
+    List<LocalId> localIds = Collections.nCopies(UniqueIdentifierResource.MAX_BULK_IDENTIFIERS,
+        createLocalId(providerId, recordId));
+    Mockito.when(uniqueIdentifierService.createCloudIds(localIds)).thenReturn(Collections.emptyList());
+
+    mockMvc.perform(bulkRequest("/cloudIds/bulk-creation", localIds))
+           .andExpect(status().isOk());
+
+    Mockito.verify(uniqueIdentifierService).createCloudIds(localIds);
+  }
+
+  private static MockHttpServletRequestBuilder bulkRequest(String path, List<LocalId> localIds) throws Exception {
+    return post(path)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(localIds))
+        .accept(MediaType.APPLICATION_JSON);
+  }
+
+  private static List<CloudIdResult> readCloudIdResults(MvcResult mvcResult) throws Exception {
+    ResultSlice<CloudIdResult> resultSlice = new ObjectMapper().readValue(
+        mvcResult.getResponse().getContentAsString(), new TypeReference<ResultSlice<CloudIdResult>>() {
+        });
+    return resultSlice.getResults();
+  }
+
+  private List<LocalId> tooManyLocalIds() {
+    return Collections.nCopies(UniqueIdentifierResource.MAX_BULK_IDENTIFIERS + 1, createLocalId(providerId, recordId));
+  }
+
+  private static void assertTooManyIdentifiersError(MvcResult mvcResult) throws Exception {
+    ErrorInfo errorInfo = new ObjectMapper().readValue(mvcResult.getResponse().getContentAsString(), ErrorInfo.class);
+    ErrorInfo expectedErrorInfo = IdentifierErrorTemplate.TOO_MANY_IDENTIFIERS.getErrorInfo(
+        String.valueOf(UniqueIdentifierResource.MAX_BULK_IDENTIFIERS + 1),
+        String.valueOf(UniqueIdentifierResource.MAX_BULK_IDENTIFIERS));
+    assertEquals(expectedErrorInfo.getErrorCode(), errorInfo.getErrorCode());
+    assertEquals(expectedErrorInfo.getDetails(), errorInfo.getDetails());
+  }
+
   private static LocalId createLocalId(String providerId, String recordId) {
     LocalId localId = new LocalId();
     localId.setProviderId(providerId);
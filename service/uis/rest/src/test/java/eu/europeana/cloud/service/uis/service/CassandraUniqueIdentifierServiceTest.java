@@ -1,11 +1,14 @@
 package eu.europeana.cloud.service.uis.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import eu.europeana.cloud.common.exceptions.ProviderDoesNotExistException;
 import eu.europeana.cloud.common.model.CloudId;
 import eu.europeana.cloud.common.model.DataProviderProperties;
+import eu.europeana.cloud.common.model.LocalId;
+import eu.europeana.cloud.common.response.CloudIdResult;
 import eu.europeana.cloud.service.uis.dao.CassandraDataProviderDAO;
 import eu.europeana.cloud.service.uis.encoder.IdGenerator;
 import eu.europeana.cloud.service.uis.exception.CloudIdDoesNotExistException;
@@ -13,6 +16,7 @@ import eu.europeana.cloud.service.uis.exception.DatabaseConnectionException;
 import eu.europeana.cloud.service.uis.exception.RecordDoesNotExistException;
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -62,6 +66,39 @@ public class CassandraUniqueIdentifierServiceTest extends CassandraTestBase {
     service.createCloudId("test", "test");
   }
 
+  @Test
+  public void shouldCreateCloudIdsInBulk() throws Exception {
+    dataProviderDao.createDataProvider("bulkProvider", new DataProviderProperties());
+    CloudId existingCloudId = service.createCloudId("bulkProvider", "existingRecord");
+
+    List<CloudIdResult> results = service.createCloudIds(List.of(
+        new LocalId("bulkProvider", "existingRecord"),
+        new LocalId("bulkProvider", "newRecord"),
+        new LocalId("notExistingProvider", "record")));
+
+    assertEquals(3, results.size());
+    assertEquals(existingCloudId, results.get(0).getCloudId());
+    assertEquals(service.getCloudId("bulkProvider", "newRecord"), results.get(1).getCloudId());
+    assertNull(results.get(2).getCloudId());
+    assertEquals("PROVIDER_DOES_NOT_EXIST", results.get(2).getError().getErrorCode());
+  }
+
+  @Test
+  public void shouldGetCloudIdsInBulk() throws Exception {
+    dataProviderDao.createDataProvider("bulkProvider", new DataProviderProperties());
+    CloudId existingCloudId = service.createCloudId("bulkProvider", "existingRecord");
+
+    List<CloudIdResult> results = service.getCloudIds(List.of(
+        new LocalId("bulkProvider", "existingRecord"),
+        new LocalId("bulkProvider", "notExistingRecord")));
+
+    assertEquals(2, results.size());
+    assertEquals(existingCloudId, results.get(0).getCloudId());
+    assertNull(results.get(0).getError());
+    assertNull(results.get(1).getCloudId());
+    assertEquals("RECORD_DOES_NOT_EXIST", results.get(1).getError().getErrorCode());
+  }
+
   /**
    * Test RecordDoesNotExistException
    *